@@ -47,9 +47,179 @@ dependencies {
     testImplementation(project(":test-services"))
 }
 
+// Start scripts reference the app's install directory via this placeholder, which is replaced below:
+val appHomePlaceholder = "__APP_HOME__"
+val cdsArchiveName = "${project.name}.jsa"
+
 application {
     mainModule.set("creek.system.test.executor")
     mainClass.set("org.creekservice.api.system.test.executor.SystemTestExecutor")
+
+    // The JVM silently ignores the archive if it is missing or was created by a different JVM:
+    applicationDefaultJvmArgs = listOf("-XX:SharedArchiveFile=$appHomePlaceholder/lib/$cdsArchiveName")
+}
+
+tasks.startScripts {
+    doLast {
+        // Prefer the bundled runtime image, if present, as its CDS archive was trained against it:
+        unixScript.writeText(
+            unixScript.readText()
+                .replace(appHomePlaceholder, "'\"\$APP_HOME\"'")
+                .insertBefore(
+                    "# Determine the Java command to use to start the JVM.",
+                    "# Use the bundled runtime image, if present.\n" +
+                            "if [ -x \"\$APP_HOME/runtime/bin/java\" ] ; then\n" +
+                            "    JAVA_HOME=\$APP_HOME/runtime\n" +
+                            "fi\n\n"
+                )
+        )
+
+        windowsScript.writeText(
+            windowsScript.readText()
+                .replace(appHomePlaceholder, "%APP_HOME%")
+                .insertBefore(
+                    "@rem Find java.exe",
+                    "@rem Use the bundled runtime image, if present.\r\n" +
+                            "if exist \"%APP_HOME%\\runtime\\bin\\java.exe\" set JAVA_HOME=%APP_HOME%\\runtime\r\n\r\n"
+                )
+        )
+    }
+}
+
+fun String.insertBefore(marker: String, text: String): String {
+    require(contains(marker)) { "Start script template changed: '$marker' not found" }
+    return replace(marker, text + marker)
+}
+
+// JDK modules required by the executor and its dependencies, e.g. Testcontainers and Log4j:
+val runtimeModules = listOf(
+    "java.base",
+    "java.logging",
+    "java.management",
+    "java.naming",
+    "java.sql",
+    "java.xml",
+    "jdk.crypto.ec",
+    "jdk.unsupported",
+    "jdk.zipfs"
+)
+
+val runtimeImageDir = layout.buildDirectory.dir("runtime")
+
+val jlinkRuntime = tasks.register<Exec>("jlinkRuntime") {
+    description = "Builds a trimmed Java runtime image containing only the JDK modules the executor requires."
+    val jlink = javaToolchains.launcherFor(java.toolchain).map {
+        it.metadata.installationPath.file("bin/jlink").asFile.absolutePath
+    }
+
+    inputs.property("modules", runtimeModules)
+    outputs.dir(runtimeImageDir)
+
+    doFirst { delete(runtimeImageDir) }
+    executable(jlink.get())
+    args(
+        "--add-modules", runtimeModules.joinToString(","),
+        "--strip-debug",
+        "--no-header-files",
+        "--no-man-pages",
+        "--output", runtimeImageDir.get().asFile.absolutePath
+    )
+}
+
+val installedDir = layout.buildDirectory.dir("install/${project.name}")
+val installedRuntimeDir = layout.buildDirectory.dir("install/${project.name}-runtime")
+
+// Dynamic CDS archives require the runtime's default CDS archive, which jlink does not generate:
+val dumpRuntimeCdsArchive = tasks.register<Exec>("dumpRuntimeCdsArchive") {
+    description = "Generates the default CDS archive of the installed trimmed Java runtime image."
+    dependsOn("installRuntimeDist")
+
+    executable(installedRuntimeDir.get().file("runtime/bin/java").asFile.absolutePath)
+    args("-Xshare:dump")
+}
+
+// The JVM validates the paths, sizes and modification times of the jars an archive was trained against,
+// so archives are trained against the installed jars, in place, each time a distribution is installed:
+fun JavaExec.trainCdsArchive(installDir: Provider<Directory>) {
+    group = "distribution"
+
+    val lib = installDir.map { it.dir("lib") }
+    val testDir = temporaryDir.resolve("tests")
+
+    mainModule.set(application.mainModule)
+    mainClass.set(application.mainClass)
+    classpath = files(tasks.startScripts.map { scripts -> scripts.classpath!!.map { lib.get().file(it.name) } })
+    jvmArgs("-XX:ArchiveClassesAtExit=${lib.get().file(cdsArchiveName).asFile.absolutePath}")
+
+    // Training runs the executor's start up against an empty test directory,
+    // which fails as there are no tests, so the exit code is ignored:
+    args("--test-directory=$testDir", "--result-directory=${temporaryDir.resolve("results")}")
+    isIgnoreExitValue = true
+    doFirst { testDir.mkdirs() }
+}
+
+val trainCdsArchive = tasks.register<JavaExec>("trainCdsArchive") {
+    description = "Trains an AppCDS archive of the classes the installed executor loads on start up."
+    dependsOn("installDist")
+    trainCdsArchive(installedDir)
+}
+
+val trainRuntimeCdsArchive = tasks.register<JavaExec>("trainRuntimeCdsArchive") {
+    description = "Trains an AppCDS archive of the classes the installed executor loads on start up, using the trimmed runtime image."
+    dependsOn(dumpRuntimeCdsArchive)
+    executable(installedRuntimeDir.get().file("runtime/bin/java").asFile.absolutePath)
+    trainCdsArchive(installedRuntimeDir)
+}
+
+tasks.named("installDist") { finalizedBy(trainCdsArchive) }
+tasks.named("installRuntimeDist") { finalizedBy(trainRuntimeCdsArchive) }
+
+// Fails the build if the JVM rejects the archive of the installed distribution, e.g. due to a path mismatch:
+val verifyCdsArchive = tasks.register<Exec>("verifyCdsArchive") {
+    description = "Verifies the installed executor starts up using its AppCDS archive."
+    group = "verification"
+    dependsOn(trainCdsArchive)
+
+    val testDir = temporaryDir.resolve("tests")
+    val output = java.io.ByteArrayOutputStream()
+
+    executable(installedDir.get().file("bin/${project.name}").asFile.absolutePath)
+    args("--test-directory=$testDir", "--result-directory=${temporaryDir.resolve("results")}")
+    environment("JAVA_OPTS", "-Xshare:on -Xlog:cds")
+    standardOutput = output
+    errorOutput = output
+
+    // The executor fails as there are no tests, so the exit code is ignored.
+    // With -Xshare:on, the JVM exits with an error, rather than ignoring an archive it can not use:
+    isIgnoreExitValue = true
+    doFirst { testDir.mkdirs() }
+    doLast {
+        val log = output.toString()
+        if (log.contains("error has occurred while processing the shared archive file") || log.contains("mismatch")) {
+            throw GradleException("The installed executor can not use its AppCDS archive:\n$log")
+        }
+    }
+}
+
+tasks.check { dependsOn(verifyCdsArchive) }
+
+distributions {
+    // Optional distribution that bundles the trimmed runtime image, e.g. `installRuntimeDist`:
+    create("runtime") {
+        contents {
+            into("bin") {
+                from(tasks.startScripts)
+                filePermissions { unix("rwxr-xr-x") }
+            }
+            into("lib") {
+                from(tasks.jar)
+                from(configurations.runtimeClasspath)
+            }
+            into("runtime") {
+                from(jlinkRuntime)
+            }
+        }
+    }
 }
 
 tasks.test {
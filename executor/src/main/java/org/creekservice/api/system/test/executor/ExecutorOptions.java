@@ -107,6 +107,220 @@ public interface ExecutorOptions {
         return Map.of();
     }
 
+    /**
+     * The number of test suites to execute concurrently.
+     *
+     * <p>Each concurrently executing suite runs on its own worker thread, against its own instance
+     * of the system test API, with its own Docker network and service containers. Services being
+     * debugged are assigned debug ports from a range unique to each worker.
+     *
+     * <p>Results are reported in the same order as when executing sequentially.
+     *
+     * @return the number of suites to execute concurrently. Defaults to {@code 1}, i.e. suites are
+     *     executed sequentially.
+     */
+    default int parallelism() {
+        return 1;
+    }
+
+    /**
+     * Controls if containers are stopped gracefully at the end of each suite.
+     *
+     * <p>By default, each container is sent a stop signal and given time to shut down gracefully
+     * before being killed. With fast teardown, containers with no writable mounts to copy back to
+     * the host are killed immediately.
+     *
+     * @return {@code true} if containers with no writable mounts should be killed immediately.
+     *     Defaults to {@code false}.
+     */
+    default boolean fastTeardown() {
+        return false;
+    }
+
+    /**
+     * Controls if service containers are reused across test suites.
+     *
+     * <p>By default, each suite starts its own containers and stops them when the suite completes.
+     * With container reuse enabled, containers are instead left running at the end of a suite. A
+     * later suite requiring an instance with the same name, image and container configuration
+     * reuses the running container, rather than starting a new one. Containers with writable mounts
+     * are never reused.
+     *
+     * @return {@code true} if containers should be reused across suites. Defaults to {@code false}.
+     */
+    default boolean reuseContainers() {
+        return false;
+    }
+
+    /**
+     * Controls if inputs are dispatched to their handlers concurrently.
+     *
+     * <p>By default, inputs and seed data are fed to their handlers one at a time, in the order
+     * they are defined. With parallel inputs enabled, inputs are split by handler and each handler
+     * is fed its inputs concurrently. The relative order of inputs sent to the same handler is
+     * preserved. Only enable this if the test extensions in use do not depend on the ordering of
+     * inputs across different handlers. Handlers that are not thread safe are fed their inputs on
+     * the thread executing the suite.
+     *
+     * @return {@code true} if inputs should be dispatched to handlers concurrently. Defaults to
+     *     {@code false}.
+     */
+    default boolean parallelInputs() {
+        return false;
+    }
+
+    /**
+     * The number of shards the test suites are split across.
+     *
+     * <p>Sharding allows the suites to be split across multiple machines, e.g. CI nodes. Each
+     * machine runs the executor with the same shard count, but a different {@link #shardIndex()}.
+     * Assignment of suites to shards is deterministic.
+     *
+     * @return the number of shards. Defaults to {@code 1}, i.e. no sharding.
+     */
+    default int shardCount() {
+        return 1;
+    }
+
+    /**
+     * @return the zero-based index of the shard of suites to execute. Defaults to {@code 0}.
+     */
+    default int shardIndex() {
+        return 0;
+    }
+
+    /**
+     * An optional directory containing the {@code TEST-*.xml} results of a previous run.
+     *
+     * <p>If supplied, the durations of suites in the previous run are used to balance the total
+     * duration of each shard. Otherwise, suites are assigned to shards by hashing their path.
+     *
+     * @return the history directory.
+     */
+    default Optional<Path> shardHistoryDirectory() {
+        return Optional.empty();
+    }
+
+    /**
+     * An optional file used to persist the history of test runs.
+     *
+     * <p>If supplied, the duration and outcome of each suite and test case is recorded in the file
+     * at the end of the run. Recorded durations are used to execute suites longest first, reducing
+     * the total run time when suites execute in parallel. The file is plain text and can be stored
+     * in a CI cache directory. It is created if it does not exist.
+     *
+     * @return the run history file.
+     */
+    default Optional<Path> runHistoryFile() {
+        return Optional.empty();
+    }
+
+    /**
+     * An optional file used to persist how long expectations take to be met, enabling adaptive
+     * verifier timeouts.
+     *
+     * <p>If supplied, the time taken to meet the expectations of each test case is recorded in the
+     * file at the end of the run. Once enough history is available, expectations are given a
+     * timeout derived from a high percentile of the recorded times, plus a safety margin, rather
+     * than the {@link #verifierTimeout() default}. Adaptive timeouts are never longer than the
+     * default, which is still used for expectations with insufficient history. The file is plain
+     * text and can be stored in a CI cache directory. It is created if it does not exist.
+     *
+     * @return the verifier history file.
+     */
+    default Optional<Path> verifierHistoryFile() {
+        return Optional.empty();
+    }
+
+    /**
+     * An optional directory used to cache the results of passing suites, enabling incremental runs.
+     *
+     * <p>If supplied, each suite is fingerprinted from its suite file, the input, expectation and
+     * seed files it uses, the images of its services under test, the {@link #env() environment}
+     * and the {@link #transferables() transferables}. Suites whose fingerprint matches a previous
+     * passing run are not executed: the cached result is reported instead. The directory contains
+     * plain files, so can be shared between CI agents using their normal cache mechanism. It is
+     * created if it does not exist.
+     *
+     * @return the incremental cache directory.
+     */
+    default Optional<Path> incrementalCacheDirectory() {
+        return Optional.empty();
+    }
+
+    /**
+     * An optional directory containing the results of a previous run, used to re-run only the
+     * suites and test cases that failed.
+     *
+     * <p>If supplied, the {@code TEST-*.xml} result files in the directory are read. Only suites
+     * with failed or errored test cases are executed and, within those suites, test cases that
+     * passed previously are not executed: their previous result is reported instead. Use the
+     * {@link #resultDirectory() result directory} to merge the results of the re-run back into the
+     * previous results.
+     *
+     * @return the directory containing the previous results.
+     */
+    default Optional<Path> rerunFailedDirectory() {
+        return Optional.empty();
+    }
+
+    /**
+     * The number of times to retry a test case that fails or errors.
+     *
+     * <p>Test cases are retried in place, against the services already running for the suite. A
+     * test case that passes on retry is reported as passing, along with the number of attempts it
+     * took. Test cases can override the number of retries in the test suite file.
+     *
+     * @return the default number of retries. Defaults to {@code 0}, i.e. no retries.
+     */
+    default int testRetries() {
+        return 0;
+    }
+
+    /**
+     * An optional file in which to keep a ledger of flaky test cases.
+     *
+     * <p>If supplied, the number of runs of each test case, and how many of those were flaky, i.e.
+     * only passed on {@link #testRetries() retry}, or failed, are accumulated in the file across
+     * runs. Test cases that pass on retry are logged, along with their history from the ledger. The
+     * file is created if it does not exist.
+     *
+     * @return the flakiness ledger file.
+     */
+    default Optional<Path> flakinessLedgerFile() {
+        return Optional.empty();
+    }
+
+    /**
+     * Controls if the executor watches the test directory for changes after the initial run.
+     *
+     * <p>In watch mode, once all suites have been executed, the executor watches the {@link
+     * #testDirectory() test directory} for changes. When files change, the affected test packages
+     * are re-parsed and only the suites affected by the change are executed again. Service
+     * containers are left running between runs, as if {@link #reuseContainers()} were set, so that
+     * re-running a suite does not require its services to be started again. The executor runs
+     * until interrupted.
+     *
+     * @return {@code true} if the executor should watch for changes. Defaults to {@code false}.
+     */
+    default boolean watch() {
+        return false;
+    }
+
+    /**
+     * Controls if the environment of the next suite is prepared while the current suite executes.
+     *
+     * <p>Only applies when suites are executed sequentially, i.e. a {@link #parallelism()} of one.
+     * While a suite executes, the Docker network of the next suite is created, and the images of
+     * its services under test are pulled, in the background.
+     *
+     * @return {@code true} if the next suite should be prepared in the background. Defaults to
+     *     {@code false}.
+     */
+    default boolean lookAhead() {
+        return false;
+    }
+
     /**
      * Controls if any services, or service instances, should be configured to request the IntelliJ
      * debugger to attach when they start up.
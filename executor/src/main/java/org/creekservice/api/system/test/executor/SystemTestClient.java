@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.executor;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.creekservice.internal.system.test.executor.daemon.DaemonClient;
+
+/**
+ * Entry point for running system tests on a {@link SystemTestDaemon}.
+ *
+ * <p>A thin client that can be used in place of {@link SystemTestExecutor}: it forwards its
+ * command line parameters to a running daemon, prints the output streamed back, and exits with the
+ * same exit code as {@link SystemTestExecutor}.
+ */
+public final class SystemTestClient {
+
+    private SystemTestClient() {}
+
+    /**
+     * Run the system tests on a daemon.
+     *
+     * @param args the command line parameters. The first must be the path of the socket the daemon
+     *     is listening on. The rest are passed to the daemon, and are the same as those supported
+     *     by {@link SystemTestExecutor}.
+     */
+    public static void main(final String... args) {
+        if (args.length == 0) {
+            System.err.println("Usage: SystemTestClient <socket-path> [executor-args...]");
+            System.exit(2);
+        }
+
+        try {
+            final List<String> executorArgs = Arrays.asList(args).subList(1, args.length);
+            final int exitCode =
+                    new DaemonClient(Path.of(args[0])).run(executorArgs, System.out::println);
+            System.exit(exitCode);
+        } catch (final Exception e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.executor;
+
+import static java.lang.System.lineSeparator;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.internal.system.test.executor.cli.PicoCliParser;
+import org.creekservice.internal.system.test.executor.daemon.DaemonServer;
+import org.creekservice.internal.system.test.executor.result.ResultLogFormatter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point for running a long-lived system test executor daemon.
+ *
+ * <p>The daemon listens on a Unix-domain socket for run requests sent by {@link SystemTestClient}.
+ * Each request contains the same command line parameters as {@link SystemTestExecutor}. Keeping a
+ * single process running avoids paying for JVM start-up, class loading and JIT warm-up on every
+ * run.
+ *
+ * <p>Runs are executed one at a time, in the daemon's process, so the daemon's class and module
+ * path must contain the test extensions and service metadata required by the tests. The test
+ * extensions and service metadata are discovered, and the test package parser built, once, on the
+ * first run, and reused by later runs. The summary of each suite is streamed back to the client
+ * as the suite completes.
+ */
+public final class SystemTestDaemon {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SystemTestDaemon.class);
+
+    private SystemTestDaemon() {}
+
+    /**
+     * Run the daemon until the process is terminated.
+     *
+     * @param args the command line parameters, which must be the path of the socket to listen on.
+     */
+    public static void main(final String... args) {
+        if (args.length != 1) {
+            LOGGER.error("Usage: SystemTestDaemon <socket-path>");
+            System.exit(2);
+        }
+
+        final SystemTestExecutor.RunCache runCache = new SystemTestExecutor.RunCache();
+        try (DaemonServer server =
+                new DaemonServer(
+                        Path.of(args[0]),
+                        (workingDirectory, runArgs, output) ->
+                                handle(runCache, workingDirectory, runArgs, output))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.serve();
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Handle a single run request.
+     *
+     * <p>Watch mode is not supported, as it would block the daemon from serving other requests.
+     *
+     * @param runCache state shared by all runs of the daemon.
+     * @param workingDirectory the working directory of the client, against which relative paths
+     *     in the {@code args} are resolved.
+     * @param args the command line parameters of the run.
+     * @param output consumer of output to stream back to the client.
+     * @return the exit code of the run, matching those of {@link SystemTestExecutor}.
+     */
+    @VisibleForTesting
+    static int handle(
+            final SystemTestExecutor.RunCache runCache,
+            final Path workingDirectory,
+            final List<String> args,
+            final Consumer<String> output) {
+        try {
+            final Optional<ExecutorOptions> options =
+                    PicoCliParser.parse(workingDirectory, args.toArray(String[]::new));
+            if (options.isEmpty()) {
+                return 0;
+            }
+
+            if (options.get().watch()) {
+                output.accept("Watch mode is not supported when running on the daemon.");
+                return 2;
+            }
+
+            final TestExecutionResult result =
+                    SystemTestExecutor.run(
+                            options.get(),
+                            runCache,
+                            suite -> output.accept(ResultLogFormatter.formatSummary(suite)));
+
+            if (result.passed()) {
+                return 0;
+            }
+
+            output.accept(
+                    "There were failing tests. See the report at: "
+                            + options.get().resultDirectory().toUri()
+                            + lineSeparator()
+                            + ResultLogFormatter.formatIssues(result));
+            return 1;
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            output.accept(e.getMessage());
+            return 2;
+        }
+    }
+}
@@ -20,25 +20,51 @@ import static java.lang.System.lineSeparator;
 import static org.creekservice.api.system.test.parser.TestPackageParsers.yamlParser;
 import static org.creekservice.api.system.test.parser.TestPackagesLoader.testPackagesLoader;
 import static org.creekservice.internal.system.test.executor.api.Api.initializeApi;
+import static org.creekservice.internal.system.test.executor.execution.TestDirectoryWatcher.affectedSuites;
 
 import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.creekservice.api.base.type.JarVersion;
 import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
 import org.creekservice.api.system.test.parser.TestPackageParser;
-import org.creekservice.api.system.test.parser.TestPackagesLoader;
+import org.creekservice.internal.system.test.executor.api.Discovery;
 import org.creekservice.internal.system.test.executor.api.SystemTest;
+import org.creekservice.internal.system.test.executor.api.SystemTestApis;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.ContainerFactory;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.ContainerPools;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.LocalImages;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.NetworkPool;
 import org.creekservice.internal.system.test.executor.cli.PicoCliParser;
+import org.creekservice.internal.system.test.executor.execution.ImagePrePuller;
+import org.creekservice.internal.system.test.executor.execution.SuiteFingerprinter;
+import org.creekservice.internal.system.test.executor.execution.SuiteScheduler;
+import org.creekservice.internal.system.test.executor.execution.SuiteSharder;
+import org.creekservice.internal.system.test.executor.execution.TestCaseExecutor;
+import org.creekservice.internal.system.test.executor.execution.TestDirectoryWatcher;
 import org.creekservice.internal.system.test.executor.execution.TestPackagesExecutor;
 import org.creekservice.internal.system.test.executor.execution.TestSuiteExecutor;
 import org.creekservice.internal.system.test.executor.execution.debug.ServiceDebugInfo;
 import org.creekservice.internal.system.test.executor.observation.TestPackageParserObserver;
 import org.creekservice.internal.system.test.executor.result.ExecutionResult;
+import org.creekservice.internal.system.test.executor.result.FlakinessLedger;
+import org.creekservice.internal.system.test.executor.result.PreviousResults;
 import org.creekservice.internal.system.test.executor.result.ResultLogFormatter;
+import org.creekservice.internal.system.test.executor.result.RunHistory;
+import org.creekservice.internal.system.test.executor.result.SuiteResultCache;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory;
+import org.creekservice.internal.system.test.executor.result.xml.XmlResultsReader;
 import org.creekservice.internal.system.test.executor.result.xml.XmlResultsWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +107,21 @@ public final class SystemTestExecutor {
      * @return the test run results.
      */
     public static TestExecutionResult run(final ExecutorOptions options) {
+        return run(options, new RunCache(), result -> {});
+    }
+
+    /**
+     * Run the system tests.
+     *
+     * @param options the options used to customise the test run.
+     * @param runCache state shared with other runs in the same process.
+     * @param onResult called with the result of each suite as it completes.
+     * @return the test run results.
+     */
+    static TestExecutionResult run(
+            final ExecutorOptions options,
+            final RunCache runCache,
+            final Consumer<TestSuiteResult> onResult) {
         if (options.echoOnly()) {
             echo(options);
             return new ExecutionResult(List.of());
@@ -91,12 +132,146 @@ public final class SystemTestExecutor {
                     "Not a directory: " + options.testDirectory().toUri());
         }
 
-        final TestExecutionResult result = executor(options).execute();
+        final Optional<RunHistory> history = options.runHistoryFile().map(RunHistory::load);
+        final Optional<FlakinessLedger> ledger =
+                options.flakinessLedgerFile().map(FlakinessLedger::load);
+        final VerifierHistory verifierHistory =
+                options.verifierHistoryFile()
+                        .map(VerifierHistory::load)
+                        .orElse(VerifierHistory.none());
+
+        final Consumer<TestExecutionResult> recorder =
+                executed -> {
+                    verifierHistory.save();
+
+                    history.ifPresent(
+                            h -> {
+                                h.record(executed);
+                                h.save();
+                            });
+
+                    ledger.ifPresent(
+                            l -> {
+                                l.record(executed);
+                                l.save();
+                            });
+                };
+
+        if (options.watch()) {
+            return watch(options, runCache, history, verifierHistory, recorder);
+        }
+
+        final TestExecutionResult result;
+        try (ContainerPools pools = new ContainerPools();
+                NetworkPool networks = new NetworkPool(options.parallelism());
+                SystemTestApis apis = apis(options, runCache, pools, networks)) {
+            result =
+                    executors(options, runCache, apis, history, verifierHistory, onResult)
+                            .apply(options.suitesFilter())
+                            .execute();
+        }
+
+        recorder.accept(result);
+
         if (result.isEmpty()) {
-            throw new TestExecutionFailedException(
-                    "No tests found under: " + options.testDirectory().toUri());
+            if (options.rerunFailedDirectory().isPresent()) {
+                LOGGER.info(
+                        "No failed tests to re-run in: "
+                                + options.rerunFailedDirectory().get().toUri());
+                return result;
+            }
+
+            if (options.shardCount() == 1) {
+                throw new TestExecutionFailedException(
+                        "No tests found under: " + options.testDirectory().toUri());
+            }
+
+            LOGGER.warn(
+                    "No tests assigned to shard "
+                            + options.shardIndex()
+                            + " of "
+                            + options.shardCount()
+                            + " under: "
+                            + options.testDirectory().toUri());
+            return result;
+        }
+
+        logFailures(options, result);
+        return result;
+    }
+
+    /**
+     * Execute all suites, then re-execute the suites affected by each change to the test directory,
+     * until interrupted.
+     *
+     * <p>The container pools, and hence any running service containers, are shared by all runs.
+     * Run scoped api instances created on the calling thread are also shared. Those created by the
+     * workers of a parallel run are closed once the run completes, as each run has new workers.
+     * Failures to execute suites, e.g. due to a malformed test file, are logged rather than ending
+     * the session, so that the user can fix the problem and save again.
+     */
+    private static TestExecutionResult watch(
+            final ExecutorOptions options,
+            final RunCache runCache,
+            final Optional<RunHistory> history,
+            final VerifierHistory verifierHistory,
+            final Consumer<TestExecutionResult> recorder) {
+        try (TestDirectoryWatcher watcher = new TestDirectoryWatcher(options.testDirectory());
+                ContainerPools pools = new ContainerPools();
+                NetworkPool networks = new NetworkPool(options.parallelism());
+                SystemTestApis apis = apis(options, runCache, pools, networks)) {
+            final Function<Predicate<Path>, TestPackagesExecutor> executors =
+                    executors(options, runCache, apis, history, verifierHistory, result -> {});
+
+            TestExecutionResult result = new ExecutionResult(List.of());
+            Predicate<Path> suitesFilter = options.suitesFilter();
+            while (true) {
+                result = executeWatched(executors.apply(suitesFilter), result, options, recorder);
+                apis.closeOtherThreads();
+
+                LOGGER.info(
+                        "Watching for changes under: "
+                                + options.testDirectory().toUri()
+                                + " (press Ctrl+C to exit)");
+
+                final Optional<Set<Path>> changed = watcher.awaitChanges();
+                if (changed.isEmpty()) {
+                    return result;
+                }
+
+                suitesFilter = options.suitesFilter().and(affectedSuites(changed.get()));
+            }
+        }
+    }
+
+    private static TestExecutionResult executeWatched(
+            final TestPackagesExecutor executor,
+            final TestExecutionResult previous,
+            final ExecutorOptions options,
+            final Consumer<TestExecutionResult> recorder) {
+        try {
+            final TestExecutionResult result = executor.execute();
+            if (result.isEmpty()) {
+                LOGGER.info("No test suites to execute");
+                return previous;
+            }
+
+            recorder.accept(result);
+
+            if (result.passed()) {
+                LOGGER.info("All tests passed");
+            } else {
+                logFailures(options, result);
+            }
+            return result;
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to execute test suites: " + e.getMessage(), e);
+            return previous;
         }
+    }
 
+    private static void logFailures(
+            final ExecutorOptions options, final TestExecutionResult result) {
         if (!result.passed()) {
             LOGGER.error(
                     "There were failing tests. See the report at: "
@@ -104,8 +279,6 @@ public final class SystemTestExecutor {
                             + lineSeparator()
                             + ResultLogFormatter.formatIssues(result));
         }
-
-        return result;
     }
 
     private static void echo(final ExecutorOptions options) {
@@ -128,35 +301,182 @@ public final class SystemTestExecutor {
                 .collect(Collectors.joining(" "));
     }
 
-    private static TestPackagesExecutor executor(final ExecutorOptions options) {
+    /**
+     * Build a factory of executors that share the initialized API, suite executor and result cache,
+     * given the filter used to select the suites to execute.
+     */
+    private static Function<Predicate<Path>, TestPackagesExecutor> executors(
+            final ExecutorOptions options,
+            final RunCache runCache,
+            final SystemTestApis apis,
+            final Optional<RunHistory> history,
+            final VerifierHistory verifierHistory,
+            final Consumer<TestSuiteResult> onResult) {
+
+        // Initialize API and test extensions once here to obtain model extensions and services:
+        final SystemTest api = apis.create(0);
+
+        final PreviousResults previousResults =
+                options.rerunFailedDirectory()
+                        .map(XmlResultsReader::new)
+                        .map(XmlResultsReader::failedSuites)
+                        .map(PreviousResults::new)
+                        .orElse(PreviousResults.none());
+
+        final TestPackageParser parser = runCache.parser(api);
+
+        final TestCaseExecutor.Options caseOptions =
+                TestCaseExecutor.Options.options(
+                                options.verifierTimeout().orElse(DEFAULT_VERIFIER_TIMEOUT))
+                        .withVerifierHistory(verifierHistory)
+                        .withParallelInputs(options.parallelInputs())
+                        .withPreviousResults(previousResults)
+                        .withRetries(options.testRetries());
 
-        final Supplier<SystemTest> apiSupplier =
-                () ->
+        final TestSuiteExecutor suiteExecutor = new TestSuiteExecutor(apis, caseOptions);
+
+        final Map<String, String> serviceImages = serviceImages(api);
+        final ImagePrePuller prePuller = new ImagePrePuller(serviceImages);
+        final TestPackagesExecutor.Options packagesOptions =
+                TestPackagesExecutor.Options.defaults()
+                        .withParallelism(options.parallelism())
+                        .withLookAhead(options.lookAhead())
+                        .withSharder(sharder(options))
+                        .withScheduler(
+                                history.map(RunHistory::suiteDurations)
+                                        .map(SuiteScheduler::new)
+                                        .orElse(SuiteScheduler.discoveryOrder()))
+                        .withCache(cache(options, runCache, serviceImages))
+                        .withPreviousResults(previousResults)
+                        .withPrePuller(prePuller)
+                        .withOnResult(onResult::accept);
+
+        return suitesFilter ->
+                new TestPackagesExecutor(
+                        testPackagesLoader(options.testDirectory(), parser, suitesFilter),
+                        suiteExecutor,
+                        new XmlResultsWriter(options.resultDirectory(), prePuller::digests),
+                        packagesOptions);
+    }
+
+    private static SystemTestApis apis(
+            final ExecutorOptions options,
+            final RunCache runCache,
+            final ContainerPools pools,
+            final NetworkPool networks) {
+        final ServiceDebugInfo debugInfo =
+                options.serviceDebugInfo()
+                        .map(ServiceDebugInfo::copyOf)
+                        .orElse(ServiceDebugInfo.none());
+
+        return new SystemTestApis(
+                (worker, selector) ->
                         initializeApi(
-                                options.serviceDebugInfo()
-                                        .map(ServiceDebugInfo::copyOf)
-                                        .orElse(ServiceDebugInfo.none()),
+                                runCache.discovery(),
+                                debugInfo.forWorker(worker),
                                 options.transferables(),
-                                options.env());
+                                options.env(),
+                                ContainerFactory.Options.defaults()
+                                        .withFastTeardown(options.fastTeardown())
+                                        .withContainerPool(
+                                                options.reuseContainers() || options.watch()
+                                                        ? Optional.of(pools.forWorker(worker))
+                                                        : Optional.empty())
+                                        .withNetworkPool(networks),
+                                selector));
+    }
+
+    private static Map<String, String> serviceImages(final SystemTest api) {
+        final Map<String, String> serviceImages = new HashMap<>();
+        api.components()
+                .definitions()
+                .services()
+                .forEach(service -> serviceImages.put(service.name(), service.dockerImage()));
+        return serviceImages;
+    }
 
-        final TestPackagesLoader loader =
-                testPackagesLoader(
-                        options.testDirectory(), createParser(apiSupplier), options.suitesFilter());
+    private static SuiteResultCache cache(
+            final ExecutorOptions options,
+            final RunCache runCache,
+            final Map<String, String> serviceImages) {
+        if (options.incrementalCacheDirectory().isEmpty()) {
+            return SuiteResultCache.none();
+        }
 
-        return new TestPackagesExecutor(
-                loader,
-                new TestSuiteExecutor(
-                        apiSupplier, options.verifierTimeout().orElse(DEFAULT_VERIFIER_TIMEOUT)),
-                new XmlResultsWriter(options.resultDirectory()));
+        final SuiteFingerprinter fingerprinter =
+                new SuiteFingerprinter(
+                        serviceImages,
+                        LocalImages::imageId,
+                        options.env(),
+                        options.transferables(),
+                        versions(runCache.discovery()));
+
+        return new SuiteResultCache(
+                options.incrementalCacheDirectory().get(),
+                fingerprinter::fingerprint,
+                LocalImages::imageId);
     }
 
-    private static TestPackageParser createParser(final Supplier<SystemTest> apiSupplier) {
-        // Initialize API and test extensions once here to obtain the list of model extensions:
-        final SystemTest api = apiSupplier.get();
+    private static Map<String, String> versions(final Discovery discovery) {
+        final Map<String, String> versions = new HashMap<>();
+        versions.put("executor", version(SystemTestExecutor.class));
+        discovery
+                .extensions()
+                .forEach(ext -> versions.put("extension:" + ext.name(), version(ext.getClass())));
+        return versions;
+    }
 
+    private static String version(final Class<?> type) {
+        return JarVersion.jarVersion(type).orElse("unknown");
+    }
+
+    private static SuiteSharder sharder(final ExecutorOptions options) {
+        if (options.shardCount() == 1) {
+            return SuiteSharder.noSharding();
+        }
+
+        return new SuiteSharder(
+                options.shardIndex(),
+                options.shardCount(),
+                options.testDirectory(),
+                options.shardHistoryDirectory()
+                        .map(XmlResultsReader::new)
+                        .map(XmlResultsReader::suiteDurations)
+                        .orElse(Map.of()));
+    }
+
+    private static TestPackageParser createParser(final SystemTest api) {
         return yamlParser(api.tests().model().modelTypes(), new TestPackageParserObserver(LOGGER));
     }
 
+    /**
+     * State that is costly to create, but not specific to a run, so can be shared by the runs of a
+     * long-lived process, e.g. the daemon: the test extensions and components found on the class
+     * and module paths, and the test package parser, and its object mapper, built from the
+     * extensions' model types.
+     *
+     * <p>Thread safe.
+     */
+    static final class RunCache {
+
+        private Discovery discovery;
+        private TestPackageParser parser;
+
+        synchronized Discovery discovery() {
+            if (discovery == null) {
+                discovery = Discovery.discover();
+            }
+            return discovery;
+        }
+
+        synchronized TestPackageParser parser(final SystemTest api) {
+            if (parser == null) {
+                parser = createParser(api);
+            }
+            return parser;
+        }
+    }
+
     private static final class TestExecutionFailedException extends RuntimeException {
         TestExecutionFailedException(final String msg) {
             super(msg);
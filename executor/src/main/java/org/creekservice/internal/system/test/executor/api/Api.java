@@ -16,15 +16,16 @@
 
 package org.creekservice.internal.system.test.executor.api;
 
+import static java.util.stream.Collectors.partitioningBy;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.creekservice.api.base.annotation.VisibleForTesting;
-import org.creekservice.api.platform.metadata.ComponentDescriptor;
-import org.creekservice.api.platform.metadata.ComponentDescriptors;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
 import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
 import org.creekservice.api.system.test.extension.CreekTestExtension;
-import org.creekservice.api.system.test.extension.CreekTestExtensions;
 import org.creekservice.internal.system.test.executor.api.test.env.suite.service.ContainerFactory;
 import org.creekservice.internal.system.test.executor.execution.debug.ServiceDebugInfo;
 import org.creekservice.internal.system.test.executor.execution.listener.AddServicesUnderTestListener;
@@ -46,23 +47,38 @@ public final class Api {
     /**
      * Initialise the test api
      *
+     * @param discovery the test extensions and components available at runtime.
      * @param serviceDebugInfo info about which services should be debugged.
      * @param transferables info about things to transfer to/from containers.
      * @param env environment vars to set on services under test.
+     * @param containerOptions optional settings of the factory used to create containers.
+     * @param selector selects the test extensions to initialize. Ignored if the api is {@link
+     *     SystemTest#runScoped() run scoped}, as all extensions are then initialized.
      * @return the initialised test api.
      */
     public static SystemTest initializeApi(
+            final Discovery discovery,
             final ServiceDebugInfo serviceDebugInfo,
             final Collection<DirectoryInfo> transferables,
-            final Map<String, String> env) {
+            final Map<String, String> env,
+            final ContainerFactory.Options containerOptions,
+            final ExtensionSelector selector) {
 
         final ContainerFactory containerFactory =
-                new ContainerFactory(serviceDebugInfo, transferables, env);
+                new ContainerFactory(serviceDebugInfo, transferables, env, containerOptions);
+
+        final List<CreekTestExtension> extensions = discovery.extensions();
+        final List<String> notRunScoped =
+                extensions.stream()
+                        .filter(ext -> !ext.runScoped())
+                        .map(CreekTestExtension::name)
+                        .toList();
 
         return initializeApi(
-                new SystemTest(loadComponents(), containerFactory),
+                new SystemTest(discovery.components(), containerFactory, notRunScoped),
                 containerFactory,
-                loadTestExtensions());
+                extensions,
+                notRunScoped.isEmpty() ? ExtensionSelector.all() : selector);
     }
 
     @VisibleForTesting
@@ -70,31 +86,46 @@ public final class Api {
             final SystemTest api,
             final ContainerFactory containerFactory,
             final List<CreekTestExtension> creekTestExtensions) {
+        return initializeApi(api, containerFactory, creekTestExtensions, ExtensionSelector.all());
+    }
+
+    @VisibleForTesting
+    static SystemTest initializeApi(
+            final SystemTest api,
+            final ContainerFactory containerFactory,
+            final List<CreekTestExtension> creekTestExtensions,
+            final ExtensionSelector selector) {
+        final Map<Boolean, List<CreekTestExtension>> selected =
+                creekTestExtensions.stream()
+                        .collect(partitioningBy(ext -> selector.selects(ext, api)));
+
+        selected.get(false)
+                .forEach(ext -> LOGGER.debug("Skipping extension not required: " + ext.name()));
+
         api.tests().env().listeners().append(new LoggingTestEnvironmentListener());
         api.tests().env().listeners().append(containerFactory);
         api.tests().env().listeners().append(new SuiteCleanUpListener(api));
         final AddServicesUnderTestListener addServicesListener =
                 new AddServicesUnderTestListener(api);
         api.tests().env().listeners().append(addServicesListener);
-        creekTestExtensions.forEach(ext -> ext.initialize(api));
+        selected.get(true).forEach(ext -> ext.initialize(api));
         api.tests().env().listeners().append(new InitializeResourcesListener(api));
         api.tests()
                 .env()
                 .listeners()
                 .append(new StartServicesUnderTestListener(addServicesListener::added));
-        api.tests().env().listeners().append(new PrepareResourcesListener(api));
+        api.tests()
+                .env()
+                .listeners()
+                .append(new PrepareResourcesListener(api, notHandledBy(selected.get(false))));
         return api;
     }
 
-    private static List<ComponentDescriptor> loadComponents() {
-        final List<ComponentDescriptor> components = ComponentDescriptors.load();
-        components.forEach(comp -> LOGGER.debug("Loaded components: " + comp.name()));
-        return components;
-    }
+    private static Predicate<ResourceDescriptor> notHandledBy(
+            final List<CreekTestExtension> skipped) {
+        final List<Class<? extends ResourceDescriptor>> types =
+                skipped.stream().flatMap(ext -> ext.resourceTypes().stream()).toList();
 
-    private static List<CreekTestExtension> loadTestExtensions() {
-        final List<CreekTestExtension> extensions = CreekTestExtensions.load();
-        extensions.forEach(ext -> LOGGER.debug("Loaded extension: " + ext.name()));
-        return extensions;
+        return resource -> types.stream().noneMatch(type -> type.isInstance(resource));
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.platform.metadata.ComponentDescriptor;
+import org.creekservice.api.platform.metadata.ComponentDescriptors;
+import org.creekservice.api.system.test.extension.CreekTestExtension;
+import org.creekservice.api.system.test.extension.CreekTestExtensions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The test extensions and components available at runtime.
+ *
+ * <p>Discovering them scans the class and module paths, so is done once and shared by every api
+ * instance, and by every run of a long-lived process. Component descriptors are immutable, so are
+ * shared. Test extensions are bound to the api they are initialized against, so new instances are
+ * created for each api.
+ *
+ * <p>Thread safe.
+ */
+public final class Discovery {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Discovery.class);
+
+    private final List<ComponentDescriptor> components;
+    private final List<Supplier<CreekTestExtension>> extensions;
+
+    /**
+     * @return the test extensions and components on the class and module paths.
+     */
+    public static Discovery discover() {
+        final List<ComponentDescriptor> components = ComponentDescriptors.load();
+        components.forEach(comp -> LOGGER.debug("Loaded components: " + comp.name()));
+        return new Discovery(components, CreekTestExtensions.providers());
+    }
+
+    @VisibleForTesting
+    Discovery(
+            final List<ComponentDescriptor> components,
+            final List<Supplier<CreekTestExtension>> extensions) {
+        this.components = List.copyOf(requireNonNull(components, "components"));
+        this.extensions = List.copyOf(requireNonNull(extensions, "extensions"));
+    }
+
+    /**
+     * @return the discovered components.
+     */
+    public List<ComponentDescriptor> components() {
+        return components;
+    }
+
+    /**
+     * @return new instances of the discovered test extensions.
+     */
+    public List<CreekTestExtension> extensions() {
+        final List<CreekTestExtension> instances =
+                extensions.stream().map(Supplier::get).toList();
+        instances.forEach(ext -> LOGGER.debug("Loaded extension: " + ext.name()));
+        return instances;
+    }
+}
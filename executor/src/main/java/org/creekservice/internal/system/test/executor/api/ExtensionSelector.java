@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.creekservice.api.platform.metadata.ResourceCollection;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.system.test.extension.CreekTestExtension;
+import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
+import org.creekservice.api.system.test.extension.test.model.Option;
+import org.creekservice.api.system.test.model.TestSuite;
+
+/**
+ * Selects the test extensions to initialize for a test suite.
+ *
+ * <p>Extensions that declare {@link CreekTestExtension#modelTypes() model} or {@link
+ * CreekTestExtension#resourceTypes() resource} types are only selected if the suite references at
+ * least one of them. All other extensions are always selected.
+ */
+public final class ExtensionSelector {
+
+    private static final ExtensionSelector ALL = new ExtensionSelector(Optional.empty());
+
+    private final Optional<TestSuite> suite;
+
+    /**
+     * @return selector that selects all extensions.
+     */
+    public static ExtensionSelector all() {
+        return ALL;
+    }
+
+    /**
+     * @param suite the suite to select extensions for.
+     * @return selector that selects the extensions the suite requires.
+     */
+    public static ExtensionSelector forSuite(final TestSuite suite) {
+        return new ExtensionSelector(Optional.of(suite));
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private ExtensionSelector(final Optional<TestSuite> suite) {
+        this.suite = requireNonNull(suite, "suite");
+    }
+
+    /**
+     * Determine if an extension is required.
+     *
+     * @param extension the extension.
+     * @param api the api the extension would be initialized against.
+     * @return {@code true} if the extension should be initialized.
+     */
+    boolean selects(final CreekTestExtension extension, final SystemTest api) {
+        if (suite.isEmpty()) {
+            return true;
+        }
+
+        final Collection<Class<?>> modelTypes = extension.modelTypes();
+        final Collection<Class<? extends ResourceDescriptor>> resourceTypes =
+                extension.resourceTypes();
+        if (modelTypes.isEmpty() && resourceTypes.isEmpty()) {
+            return true;
+        }
+
+        return modelObjects(suite.get()).anyMatch(obj -> isInstance(modelTypes, obj))
+                || resources(suite.get(), api).anyMatch(res -> isInstance(resourceTypes, res));
+    }
+
+    private static Stream<Object> modelObjects(final TestSuite suite) {
+        final List<Object> objects = new ArrayList<>(suite.pkg().seedData());
+        objects.addAll(suite.options(Option.class));
+        suite.tests()
+                .forEach(
+                        test -> {
+                            objects.addAll(test.inputs());
+                            objects.addAll(test.expectations());
+                        });
+        return objects.stream();
+    }
+
+    private static Stream<ResourceDescriptor> resources(
+            final TestSuite suite, final SystemTest api) {
+        return suite.services().stream()
+                .map(api.components().definitions().services()::get)
+                .map(ServiceDefinition::descriptor)
+                .flatMap(Optional::stream)
+                .flatMap(ResourceCollection::collectResources);
+    }
+
+    private static boolean isInstance(final Collection<? extends Class<?>> types, final Object o) {
+        return types.stream().anyMatch(type -> type.isInstance(o));
+    }
+}
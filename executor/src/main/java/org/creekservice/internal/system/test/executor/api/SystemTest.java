@@ -46,20 +46,25 @@ public final class SystemTest implements CreekSystemTest {
     private final Tests tests;
     private final Components components;
     private final Extensions extensions;
+    private final List<String> notRunScoped;
 
     /**
      * @param components all known components.
      * @param containerFactory factory for creating Docker containers
+     * @param notRunScoped the names of any test extensions that are not run scoped. The api can
+     *     only be reused across suites if this is empty.
      */
     public SystemTest(
             final Collection<? extends ComponentDescriptor> components,
-            final ContainerFactory containerFactory) {
+            final ContainerFactory containerFactory,
+            final List<String> notRunScoped) {
         this(
                 new TestModel(),
                 new TestEnv(containerFactory),
                 ComponentDefinitions.serviceDefinitions(components),
                 ComponentDefinitions.aggregateDefinitions(components),
-                c -> new Creek(c.descriptors()));
+                c -> new Creek(c.descriptors()),
+                notRunScoped);
     }
 
     @VisibleForTesting
@@ -68,10 +73,12 @@ public final class SystemTest implements CreekSystemTest {
             final TestEnv testEnv,
             final ComponentDefinitions<ServiceDefinition> serviceDefinitions,
             final ComponentDefinitions<AggregateDefinition> aggregateDefinitions,
-            final Function<Components, Creek> api) {
+            final Function<Components, Creek> api,
+            final List<String> notRunScoped) {
         this.tests = new Tests(testModel, testEnv);
         this.components = new Components(serviceDefinitions, aggregateDefinitions);
         this.extensions = new Extensions(api.apply(components));
+        this.notRunScoped = List.copyOf(requireNonNull(notRunScoped, "notRunScoped"));
     }
 
     @Override
@@ -90,6 +97,23 @@ public final class SystemTest implements CreekSystemTest {
         return extensions;
     }
 
+    /**
+     * @return {@code true} if the api can be reused across suites, as all test extensions are
+     *     {@link org.creekservice.api.system.test.extension.CreekTestExtension#runScoped() run
+     *     scoped}.
+     */
+    public boolean runScoped() {
+        return notRunScoped.isEmpty();
+    }
+
+    /**
+     * @return the names of the test extensions that prevent the api being {@link #runScoped() run
+     *     scoped}.
+     */
+    public List<String> notRunScoped() {
+        return notRunScoped;
+    }
+
     /** Implementation of {@link CreekSystemTest.TestAccessor}. */
     public static final class Tests implements CreekSystemTest.TestAccessor {
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The system test api instances of a test run.
+ *
+ * <p>By default, a new api instance, with newly initialized test extensions, is created for each
+ * suite. Only the extensions the suite requires are initialized, see {@link ExtensionSelector}. If
+ * the created api is {@link SystemTest#runScoped() run scoped}, it is instead retained and reused
+ * for later suites executed by the same worker, and its extensions are closed when this instance
+ * is closed at the end of the run.
+ *
+ * <p>As the api is confined to the thread that created it, retained instances are keyed on both
+ * worker and thread. Apis retained by threads that will not execute further suites, e.g. the worker
+ * threads of a finished run of a watch session, can be closed with {@link #closeOtherThreads()}.
+ *
+ * <p>Thread safe.
+ */
+public final class SystemTestApis implements SystemTestFactory, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SystemTestApis.class);
+
+    private final Initializer initializer;
+    private final Map<Key, SystemTest> apis = new ConcurrentHashMap<>();
+    private final AtomicBoolean loggedNotRunScoped = new AtomicBoolean();
+
+    /**
+     * @param initializer initializer of system test api instances.
+     */
+    public SystemTestApis(final Initializer initializer) {
+        this.initializer = requireNonNull(initializer, "initializer");
+    }
+
+    /**
+     * Get an api with all test extensions initialized, e.g. to parse test packages with.
+     *
+     * @param worker the zero-based index of the worker the api is for.
+     * @return the retained run scoped api of the worker, or else a newly created api.
+     */
+    public SystemTest create(final int worker) {
+        return create(worker, ExtensionSelector.all());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the retained run scoped api of the worker, or else a newly created api.
+     */
+    @Override
+    public SystemTest create(final TestSuite suite, final int worker) {
+        return create(worker, ExtensionSelector.forSuite(suite));
+    }
+
+    private SystemTest create(final int worker, final ExtensionSelector selector) {
+        final Key key = new Key(worker, Thread.currentThread().getId());
+        final SystemTest retained = apis.get(key);
+        if (retained != null) {
+            return retained;
+        }
+
+        final SystemTest api = initializer.initialize(worker, selector);
+        if (api.runScoped()) {
+            apis.put(key, api);
+        } else if (!loggedNotRunScoped.getAndSet(true)) {
+            LOGGER.info(
+                    "Initializing test extensions for each suite, as not all are run scoped."
+                            + " Extensions not run scoped: "
+                            + String.join(", ", api.notRunScoped()));
+        }
+        return api;
+    }
+
+    /**
+     * Close the extensions of the retained apis of threads other than the calling thread.
+     *
+     * <p>Each run of a watch session executes suites in parallel on new worker threads, so apis
+     * retained by the workers of earlier runs would never be reused. Apis retained by the calling
+     * thread are kept for later runs.
+     *
+     * <p>Must only be called while no suites are executing.
+     */
+    public void closeOtherThreads() {
+        final long threadId = Thread.currentThread().getId();
+        final List<Key> others =
+                apis.keySet().stream().filter(key -> key.threadId() != threadId).toList();
+        others.stream().map(apis::remove).forEach(api -> api.extensions().close());
+    }
+
+    /** Close the extensions of all retained apis. */
+    @Override
+    public void close() {
+        final List<SystemTest> all = new ArrayList<>(apis.values());
+        apis.clear();
+        all.forEach(api -> api.extensions().close());
+    }
+
+    /** Initializer of system test api instances. */
+    @FunctionalInterface
+    public interface Initializer {
+
+        /**
+         * Create and initialize an api instance.
+         *
+         * @param worker the zero-based index of the worker the api is for.
+         * @param selector selects the test extensions to initialize.
+         * @return the initialized api.
+         */
+        SystemTest initialize(int worker, ExtensionSelector selector);
+    }
+
+    private record Key(int worker, long threadId) {}
+}
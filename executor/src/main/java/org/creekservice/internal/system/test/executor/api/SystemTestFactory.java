@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import org.creekservice.api.system.test.model.TestSuite;
+
+/** Factory of initialized system test api instances. */
+@FunctionalInterface
+public interface SystemTestFactory {
+
+    /**
+     * Get the api to execute a test suite with.
+     *
+     * @param suite the test suite. Only the test extensions the suite requires need be initialized.
+     * @param worker the zero-based index of the worker that will execute the suite.
+     * @return the initialized api.
+     */
+    SystemTest create(TestSuite suite, int worker);
+}
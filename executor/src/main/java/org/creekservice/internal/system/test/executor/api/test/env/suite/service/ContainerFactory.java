@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
@@ -51,9 +50,11 @@ public final class ContainerFactory implements TestEnvironmentListener {
     private final ServiceDebugInfo serviceDebugInfo;
     private final List<DirectoryInfo> transferables;
     private final Map<String, String> env;
+    private final boolean fastTeardown;
+    private final Optional<ContainerPool> containerPool;
     private final RegularContainerFactory regularFactory;
     private final DebugContainerFactory debugFactory;
-    private final Supplier<Network> networkSupplier;
+    private final NetworkPool networkPool;
     private final AtomicInteger nextDebugServicePort = new AtomicInteger();
     private final AtomicReference<Network> network = new AtomicReference<>();
 
@@ -63,18 +64,20 @@ public final class ContainerFactory implements TestEnvironmentListener {
      * @param serviceDebugInfo info on what services to debug.
      * @param transferables info on what to copy to/from containers.
      * @param env environment vars to set on services-under-test.
+     * @param options optional settings, e.g. {@link Options#defaults()}.
      */
     public ContainerFactory(
             final ServiceDebugInfo serviceDebugInfo,
             final Collection<DirectoryInfo> transferables,
-            final Map<String, String> env) {
+            final Map<String, String> env,
+            final Options options) {
         this(
                 serviceDebugInfo,
                 transferables,
                 env,
+                options,
                 new RegularContainerFactory(),
-                new DebugContainerFactory(),
-                Network::newNetwork);
+                new DebugContainerFactory());
     }
 
     @VisibleForTesting
@@ -82,15 +85,17 @@ public final class ContainerFactory implements TestEnvironmentListener {
             final ServiceDebugInfo serviceDebugInfo,
             final Collection<DirectoryInfo> transferables,
             final Map<String, String> env,
+            final Options options,
             final RegularContainerFactory regularFactory,
-            final DebugContainerFactory debugFactory,
-            final Supplier<Network> networkSupplier) {
+            final DebugContainerFactory debugFactory) {
         this.serviceDebugInfo = requireNonNull(serviceDebugInfo, "serviceDebugInfo");
         this.transferables = List.copyOf(requireNonNull(transferables, "transferables"));
         this.env = Map.copyOf(requireNonNull(env, "env"));
+        this.fastTeardown = requireNonNull(options, "options").fastTeardown();
+        this.containerPool = options.containerPool();
         this.regularFactory = requireNonNull(regularFactory, "regularFactory");
         this.debugFactory = requireNonNull(debugFactory, "debugFactory");
-        this.networkSupplier = requireNonNull(networkSupplier, "networkSupplier");
+        this.networkPool = options.networkPool();
         afterSuite(null, null);
     }
 
@@ -142,6 +147,106 @@ public final class ContainerFactory implements TestEnvironmentListener {
         return new CreatedContainer(container, writableCopies);
     }
 
+    /**
+     * Prepare the Docker environment, ahead of containers being created.
+     *
+     * <p>Acquires the network containers will be attached to and ensures the supplied images are
+     * available locally, pulling them if necessary. Allows the environment of a suite to be
+     * prepared while the previous suite is still running.
+     *
+     * @param images the images of the containers that will be created.
+     */
+    public void prepare(final Collection<DockerImageName> images) {
+        requireNonNull(images, "images");
+        ensureNetwork().getId();
+        images.forEach(regularFactory::pull);
+    }
+
+    /**
+     * Release the network acquired by {@link #prepare}, or by creating containers, back to the
+     * network pool.
+     */
+    public void release() {
+        final Network released = network.getAndSet(null);
+        if (released != null) {
+            networkPool.release(released);
+        }
+    }
+
+    /**
+     * @return {@code true} if containers with nothing to copy back to the host should be killed,
+     *     rather than stopped gracefully.
+     */
+    public boolean fastTeardown() {
+        return fastTeardown;
+    }
+
+    /**
+     * @return the pool of containers to reuse across suites, if reuse is enabled.
+     */
+    public Optional<ContainerPool> containerPool() {
+        return containerPool;
+    }
+
+    /**
+     * Optional settings of a {@link ContainerFactory}.
+     *
+     * @param fastTeardown if containers with nothing to copy back to the host should be killed,
+     *     rather than stopped gracefully.
+     * @param containerPool the pool of containers to reuse across suites, if reuse is enabled.
+     * @param networkPool the pool of networks to reuse across suites.
+     */
+    public record Options(
+            boolean fastTeardown,
+            Optional<ContainerPool> containerPool,
+            NetworkPool networkPool) {
+
+        /**
+         * Validating constructor.
+         *
+         * @param fastTeardown if containers should be killed, rather than stopped gracefully.
+         * @param containerPool the pool of containers to reuse, if reuse is enabled.
+         * @param networkPool the pool of networks to reuse.
+         */
+        public Options {
+            requireNonNull(containerPool, "containerPool");
+            requireNonNull(networkPool, "networkPool");
+        }
+
+        /**
+         * @return options that stop containers gracefully, do not reuse containers, and create a
+         *     new network per suite.
+         */
+        public static Options defaults() {
+            return new Options(false, Optional.empty(), NetworkPool.unpooled());
+        }
+
+        /**
+         * @param fastTeardown if containers with nothing to copy back to the host should be
+         *     killed, rather than stopped gracefully.
+         * @return a copy of these options, with the supplied {@code fastTeardown}.
+         */
+        public Options withFastTeardown(final boolean fastTeardown) {
+            return new Options(fastTeardown, containerPool, networkPool);
+        }
+
+        /**
+         * @param containerPool the pool of containers to reuse across suites, if reuse is enabled.
+         * @return a copy of these options, with the supplied {@code containerPool}.
+         */
+        public Options withContainerPool(final Optional<ContainerPool> containerPool) {
+            return new Options(fastTeardown, containerPool, networkPool);
+        }
+
+        /**
+         * @param networkPool the pool of networks to reuse across suites.
+         * @return a copy of these options, with the supplied {@code networkPool}.
+         */
+        public Options withNetworkPool(final NetworkPool networkPool) {
+            return new Options(fastTeardown, containerPool, networkPool);
+        }
+    }
+
     /**
      * Holds the result of {@link #create}, bundling the container with any transferables to copy
      * when the container closes.
@@ -174,23 +279,33 @@ public final class ContainerFactory implements TestEnvironmentListener {
         }
     }
 
-    @SuppressWarnings("resource")
     @Override
     public void afterSuite(final CreekTestSuite suite, final TestSuiteResult result) {
-        network.updateAndGet(
-                existing -> {
-                    if (existing != null) {
-                        existing.close();
-                    }
-                    return null;
-                });
+        // The suite's containers have stopped, so its network can be reused:
+        release();
 
         nextDebugServicePort.set(serviceDebugInfo.baseServicePort());
     }
 
     private Network ensureNetwork() {
-        return network.updateAndGet(
-                existing -> existing != null ? existing : networkSupplier.get());
+        if (containerPool.isPresent()) {
+            // Pooled containers outlive the suite, so must use the pool's network:
+            return containerPool.get().network();
+        }
+
+        final Network existing = network.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        final Network acquired = networkPool.acquire();
+        if (network.compareAndSet(null, acquired)) {
+            return acquired;
+        }
+
+        // Lost race with another thread, which has set the network:
+        networkPool.release(acquired);
+        return network.get();
     }
 
     private Optional<Integer> debugPort(final String instanceName, final String serviceName) {
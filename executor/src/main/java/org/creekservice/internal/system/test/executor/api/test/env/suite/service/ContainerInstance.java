@@ -30,10 +30,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
@@ -42,32 +44,43 @@ import org.creekservice.api.base.type.Preconditions;
 import org.creekservice.api.platform.metadata.ServiceDescriptor;
 import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.Container;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.output.ToStringConsumer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
 import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.DockerImageName;
 
 /** An instance of a service running in a local docker container. */
 @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-public final class ContainerInstance implements ConfigurableServiceInstance {
+public final class ContainerInstance
+        implements ConfigurableServiceInstance, StagedServiceInstance {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContainerInstance.class);
 
     private final long threadId;
     private final String name;
     private final DockerImageName imageName;
-    private final GenericContainer<?> container;
+    private final GenericContainer<?> created;
     private final Optional<? extends ServiceDescriptor> descriptor;
     private final Consumer<ServiceInstance> startedCallback;
     private final List<DirectoryInfo> transferables;
     private final ToStringConsumer logConsumer = new ToStringConsumer();
+    private WaitStrategy waitStrategy = Wait.defaultWaitStrategy();
     private Duration startUpTimeOut = Duration.ofSeconds(30);
     private Duration shutDownTimeOut = Duration.ofSeconds(30);
+    private boolean fastTeardown;
+    private Optional<ContainerPool> pool = Optional.empty();
+    private Consumer<ServiceInstance> reusedCallback = instance -> {};
+    private GenericContainer<?> container;
+    private Optional<FollowedLogs> reusedLogs = Optional.empty();
+    private boolean released;
 
     /**
      * @param name the name of the instance.
@@ -107,7 +120,8 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         this.threadId = threadId;
         this.name = requireNonBlank(name, "name");
         this.imageName = requireNonNull(imageName, "imageName");
-        this.container = requireNonNull(container, "container");
+        this.created = requireNonNull(container, "container");
+        this.container = container;
         this.descriptor = requireNonNull(descriptor, "descriptor");
         this.startedCallback = requireNonNull(startedCallback, "startedCallback");
         this.transferables = List.copyOf(requireNonNull(transferables, "transferables"));
@@ -132,29 +146,66 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
             return;
         }
 
+        if (startFromPool()) {
+            return;
+        }
+
         LOGGER.info("Starting {} ({})", name, imageName);
+        released = false;
 
         try {
             container.start();
+        } catch (final Exception e) {
+            throw failedToStart(e);
+        }
 
-            startedCallback.accept(this);
+        completeStart();
+    }
 
-            LOGGER.info(
-                    "Started {} ({}) with container-id {}",
-                    name,
-                    imageName,
-                    container.getContainerId());
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The container is created and started by this method. The blocking stage waits for the
+     * container to become ready. Any {@link #setStartupAttempts startup attempts} only cover
+     * starting the container, not waiting for it to become ready.
+     */
+    @Override
+    public Supplier<Runnable> beginStart() {
+        if (running() || startFromPool()) {
+            return () -> () -> {};
+        }
+
+        LOGGER.info("Starting {} ({})", name, imageName);
+        released = false;
+
+        try {
+            // Defer waiting for the container to become ready to the blocking stage:
+            container.setWaitStrategy(new NoWaitStrategy());
+            container.start();
         } catch (final Exception e) {
-            final String logs = logConsumer.toUtf8String();
-            stop();
-            throw new FailedToStartServiceException(name, imageName, logs, e);
+            throw failedToStart(e);
+        } finally {
+            container.setWaitStrategy(waitStrategy);
         }
+
+        final GenericContainer<?> starting = container;
+        final WaitStrategy ready = waitStrategy;
+        return () -> {
+            try {
+                ready.waitUntilReady(starting);
+            } catch (final Exception e) {
+                return () -> {
+                    throw failedToStart(e);
+                };
+            }
+            return this::completeStart;
+        };
     }
 
     @Override
     public boolean running() {
         throwIfNotOnCorrectThread();
-        return container.getContainerId() != null;
+        return !released && container.getContainerId() != null;
     }
 
     @Override
@@ -222,15 +273,44 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
 
     @Override
     public void stop() {
+        stop(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Releasing the container to any pool is done by this method. The blocking stage stops the
+     * container, copying any transferables to the host, and removes it.
+     */
+    @Override
+    public Supplier<Runnable> beginStop() {
+        if (!running() || releaseToPool()) {
+            return () -> () -> {};
+        }
+
+        return () -> {
+            try {
+                shutDown();
+            } catch (final RuntimeException e) {
+                return () -> {
+                    throw e;
+                };
+            }
+            return this::stopFollowingReusedLogs;
+        };
+    }
+
+    private void stop(final boolean allowRelease) {
         if (!running()) {
             return;
         }
 
-        // First, attempt a graceful shutdown:
-        gracefulStop();
-        copyTransferablesToHost();
-        // Then, if still running, kill, and always remove the container:
-        killAndRemove();
+        if (allowRelease && releaseToPool()) {
+            return;
+        }
+
+        shutDown();
+        stopFollowingReusedLogs();
     }
 
     @Override
@@ -268,7 +348,19 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         requireNonNull(regex, "regex");
         throwIfNotOnCorrectThread();
         throwIfRunning();
-        container.setWaitStrategy(Wait.forLogMessage(regex, times));
+        waitStrategy = Wait.forLogMessage(regex, times);
+        container.setWaitStrategy(waitStrategy);
+        setStartupTimeout(startUpTimeOut);
+        return this;
+    }
+
+    @Override
+    public ContainerInstance setReadinessProbe(final ReadinessProbe probe) {
+        requireNonNull(probe, "probe");
+        throwIfNotOnCorrectThread();
+        throwIfRunning();
+        waitStrategy = new ReadinessWaitStrategy(probe);
+        container.setWaitStrategy(waitStrategy);
         setStartupTimeout(startUpTimeOut);
         return this;
     }
@@ -279,6 +371,7 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         throwIfRunning();
         startUpTimeOut = requireNonNull(timeout, "timeout");
         container.withStartupTimeout(startUpTimeOut);
+        waitStrategy.withStartupTimeout(startUpTimeOut);
         return this;
     }
 
@@ -303,6 +396,44 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         return this;
     }
 
+    /**
+     * Set if the container should be killed on stop, rather than stopped gracefully.
+     *
+     * <p>Containers with transferables to copy back to the host are always stopped gracefully.
+     *
+     * @param fastTeardown {@code true} to skip the graceful stop.
+     * @return self.
+     */
+    public ContainerInstance setFastTeardown(final boolean fastTeardown) {
+        throwIfNotOnCorrectThread();
+        throwIfRunning();
+        this.fastTeardown = fastTeardown;
+        return this;
+    }
+
+    /**
+     * Set the pool of containers the instance should use.
+     *
+     * <p>On start, a running container with an identical configuration is acquired from the pool,
+     * if available, rather than a new container being started. On stop, the running container is
+     * released back to the pool, rather than being stopped.
+     *
+     * <p>Instances with transferables to copy back to the host are never released to the pool.
+     *
+     * @param pool the pool to use.
+     * @param reusedCallback a callback to be called when the instance reuses a pooled container,
+     *     before the started callback is called.
+     * @return self.
+     */
+    public ContainerInstance setContainerPool(
+            final ContainerPool pool, final Consumer<ServiceInstance> reusedCallback) {
+        throwIfNotOnCorrectThread();
+        throwIfRunning();
+        this.pool = Optional.of(requireNonNull(pool, "pool"));
+        this.reusedCallback = requireNonNull(reusedCallback, "reusedCallback");
+        return this;
+    }
+
     /**
      * Visible only for testing.
      *
@@ -343,6 +474,95 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         }
     }
 
+    private boolean startFromPool() {
+        if (pool.isEmpty()) {
+            return false;
+        }
+
+        final Optional<GenericContainer<?>> pooled =
+                pool.get().acquire(ContainerPool.Key.of(name, created));
+        if (pooled.isEmpty()) {
+            return false;
+        }
+
+        container = pooled.get();
+        released = false;
+
+        // The pooled container's log consumer belongs to the instance that started it:
+        reusedLogs =
+                Optional.of(
+                        FollowedLogs.follow(
+                                container.getDockerClient(),
+                                container.getContainerId(),
+                                Instant.now()));
+
+        try {
+            reusedCallback.accept(this);
+            startedCallback.accept(this);
+        } catch (final Exception e) {
+            throw failedToStart(e);
+        }
+
+        LOGGER.info(
+                "Reused {} ({}) with container-id {}", name, imageName, container.getContainerId());
+        return true;
+    }
+
+    private boolean releaseToPool() {
+        if (pool.isEmpty() || !transferables.isEmpty() || !container.isRunning()) {
+            return false;
+        }
+
+        LOGGER.info(
+                "Releasing {} ({}) with container-id {} to pool",
+                name,
+                imageName,
+                container.getContainerId());
+
+        pool.get().release(ContainerPool.Key.of(name, created), container);
+        stopFollowingReusedLogs();
+        container = created;
+        released = true;
+        return true;
+    }
+
+    private void completeStart() {
+        try {
+            startedCallback.accept(this);
+        } catch (final Exception e) {
+            throw failedToStart(e);
+        }
+
+        LOGGER.info(
+                "Started {} ({}) with container-id {}",
+                name,
+                imageName,
+                container.getContainerId());
+    }
+
+    private RuntimeException failedToStart(final Exception cause) {
+        final String logs =
+                reusedLogs.map(FollowedLogs::toUtf8String).orElseGet(logConsumer::toUtf8String);
+        stop(false);
+        return new FailedToStartServiceException(name, imageName, logs, cause);
+    }
+
+    /** Stop the container, copying any transferables to the host, and remove it. */
+    private void shutDown() {
+        // First, attempt a graceful shutdown, unless fast teardown and there's nothing to copy:
+        if (!fastTeardown || !transferables.isEmpty()) {
+            gracefulStop();
+        }
+        copyTransferablesToHost();
+        // Then, if still running, kill, and always remove the container:
+        killAndRemove();
+    }
+
+    private void stopFollowingReusedLogs() {
+        reusedLogs.ifPresent(FollowedLogs::close);
+        reusedLogs = Optional.empty();
+    }
+
     private void copyTransferablesToHost() {
         transferables.forEach(
                 transferable -> {
@@ -451,6 +671,12 @@ public final class ContainerInstance implements ConfigurableServiceInstance {
         }
     }
 
+    /** Wait strategy used to defer waiting for a container to become ready. */
+    private static final class NoWaitStrategy extends AbstractWaitStrategy {
+        @Override
+        protected void waitUntilReady() {}
+    }
+
     private static final class FailedToStartServiceException extends RuntimeException {
         FailedToStartServiceException(
                 final String name,
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+
+/**
+ * A pool of running containers that can be reused by subsequent test suites.
+ *
+ * <p>At the end of a suite, containers are released back to the pool, rather than being stopped. A
+ * later suite that requires a container with an identical configuration acquires the running
+ * container, rather than starting a new one.
+ *
+ * <p>Pooled containers must remain reachable by the services of later suites. Hence, the pool
+ * provides a network that is shared by all suites using the pool. As service instance names are
+ * used as network aliases, a pool must only be used by one suite at a time.
+ *
+ * <p>Thread safe.
+ */
+public final class ContainerPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerPool.class);
+
+    private final Supplier<Network> networkSupplier;
+    private final Map<Key, GenericContainer<?>> idle = new HashMap<>();
+    private Network network;
+
+    /** Constructor. */
+    public ContainerPool() {
+        this(Network::newNetwork);
+    }
+
+    @VisibleForTesting
+    ContainerPool(final Supplier<Network> networkSupplier) {
+        this.networkSupplier = requireNonNull(networkSupplier, "networkSupplier");
+    }
+
+    /**
+     * @return the network all containers using the pool should be attached to.
+     */
+    public synchronized Network network() {
+        if (network == null) {
+            network = networkSupplier.get();
+        }
+        return network;
+    }
+
+    /**
+     * Acquire an idle container from the pool.
+     *
+     * @param key the key describing the required container.
+     * @return a running container matching the {@code key}, if one is available.
+     */
+    public synchronized Optional<GenericContainer<?>> acquire(final Key key) {
+        final GenericContainer<?> container = idle.remove(requireNonNull(key, "key"));
+        if (container == null) {
+            return Optional.empty();
+        }
+
+        if (!container.isRunning()) {
+            LOGGER.warn("Discarding pooled container that is no longer running: {}", key.name());
+            container.stop();
+            return Optional.empty();
+        }
+
+        return Optional.of(container);
+    }
+
+    /**
+     * Release a running container back to the pool.
+     *
+     * @param key the key describing the container.
+     * @param container the running container.
+     */
+    public synchronized void release(final Key key, final GenericContainer<?> container) {
+        requireNonNull(container, "container");
+        final GenericContainer<?> replaced = idle.put(requireNonNull(key, "key"), container);
+        if (replaced != null && replaced != container) {
+            replaced.stop();
+        }
+    }
+
+    /** Stop all idle containers and remove the shared network. */
+    @Override
+    public synchronized void close() {
+        final List<GenericContainer<?>> containers = new ArrayList<>(idle.values());
+        idle.clear();
+        containers.forEach(GenericContainer::stop);
+
+        if (network != null) {
+            network.close();
+            network = null;
+        }
+    }
+
+    /**
+     * The key of a pooled container.
+     *
+     * <p>Two containers with the same key are interchangeable.
+     *
+     * @param name the name of the service instance, which is also its network alias.
+     * @param image the docker image name.
+     * @param env the container's environment.
+     * @param exposedPorts the container's exposed ports.
+     * @param command the container's command.
+     * @param copiedToContainer map of container path to host path of files copied into the
+     *     container.
+     */
+    public record Key(
+            String name,
+            String image,
+            Map<String, String> env,
+            List<Integer> exposedPorts,
+            List<String> command,
+            Map<String, String> copiedToContainer) {
+
+        /**
+         * Create an instance.
+         *
+         * @param name the name of the service instance.
+         * @param image the docker image name.
+         * @param env the container's environment.
+         * @param exposedPorts the container's exposed ports.
+         * @param command the container's command.
+         * @param copiedToContainer files copied to the container.
+         */
+        public Key {
+            requireNonNull(name, "name");
+            requireNonNull(image, "image");
+            env = Map.copyOf(requireNonNull(env, "env"));
+            exposedPorts = List.copyOf(requireNonNull(exposedPorts, "exposedPorts"));
+            command = List.copyOf(requireNonNull(command, "command"));
+            copiedToContainer = Map.copyOf(requireNonNull(copiedToContainer, "copiedToContainer"));
+        }
+
+        /**
+         * Build the key of an unstarted container.
+         *
+         * @param name the name of the service instance.
+         * @param container the configured container.
+         * @return the key.
+         */
+        public static Key of(final String name, final GenericContainer<?> container) {
+            final Map<String, String> copied = new TreeMap<>();
+            container
+                    .getCopyToFileContainerPathMap()
+                    .forEach((file, path) -> copied.put(path, file.getResolvedPath()));
+
+            final String[] command = container.getCommandParts();
+
+            return new Key(
+                    name,
+                    container.getDockerImageName(),
+                    container.getEnvMap(),
+                    container.getExposedPorts(),
+                    command == null ? List.of() : Arrays.asList(command),
+                    copied);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+
+/**
+ * The container pools of a test run, one per suite worker.
+ *
+ * <p>Suites executing concurrently must not share a pool, as their service instances use the same
+ * names as network aliases. Hence, each worker has its own pool.
+ *
+ * <p>Thread safe.
+ */
+public final class ContainerPools implements AutoCloseable {
+
+    private final Supplier<ContainerPool> poolFactory;
+    private final Map<Integer, ContainerPool> pools = new ConcurrentHashMap<>();
+
+    /** Constructor. */
+    public ContainerPools() {
+        this(ContainerPool::new);
+    }
+
+    @VisibleForTesting
+    ContainerPools(final Supplier<ContainerPool> poolFactory) {
+        this.poolFactory = requireNonNull(poolFactory, "poolFactory");
+    }
+
+    /**
+     * Get the pool for a worker.
+     *
+     * @param worker the index of the worker executing suites.
+     * @return the worker's pool.
+     */
+    public ContainerPool forWorker(final int worker) {
+        return pools.computeIfAbsent(worker, w -> poolFactory.get());
+    }
+
+    /** Close all pools, stopping any idle containers. */
+    @Override
+    public void close() {
+        final List<ContainerPool> all = new ArrayList<>(pools.values());
+        pools.clear();
+        all.forEach(ContainerPool::close);
+    }
+}
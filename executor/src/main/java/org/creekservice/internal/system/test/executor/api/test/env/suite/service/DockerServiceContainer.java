@@ -19,10 +19,14 @@ package org.creekservice.internal.system.test.executor.api.test.env.suite.servic
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
@@ -42,6 +46,7 @@ public final class DockerServiceContainer implements ServiceInstanceContainer {
 
     private final long threadId;
     private final Map<String, ConfigurableServiceInstance> instances = new HashMap<>();
+    private final Set<String> images = new LinkedHashSet<>();
     private final InstanceNaming naming = new InstanceNaming();
     private final ContainerFactory containerFactory;
 
@@ -80,7 +85,7 @@ public final class DockerServiceContainer implements ServiceInstanceContainer {
                                                         + " ContainerInstance was"
                                                         + " constructed")));
 
-        final ConfigurableServiceInstance instance =
+        final ContainerInstance instance =
                 new ContainerInstance(
                                 instanceName,
                                 imageName,
@@ -89,13 +94,19 @@ public final class DockerServiceContainer implements ServiceInstanceContainer {
                                 def::instanceStarted,
                                 created.transferables())
                         .setStartupAttempts(CONTAINER_START_UP_ATTEMPTS)
-                        .setStartupTimeout(CONTAINER_START_UP_TIMEOUT);
+                        .setStartupTimeout(CONTAINER_START_UP_TIMEOUT)
+                        .setFastTeardown(containerFactory.fastTeardown());
+
+        containerFactory
+                .containerPool()
+                .ifPresent(pool -> instance.setContainerPool(pool, def::instanceReused));
 
         def.configureInstance(instance);
 
         instanceRef.set(instance);
 
         instances.put(instance.name(), instance);
+        images.add(def.dockerImage());
         return instance;
     }
 
@@ -117,6 +128,50 @@ public final class DockerServiceContainer implements ServiceInstanceContainer {
         return instances.values().iterator();
     }
 
+    /**
+     * Get the preparation of the environment for instances of the supplied {@code services},
+     * without creating the instances.
+     *
+     * <p>The preparation creates the network and pulls any missing images, so that instances start
+     * more quickly once added. Unlike this container, the preparation is thread safe, so can be run
+     * in the background, e.g. while the previous suite is still running.
+     *
+     * @param services the services that will be added.
+     * @return the preparation to run.
+     */
+    public Runnable preparation(final Collection<? extends ServiceDefinition> services) {
+        requireNonNull(services, "services");
+        throwIfNotOnCorrectThread();
+        final List<DockerImageName> images =
+                services.stream()
+                        .map(ServiceDefinition::dockerImage)
+                        .map(DockerImageName::parse)
+                        .distinct()
+                        .toList();
+
+        return () -> containerFactory.prepare(images);
+    }
+
+    /**
+     * Release any environment created by a {@link #preparation}, e.g. because the suite it was
+     * prepared for will not be executed.
+     *
+     * <p>The preparation must have completed.
+     */
+    public void release() {
+        throwIfNotOnCorrectThread();
+        containerFactory.release();
+    }
+
+    /**
+     * @return the Docker images of all services added since the container was last cleared,
+     *     including those added by test extensions, in the order they were first added.
+     */
+    public List<String> images() {
+        throwIfNotOnCorrectThread();
+        return List.copyOf(images);
+    }
+
     /**
      * Clear all services.
      *
@@ -128,6 +183,7 @@ public final class DockerServiceContainer implements ServiceInstanceContainer {
         throwIfNotOnCorrectThread();
         throwOnRunningServices();
         instances.clear();
+        images.clear();
         naming.clear();
     }
 
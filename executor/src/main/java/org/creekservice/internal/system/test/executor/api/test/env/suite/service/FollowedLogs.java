@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.dockerjava.api.DockerClient;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * The logs of a container, captured as they are output.
+ *
+ * <p>The logs are followed via a single log stream, rather than being re-read. They can be searched
+ * for a message incrementally: each search only scans the output captured since the previous search
+ * for the same message, making it cheap to poll for a message.
+ *
+ * <p>Thread safe.
+ */
+final class FollowedLogs implements Consumer<OutputFrame>, AutoCloseable {
+
+    private final StringBuilder logs = new StringBuilder();
+    private final Map<String, Integer> searched = new HashMap<>();
+    private FrameConsumerResultCallback stream;
+
+    /**
+     * Start following the logs of a container, from when it started.
+     *
+     * @param client the docker client.
+     * @param containerId the id of the container.
+     * @return the followed logs, which must be closed to stop following.
+     */
+    static FollowedLogs follow(final DockerClient client, final String containerId) {
+        return follow(client, containerId, Instant.EPOCH);
+    }
+
+    /**
+     * Start following the logs of a container, from the supplied point in time.
+     *
+     * @param client the docker client.
+     * @param containerId the id of the container.
+     * @param since the time to follow logs from, with a resolution of seconds.
+     * @return the followed logs, which must be closed to stop following.
+     */
+    static FollowedLogs follow(
+            final DockerClient client, final String containerId, final Instant since) {
+        final FollowedLogs logs = new FollowedLogs();
+
+        final FrameConsumerResultCallback stream = new FrameConsumerResultCallback();
+        stream.addConsumer(OutputFrame.OutputType.STDOUT, logs);
+        stream.addConsumer(OutputFrame.OutputType.STDERR, logs);
+
+        client.logContainerCmd(requireNonNull(containerId, "containerId"))
+                .withFollowStream(true)
+                .withStdOut(true)
+                .withStdErr(true)
+                .withSince((int) since.getEpochSecond())
+                .exec(stream);
+
+        logs.stream = stream;
+        return logs;
+    }
+
+    @VisibleForTesting
+    FollowedLogs() {}
+
+    @Override
+    public synchronized void accept(final OutputFrame frame) {
+        logs.append(frame.getUtf8String());
+    }
+
+    /**
+     * Check if the logs contain the supplied {@code message}.
+     *
+     * @param message the message to look for, matched as a literal substring.
+     * @return {@code true} if the logs captured so far contain the message.
+     */
+    synchronized boolean contains(final String message) {
+        requireNonNull(message, "message");
+
+        final int from = searched.getOrDefault(message, 0);
+        if (logs.indexOf(message, from) >= 0) {
+            return true;
+        }
+
+        // The next search need only rescan any partial match at the end of the logs:
+        searched.put(message, Math.max(from, logs.length() - message.length() + 1));
+        return false;
+    }
+
+    /**
+     * @return the logs captured so far.
+     */
+    synchronized String toUtf8String() {
+        return logs.toString();
+    }
+
+    @Override
+    public void close() {
+        if (stream == null) {
+            return;
+        }
+
+        try {
+            stream.close();
+        } catch (final IOException e) {
+            // Ignore: the stream ends when the container stops anyway.
+        }
+    }
+}
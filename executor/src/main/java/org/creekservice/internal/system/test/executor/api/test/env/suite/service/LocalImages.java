@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import com.github.dockerjava.api.command.InspectImageResponse;
+import java.util.List;
+import java.util.Optional;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.utility.DockerImageName;
+
+/** Access to the Docker images available locally. */
+public final class LocalImages {
+
+    private LocalImages() {}
+
+    /**
+     * Resolve the id of a local image.
+     *
+     * <p>The image id is a digest of the image's content, so changes whenever a different image is
+     * pulled or built under the same name.
+     *
+     * @param imageName the name of the image.
+     * @return the image id, or empty if the image is not available locally, or Docker can not be
+     *     reached.
+     */
+    public static Optional<String> imageId(final String imageName) {
+        try {
+            return Optional.ofNullable(
+                    DockerClientFactory.instance()
+                            .client()
+                            .inspectImageCmd(imageName)
+                            .exec()
+                            .getId());
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolve the digest of a local image.
+     *
+     * <p>Unlike the image's name, which may be a tag that is later moved to a different image, the
+     * digest identifies the exact image content.
+     *
+     * @param imageName the name of the image.
+     * @return the repository digest of the image, e.g. {@code name@sha256:...}, or the image id if
+     *     the image has not been pushed to, or pulled from, a registry. Empty if the image is not
+     *     available locally, or Docker can not be reached.
+     */
+    public static Optional<String> digest(final String imageName) {
+        try {
+            final InspectImageResponse image =
+                    DockerClientFactory.instance().client().inspectImageCmd(imageName).exec();
+
+            final List<String> repoDigests = image.getRepoDigests();
+            if (repoDigests != null && !repoDigests.isEmpty()) {
+                return Optional.of(repoDigests.get(0));
+            }
+            return Optional.ofNullable(image.getId());
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Ensure an image is available locally, pulling it if not.
+     *
+     * @param imageName the name of the image.
+     */
+    public static void pull(final String imageName) {
+        new RemoteDockerImage(DockerImageName.parse(imageName)).get();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Network;
+
+/**
+ * A pool of Docker networks that can be reused by subsequent test suites.
+ *
+ * <p>Creating and removing a network per suite adds latency on busy Docker daemons and can exhaust
+ * the daemon's address pools. Instead, once all of a suite's containers have stopped, its network
+ * is released back to the pool, from where it can be acquired by the next suite to start. The
+ * pool can be shared by suites executing concurrently, as each acquired network is only used by
+ * one suite at a time.
+ *
+ * <p>At most {@code maxIdle} networks are kept idle. Networks released while the pool is full are
+ * removed. Closing the pool removes all networks it created, including any not yet released.
+ *
+ * <p>Thread safe.
+ */
+public final class NetworkPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkPool.class);
+
+    private final int maxIdle;
+    private final Supplier<Network> networkSupplier;
+    private final Deque<Network> idle = new ArrayDeque<>();
+    private final Set<Network> leased = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param maxIdle the maximum number of idle networks to keep.
+     */
+    public NetworkPool(final int maxIdle) {
+        this(maxIdle, Network::newNetwork);
+    }
+
+    @VisibleForTesting
+    NetworkPool(final int maxIdle, final Supplier<Network> networkSupplier) {
+        Preconditions.require(maxIdle >= 0, "maxIdle can not be negative. maxIdle: " + maxIdle);
+        this.maxIdle = maxIdle;
+        this.networkSupplier = requireNonNull(networkSupplier, "networkSupplier");
+    }
+
+    /**
+     * @return a pool that keeps no idle networks, i.e. creates a new network on each acquire and
+     *     removes it on release.
+     */
+    public static NetworkPool unpooled() {
+        return new NetworkPool(0);
+    }
+
+    /**
+     * Acquire a network from the pool, creating a new one if none are idle.
+     *
+     * @return the network.
+     */
+    public synchronized Network acquire() {
+        if (closed) {
+            throw new IllegalStateException("Network pool is closed");
+        }
+
+        final Network network = idle.isEmpty() ? networkSupplier.get() : idle.pop();
+        leased.add(network);
+        return network;
+    }
+
+    /**
+     * Release a network back to the pool.
+     *
+     * <p>All containers attached to the network must have been stopped.
+     *
+     * @param network the network to release.
+     */
+    public void release(final Network network) {
+        requireNonNull(network, "network");
+
+        synchronized (this) {
+            if (!leased.remove(network) && closed) {
+                // Already removed when the pool was closed:
+                return;
+            }
+
+            if (!closed && idle.size() < maxIdle) {
+                idle.push(network);
+                return;
+            }
+        }
+
+        remove(network);
+    }
+
+    /** Remove all networks created by the pool, whether idle or still acquired. */
+    @Override
+    public void close() {
+        final List<Network> all;
+        synchronized (this) {
+            closed = true;
+            all = new ArrayList<>(idle);
+            all.addAll(leased);
+            idle.clear();
+            leased.clear();
+        }
+
+        all.forEach(NetworkPool::remove);
+    }
+
+    private static void remove(final Network network) {
+        try {
+            network.close();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to remove network: " + e.getMessage(), e);
+        }
+    }
+}
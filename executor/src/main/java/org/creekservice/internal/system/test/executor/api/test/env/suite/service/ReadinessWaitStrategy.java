@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.RuntimeIOException.runtimeIOException;
+import static org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance.ExecResult.execResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance.ExecResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+/**
+ * A wait strategy that polls a {@link ReadinessProbe}.
+ *
+ * <p>The probe is polled with an exponential back off, up to a maximum interval, until it reports
+ * the container is ready or the startup timeout elapses. The container's state is checked before
+ * each poll, failing fast if the container has exited.
+ *
+ * <p>If the probe checks the container's logs, they are followed via a single log stream for the
+ * duration of the wait, rather than being re-read on each poll.
+ */
+final class ReadinessWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadinessWaitStrategy.class);
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(50);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private final ReadinessProbe probe;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    ReadinessWaitStrategy(final ReadinessProbe probe) {
+        this(probe, INITIAL_BACKOFF, MAX_BACKOFF);
+    }
+
+    @VisibleForTesting
+    ReadinessWaitStrategy(
+            final ReadinessProbe probe, final Duration initialBackoff, final Duration maxBackoff) {
+        this.probe = requireNonNull(probe, "probe");
+        this.initialBackoff = requireNonNull(initialBackoff, "initialBackoff");
+        this.maxBackoff = requireNonNull(maxBackoff, "maxBackoff");
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        try (ProbeTarget target = new ProbeTarget(waitStrategyTarget)) {
+            waitUntilReady(target);
+        }
+    }
+
+    private void waitUntilReady(final ReadinessProbe.Target target) {
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        Duration backoff = initialBackoff;
+        while (true) {
+            if (!waitStrategyTarget.isRunning()) {
+                throw new ContainerLaunchException(
+                        "Container exited before becoming ready. exitCode: " + exitCode());
+            }
+
+            if (ready(target)) {
+                return;
+            }
+
+            if (System.nanoTime() - deadline >= 0) {
+                throw new ContainerLaunchException(
+                        "Timed out waiting for container to become ready. timeout: "
+                                + startupTimeout);
+            }
+
+            sleep(backoff);
+
+            final Duration doubled = backoff.multipliedBy(2);
+            backoff = doubled.compareTo(maxBackoff) < 0 ? doubled : maxBackoff;
+        }
+    }
+
+    private boolean ready(final ReadinessProbe.Target target) {
+        try {
+            return probe.ready(target);
+        } catch (final Exception e) {
+            LOGGER.debug("Readiness probe failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private String exitCode() {
+        try {
+            return String.valueOf(
+                    waitStrategyTarget.getCurrentContainerInfo().getState().getExitCodeLong());
+        } catch (final RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted waiting for container to become ready");
+        }
+    }
+
+    private static final class ProbeTarget implements ReadinessProbe.Target, AutoCloseable {
+
+        private final WaitStrategyTarget target;
+        private FollowedLogs logs;
+
+        ProbeTarget(final WaitStrategyTarget target) {
+            this.target = requireNonNull(target, "target");
+        }
+
+        @Override
+        public String testNetworkHostname() {
+            return target.getHost();
+        }
+
+        @Override
+        public int testNetworkPort(final int serviceNetworkPort) {
+            return target.getMappedPort(serviceNetworkPort);
+        }
+
+        @Override
+        public ExecResult execOnInstance(final String... cmd) {
+            try {
+                final Container.ExecResult result = target.execInContainer(cmd);
+                return execResult(result.getExitCode(), result.getStdout(), result.getStderr());
+            } catch (final IOException e) {
+                throw runtimeIOException(e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public boolean logContains(final String message) {
+            if (logs == null) {
+                logs = FollowedLogs.follow(target.getDockerClient(), target.getContainerId());
+            }
+            return logs.contains(message);
+        }
+
+        @Override
+        public void close() {
+            if (logs != null) {
+                logs.close();
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.utility.DockerImageName;
 
 final class RegularContainerFactory {
@@ -33,6 +34,11 @@ final class RegularContainerFactory {
         return new HookableContainer(imageName, startingHook);
     }
 
+    void pull(final DockerImageName imageName) {
+        LOGGER.info("Ensuring image is available. image-name: " + imageName);
+        new RemoteDockerImage(imageName).get();
+    }
+
     /**
      * A {@link GenericContainer} that fires a starting hook from {@link #containerIsStarting} —
      * after the container process has started and mapped ports are assigned, but before the wait
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import java.util.function.Supplier;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
+
+/**
+ * A service instance whose start and stop can be split into stages.
+ *
+ * <p>Service instances are confined to the thread that created them. Staging allows several
+ * instances to start, or stop, concurrently, without any instance being accessed from another
+ * thread:
+ *
+ * <ol>
+ *   <li>The {@code begin} method is called on the instance's thread.
+ *   <li>The returned blocking stage does not access the instance, so may be called on any thread.
+ *       It blocks until the container is ready, or stopped, and returns the final stage.
+ *   <li>The final stage is run on the instance's thread, completing the start or stop.
+ * </ol>
+ *
+ * <p>No other method of the instance may be called until the final stage has run.
+ */
+public interface StagedServiceInstance extends ServiceInstance {
+
+    /**
+     * Begin starting the instance.
+     *
+     * <p>Equivalent to {@link #start()}, if all stages are run in turn. Any failure to start is
+     * thrown by this method or the final stage.
+     *
+     * @return the blocking stage of the start.
+     */
+    Supplier<Runnable> beginStart();
+
+    /**
+     * Begin stopping the instance.
+     *
+     * <p>Equivalent to {@link #stop()}, if all stages are run in turn. Any failure to stop is
+     * thrown by this method or the final stage.
+     *
+     * @return the blocking stage of the stop.
+     */
+    Supplier<Runnable> beginStop();
+}
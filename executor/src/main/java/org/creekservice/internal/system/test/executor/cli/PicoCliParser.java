@@ -17,6 +17,7 @@
 package org.creekservice.internal.system.test.executor.cli;
 
 import static java.lang.System.lineSeparator;
+import static java.util.Objects.requireNonNull;
 import static org.creekservice.internal.system.test.executor.execution.debug.ServiceDebugInfo.DEFAULT_BASE_DEBUG_PORT;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -61,8 +62,28 @@ public final class PicoCliParser {
      * @return the parsed command line, or else {@code empty} if the args have already been handled.
      */
     public static Optional<ExecutorOptions> parse(final String... args) {
+        return parse(Paths.get(""), args);
+    }
+
+    /**
+     * Parse the command line, resolving relative paths against the supplied working directory.
+     *
+     * <p>Used when the command line was supplied by a process with a different working directory,
+     * e.g. a client of the executor daemon.
+     *
+     * @param workingDirectory the directory relative paths are resolved against.
+     * @param args the command line args.
+     * @return the parsed command line, or else {@code empty} if the args have already been handled.
+     */
+    public static Optional<ExecutorOptions> parse(
+            final Path workingDirectory, final String... args) {
         final Options options = new Options();
-        final CommandLine parser = new CommandLine(options).setTrimQuotes(true);
+        options.workingDir = requireNonNull(workingDirectory, "workingDirectory");
+
+        final CommandLine parser =
+                new CommandLine(options)
+                        .setTrimQuotes(true)
+                        .registerConverter(Path.class, options::resolve);
 
         try {
             parser.parseArgs(args);
@@ -80,6 +101,7 @@ public final class PicoCliParser {
                 return Optional.empty();
             }
 
+            options.validate();
             return Optional.of(options);
         } catch (final Exception e) {
             throw new InvalidArgumentsException(parser.getUsageMessage(), e);
@@ -93,6 +115,8 @@ public final class PicoCliParser {
 
         @Spec CommandSpec spec;
 
+        private Path workingDir = Paths.get("");
+
         @Option(
                 names = {"-td", "--test-directory"},
                 required = true,
@@ -228,7 +252,7 @@ public final class PicoCliParser {
                             .map(
                                     e ->
                                             new DirectoryInfo(
-                                                    toPath(e.getKey()),
+                                                    resolve(e.getKey()),
                                                     toPath(e.getValue()),
                                                     CopyDirection.COPY_TO_CONTAINER))
                             .toList();
@@ -256,12 +280,227 @@ public final class PicoCliParser {
                             .map(
                                     e ->
                                             new DirectoryInfo(
-                                                    toPath(e.getKey()),
+                                                    resolve(e.getKey()),
                                                     toPath(e.getValue()),
                                                     CopyDirection.COPY_TO_AND_FROM_CONTAINER))
                             .toList();
         }
 
+        @Option(
+                names = {"-ft", "--fast-teardown"},
+                description = {
+                    "Kill service containers at the end of each suite, rather than waiting for"
+                            + " them to stop gracefully.",
+                    "Containers with writable mounts are always stopped gracefully, so that their"
+                            + " files can be copied back to the host."
+                })
+        private boolean fastTeardown;
+
+        @Option(
+                names = {"-rc", "--reuse-containers"},
+                description = {
+                    "Leave service containers running at the end of each suite, so that later"
+                            + " suites requiring identical services can reuse them.",
+                    "Containers with writable mounts are never reused."
+                })
+        private boolean reuseContainers;
+
+        @Option(
+                names = {"-pi", "--parallel-inputs"},
+                description = {
+                    "Feed inputs and seed data to each test extension concurrently.",
+                    "The order of inputs sent to the same extension is preserved."
+                })
+        private boolean parallelInputs;
+
+        private int parallelism = 1;
+
+        /**
+         * Method to allow {@code parallelism} to be validated.
+         *
+         * @param parallelism the number of suites to execute concurrently.
+         */
+        @Option(
+                names = {"-pl", "--parallelism"},
+                paramLabel = "COUNT",
+                description = {
+                    "The number of test suites to execute concurrently. Default: 1.",
+                    "Each concurrently executing suite has its own Docker network and service"
+                            + " containers."
+                })
+        public void setParallelism(final int parallelism) {
+            if (parallelism <= 0) {
+                throw new ParameterException(
+                        spec.commandLine(),
+                        "Invalid value '"
+                                + parallelism
+                                + "' for option '--parallelism': "
+                                + "value must be positive.");
+            }
+            this.parallelism = parallelism;
+        }
+
+        private int shardCount = 1;
+
+        /**
+         * Method to allow {@code shardCount} to be validated.
+         *
+         * @param shardCount the number of shards.
+         */
+        @Option(
+                names = {"-sc", "--shard-count"},
+                paramLabel = "COUNT",
+                description = {
+                    "The number of shards to split the test suites across. Default: 1.",
+                    "Use with --shard-index to split suites across multiple machines."
+                })
+        public void setShardCount(final int shardCount) {
+            if (shardCount <= 0) {
+                throw new ParameterException(
+                        spec.commandLine(),
+                        "Invalid value '"
+                                + shardCount
+                                + "' for option '--shard-count': "
+                                + "value must be positive.");
+            }
+            this.shardCount = shardCount;
+        }
+
+        private int shardIndex = 0;
+
+        /**
+         * Method to allow {@code shardIndex} to be validated.
+         *
+         * @param shardIndex the zero-based index of the shard to execute.
+         */
+        @Option(
+                names = {"-si", "--shard-index"},
+                paramLabel = "INDEX",
+                description = {
+                    "The zero-based index of the shard of test suites to execute. Default: 0.",
+                    "Must be less than --shard-count."
+                })
+        public void setShardIndex(final int shardIndex) {
+            if (shardIndex < 0) {
+                throw new ParameterException(
+                        spec.commandLine(),
+                        "Invalid value '"
+                                + shardIndex
+                                + "' for option '--shard-index': "
+                                + "value must not be negative.");
+            }
+            this.shardIndex = shardIndex;
+        }
+
+        @Option(
+                names = {"-shd", "--shard-history-directory"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional directory containing the TEST-*.xml results of a previous"
+                            + " run.",
+                    "Suite durations from the previous run are used to balance the shards."
+                            + " Without history, suites are assigned to shards by hashing their"
+                            + " path."
+                })
+        private Optional<Path> shardHistoryDir;
+
+        @Option(
+                names = {"-rhf", "--run-history-file"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional file in which to record the history of test runs.",
+                    "Recorded suite durations are used to execute the longest suites first."
+                            + " The file is created if it does not exist."
+                })
+        private Optional<Path> runHistoryFile;
+
+        @Option(
+                names = {"-vhf", "--verifier-history-file"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional file in which to record the time taken to meet expectations.",
+                    "Recorded times are used to derive adaptive verifier timeouts, which are never"
+                            + " longer than the verifier timeout. The file is created if it does"
+                            + " not exist."
+                })
+        private Optional<Path> verifierHistoryFile;
+
+        @Option(
+                names = {"-icd", "--incremental-cache-dir"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional directory in which to cache the results of passing suites.",
+                    "Suites whose files, service images, environment and transferables are"
+                            + " unchanged since they last passed are skipped, and their cached"
+                            + " result reported. The directory is created if it does not exist."
+                })
+        private Optional<Path> incrementalCacheDirectory;
+
+        @Option(
+                names = {"-rf", "--rerun-failed"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional directory containing the results of a previous run.",
+                    "Only the suites and test cases that failed or errored in the previous run"
+                            + " are executed. Pass the same directory as the result directory to"
+                            + " merge the results of the re-run back into the previous results."
+                })
+        private Optional<Path> rerunFailedDirectory;
+
+        @Option(
+                names = {"-flf", "--flakiness-ledger-file"},
+                paramLabel = "PATH",
+                description = {
+                    "Set an optional file in which to keep a ledger of flaky test cases.",
+                    "The number of runs of each test case, and how many were flaky or failed,"
+                            + " are accumulated across runs. The file is created if it does not"
+                            + " exist."
+                })
+        private Optional<Path> flakinessLedgerFile;
+
+        @Option(
+                names = {"-w", "--watch"},
+                description = {
+                    "Watch the test directory for changes once all suites have run, re-running"
+                            + " only the suites affected by each change.",
+                    "Service containers are left running between runs. Runs until interrupted."
+                })
+        private boolean watch;
+
+        @Option(
+                names = {"-la", "--look-ahead"},
+                description = {
+                    "Prepare the environment of the next suite while the current suite executes.",
+                    "Only applies when suites are executed sequentially."
+                })
+        private boolean lookAhead;
+
+        private int testRetries = 0;
+
+        /**
+         * Method to allow {@code testRetries} to be validated.
+         *
+         * @param testRetries the number of times to retry failed test cases.
+         */
+        @Option(
+                names = {"-tr", "--test-retries"},
+                paramLabel = "COUNT",
+                description = {
+                    "The number of times to retry a test case that fails or errors. Default: 0.",
+                    "Test cases are retried against the services already running for the suite."
+                })
+        public void setTestRetries(final int testRetries) {
+            if (testRetries < 0) {
+                throw new ParameterException(
+                        spec.commandLine(),
+                        "Invalid value '"
+                                + testRetries
+                                + "' for option '--test-retries': "
+                                + "value must not be negative.");
+            }
+            this.testRetries = testRetries;
+        }
+
         @Override
         public Path testDirectory() {
             return testDir;
@@ -314,6 +553,81 @@ public final class PicoCliParser {
             return Map.copyOf(env);
         }
 
+        @Override
+        public int parallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public boolean fastTeardown() {
+            return fastTeardown;
+        }
+
+        @Override
+        public boolean reuseContainers() {
+            return reuseContainers;
+        }
+
+        @Override
+        public boolean parallelInputs() {
+            return parallelInputs;
+        }
+
+        @Override
+        public int shardCount() {
+            return shardCount;
+        }
+
+        @Override
+        public int shardIndex() {
+            return shardIndex;
+        }
+
+        @Override
+        public Optional<Path> shardHistoryDirectory() {
+            return shardHistoryDir;
+        }
+
+        @Override
+        public Optional<Path> runHistoryFile() {
+            return runHistoryFile;
+        }
+
+        @Override
+        public Optional<Path> verifierHistoryFile() {
+            return verifierHistoryFile;
+        }
+
+        @Override
+        public Optional<Path> incrementalCacheDirectory() {
+            return incrementalCacheDirectory;
+        }
+
+        @Override
+        public Optional<Path> rerunFailedDirectory() {
+            return rerunFailedDirectory;
+        }
+
+        @Override
+        public int testRetries() {
+            return testRetries;
+        }
+
+        @Override
+        public Optional<Path> flakinessLedgerFile() {
+            return flakinessLedgerFile;
+        }
+
+        @Override
+        public boolean watch() {
+            return watch;
+        }
+
+        @Override
+        public boolean lookAhead() {
+            return lookAhead;
+        }
+
         @Override
         public String toString() {
             return "--test-directory="
@@ -347,7 +661,65 @@ public final class PicoCliParser {
                     + formatTransferables(readOnlyMounts)
                     + lineSeparator()
                     + "--mount-writable="
-                    + formatTransferables(writeableMounts);
+                    + formatTransferables(writeableMounts)
+                    + lineSeparator()
+                    + "--parallelism="
+                    + parallelism
+                    + lineSeparator()
+                    + "--fast-teardown="
+                    + fastTeardown
+                    + lineSeparator()
+                    + "--reuse-containers="
+                    + reuseContainers
+                    + lineSeparator()
+                    + "--parallel-inputs="
+                    + parallelInputs
+                    + lineSeparator()
+                    + "--shard-count="
+                    + shardCount
+                    + lineSeparator()
+                    + "--shard-index="
+                    + shardIndex
+                    + lineSeparator()
+                    + "--shard-history-directory="
+                    + shardHistoryDir.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--run-history-file="
+                    + runHistoryFile.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--verifier-history-file="
+                    + verifierHistoryFile.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--incremental-cache-dir="
+                    + incrementalCacheDirectory.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--rerun-failed="
+                    + rerunFailedDirectory.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--test-retries="
+                    + testRetries
+                    + lineSeparator()
+                    + "--flakiness-ledger-file="
+                    + flakinessLedgerFile.map(Path::toString).orElse(NOT_SET)
+                    + lineSeparator()
+                    + "--watch="
+                    + watch
+                    + lineSeparator()
+                    + "--look-ahead="
+                    + lookAhead;
+        }
+
+        private void validate() {
+            if (shardIndex >= shardCount) {
+                throw new ParameterException(
+                        spec.commandLine(),
+                        "Invalid value '"
+                                + shardIndex
+                                + "' for option '--shard-index': "
+                                + "value must be less than --shard-count ("
+                                + shardCount
+                                + ").");
+            }
         }
 
         private String formatList(final Set<String> list) {
@@ -397,6 +769,10 @@ public final class PicoCliParser {
         private static Path toPath(final String path) {
             return Paths.get(path);
         }
+
+        private Path resolve(final String path) {
+            return workingDir.resolve(toPath(path));
+        }
     }
 
     private static class InvalidArgumentsException extends RuntimeException {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.daemon;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.CWD;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.EXIT;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.OUT;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.RUN;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.readLine;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.reader;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.writeLine;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.writer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+
+/**
+ * Client side of the executor daemon.
+ *
+ * <p>Sends a run request to a {@link DaemonServer} and streams back its output.
+ *
+ * <p>See {@link DaemonProtocol} for details of the protocol.
+ */
+public final class DaemonClient {
+
+    private final Path socket;
+    private final Path workingDirectory;
+
+    /**
+     * @param socket the path of the Unix-domain socket the daemon is listening on.
+     */
+    public DaemonClient(final Path socket) {
+        this(socket, Path.of("").toAbsolutePath());
+    }
+
+    @VisibleForTesting
+    DaemonClient(final Path socket, final Path workingDirectory) {
+        this.socket = requireNonNull(socket, "socket");
+        this.workingDirectory = requireNonNull(workingDirectory, "workingDirectory");
+
+        validate(workingDirectory.toString());
+    }
+
+    /**
+     * Request the daemon executes a test run.
+     *
+     * <p>Blocks until the run is complete.
+     *
+     * <p>Relative paths in the supplied {@code args} are resolved by the daemon against this
+     * client's working directory, not the daemon's.
+     *
+     * @param args the command line arguments of the run.
+     * @param output consumer of the output streamed back from the daemon, one line at a time.
+     * @return the exit code of the run.
+     */
+    public int run(final List<String> args, final Consumer<String> output) {
+        args.forEach(DaemonClient::validate);
+
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            final PrintWriter writer = writer(channel);
+            writeLine(writer, RUN + args.size());
+            writeLine(writer, CWD + workingDirectory);
+            for (final String arg : args) {
+                writeLine(writer, arg);
+            }
+
+            final BufferedReader reader = reader(channel);
+            while (true) {
+                final String line = readLine(reader);
+                if (line.startsWith(OUT)) {
+                    output.accept(line.substring(OUT.length()));
+                } else if (line.startsWith(EXIT)) {
+                    return Integer.parseInt(line.substring(EXIT.length()));
+                } else {
+                    throw new IOException("Invalid response: " + line);
+                }
+            }
+        } catch (final IOException | NumberFormatException e) {
+            throw new DaemonRequestFailedException(
+                    "Failed to execute run on daemon listening on: "
+                            + socket.toUri()
+                            + ", cause: "
+                            + e.getMessage(),
+                    e);
+        }
+    }
+
+    private static void validate(final String arg) {
+        if (arg.contains("\n") || arg.contains("\r")) {
+            throw new IllegalArgumentException("Arguments can not contain line breaks: " + arg);
+        }
+    }
+
+    private static final class DaemonRequestFailedException extends RuntimeException {
+        DaemonRequestFailedException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
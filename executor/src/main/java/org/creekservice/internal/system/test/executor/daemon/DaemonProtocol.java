@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The line based protocol spoken between the daemon and its clients.
+ *
+ * <p>A client sends a single run request, made up of a header line containing the number of
+ * arguments, a line containing the client's working directory, against which any relative paths in
+ * the arguments are resolved, followed by one line per argument:
+ *
+ * <pre>
+ * run &lt;arg-count&gt;
+ * cwd &lt;working-directory&gt;
+ * &lt;arg&gt;
+ * </pre>
+ *
+ * <p>The daemon streams back output lines, followed by a single line containing the exit code of
+ * the run, after which the connection is closed:
+ *
+ * <pre>
+ * out &lt;text&gt;
+ * exit &lt;code&gt;
+ * </pre>
+ */
+final class DaemonProtocol {
+
+    static final String RUN = "run ";
+    static final String CWD = "cwd ";
+    static final String OUT = "out ";
+    static final String EXIT = "exit ";
+
+    private DaemonProtocol() {}
+
+    static BufferedReader reader(final SocketChannel channel) {
+        return new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+    }
+
+    static PrintWriter writer(final SocketChannel channel) {
+        return new PrintWriter(
+                new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8),
+                false);
+    }
+
+    static String readLine(final BufferedReader reader) throws IOException {
+        final String line = reader.readLine();
+        if (line == null) {
+            throw new IOException("Connection closed unexpectedly");
+        }
+        return line;
+    }
+
+    static void writeLine(final PrintWriter writer, final String line) throws IOException {
+        writer.print(line);
+        writer.print('\n');
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Failed to write to connection");
+        }
+    }
+}
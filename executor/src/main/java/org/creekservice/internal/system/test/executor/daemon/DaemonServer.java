@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.daemon;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.CWD;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.EXIT;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.OUT;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.RUN;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.readLine;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.reader;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.writeLine;
+import static org.creekservice.internal.system.test.executor.daemon.DaemonProtocol.writer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server side of the executor daemon.
+ *
+ * <p>Listens on a Unix-domain socket for run requests from {@link DaemonClient clients}. Requests
+ * are handled one at a time, on the thread calling {@link #serve()}, as the system test api is
+ * confined to the thread that creates it. Clients connecting while a request is being handled wait
+ * for it to complete.
+ *
+ * <p>See {@link DaemonProtocol} for details of the protocol.
+ */
+public final class DaemonServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DaemonServer.class);
+
+    private final Path socket;
+    private final RequestHandler handler;
+    private final ServerSocketChannel server;
+
+    /** Handler of run requests. */
+    @FunctionalInterface
+    public interface RequestHandler {
+
+        /**
+         * Handle a run request.
+         *
+         * @param workingDirectory the working directory of the client, against which any relative
+         *     paths in the {@code args} should be resolved.
+         * @param args the command line arguments of the run.
+         * @param output consumer of output to stream back to the client.
+         * @return the exit code of the run.
+         */
+        int handle(Path workingDirectory, List<String> args, Consumer<String> output);
+    }
+
+    /**
+     * Create the server, binding to the supplied {@code socket}.
+     *
+     * <p>A stale socket file, left behind by a daemon that did not shut down cleanly, is replaced.
+     *
+     * @param socket the path of the Unix-domain socket to listen on.
+     * @param handler the handler of run requests.
+     * @throws IllegalStateException if another daemon is already listening on the socket.
+     */
+    public DaemonServer(final Path socket, final RequestHandler handler) {
+        this.socket = requireNonNull(socket, "socket");
+        this.handler = requireNonNull(handler, "handler");
+
+        if (Files.exists(socket) && listening(socket)) {
+            throw new IllegalStateException("Daemon already listening on: " + socket.toUri());
+        }
+
+        try {
+            Files.deleteIfExists(socket);
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            this.server.bind(UnixDomainSocketAddress.of(socket));
+        } catch (final IOException e) {
+            throw new DaemonSocketException("Failed to listen on: " + socket.toUri(), e);
+        }
+    }
+
+    /**
+     * Accept and handle run requests until the server is {@link #close() closed}.
+     *
+     * <p>Failures handling a request are logged and do not stop the server.
+     */
+    public void serve() {
+        LOGGER.info("Daemon listening on: " + socket.toUri());
+
+        while (server.isOpen()) {
+            try (SocketChannel client = server.accept()) {
+                handle(client);
+            } catch (final AsynchronousCloseException e) {
+                // Server closed:
+                return;
+            } catch (final IOException e) {
+                if (server.isOpen()) {
+                    LOGGER.warn("Failed to handle daemon request, cause: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Stop accepting requests and remove the socket file. */
+    @Override
+    public void close() {
+        try {
+            server.close();
+            Files.deleteIfExists(socket);
+        } catch (final IOException e) {
+            throw new DaemonSocketException("Failed to close daemon socket: " + socket.toUri(), e);
+        }
+    }
+
+    private void handle(final SocketChannel client) throws IOException {
+        final BufferedReader reader = reader(client);
+        final PrintWriter writer = writer(client);
+
+        final Request request = readRequest(reader);
+
+        LOGGER.info(
+                "Daemon handling run request: "
+                        + request.args()
+                        + ", working directory: "
+                        + request.workingDirectory());
+
+        int exitCode;
+        try {
+            exitCode = handler.handle(request.workingDirectory(), request.args(), output(writer));
+        } catch (final RuntimeException e) {
+            LOGGER.error("Daemon run request failed: " + e.getMessage(), e);
+            writeLine(writer, OUT + e.getMessage());
+            exitCode = 2;
+        }
+
+        writeLine(writer, EXIT + exitCode);
+    }
+
+    /**
+     * Output is streamed to the client on a best effort basis: a client disconnecting does not
+     * abort the run, whose results are still written to the result directory.
+     */
+    private static Consumer<String> output(final PrintWriter writer) {
+        return text -> {
+            text.lines().forEach(line -> writer.print(OUT + line + "\n"));
+            writer.flush();
+        };
+    }
+
+    private static Request readRequest(final BufferedReader reader) throws IOException {
+        final String header = readLine(reader);
+        if (!header.startsWith(RUN)) {
+            throw new IOException("Invalid request: " + header);
+        }
+
+        final int count;
+        try {
+            count = Integer.parseInt(header.substring(RUN.length()));
+        } catch (final NumberFormatException e) {
+            throw new IOException("Invalid request: " + header, e);
+        }
+
+        if (count < 0) {
+            throw new IOException("Invalid request: " + header);
+        }
+
+        final String cwd = readLine(reader);
+        if (!cwd.startsWith(CWD)) {
+            throw new IOException("Invalid request: " + cwd);
+        }
+
+        final Path workingDirectory;
+        try {
+            workingDirectory = Path.of(cwd.substring(CWD.length()));
+        } catch (final InvalidPathException e) {
+            throw new IOException("Invalid request: " + cwd, e);
+        }
+
+        if (!workingDirectory.isAbsolute()) {
+            throw new IOException("Invalid request: " + cwd);
+        }
+
+        final List<String> args = new ArrayList<>(count);
+        for (int i = 0; i != count; ++i) {
+            args.add(readLine(reader));
+        }
+        return new Request(workingDirectory, args);
+    }
+
+    private static boolean listening(final Path socket) {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            return channel.isConnected();
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private record Request(Path workingDirectory, List<String> args) {}
+
+    private static final class DaemonSocketException extends RuntimeException {
+        DaemonSocketException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
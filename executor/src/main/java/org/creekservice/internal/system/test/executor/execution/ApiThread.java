@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The thread that owns a system test api instance.
+ *
+ * <p>The api is confined to the thread that created it. Work running on other threads hands any
+ * calls to the api to the owning thread via {@link #run}, which blocks until the owning thread,
+ * while in {@link #serveUntil}, has run the call.
+ */
+final class ApiThread {
+
+    private final Thread owner;
+    private final BlockingQueue<FutureTask<?>> calls = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    private ApiThread(final Thread owner) {
+        this.owner = requireNonNull(owner, "owner");
+    }
+
+    /**
+     * @return an instance owned by the calling thread.
+     */
+    static ApiThread current() {
+        return new ApiThread(Thread.currentThread());
+    }
+
+    /**
+     * Run the supplied {@code task} on the owning thread, blocking until it completes.
+     *
+     * <p>If called from the owning thread, the task is run immediately.
+     *
+     * @param task the task to run.
+     * @throws RuntimeException any exception thrown by the task.
+     */
+    void run(final Runnable task) {
+        requireNonNull(task, "task");
+        if (Thread.currentThread() == owner) {
+            task.run();
+            return;
+        }
+
+        final FutureTask<Void> call = new FutureTask<>(task, null);
+        calls.add(call);
+        if (closed) {
+            call.cancel(false);
+        }
+
+        await(call);
+    }
+
+    /**
+     * Run calls made from other threads until the supplied {@code done} future completes.
+     *
+     * <p>Once this method returns, any outstanding or subsequent calls from other threads fail.
+     *
+     * @param done the future that completes once no more calls are required.
+     * @throws InterruptedException if interrupted.
+     */
+    void serveUntil(final CompletableFuture<?> done) throws InterruptedException {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Only the owning thread can serve calls");
+        }
+
+        done.whenComplete((r, e) -> calls.add(new FutureTask<>(() -> {}, null)));
+
+        try {
+            while (!done.isDone()) {
+                calls.take().run();
+            }
+        } finally {
+            closed = true;
+            for (FutureTask<?> call = calls.poll(); call != null; call = calls.poll()) {
+                call.cancel(false);
+            }
+        }
+    }
+
+    private static void await(final FutureTask<Void> call) {
+        try {
+            call.get();
+        } catch (final InterruptedException e) {
+            call.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ApiCallFailedException("Interrupted waiting for the api thread", e);
+        } catch (final CancellationException e) {
+            throw new ApiCallFailedException("The api thread is no longer serving calls", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class ApiCallFailedException extends RuntimeException {
+        ApiCallFailedException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.Preconditions;
+import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.LocalImages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pulls the images of the services under test of the suites to execute up front, and resolves
+ * their digests.
+ *
+ * <p>Without pre-pulling, each missing image is pulled as the suite that first uses it starts its
+ * services, one image at a time and within the suite's start up timeout. Pre-pulling pulls all
+ * missing images concurrently, before any suite starts.
+ *
+ * <p>The digest of each image is resolved once, after it has been pulled, or is known to be
+ * available locally, so that the results of each suite can record exactly which images it tested.
+ *
+ * <p>Thread safe.
+ */
+public final class ImagePrePuller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImagePrePuller.class);
+
+    private static final int DEFAULT_THREADS = 4;
+    private static final ImagePrePuller NONE =
+            new ImagePrePuller(Map.of(), image -> {}, image -> Optional.empty(), 1);
+
+    private final Map<String, String> serviceImages;
+    private final Consumer<String> puller;
+    private final Function<String, Optional<String>> digestResolver;
+    private final int threads;
+    private final Map<String, String> digests = new ConcurrentHashMap<>();
+
+    /**
+     * @return a pre-puller that does nothing.
+     */
+    public static ImagePrePuller none() {
+        return NONE;
+    }
+
+    /**
+     * @param serviceImages map of service name to the name of the service's Docker image.
+     */
+    public ImagePrePuller(final Map<String, String> serviceImages) {
+        this(serviceImages, LocalImages::pull, LocalImages::digest, DEFAULT_THREADS);
+    }
+
+    @VisibleForTesting
+    ImagePrePuller(
+            final Map<String, String> serviceImages,
+            final Consumer<String> puller,
+            final Function<String, Optional<String>> digestResolver,
+            final int threads) {
+        this.serviceImages = Map.copyOf(requireNonNull(serviceImages, "serviceImages"));
+        this.puller = requireNonNull(puller, "puller");
+        this.digestResolver = requireNonNull(digestResolver, "digestResolver");
+        this.threads = threads;
+
+        Preconditions.require(threads > 0, "threads must be positive. threads: " + threads);
+    }
+
+    /**
+     * Pull any missing images of the services under test of the supplied {@code suites}, and
+     * resolve the digest of each image.
+     *
+     * <p>Failure to pull an image is logged, but not fatal: the suite will attempt to pull the
+     * image again when it starts its services.
+     *
+     * @param suites the suites to execute.
+     */
+    public void prePull(final Collection<? extends CreekTestSuite> suites) {
+        final List<String> images = images(suites);
+        if (images.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Pre-pulling images: " + images);
+
+        final ExecutorService pool =
+                Executors.newFixedThreadPool(
+                        Math.min(threads, images.size()), r -> new Thread(r, "creek-image-pull"));
+        try {
+            images.stream()
+                    .map(image -> pool.submit(() -> pull(image)))
+                    .toList()
+                    .forEach(ImagePrePuller::await);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolve the digests of any images of the services under test of the supplied {@code suites}
+     * that have not already been resolved, without pulling them.
+     *
+     * <p>Used for images that were not pre-pulled, e.g. those of suites whose results were reused
+     * from the cache, or that were pulled as suites executed. Images not available locally remain
+     * unresolved.
+     *
+     * @param suites the suites.
+     */
+    public void resolveDigests(final Collection<? extends CreekTestSuite> suites) {
+        images(suites).stream()
+                .filter(image -> !digests.containsKey(image))
+                .forEach(
+                        image ->
+                                digestResolver
+                                        .apply(image)
+                                        .ifPresent(digest -> digests.put(image, digest)));
+    }
+
+    /**
+     * Get the resolved digests of the images of a suite's services under test.
+     *
+     * @param suite the suite.
+     * @return map of service name to the digest of its image, for services whose image digest has
+     *     been resolved.
+     */
+    public Map<String, String> digests(final CreekTestSuite suite) {
+        final Map<String, String> result = new TreeMap<>();
+        suite.services()
+                .forEach(
+                        service ->
+                                Optional.ofNullable(serviceImages.get(service))
+                                        .map(digests::get)
+                                        .ifPresent(digest -> result.put(service, digest)));
+        return result;
+    }
+
+    private List<String> images(final Collection<? extends CreekTestSuite> suites) {
+        return suites.stream()
+                .flatMap(suite -> suite.services().stream())
+                .map(serviceImages::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private void pull(final String image) {
+        try {
+            puller.accept(image);
+        } catch (final Exception e) {
+            LOGGER.warn("Failed to pre-pull image: " + image + ", cause: " + e.getMessage());
+            return;
+        }
+
+        digestResolver
+                .apply(image)
+                .ifPresentOrElse(
+                        digest -> digests.put(image, digest), () -> digests.remove(image));
+    }
+
+    private static void await(final Future<?> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PrePullFailedException("Interrupted pre-pulling images", e);
+        } catch (final ExecutionException e) {
+            throw new PrePullFailedException("Failed to pre-pull images", e.getCause());
+        }
+    }
+
+    private static final class PrePullFailedException extends RuntimeException {
+        PrePullFailedException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
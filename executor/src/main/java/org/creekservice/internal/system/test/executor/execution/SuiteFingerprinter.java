@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.EXPECTATIONS_DIR;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.INPUTS_DIR;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.SEED_DIR;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.YAML_EXTENSIONS;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
+import org.creekservice.api.system.test.extension.test.model.Ref;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.creekservice.api.system.test.parser.YamlTestPackageLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes a fingerprint of everything known to affect the outcome of a test suite.
+ *
+ * <p>The fingerprint is a SHA-256 hash of:
+ *
+ * <ul>
+ *   <li>the suite file,
+ *   <li>the seed files of the suite's test package,
+ *   <li>the input and expectation files referenced by the suite's test cases,
+ *   <li>the image, and local image id, of each service under test,
+ *   <li>the environment variables set on services under test,
+ *   <li>the transferables copied to containers: their container paths and the content of their
+ *       host directories, but not where the host directories are, and
+ *   <li>the versions of the executor and the test extensions.
+ * </ul>
+ *
+ * <p>The images of services started by test extensions are only known once a suite has run, so
+ * are not part of the fingerprint. Instead, {@link
+ * org.creekservice.internal.system.test.executor.result.SuiteResultCache} records them alongside
+ * each cached result.
+ *
+ * <p>No fingerprint is available for a suite if any of the above can not be determined, e.g. an
+ * image is not yet available locally. Such suites are always executed.
+ *
+ * <p>Thread safe.
+ */
+public final class SuiteFingerprinter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuiteFingerprinter.class);
+
+    private final Map<String, String> serviceImages;
+    private final Function<String, Optional<String>> imageIds;
+    private final Map<String, String> env;
+    private final List<DirectoryInfo> transferables;
+    private final Map<String, String> versions;
+
+    /**
+     * @param serviceImages map of service name to the name of its Docker image.
+     * @param imageIds function to resolve the id of a local Docker image, given its name.
+     * @param env the environment variables set on services under test.
+     * @param transferables the directories copied to or from containers.
+     * @param versions map of the name of the executor and each test extension to its version.
+     */
+    public SuiteFingerprinter(
+            final Map<String, String> serviceImages,
+            final Function<String, Optional<String>> imageIds,
+            final Map<String, String> env,
+            final Collection<DirectoryInfo> transferables,
+            final Map<String, String> versions) {
+        this.serviceImages = Map.copyOf(requireNonNull(serviceImages, "serviceImages"));
+        this.imageIds = requireNonNull(imageIds, "imageIds");
+        this.env = new TreeMap<>(requireNonNull(env, "env"));
+        this.transferables = List.copyOf(requireNonNull(transferables, "transferables"));
+        this.versions = new TreeMap<>(requireNonNull(versions, "versions"));
+    }
+
+    /**
+     * Fingerprint the supplied {@code suite}.
+     *
+     * @param suite the suite to fingerprint.
+     * @return the fingerprint, or empty if one could not be determined.
+     */
+    public Optional<String> fingerprint(final TestSuite suite) {
+        try {
+            final Optional<Path> suiteFile = file(suite.location());
+            if (suiteFile.isEmpty()) {
+                return Optional.empty();
+            }
+
+            final Fingerprint fingerprint = new Fingerprint();
+            fingerprint.file("suite", suiteFile.get());
+
+            final Path pkgDir = suiteFile.get().toAbsolutePath().getParent();
+            for (final Path seed : yamlFiles(pkgDir.resolve(SEED_DIR))) {
+                fingerprint.file(SEED_DIR, seed);
+            }
+
+            for (final TestCase test : suite.tests()) {
+                for (final Ref ref : test.def().inputs()) {
+                    fingerprint.file(INPUTS_DIR, refFile(pkgDir.resolve(INPUTS_DIR), ref));
+                }
+                for (final Ref ref : test.def().expectations()) {
+                    fingerprint.file(
+                            EXPECTATIONS_DIR, refFile(pkgDir.resolve(EXPECTATIONS_DIR), ref));
+                }
+            }
+
+            for (final String service : suite.services()) {
+                final String image = serviceImages.get(service);
+                final Optional<String> imageId =
+                        image == null ? Optional.empty() : imageIds.apply(image);
+                if (imageId.isEmpty()) {
+                    return Optional.empty();
+                }
+                fingerprint.values("service", service, image, imageId.get());
+            }
+
+            env.forEach((name, value) -> fingerprint.values("env", name, value));
+
+            for (final DirectoryInfo transferable : transferables) {
+                // The host path is absolute, so is excluded to keep fingerprints portable:
+                fingerprint.values(
+                        "transferable",
+                        transferable.containerPath().toString(),
+                        transferable.direction().name());
+
+                if (transferable.direction().copyTo()) {
+                    fingerprint.directory(transferable.hostPath());
+                }
+            }
+
+            versions.forEach((name, version) -> fingerprint.values("version", name, version));
+
+            return Optional.of(fingerprint.hex());
+        } catch (final IOException | MissingFileException e) {
+            LOGGER.debug("Unable to fingerprint suite: " + suite.name() + ", cause: " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Path> file(final URI location) {
+        if (!"file".equals(location.getScheme())) {
+            return Optional.empty();
+        }
+
+        // Strip any line number:
+        final URI file = URI.create(location.toString().replaceFirst(":\\d+$", ""));
+        return Optional.of(Path.of(file));
+    }
+
+    private static Path refFile(final Path dir, final Ref ref) {
+        return YAML_EXTENSIONS.stream()
+                .map(ext -> dir.resolve(ref.id() + ext))
+                .filter(Files::isRegularFile)
+                .findFirst()
+                .orElseThrow(() -> new MissingFileException(dir, ref));
+    }
+
+    private static List<Path> yamlFiles(final Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(YamlTestPackageLayout::isYamlFile)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static final class Fingerprint {
+
+        private final MessageDigest digest = sha256();
+
+        void values(final String... values) {
+            for (final String value : values) {
+                final byte[] bytes = value.getBytes(UTF_8);
+                length(bytes.length);
+                digest.update(bytes);
+            }
+        }
+
+        void file(final String type, final Path file) throws IOException {
+            final byte[] content = Files.readAllBytes(file);
+            values(type, file.getFileName().toString());
+            length(content.length);
+            digest.update(content);
+        }
+
+        void directory(final Path dir) throws IOException {
+            if (!Files.isDirectory(dir)) {
+                return;
+            }
+
+            final List<Path> files;
+            try (Stream<Path> stream = Files.walk(dir)) {
+                files = stream.filter(Files::isRegularFile).sorted().toList();
+            }
+
+            for (final Path file : files) {
+                file("transferred", file);
+                values(dir.relativize(file).toString());
+            }
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        private void length(final int length) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class MissingFileException extends RuntimeException {
+        MissingFileException(final Path dir, final Ref ref) {
+            super("No file found for ref: " + ref.id() + ", in: " + dir.toUri());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.creekservice.api.system.test.model.TestSuite;
+
+/**
+ * Determines the order in which test suites are executed.
+ *
+ * <p>Where the durations of suites from previous runs are known, suites are ordered
+ * longest-processing-time-first, so that long suites do not start late in the run and stretch its
+ * total duration. Suites with no known duration are assumed to take the mean of the known
+ * durations.
+ *
+ * <p>The sort is stable: suites with equal durations retain the order they were supplied in.
+ */
+public final class SuiteScheduler {
+
+    private final Map<String, Duration> history;
+
+    /**
+     * @return a scheduler that executes suites in the order they are discovered.
+     */
+    public static SuiteScheduler discoveryOrder() {
+        return new SuiteScheduler(Map.of());
+    }
+
+    /**
+     * @param history the duration of suites from previous runs, keyed on suite name.
+     */
+    public SuiteScheduler(final Map<String, Duration> history) {
+        this.history = Map.copyOf(requireNonNull(history, "history"));
+    }
+
+    /**
+     * Order the supplied suites for execution.
+     *
+     * @param suites the suites to order.
+     * @return the suites, in the order they should be executed.
+     */
+    public List<TestSuite> order(final List<TestSuite> suites) {
+        final List<Duration> known =
+                suites.stream().map(s -> history.get(s.name())).filter(Objects::nonNull).toList();
+
+        if (known.isEmpty()) {
+            return List.copyOf(suites);
+        }
+
+        final long defaultMillis =
+                known.stream().mapToLong(Duration::toMillis).sum() / known.size();
+
+        return suites.stream()
+                .sorted(
+                        Comparator.comparingLong(
+                                        (TestSuite s) -> {
+                                            final Duration d = history.get(s.name());
+                                            return d == null ? defaultMillis : d.toMillis();
+                                        })
+                                .reversed())
+                .toList();
+    }
+}
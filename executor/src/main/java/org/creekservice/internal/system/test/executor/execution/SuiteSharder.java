@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.creekservice.api.base.type.Preconditions;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deterministically assigns test suites to shards, allowing suites to be split across machines.
+ *
+ * <p>Where the durations of suites from a previous run are known, suites are assigned using
+ * longest-processing-time-first bin-packing: suites are ordered by descending duration and each is
+ * assigned to the shard with the lowest total duration so far. Suites with no known duration are
+ * assumed to take the mean of the known durations.
+ *
+ * <p>Where no durations are known, suites are assigned by hashing their path, relative to the test
+ * directory.
+ *
+ * <p>Ties are broken using the suite's relative path, so all machines compute the same assignment,
+ * regardless of the order suites are discovered in.
+ */
+public final class SuiteSharder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuiteSharder.class);
+
+    private final int shardIndex;
+    private final int shardCount;
+    private final String testDirectory;
+    private final Map<String, Duration> history;
+
+    /**
+     * @return a sharder that selects all suites.
+     */
+    public static SuiteSharder noSharding() {
+        return new SuiteSharder(0, 1, Path.of(""), Map.of());
+    }
+
+    /**
+     * @param shardIndex the zero-based index of the shard to select.
+     * @param shardCount the total number of shards.
+     * @param testDirectory the root directory test packages are loaded from.
+     * @param history the duration of suites from a previous run, keyed on suite name.
+     */
+    public SuiteSharder(
+            final int shardIndex,
+            final int shardCount,
+            final Path testDirectory,
+            final Map<String, Duration> history) {
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.testDirectory =
+                requireNonNull(testDirectory, "testDirectory")
+                        .toAbsolutePath()
+                        .normalize()
+                        .toUri()
+                        .toString();
+        this.history = Map.copyOf(requireNonNull(history, "history"));
+
+        Preconditions.require(
+                shardCount > 0, "shardCount must be positive. shardCount: " + shardCount);
+        Preconditions.require(
+                shardIndex >= 0 && shardIndex < shardCount,
+                "shardIndex must be in the range [0, shardCount). shardIndex: "
+                        + shardIndex
+                        + ", shardCount: "
+                        + shardCount);
+    }
+
+    /**
+     * @return {@code true} if suites are split across more than one shard.
+     */
+    public boolean sharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Select the suites belonging to this shard.
+     *
+     * @param suites all the suites, across all shards.
+     * @return the suites belonging to this shard, in the order they were supplied.
+     */
+    public List<TestSuite> select(final List<TestSuite> suites) {
+        if (!sharded()) {
+            return List.copyOf(suites);
+        }
+
+        final int[] shards = assign(suites);
+
+        final List<TestSuite> selected =
+                IntStream.range(0, suites.size())
+                        .filter(idx -> shards[idx] == shardIndex)
+                        .mapToObj(suites::get)
+                        .toList();
+
+        LOGGER.info(
+                "Shard {} of {}: selected {} of {} suites",
+                shardIndex,
+                shardCount,
+                selected.size(),
+                suites.size());
+
+        return selected;
+    }
+
+    private int[] assign(final List<TestSuite> suites) {
+        final List<Duration> known =
+                suites.stream().map(s -> history.get(s.name())).filter(Objects::nonNull).toList();
+
+        return known.isEmpty() ? assignByHash(suites) : assignByDuration(suites, known);
+    }
+
+    private int[] assignByHash(final List<TestSuite> suites) {
+        return suites.stream()
+                .mapToInt(suite -> Math.floorMod(relativePath(suite).hashCode(), shardCount))
+                .toArray();
+    }
+
+    private int[] assignByDuration(final List<TestSuite> suites, final List<Duration> known) {
+        final long defaultMillis =
+                known.stream().mapToLong(Duration::toMillis).sum() / known.size();
+
+        final long[] weights =
+                suites.stream()
+                        .map(s -> history.get(s.name()))
+                        .mapToLong(d -> d == null ? defaultMillis : d.toMillis())
+                        .toArray();
+
+        final List<Integer> order =
+                IntStream.range(0, suites.size())
+                        .boxed()
+                        .sorted(
+                                Comparator.comparingLong((Integer idx) -> weights[idx])
+                                        .reversed()
+                                        .thenComparing(idx -> relativePath(suites.get(idx))))
+                        .toList();
+
+        final long[] load = new long[shardCount];
+        final int[] shards = new int[suites.size()];
+        for (final int idx : order) {
+            final int shard = leastLoaded(load);
+            shards[idx] = shard;
+            load[shard] += weights[idx];
+        }
+        return shards;
+    }
+
+    private static int leastLoaded(final long[] load) {
+        int least = 0;
+        for (int shard = 1; shard < load.length; ++shard) {
+            if (load[shard] < load[least]) {
+                least = shard;
+            }
+        }
+        return least;
+    }
+
+    private String relativePath(final TestSuite suite) {
+        final String location = suite.location().toString();
+        return location.startsWith(testDirectory)
+                ? location.substring(testDirectory.length())
+                : location;
+    }
+}
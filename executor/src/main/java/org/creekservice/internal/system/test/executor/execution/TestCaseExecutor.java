@@ -20,7 +20,11 @@ import static java.util.Objects.requireNonNull;
 import static org.creekservice.internal.system.test.executor.result.CaseResult.testCaseResult;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.Preconditions;
 import org.creekservice.api.system.test.extension.test.env.listener.TestListenerCollection;
 import org.creekservice.api.system.test.extension.test.model.ExpectationHandler.Verifier;
 import org.creekservice.api.system.test.model.TestCase;
@@ -28,47 +32,127 @@ import org.creekservice.internal.system.test.executor.api.SystemTest;
 import org.creekservice.internal.system.test.executor.execution.expectation.Verifiers;
 import org.creekservice.internal.system.test.executor.execution.input.Inputters;
 import org.creekservice.internal.system.test.executor.result.CaseResult;
+import org.creekservice.internal.system.test.executor.result.PreviousResults;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Executor of test cases. */
 public final class TestCaseExecutor {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestCaseExecutor.class);
+
     private final Inputters inputters;
     private final Verifiers verifiers;
     private final TestListenerCollection listeners;
+    private final PreviousResults previousResults;
+    private final int retries;
 
     /**
      * @param api the system test api.
-     * @param verifierTimeout the default verifier timeout, i.e. how long to wait for expectations
-     *     to be met.
+     * @param inputters the inputters of the suite the test cases belong to.
+     * @param options options controlling how test cases are executed.
      */
-    public TestCaseExecutor(final SystemTest api, final Duration verifierTimeout) {
+    public TestCaseExecutor(
+            final SystemTest api, final Inputters inputters, final Options options) {
         this(
                 api.tests().env().listeners(),
-                new Inputters(api.tests().model()),
-                new Verifiers(api.tests().model(), verifierTimeout));
+                inputters,
+                new Verifiers(
+                        api.tests().model(), options.verifierTimeout(), options.verifierHistory()),
+                options.previousResults(),
+                options.retries());
     }
 
     @VisibleForTesting
     TestCaseExecutor(
             final TestListenerCollection listeners,
             final Inputters inputters,
-            final Verifiers verifiers) {
+            final Verifiers verifiers,
+            final PreviousResults previousResults,
+            final int retries) {
         this.listeners = requireNonNull(listeners, "listeners");
         this.inputters = requireNonNull(inputters, "inputter");
         this.verifiers = requireNonNull(verifiers, "verifiers");
+        this.previousResults = requireNonNull(previousResults, "previousResults");
+        this.retries = retries;
+
+        Preconditions.require(retries >= 0, "retries must not be negative. retries: " + retries);
     }
 
     /**
      * Execute a test case.
      *
+     * <p>A test case that fails or errors is retried, up to the number of retries set on the test
+     * case, or the default number of retries if not set. Retries run against the services already
+     * running for the suite. Listeners are invoked before and after each attempt. Each retry is
+     * given its own {@link #isolationKey isolation key}, so that it is not affected by resources
+     * left behind by earlier attempts.
+     *
      * @param testCase the test case.
-     * @return the test result.
+     * @return the result of the last attempt, with a duration covering all attempts.
      */
     public CaseResult executeTest(final TestCase testCase) {
-        final CaseResult result = execute(testCase);
+        return executeTest(testCase, ApiThread.current());
+    }
+
+    /**
+     * Execute a test case, possibly on a thread other than the one that owns the api.
+     *
+     * <p>Listener callbacks are run on the supplied {@code apiThread}. Inputs and expectations are
+     * handled on the calling thread, so their handlers must be {@link #threadSafe thread safe} if
+     * this is not the api thread.
+     *
+     * @param testCase the test case.
+     * @param apiThread the thread that owns the api.
+     * @return the result of the last attempt, with a duration covering all attempts.
+     */
+    CaseResult executeTest(final TestCase testCase, final ApiThread apiThread) {
+        final CaseResult.Builder builder = testCaseResult(testCase);
+        final int maxAttempts = 1 + testCase.retries().orElse(retries);
+
+        CaseResult result = executeAttempt(testCase, builder, 1, apiThread);
+        for (int attempt = 2; attempt <= maxAttempts && !passed(result); ++attempt) {
+            LOGGER.info(
+                    "Retrying test case: "
+                            + testCase.name()
+                            + ", attempt "
+                            + attempt
+                            + " of "
+                            + maxAttempts);
+
+            result = executeAttempt(testCase, builder, attempt, apiThread);
+        }
+
+        return result;
+    }
+
+    /**
+     * Determine if a test case can be run on a thread other than the one that owns the api.
+     *
+     * <p>The handlers of the test case's inputs and expectations are looked up, and cached, on the
+     * calling thread, which must own the api.
+     *
+     * @param testCase the test case.
+     * @return {@code true} if the test case is disabled, or the handlers of all its inputs and
+     *     expectations are thread safe.
+     */
+    boolean threadSafe(final TestCase testCase) {
+        return testCase.disabled()
+                || (inputters.threadSafe(testCase.inputs())
+                        && verifiers.threadSafe(testCase.expectations()));
+    }
+
+    private CaseResult executeAttempt(
+            final TestCase testCase,
+            final CaseResult.Builder builder,
+            final int attempt,
+            final ApiThread apiThread) {
+        final CaseResult executed = execute(testCase, builder, attempt, apiThread);
+        final CaseResult result = attempt == 1 ? executed : executed.withAttempts(attempt);
 
         try {
-            afterTest(testCase, result);
+            apiThread.run(() -> afterTest(testCase, result));
         } catch (final Exception e) {
             throw new TestExecutionException("Test teardown", testCase, e);
         }
@@ -76,41 +160,104 @@ public final class TestCaseExecutor {
         return result;
     }
 
-    private CaseResult execute(final TestCase testCase) {
-        final CaseResult.Builder builder = testCaseResult(testCase);
+    private static boolean passed(final CaseResult result) {
+        return result.failure().isEmpty() && result.error().isEmpty();
+    }
+
+    private CaseResult execute(
+            final TestCase testCase,
+            final CaseResult.Builder builder,
+            final int attempt,
+            final ApiThread apiThread) {
         if (testCase.disabled()) {
             return builder.disabled();
         }
 
+        final Optional<CaseResult> passed = previousResults.passed(testCase);
+        if (passed.isPresent()) {
+            return passed.get();
+        }
+
         try {
-            beforeTest(testCase);
+            apiThread.run(() -> beforeTest(testCase));
         } catch (final Exception e) {
             return builder.error(new TestExecutionException("Test setup", testCase, e));
         }
 
-        return runTest(testCase, builder);
+        return runTest(testCase, builder, isolationKey(testCase, attempt));
     }
 
     private void beforeTest(final TestCase testCase) {
         listeners.forEach(listener -> listener.beforeTest(testCase));
     }
 
-    private CaseResult runTest(final TestCase testCase, final CaseResult.Builder builder) {
+    private CaseResult runTest(
+            final TestCase testCase, final CaseResult.Builder builder, final String isolationKey) {
         try {
-            final Verifier verifier = verifiers.prepare(testCase.expectations(), testCase);
-            inputters.input(testCase.inputs(), testCase.suite());
+            final Verifier verifier =
+                    verifiers.prepare(testCase.expectations(), testCase, isolationKey);
+
+            // Verification overlaps with any input handlers still flushing asynchronously:
+            final CompletableFuture<Void> input =
+                    inputters.inputAsync(testCase.inputs(), testCase, isolationKey);
 
             try {
                 verifier.verify();
-                return builder.success();
             } catch (final AssertionError e) {
+                awaitInputAfterFailure(input, e);
                 return builder.failure(e);
             }
+
+            awaitInput(input);
+            return builder.success();
         } catch (final Exception e) {
             return builder.error(new TestExecutionException("Test run", testCase, e));
         }
     }
 
+    /**
+     * Get the isolation key for an attempt of a test case.
+     *
+     * <p>The first attempt uses the test case's {@link TestCase#isolationKey() isolation key}.
+     * Retries append the attempt number, e.g. {@code <key>_attempt2}, so that any resources left by
+     * a failed attempt, e.g. records in a topic, do not leak into the next.
+     *
+     * @param testCase the test case.
+     * @param attempt the one-based attempt number.
+     * @return the isolation key.
+     */
+    @VisibleForTesting
+    static String isolationKey(final TestCase testCase, final int attempt) {
+        final String key = testCase.isolationKey();
+        return attempt == 1 ? key : key + "_attempt" + attempt;
+    }
+
+    /**
+     * Await input after verification has already failed.
+     *
+     * <p>Any flush failure is recorded as suppressed on the expectation failure, so that neither
+     * is lost.
+     */
+    private static void awaitInputAfterFailure(
+            final CompletableFuture<Void> input, final AssertionError failure) {
+        try {
+            awaitInput(input);
+        } catch (final RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void awaitInput(final CompletableFuture<Void> input) {
+        try {
+            input.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private void afterTest(final TestCase testCase, final CaseResult result) {
         listeners.forEachReverse(listener -> listener.afterTest(testCase, result));
     }
@@ -126,4 +273,91 @@ public final class TestCaseExecutor {
                     cause);
         }
     }
+
+    /**
+     * Options controlling how test cases are executed.
+     *
+     * @param verifierTimeout the default verifier timeout, i.e. how long to wait for expectations
+     *     to be met.
+     * @param verifierHistory the history used to derive adaptive verifier timeouts.
+     * @param parallelInputs if {@code true}, seed data and inputs are dispatched to different
+     *     handlers concurrently.
+     * @param previousResults the results of a previous run, used to skip test cases that passed.
+     * @param retries the default number of times to retry a test case that fails or errors.
+     */
+    public record Options(
+            Duration verifierTimeout,
+            VerifierHistory verifierHistory,
+            boolean parallelInputs,
+            PreviousResults previousResults,
+            int retries) {
+
+        /**
+         * Validating constructor.
+         *
+         * @param verifierTimeout the default verifier timeout.
+         * @param verifierHistory the history used to derive adaptive verifier timeouts.
+         * @param parallelInputs if inputs are dispatched to different handlers concurrently.
+         * @param previousResults the results of a previous run.
+         * @param retries the default number of times to retry a test case.
+         */
+        public Options {
+            requireNonNull(verifierTimeout, "verifierTimeout");
+            requireNonNull(verifierHistory, "verifierHistory");
+            requireNonNull(previousResults, "previousResults");
+            Preconditions.require(
+                    retries >= 0, "retries must not be negative. retries: " + retries);
+        }
+
+        /**
+         * Factory method.
+         *
+         * @param verifierTimeout the default verifier timeout, i.e. how long to wait for
+         *     expectations to be met.
+         * @return options with the supplied {@code verifierTimeout}, no verifier history,
+         *     sequential inputs, no previous results and no retries.
+         */
+        public static Options options(final Duration verifierTimeout) {
+            return new Options(
+                    verifierTimeout, VerifierHistory.none(), false, PreviousResults.none(), 0);
+        }
+
+        /**
+         * @param verifierHistory the history used to derive adaptive verifier timeouts.
+         * @return a copy of these options, with the supplied {@code verifierHistory}.
+         */
+        public Options withVerifierHistory(final VerifierHistory verifierHistory) {
+            return new Options(
+                    verifierTimeout, verifierHistory, parallelInputs, previousResults, retries);
+        }
+
+        /**
+         * @param parallelInputs if {@code true}, seed data and inputs are dispatched to different
+         *     handlers concurrently.
+         * @return a copy of these options, with the supplied {@code parallelInputs}.
+         */
+        public Options withParallelInputs(final boolean parallelInputs) {
+            return new Options(
+                    verifierTimeout, verifierHistory, parallelInputs, previousResults, retries);
+        }
+
+        /**
+         * @param previousResults the results of a previous run, used to skip test cases that
+         *     passed.
+         * @return a copy of these options, with the supplied {@code previousResults}.
+         */
+        public Options withPreviousResults(final PreviousResults previousResults) {
+            return new Options(
+                    verifierTimeout, verifierHistory, parallelInputs, previousResults, retries);
+        }
+
+        /**
+         * @param retries the default number of times to retry a test case that fails or errors.
+         * @return a copy of these options, with the supplied {@code retries}.
+         */
+        public Options withRetries(final int retries) {
+            return new Options(
+                    verifierTimeout, verifierHistory, parallelInputs, previousResults, retries);
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.DEPENDENCY_DIRS;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+
+/**
+ * Watches a test directory, and all directories beneath it, for changed files.
+ *
+ * <p>Changes are reported in batches: once a change is detected, further changes are collected
+ * until none have been seen for a short quiet period. This avoids a single save, which editors
+ * often perform as several file operations, triggering multiple runs.
+ *
+ * <p>Not thread safe, other than {@link #close()}, which can be called from any thread to stop a
+ * blocked call to {@link #awaitChanges()}.
+ */
+public final class TestDirectoryWatcher implements AutoCloseable {
+
+    private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+
+    private final Path root;
+    private final Duration quietPeriod;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> dirs = new HashMap<>();
+
+    /**
+     * @param root the root test directory to watch.
+     */
+    public TestDirectoryWatcher(final Path root) {
+        this(root, DEFAULT_QUIET_PERIOD);
+    }
+
+    @VisibleForTesting
+    TestDirectoryWatcher(final Path root, final Duration quietPeriod) {
+        this.root = requireNonNull(root, "root").toAbsolutePath().normalize();
+        this.quietPeriod = requireNonNull(quietPeriod, "quietPeriod");
+
+        try {
+            this.watchService = this.root.getFileSystem().newWatchService();
+            registerAll(this.root, new HashSet<>());
+        } catch (final IOException e) {
+            throw new WatchFailedException("Failed to watch test directory: " + root.toUri(), e);
+        }
+    }
+
+    /**
+     * Block until files under the root directory change.
+     *
+     * @return the absolute paths of the files that were created, modified or deleted, or empty if
+     *     the watcher was closed or the thread interrupted while waiting.
+     */
+    public Optional<Set<Path>> awaitChanges() {
+        final Set<Path> changed = new HashSet<>();
+        try {
+            WatchKey key = watchService.take();
+            while (key != null) {
+                handle(key, changed);
+                key = watchService.poll(quietPeriod.toMillis(), MILLISECONDS);
+            }
+            return Optional.of(Set.copyOf(changed));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ClosedWatchServiceException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (final IOException e) {
+            throw new WatchFailedException("Failed to close watch service", e);
+        }
+    }
+
+    /**
+     * Build a filter that accepts the test suite files affected by a set of changes.
+     *
+     * <p>A suite is affected if its own file changed, or if any file in its package's seed, inputs
+     * or expectations directories changed. Other suite files in the same package are not affected.
+     *
+     * @param changed the absolute paths of the changed files.
+     * @return a filter that accepts the paths of affected suite files.
+     */
+    public static Predicate<Path> affectedSuites(final Collection<Path> changed) {
+        final Set<Path> paths = Set.copyOf(changed);
+        return suiteFile -> {
+            final Path suite = suiteFile.toAbsolutePath().normalize();
+            if (paths.contains(suite)) {
+                return true;
+            }
+
+            final Path pkgDir = suite.getParent();
+            return DEPENDENCY_DIRS.stream()
+                    .map(pkgDir::resolve)
+                    .anyMatch(dir -> paths.stream().anyMatch(path -> path.startsWith(dir)));
+        };
+    }
+
+    private void handle(final WatchKey key, final Set<Path> changed) {
+        final Path dir = dirs.get(key);
+
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events were lost, so treat everything as changed:
+                addAll(root, changed);
+                continue;
+            }
+
+            if (dir == null) {
+                continue;
+            }
+
+            final Path path = dir.resolve((Path) event.context());
+            if (!Files.isDirectory(path)) {
+                changed.add(path);
+            } else if (event.kind() == ENTRY_CREATE) {
+                // New directories need watching, and any files already in them are new:
+                registerAll(path, changed);
+            }
+        }
+
+        if (!key.reset()) {
+            dirs.remove(key);
+        }
+    }
+
+    private void registerAll(final Path start, final Set<Path> changed) {
+        try (Stream<Path> paths = Files.walk(start)) {
+            for (final Path path : paths.toList()) {
+                if (Files.isDirectory(path)) {
+                    dirs.put(
+                            path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY),
+                            path);
+                } else {
+                    changed.add(path);
+                }
+            }
+        } catch (final IOException e) {
+            // Directory likely deleted while being registered, which will be reported as a change:
+            changed.add(start);
+        }
+    }
+
+    private static void addAll(final Path start, final Set<Path> changed) {
+        try (Stream<Path> paths = Files.walk(start)) {
+            paths.filter(Files::isRegularFile).forEach(changed::add);
+        } catch (final IOException e) {
+            changed.add(start);
+        }
+    }
+
+    private static final class WatchFailedException extends RuntimeException {
+        WatchFailedException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
@@ -18,15 +18,34 @@ package org.creekservice.internal.system.test.executor.execution;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.creekservice.api.base.type.Preconditions;
 import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
 import org.creekservice.api.system.test.model.TestPackage;
+import org.creekservice.api.system.test.model.TestSuite;
 import org.creekservice.api.system.test.parser.TestPackagesLoader;
+import org.creekservice.internal.system.test.executor.execution.TestSuiteExecutor.PreparedSuite;
 import org.creekservice.internal.system.test.executor.result.ExecutionResult;
+import org.creekservice.internal.system.test.executor.result.PreviousResults;
 import org.creekservice.internal.system.test.executor.result.ResultsWriter;
 import org.creekservice.internal.system.test.executor.result.SuiteResult;
+import org.creekservice.internal.system.test.executor.result.SuiteResultCache;
 
 /** Executor of test packages. */
 public final class TestPackagesExecutor {
@@ -34,19 +53,37 @@ public final class TestPackagesExecutor {
     private final TestPackagesLoader loader;
     private final TestSuiteExecutor suiteExecutor;
     private final ResultsWriter resultsWriter;
+    private final int parallelism;
+    private final boolean lookAhead;
+    private final SuiteSharder sharder;
+    private final SuiteScheduler scheduler;
+    private final SuiteResultCache cache;
+    private final PreviousResults previousResults;
+    private final ImagePrePuller prePuller;
+    private final Consumer<SuiteResult> onResult;
 
     /**
      * @param loader used to load all available test packages
      * @param suiteExecutor used to execute each suite.
      * @param resultsWriter used to write results.
+     * @param options options controlling which suites execute, and how.
      */
     public TestPackagesExecutor(
             final TestPackagesLoader loader,
             final TestSuiteExecutor suiteExecutor,
-            final ResultsWriter resultsWriter) {
+            final ResultsWriter resultsWriter,
+            final Options options) {
         this.loader = requireNonNull(loader, "loader");
         this.suiteExecutor = requireNonNull(suiteExecutor, "suiteExecutor");
         this.resultsWriter = requireNonNull(resultsWriter, "resultsWriter");
+        this.parallelism = requireNonNull(options, "options").parallelism();
+        this.lookAhead = options.lookAhead();
+        this.sharder = options.sharder();
+        this.scheduler = options.scheduler();
+        this.cache = options.cache();
+        this.previousResults = options.previousResults();
+        this.prePuller = options.prePuller();
+        this.onResult = options.onResult();
     }
 
     /**
@@ -64,12 +101,394 @@ public final class TestPackagesExecutor {
 
     private TestExecutionResult executePackages() {
         try (Stream<TestPackage> packages = loader.stream()) {
-            final List<SuiteResult> result =
+            final Stream<TestSuite> all =
                     packages.map(TestPackage::suites)
                             .flatMap(List::stream)
-                            .map(suiteExecutor::executeSuite)
-                            .collect(Collectors.toList());
-            return new ExecutionResult(result);
+                            .filter(previousResults::selects);
+
+            final List<TestSuite> selected =
+                    sharder.sharded() ? sharder.select(all.toList()) : all.toList();
+
+            // Results are only reused if the images they tested are still the local images.
+            // A suite whose images are not available locally is executed, which pulls them:
+            final Map<TestSuite, SuiteResult> results = new IdentityHashMap<>();
+            final List<TestSuite> suites =
+                    selected.stream().filter(suite -> !reuseCached(suite, results)).toList();
+
+            if (!lookAheadPulls()) {
+                prePuller.prePull(suites);
+            }
+
+            final List<SuiteResult> executed = executeSuites(suites);
+            executed.forEach(cache::store);
+            executed.forEach(result -> results.put(result.testSuite(), result));
+
+            // Digests of images that were not pre-pulled, e.g. of reused suites:
+            prePuller.resolveDigests(selected);
+
+            // Report in discovery order, regardless of which results were reused or executed:
+            return new ExecutionResult(selected.stream().map(results::get).toList());
+        }
+    }
+
+    private boolean reuseCached(final TestSuite suite, final Map<TestSuite, SuiteResult> reused) {
+        final Optional<SuiteResult> cached = cache.lookup(suite);
+        cached.ifPresent(
+                result -> {
+                    reused.put(suite, result);
+                    onResult.accept(result);
+                });
+        return cached.isPresent();
+    }
+
+    private SuiteResult completed(final SuiteResult result) {
+        onResult.accept(result);
+        return result;
+    }
+
+    /**
+     * @return {@code true} if each suite's images are pulled in the background while the previous
+     *     suite executes, making pre-pulling them redundant.
+     */
+    private boolean lookAheadPulls() {
+        return parallelism == 1 && lookAhead;
+    }
+
+    private List<SuiteResult> executeSuites(final List<TestSuite> suites) {
+        if (parallelism != 1) {
+            return executeInParallel(scheduler.order(suites));
+        }
+
+        if (lookAhead) {
+            return executeWithLookAhead(suites);
+        }
+
+        return suites.stream().map(suiteExecutor::executeSuite).map(this::completed).toList();
+    }
+
+    /**
+     * Execute suites sequentially, preparing the next suite in the background while the current
+     * suite executes.
+     *
+     * <p>The next suite is prepared just before the current suite executes, so at most one suite is
+     * prepared ahead of the suite being executed. The api of each suite is created on the calling
+     * thread, to which it is confined. Only the preparation of the suite's environment, which pulls
+     * its images, runs in the background.
+     *
+     * <p>A prepared suite that is not executed, e.g. because an earlier suite fails to execute, is
+     * closed, releasing its environment, before this method returns. If preparing a suite fails,
+     * the current suite is still executed before the failure is thrown.
+     */
+    private List<SuiteResult> executeWithLookAhead(final List<TestSuite> suites) {
+        final Iterator<TestSuite> remaining = suites.iterator();
+        final List<SuiteResult> results = new ArrayList<>();
+        final ExecutorService background =
+                Executors.newSingleThreadExecutor(r -> new Thread(r, "creek-suite-look-ahead"));
+
+        PreparedSuite next = null;
+        try {
+            next = prepareNext(remaining, background);
+            while (next != null) {
+                final PreparedSuite current = next;
+                next = null;
+                try {
+                    next = prepareNext(remaining, background);
+                } finally {
+                    // Failing to prepare the next suite does not stop the current one executing:
+                    results.add(completed(suiteExecutor.executeSuite(current)));
+                }
+            }
+        } finally {
+            if (next != null) {
+                next.close();
+            }
+            // Closing waits for any preparation, so nothing remains queued:
+            background.shutdown();
+        }
+
+        return results;
+    }
+
+    private PreparedSuite prepareNext(
+            final Iterator<TestSuite> suites, final ExecutorService background) {
+        return suites.hasNext() ? suiteExecutor.prepareSuite(suites.next(), 0, background) : null;
+    }
+
+    /**
+     * Execute suites on a pool of workers.
+     *
+     * <p>Each worker claims the next unexecuted suite until none remain. Results are returned in
+     * the order of the supplied {@code suites}, regardless of the order they complete in.
+     *
+     * <p>If a suite fails to execute, workers stop claiming further suites, in-flight suites are
+     * allowed to complete, so that their services are cleaned up, and the first failure is thrown.
+     */
+    private List<SuiteResult> executeInParallel(final List<TestSuite> suites) {
+        final int workers = Math.min(parallelism, suites.size());
+        if (workers == 0) {
+            return List.of();
+        }
+
+        final AtomicInteger nextSuite = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final SuiteResult[] results = new SuiteResult[suites.size()];
+
+        final Runnable[] tasks = new Runnable[workers];
+        for (int worker = 0; worker != workers; ++worker) {
+            final int workerIdx = worker;
+            tasks[worker] =
+                    () -> {
+                        int idx = nextSuite.getAndIncrement();
+                        while (idx < suites.size() && failure.get() == null) {
+                            try {
+                                results[idx] =
+                                        completed(
+                                                suiteExecutor.executeSuite(
+                                                        suites.get(idx), workerIdx));
+                            } catch (final RuntimeException e) {
+                                failure.compareAndSet(null, e);
+                            }
+                            idx = nextSuite.getAndIncrement();
+                        }
+                    };
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(workers, new WorkerFactory());
+        try {
+            final List<Future<?>> futures =
+                    Arrays.stream(tasks).map(pool::submit).collect(Collectors.toList());
+            futures.forEach(TestPackagesExecutor::await);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return List.of(results);
+    }
+
+    private static void await(final Future<?> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParallelExecutionFailedException("Interrupted executing suites", e);
+        } catch (final ExecutionException e) {
+            throw new ParallelExecutionFailedException("Worker failed", e.getCause());
+        }
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger nextWorker = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            return new Thread(r, "creek-suite-worker-" + nextWorker.getAndIncrement());
+        }
+    }
+
+    private static final class ParallelExecutionFailedException extends RuntimeException {
+        ParallelExecutionFailedException(final String msg, final Throwable cause) {
+            super(msg + ", cause: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Options controlling which suites execute, and how.
+     *
+     * @param parallelism the number of suites to execute concurrently.
+     * @param lookAhead if {@code true}, and suites execute sequentially, the environment of the
+     *     next suite is prepared while the current suite executes.
+     * @param sharder used to select the suites belonging to this shard.
+     * @param scheduler used to order suites when executing in parallel.
+     * @param cache the cache of passing suite results, used to skip unchanged suites.
+     * @param previousResults the results of a previous run, used to select only failed suites.
+     * @param prePuller used to pull the images of all suites to execute, before any executes,
+     *     unless looking ahead, and to resolve the digests of the images of all suites.
+     * @param onResult called with the result of each suite as it completes, or is reused from the
+     *     cache. Called concurrently when suites execute in parallel.
+     */
+    public record Options(
+            int parallelism,
+            boolean lookAhead,
+            SuiteSharder sharder,
+            SuiteScheduler scheduler,
+            SuiteResultCache cache,
+            PreviousResults previousResults,
+            ImagePrePuller prePuller,
+            Consumer<SuiteResult> onResult) {
+
+        /**
+         * Validating constructor.
+         *
+         * @param parallelism the number of suites to execute concurrently.
+         * @param lookAhead if the next suite is prepared while the current suite executes.
+         * @param sharder used to select the suites belonging to this shard.
+         * @param scheduler used to order suites when executing in parallel.
+         * @param cache the cache of passing suite results.
+         * @param previousResults the results of a previous run.
+         * @param prePuller used to pull the images of suites, and resolve their digests.
+         * @param onResult called with the result of each suite as it completes.
+         */
+        public Options {
+            requireNonNull(sharder, "sharder");
+            requireNonNull(scheduler, "scheduler");
+            requireNonNull(cache, "cache");
+            requireNonNull(previousResults, "previousResults");
+            requireNonNull(prePuller, "prePuller");
+            requireNonNull(onResult, "onResult");
+            Preconditions.require(
+                    parallelism > 0, "parallelism must be positive. parallelism: " + parallelism);
+        }
+
+        /**
+         * @return options that execute all suites sequentially, in discovery order, without
+         *     looking ahead, caching results, pre-pulling images or reporting progress.
+         */
+        public static Options defaults() {
+            return new Options(
+                    1,
+                    false,
+                    SuiteSharder.noSharding(),
+                    SuiteScheduler.discoveryOrder(),
+                    SuiteResultCache.none(),
+                    PreviousResults.none(),
+                    ImagePrePuller.none(),
+                    result -> {});
+        }
+
+        /**
+         * @param parallelism the number of suites to execute concurrently.
+         * @return a copy of these options, with the supplied {@code parallelism}.
+         */
+        public Options withParallelism(final int parallelism) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param lookAhead if {@code true}, and suites execute sequentially, the environment of the
+         *     next suite is prepared while the current suite executes.
+         * @return a copy of these options, with the supplied {@code lookAhead}.
+         */
+        public Options withLookAhead(final boolean lookAhead) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param sharder used to select the suites belonging to this shard.
+         * @return a copy of these options, with the supplied {@code sharder}.
+         */
+        public Options withSharder(final SuiteSharder sharder) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param scheduler used to order suites when executing in parallel.
+         * @return a copy of these options, with the supplied {@code scheduler}.
+         */
+        public Options withScheduler(final SuiteScheduler scheduler) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param cache the cache of passing suite results, used to skip unchanged suites.
+         * @return a copy of these options, with the supplied {@code cache}.
+         */
+        public Options withCache(final SuiteResultCache cache) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param previousResults the results of a previous run, used to select only failed suites.
+         * @return a copy of these options, with the supplied {@code previousResults}.
+         */
+        public Options withPreviousResults(final PreviousResults previousResults) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param prePuller used to pull the images of all suites to execute, before any executes,
+         *     unless looking ahead, and to resolve the digests of the images of all suites.
+         * @return a copy of these options, with the supplied {@code prePuller}.
+         */
+        public Options withPrePuller(final ImagePrePuller prePuller) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
+        }
+
+        /**
+         * @param onResult called with the result of each suite as it completes, or is reused from
+         *     the cache. Called concurrently when suites execute in parallel.
+         * @return a copy of these options, with the supplied {@code onResult}.
+         */
+        public Options withOnResult(final Consumer<SuiteResult> onResult) {
+            return new Options(
+                    parallelism,
+                    lookAhead,
+                    sharder,
+                    scheduler,
+                    cache,
+                    previousResults,
+                    prePuller,
+                    onResult);
         }
     }
 }
@@ -20,40 +20,204 @@ import static java.util.Objects.requireNonNull;
 import static org.creekservice.internal.system.test.executor.result.SuiteResult.testSuiteResult;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
 import org.creekservice.api.system.test.extension.test.env.listener.TestListenerCollection;
+import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestSuite;
 import org.creekservice.internal.system.test.executor.api.SystemTest;
+import org.creekservice.internal.system.test.executor.api.SystemTestFactory;
 import org.creekservice.internal.system.test.executor.execution.input.Inputters;
+import org.creekservice.internal.system.test.executor.result.CaseResult;
 import org.creekservice.internal.system.test.executor.result.SuiteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Executor of test suites. */
 public final class TestSuiteExecutor {
 
-    private final Supplier<SystemTest> apiSupplier;
-    private final Duration verifierTimeout;
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestSuiteExecutor.class);
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SystemTestFactory apiFactory;
+    private final TestCaseExecutor.Options options;
 
     /**
-     * @param apiSupplier Supplier of initialized system test api. A fresh api instance is created
-     *     per test suite.
-     * @param verifierTimeout the default verifier timeout, i.e. how long to wait for expectations
-     *     to be met.
+     * @param apiFactory Factory of initialized system test api, given the suite and the index of
+     *     the worker it is executing on.
+     * @param options options controlling how the suite's seed data and test cases are executed.
      */
     public TestSuiteExecutor(
-            final Supplier<SystemTest> apiSupplier, final Duration verifierTimeout) {
-        this.apiSupplier = requireNonNull(apiSupplier, "apiSupplier");
-        this.verifierTimeout = requireNonNull(verifierTimeout, "verifierTimeout");
+            final SystemTestFactory apiFactory, final TestCaseExecutor.Options options) {
+        this.apiFactory = requireNonNull(apiFactory, "apiFactory");
+        this.options = requireNonNull(options, "options");
     }
 
     /**
-     * Execute a test suite.
+     * Execute a test suite on the first, or only, worker.
      *
      * @param testSuite the test suite.
      * @return the test result.
      */
     public SuiteResult executeSuite(final TestSuite testSuite) {
-        return new Executor(apiSupplier.get(), verifierTimeout).executeSuite(testSuite);
+        return executeSuite(testSuite, 0);
+    }
+
+    /**
+     * Execute a test suite on a specific worker.
+     *
+     * <p>The api instance used to execute the suite is created on, and confined to, the calling
+     * thread.
+     *
+     * @param testSuite the test suite.
+     * @param worker the zero-based index of the worker executing the suite.
+     * @return the test result.
+     */
+    public SuiteResult executeSuite(final TestSuite testSuite, final int worker) {
+        return executor(apiFactory.create(testSuite, worker)).executeSuite(testSuite);
+    }
+
+    /**
+     * Prepare a test suite for execution.
+     *
+     * <p>Creates the api instance the suite will execute with, on, and confined to, the calling
+     * thread. The suite's environment, e.g. its network and the images of its services under test,
+     * is then prepared on the supplied {@code background} executor. This allows a suite to be
+     * prepared while the previous suite executes.
+     *
+     * <p>Failure to prepare the environment is logged, but not fatal: the suite will attempt to
+     * create its environment when it executes. The environment of a {@link SystemTest#runScoped()
+     * run scoped} api, which is reused across suites, is not prepared.
+     *
+     * @param testSuite the test suite.
+     * @param worker the zero-based index of the worker that will execute the suite.
+     * @param background the executor to prepare the suite's environment on.
+     * @return the prepared suite, which must be either executed or closed.
+     */
+    public PreparedSuite prepareSuite(
+            final TestSuite testSuite, final int worker, final ExecutorService background) {
+        requireNonNull(background, "background");
+        final SystemTest api = apiFactory.create(testSuite, worker);
+        if (api.runScoped()) {
+            // A run scoped api may still be executing the previous suite, so can't be prepared:
+            return new PreparedSuite(testSuite, api, CompletableFuture.completedFuture(null));
+        }
+        return new PreparedSuite(testSuite, api, prepareEnvironment(api, testSuite, background));
+    }
+
+    /**
+     * Execute a prepared test suite.
+     *
+     * <p>Waits for the preparation of the suite's environment to complete before executing.
+     *
+     * @param prepared the prepared test suite.
+     * @return the test result.
+     */
+    public SuiteResult executeSuite(final PreparedSuite prepared) {
+        prepared.awaitEnvironment();
+        return executor(prepared.api).executeSuite(prepared.suite);
+    }
+
+    private Executor executor(final SystemTest api) {
+        return new Executor(api, options);
+    }
+
+    private static CompletableFuture<Void> prepareEnvironment(
+            final SystemTest api, final TestSuite testSuite, final ExecutorService background) {
+        try {
+            final List<ServiceDefinition> services =
+                    testSuite.services().stream()
+                            .map(api.components().definitions().services()::get)
+                            .toList();
+
+            final Runnable preparation =
+                    api.tests().env().currentSuite().services().preparation(services);
+
+            return CompletableFuture.runAsync(preparation, background)
+                    .exceptionally(
+                            e -> {
+                                warnPrepareFailed(
+                                        testSuite, e.getCause() == null ? e : e.getCause());
+                                return null;
+                            });
+        } catch (final Exception e) {
+            warnPrepareFailed(testSuite, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static void warnPrepareFailed(final TestSuite testSuite, final Throwable cause) {
+        LOGGER.warn(
+                "Failed to prepare environment for test suite: "
+                        + testSuite.name()
+                        + ", cause: "
+                        + cause.getMessage());
+    }
+
+    /**
+     * A test suite, along with the api instance prepared to execute it.
+     *
+     * <p>A prepared suite must either be {@link #executeSuite(PreparedSuite) executed} or {@link
+     * #close() closed}, so that its environment is released.
+     */
+    public static final class PreparedSuite implements AutoCloseable {
+
+        private final TestSuite suite;
+        private final SystemTest api;
+        private final CompletableFuture<Void> environment;
+
+        @VisibleForTesting
+        PreparedSuite(
+                final TestSuite suite,
+                final SystemTest api,
+                final CompletableFuture<Void> environment) {
+            this.suite = requireNonNull(suite, "suite");
+            this.api = requireNonNull(api, "api");
+            this.environment = requireNonNull(environment, "environment");
+        }
+
+        /**
+         * @return the prepared suite.
+         */
+        public TestSuite suite() {
+            return suite;
+        }
+
+        /**
+         * Release the prepared suite without executing it.
+         *
+         * <p>Waits for the preparation of the environment to complete, then releases the
+         * environment and closes the api's extensions. A run scoped api is left open, as it is
+         * closed at the end of the run.
+         *
+         * <p>Must be called on the thread that prepared the suite.
+         */
+        @Override
+        public void close() {
+            awaitEnvironment();
+            if (api.runScoped()) {
+                return;
+            }
+
+            api.tests().env().currentSuite().services().release();
+            api.extensions().close();
+        }
+
+        private void awaitEnvironment() {
+            // Preparation failures are logged, rather than thrown:
+            environment.join();
+        }
     }
 
     @VisibleForTesting
@@ -61,33 +225,49 @@ public final class TestSuiteExecutor {
         private final TestListenerCollection listeners;
         private final Inputters inputters;
         private final TestCaseExecutor testExecutor;
+        private final Supplier<List<String>> images;
 
-        Executor(final SystemTest api, final Duration verifierTimeout) {
+        Executor(final SystemTest api, final TestCaseExecutor.Options options) {
+            this(api, new Inputters(api.tests().model(), options.parallelInputs()), options);
+        }
+
+        private Executor(
+                final SystemTest api,
+                final Inputters inputters,
+                final TestCaseExecutor.Options options) {
             this(
                     api.tests().env().listeners(),
-                    new Inputters(api.tests().model()),
-                    new TestCaseExecutor(api, verifierTimeout));
+                    inputters,
+                    new TestCaseExecutor(api, inputters, options),
+                    () -> api.tests().env().currentSuite().services().images());
         }
 
         Executor(
                 final TestListenerCollection listeners,
                 final Inputters inputters,
-                final TestCaseExecutor testExecutor) {
+                final TestCaseExecutor testExecutor,
+                final Supplier<List<String>> images) {
             this.listeners = requireNonNull(listeners, "listeners");
             this.inputters = requireNonNull(inputters, "inputter");
             this.testExecutor = requireNonNull(testExecutor, "testExecutor");
+            this.images = requireNonNull(images, "images");
         }
 
+        /** Execute the suite, then close the inputters, stopping any input threads. */
         SuiteResult executeSuite(final TestSuite testSuite) {
-            final SuiteResult result = execute(testSuite);
-
             try {
-                afterSuite(testSuite, result);
-            } catch (final Exception e) {
-                throw new SuiteExecutionFailedException("Suite teardown", testSuite, e);
-            }
+                final SuiteResult result = execute(testSuite);
 
-            return result;
+                try {
+                    afterSuite(testSuite, result);
+                } catch (final Exception e) {
+                    throw new SuiteExecutionFailedException("Suite teardown", testSuite, e);
+                }
+
+                return result;
+            } finally {
+                inputters.close();
+            }
         }
 
         private SuiteResult execute(final TestSuite testSuite) {
@@ -104,7 +284,8 @@ public final class TestSuiteExecutor {
 
             try {
                 runSuite(testSuite, builder);
-                return builder.build();
+                // Capture images before services are cleared, as they may affect cached results:
+                return builder.images(images.get()).build();
             } catch (final Exception e) {
                 throw new SuiteExecutionFailedException("Suite execution", testSuite, e);
             }
@@ -116,7 +297,110 @@ public final class TestSuiteExecutor {
         }
 
         private void runSuite(final TestSuite testSuite, final SuiteResult.Builder builder) {
-            testSuite.tests().stream().map(testExecutor::executeTest).forEach(builder::add);
+            final List<TestCase> tests = testSuite.tests();
+            final int concurrency = Math.min(testSuite.testConcurrency(), tests.size());
+            if (concurrency <= 1 || !threadSafe(testSuite, tests)) {
+                tests.stream().map(testExecutor::executeTest).forEach(builder::add);
+                return;
+            }
+
+            runConcurrently(tests, concurrency).forEach(builder::add);
+        }
+
+        private boolean threadSafe(final TestSuite testSuite, final List<TestCase> tests) {
+            final Optional<TestCase> unsafe =
+                    tests.stream().filter(test -> !testExecutor.threadSafe(test)).findFirst();
+
+            unsafe.ifPresent(
+                    test ->
+                            LOGGER.warn(
+                                    "Running test cases of suite: "
+                                            + testSuite.name()
+                                            + " sequentially, as test case: "
+                                            + test.name()
+                                            + " uses input or expectation handlers that are not"
+                                            + " thread safe"));
+
+            return unsafe.isEmpty();
+        }
+
+        /**
+         * Run the supplied {@code tests} concurrently, against the same started services.
+         *
+         * <p>Tests are run on pool threads. The calling thread, which owns the api, serves the
+         * tests' listener callbacks until all tests have completed, so listeners are only ever
+         * invoked on the thread that owns them.
+         *
+         * <p>Once the tests complete, or fail, the pool is shut down. Test threads that do not stop
+         * within a fixed time are abandoned, rather than blocking the suite.
+         *
+         * @return the test results, in the order the tests are defined.
+         */
+        private List<CaseResult> runConcurrently(
+                final List<TestCase> tests, final int concurrency) {
+            final ApiThread apiThread = ApiThread.current();
+            final ExecutorService pool =
+                    Executors.newFixedThreadPool(concurrency, new TestCaseThreadFactory());
+            try {
+                final List<CompletableFuture<CaseResult>> futures =
+                        tests.stream().map(test -> executeAsync(test, apiThread, pool)).toList();
+
+                serve(apiThread, allOf(futures));
+                return futures.stream().map(Executor::await).toList();
+            } finally {
+                pool.shutdownNow();
+                awaitTermination(pool);
+            }
+        }
+
+        private CompletableFuture<CaseResult> executeAsync(
+                final TestCase test, final ApiThread apiThread, final ExecutorService pool) {
+            return CompletableFuture.supplyAsync(
+                    () -> testExecutor.executeTest(test, apiThread), pool);
+        }
+
+        private static CompletableFuture<Void> allOf(
+                final List<? extends CompletableFuture<?>> futures) {
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new));
+        }
+
+        private static void serve(final ApiThread apiThread, final CompletableFuture<?> done) {
+            try {
+                apiThread.serveUntil(done);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TestCasesInterruptedException(e);
+            }
+        }
+
+        private static <T> T await(final Future<T> future) {
+            try {
+                return future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TestCasesInterruptedException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private static void awaitTermination(final ExecutorService pool) {
+            try {
+                if (!pool.awaitTermination(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn(
+                            "Abandoning test cases that did not stop within "
+                                    + TERMINATION_TIMEOUT);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted waiting for test cases to stop. Abandoning them.");
+            }
         }
 
         private void afterSuite(final TestSuite testSuite, final SuiteResult result) {
@@ -124,6 +408,26 @@ public final class TestSuiteExecutor {
         }
     }
 
+    private static final class TestCaseThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger nextTestCase = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread =
+                    new Thread(r, "creek-test-case-" + nextTestCase.getAndIncrement());
+            // Abandoned test cases must not stop the JVM from exiting:
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class TestCasesInterruptedException extends RuntimeException {
+        TestCasesInterruptedException(final InterruptedException cause) {
+            super("Interrupted running test cases", cause);
+        }
+    }
+
     private static final class SuiteExecutionFailedException extends RuntimeException {
         SuiteExecutionFailedException(
                 final String msg, final TestSuite suite, final Throwable cause) {
@@ -29,6 +29,9 @@ import org.creekservice.api.system.test.executor.ExecutorOptions;
 /** Implementation of {@link ExecutorOptions.ServiceDebugInfo}. */
 public final class ServiceDebugInfo implements ExecutorOptions.ServiceDebugInfo {
 
+    /** The number of debug ports reserved for each worker, when executing suites in parallel. */
+    public static final int DEBUG_PORTS_PER_WORKER = 100;
+
     private final int baseServicePort;
     private final Set<String> serviceNames;
     private final Set<String> instanceNames;
@@ -100,6 +103,30 @@ public final class ServiceDebugInfo implements ExecutorOptions.ServiceDebugInfo
         }
     }
 
+    /**
+     * Get the debug info to use for suites executing on a specific worker.
+     *
+     * <p>When suites are executed in parallel, each worker is assigned its own range of {@link
+     * #DEBUG_PORTS_PER_WORKER} debug ports, so that services being debugged in concurrently
+     * executing suites do not clash.
+     *
+     * @param worker the zero-based index of the worker.
+     * @return the debug info to use for suites executing on the worker.
+     */
+    public ServiceDebugInfo forWorker(final int worker) {
+        Preconditions.require(worker >= 0, "worker must not be negative. worker: " + worker);
+
+        if (worker == 0 || (serviceNames.isEmpty() && instanceNames.isEmpty())) {
+            return this;
+        }
+
+        return new ServiceDebugInfo(
+                baseServicePort + worker * DEBUG_PORTS_PER_WORKER,
+                serviceNames,
+                instanceNames,
+                env);
+    }
+
     @Override
     public int baseServicePort() {
         return baseServicePort;
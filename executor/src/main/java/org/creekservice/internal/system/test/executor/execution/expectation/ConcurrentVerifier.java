@@ -0,0 +1,222 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.expectation;
+
+import static java.lang.System.lineSeparator;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.model.ExpectationHandler.Verifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A verifier that runs multiple verifiers concurrently.
+ *
+ * <p>Verifiers are run on a pool of threads, while the calling thread blocks until all verifiers
+ * have completed. Hence, only verifiers of {@link
+ * org.creekservice.api.system.test.extension.test.model.ExpectationHandler#threadSafe() thread
+ * safe} handlers can be run by this class.
+ *
+ * <p>Results are collected in the order verifiers complete. As soon as one verifier fails the
+ * outcome is decided: the remaining verifiers are cancelled, rather than left to run until their
+ * own timeouts. The failures of any verifiers that had also completed by then are aggregated, in
+ * the order the verifiers were supplied, into a single {@link AssertionError}. A verifier failing
+ * with anything other than an {@link AssertionError} takes precedence, with any other failures
+ * added as suppressed exceptions.
+ *
+ * <p>If the calling thread is interrupted, the verifiers are interrupted. Any that have not stopped
+ * within a bounded time are abandoned.
+ */
+final class ConcurrentVerifier implements Verifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentVerifier.class);
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<Verifier> verifiers;
+    private final Duration terminationTimeout;
+
+    /**
+     * @param verifiers the verifiers to run.
+     */
+    ConcurrentVerifier(final List<Verifier> verifiers) {
+        this(verifiers, TERMINATION_TIMEOUT);
+    }
+
+    @VisibleForTesting
+    ConcurrentVerifier(final List<Verifier> verifiers, final Duration terminationTimeout) {
+        this.verifiers = List.copyOf(requireNonNull(verifiers, "verifiers"));
+        this.terminationTimeout = requireNonNull(terminationTimeout, "terminationTimeout");
+    }
+
+    @Override
+    public void verify() {
+        if (verifiers.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService pool =
+                Executors.newFixedThreadPool(verifiers.size(), new VerifierFactory());
+        try {
+            final CompletionService<Void> completions = new ExecutorCompletionService<>(pool);
+            final List<Future<Void>> futures =
+                    verifiers.stream().map(v -> completions.submit(v::verify, null)).toList();
+
+            for (int remaining = futures.size(); remaining > 0; remaining--) {
+                if (failure(take(completions)) != null) {
+                    futures.forEach(future -> future.cancel(true));
+                    throw rethrow(outcome(failures(futures)));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            awaitTermination(pool);
+        }
+    }
+
+    private static Future<Void> take(final CompletionService<Void> completions) {
+        try {
+            return completions.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VerificationInterruptedException(e);
+        }
+    }
+
+    /**
+     * @return the failures of the completed futures, in the order the verifiers were supplied.
+     */
+    private static List<Throwable> failures(final List<Future<Void>> futures) {
+        final List<Throwable> failures = new ArrayList<>();
+        for (final Future<Void> future : futures) {
+            final Throwable failure = failure(future);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @return the failure of a completed future, or {@code null} if it succeeded or was cancelled.
+     */
+    private static Throwable failure(final Future<Void> future) {
+        if (future.isCancelled()) {
+            return null;
+        }
+
+        try {
+            future.get();
+            return null;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VerificationInterruptedException(e);
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    @VisibleForTesting
+    static Throwable outcome(final List<Throwable> failures) {
+        final Optional<Throwable> unexpected =
+                failures.stream().filter(f -> !(f instanceof AssertionError)).findFirst();
+
+        if (unexpected.isPresent()) {
+            failures.stream()
+                    .filter(f -> f != unexpected.get())
+                    .forEach(unexpected.get()::addSuppressed);
+            return unexpected.get();
+        }
+
+        return aggregate(failures.stream().map(AssertionError.class::cast).toList());
+    }
+
+    private static AssertionError aggregate(final List<AssertionError> failures) {
+        if (failures.size() == 1) {
+            return failures.get(0);
+        }
+
+        final AssertionError aggregate =
+                new AssertionError(
+                        failures.stream()
+                                .map(Throwable::getMessage)
+                                .collect(Collectors.joining(lineSeparator())));
+        failures.forEach(aggregate::addSuppressed);
+        return aggregate;
+    }
+
+    private static RuntimeException rethrow(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new VerificationFailedException(failure);
+    }
+
+    private void awaitTermination(final ExecutorService pool) {
+        try {
+            if (!pool.awaitTermination(terminationTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn(
+                        "Abandoning verifiers that did not stop within " + terminationTimeout);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted waiting for verifiers to stop. Abandoning them.");
+        }
+    }
+
+    private static final class VerifierFactory implements ThreadFactory {
+
+        private final AtomicInteger nextVerifier = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "creek-verifier-" + nextVerifier.getAndIncrement());
+            // Abandoned verifiers must not stop the JVM from exiting:
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class VerificationInterruptedException extends RuntimeException {
+        VerificationInterruptedException(final InterruptedException cause) {
+            super("Interrupted verifying expectations", cause);
+        }
+    }
+
+    private static final class VerificationFailedException extends RuntimeException {
+        VerificationFailedException(final Throwable cause) {
+            super("Verifier failed, cause: " + cause.getMessage(), cause);
+        }
+    }
+}
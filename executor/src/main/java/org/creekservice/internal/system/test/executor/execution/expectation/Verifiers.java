@@ -18,23 +18,35 @@ package org.creekservice.internal.system.test.executor.execution.expectation;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.system.test.extension.test.model.Expectation;
 import org.creekservice.api.system.test.extension.test.model.ExpectationHandler;
 import org.creekservice.api.system.test.extension.test.model.ExpectationHandler.Verifier;
 import org.creekservice.api.system.test.extension.test.model.Option;
 import org.creekservice.api.system.test.extension.test.model.TestModelContainer;
 import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory;
 
 /** A verifier of test case expectations. */
 public final class Verifiers {
 
     private final TestModelContainer model;
     private final Duration verifierTimeout;
+    private final VerifierHistory history;
+    private final LongSupplier nanoTime;
+    private final Map<Class<?>, ExpectationHandler<? extends Expectation>> handlers =
+            new ConcurrentHashMap<>();
 
     /**
      * @param model the system test model.
@@ -42,8 +54,34 @@ public final class Verifiers {
      *     to be met.
      */
     public Verifiers(final TestModelContainer model, final Duration verifierTimeout) {
+        this(model, verifierTimeout, VerifierHistory.none());
+    }
+
+    /**
+     * @param model the system test model.
+     * @param verifierTimeout the default verifier timeout, i.e. how long to wait for expectations
+     *     to be met.
+     * @param history the history of how long expectations took to be met, used to derive adaptive
+     *     timeouts no longer than {@code verifierTimeout}, and updated as expectations are met or
+     *     time out under an adaptive timeout.
+     */
+    public Verifiers(
+            final TestModelContainer model,
+            final Duration verifierTimeout,
+            final VerifierHistory history) {
+        this(model, verifierTimeout, history, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    Verifiers(
+            final TestModelContainer model,
+            final Duration verifierTimeout,
+            final VerifierHistory history,
+            final LongSupplier nanoTime) {
         this.model = requireNonNull(model, "model");
         this.verifierTimeout = requireNonNull(verifierTimeout, "verifierTimeout");
+        this.history = requireNonNull(history, "history");
+        this.nanoTime = requireNonNull(nanoTime, "nanoTime");
     }
 
     /**
@@ -52,44 +90,133 @@ public final class Verifiers {
      * <p>Calls back to test extensions to allow them to initialise any internal state necessary to
      * verify the supplied expectations once all input has been piped in.
      *
+     * <p>Where expectations span multiple handlers, all of which are {@link
+     * ExpectationHandler#threadSafe() thread safe}, the returned verifier runs each handler's
+     * verifier concurrently, so the time taken to verify is bounded by the slowest handler, rather
+     * than the sum of all handlers. Once one fails, the others are cancelled. Otherwise, each
+     * handler's verifier is run in turn on the calling thread. Verifiers are ordered by the first
+     * expectation each handles.
+     *
      * @param expectations the expectations to prepare for
      * @param test the test being run
+     * @param isolationKey the isolation key of the current attempt of the test.
      * @return a verifier than can be invoked once all input is processed to verify expectations.
      */
     public Verifier prepare(
-            final Collection<? extends Expectation> expectations, final TestCase test) {
+            final Collection<? extends Expectation> expectations,
+            final TestCase test,
+            final String isolationKey) {
+        requireNonNull(isolationKey, "isolationKey");
         final Map<
                         ? extends ExpectationHandler<? extends Expectation>,
                         ? extends List<? extends Expectation>>
-                byHandler = expectations.stream().collect(groupingBy(this::expectationHandler));
+                byHandler =
+                        expectations.stream()
+                                .collect(
+                                        groupingBy(
+                                                this::expectationHandler,
+                                                LinkedHashMap::new,
+                                                toList()));
 
         final List<Verifier> verifiers =
                 byHandler.entrySet().stream()
-                        .map(e -> prepare(e.getKey(), e.getValue(), test))
+                        .map(e -> prepare(e.getKey(), e.getValue(), test, isolationKey))
                         .toList();
 
-        return () -> verifiers.forEach(Verifier::verify);
+        if (verifiers.size() == 1) {
+            return verifiers.get(0);
+        }
+
+        return byHandler.keySet().stream().allMatch(ExpectationHandler::threadSafe)
+                ? new ConcurrentVerifier(verifiers)
+                : () -> verifiers.forEach(Verifier::verify);
+    }
+
+    /**
+     * Determine if the handlers of the supplied {@code expectations} are all {@link
+     * ExpectationHandler#threadSafe() thread safe}.
+     *
+     * <p>Handlers are looked up, and cached, on the calling thread, so that the expectations can
+     * later be prepared from other threads without accessing the thread confined model.
+     *
+     * @param expectations the expectations.
+     * @return {@code true} if all handlers are registered and thread safe.
+     */
+    public boolean threadSafe(final Collection<? extends Expectation> expectations) {
+        return expectations.stream()
+                .map(Expectation::getClass)
+                .distinct()
+                .map(
+                        type ->
+                                handlers.computeIfAbsent(
+                                        type, t -> model.expectationHandler(type).orElse(null)))
+                .allMatch(handler -> handler != null && handler.threadSafe());
     }
 
     private ExpectationHandler<? extends Expectation> expectationHandler(final Expectation e) {
-        return model.expectationHandler(e.getClass())
-                .orElseThrow(() -> new HandlerNotRegisteredException(e.getClass()));
+        return handlers.computeIfAbsent(
+                e.getClass(),
+                type ->
+                        model.expectationHandler(e.getClass())
+                                .orElseThrow(
+                                        () -> new HandlerNotRegisteredException(e.getClass())));
     }
 
     @SuppressWarnings("unchecked")
     private <T extends Expectation> Verifier prepare(
             final ExpectationHandler<T> handler,
             final List<? extends Expectation> expectations,
-            final TestCase test) {
-        return handler.prepare((List<T>) expectations, new Options(test));
+            final TestCase test,
+            final String isolationKey) {
+        final VerifierHistory.Key key = key(expectations, test);
+        final Optional<Duration> adaptive = adaptiveTimeout(key);
+        final Verifier verifier =
+                handler.prepare(
+                        (List<T>) expectations,
+                        new Options(test, adaptive.orElse(verifierTimeout), isolationKey));
+
+        return () -> {
+            final long start = nanoTime.getAsLong();
+            try {
+                verifier.verify();
+            } catch (final AssertionError e) {
+                // Expectations not met within a learned timeout may just be slower than before.
+                // Record the timeout as a lower bound on the time taken, so the timeout widens:
+                final Duration taken = Duration.ofNanos(nanoTime.getAsLong() - start);
+                adaptive.filter(timeout -> taken.compareTo(timeout) >= 0)
+                        .ifPresent(timeout -> history.record(key, timeout));
+                throw e;
+            }
+            history.record(key, Duration.ofNanos(nanoTime.getAsLong() - start));
+        };
+    }
+
+    private Optional<Duration> adaptiveTimeout(final VerifierHistory.Key key) {
+        return history.timeout(key).filter(adaptive -> adaptive.compareTo(verifierTimeout) < 0);
     }
 
-    private final class Options implements ExpectationHandler.ExpectationOptions {
+    private static VerifierHistory.Key key(
+            final List<? extends Expectation> expectations, final TestCase test) {
+        final String types =
+                expectations.stream()
+                        .map(e -> e.getClass().getName())
+                        .distinct()
+                        .sorted()
+                        .collect(Collectors.joining(","));
+
+        return new VerifierHistory.Key(test.suite().name(), test.name(), types);
+    }
+
+    private static final class Options implements ExpectationHandler.ExpectationOptions {
 
         private final TestCase test;
+        private final Duration timeout;
+        private final String isolationKey;
 
-        Options(final TestCase test) {
+        Options(final TestCase test, final Duration timeout, final String isolationKey) {
             this.test = requireNonNull(test, "test");
+            this.timeout = requireNonNull(timeout, "timeout");
+            this.isolationKey = requireNonNull(isolationKey, "isolationKey");
         }
 
         /**
@@ -97,7 +224,12 @@ public final class Verifiers {
          */
         @Override
         public Duration timeout() {
-            return verifierTimeout;
+            return timeout;
+        }
+
+        @Override
+        public Optional<String> isolationKey() {
+            return Optional.of(isolationKey);
         }
 
         @Override
@@ -17,69 +17,321 @@
 package org.creekservice.internal.system.test.executor.execution.input;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.creekservice.api.system.test.extension.test.model.Input;
 import org.creekservice.api.system.test.extension.test.model.InputHandler;
 import org.creekservice.api.system.test.extension.test.model.Option;
 import org.creekservice.api.system.test.extension.test.model.TestModelContainer;
+import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestSuite;
 
-/** Handles delegation of input resources to the extension that handles them. */
-public final class Inputters {
+/**
+ * Handles delegation of input resources to the extension that handles them.
+ *
+ * <p>Contiguous runs of inputs of the same type are passed to their handler as a single batch. The
+ * handler for each input type and the options of the current suite, indexed by option type, are
+ * cached, so that neither is looked up per input.
+ *
+ * <p>Handlers may flush asynchronously, allowing callers to overlap the delivery of input with the
+ * verification of expectations.
+ *
+ * <p>Optionally, inputs can be dispatched to different handlers concurrently. Only {@link
+ * InputHandler#threadSafe() thread safe} handlers are run on other threads. Other handlers are run
+ * on the calling thread, which blocks until all handlers have processed their inputs. The threads
+ * are pooled for the lifetime of the instance, which must be {@link #close() closed} once the
+ * suite it serves completes.
+ */
+public final class Inputters implements AutoCloseable {
 
     private final TestModelContainer model;
+    private final boolean parallel;
+    private final Map<Class<?>, InputHandler<?>> handlers = new ConcurrentHashMap<>();
+    private final AtomicReference<Options> options = new AtomicReference<>();
+    private ExecutorService pool;
 
     /**
      * @param model system test model
      */
     public Inputters(final TestModelContainer model) {
+        this(model, false);
+    }
+
+    /**
+     * @param model system test model
+     * @param parallel if {@code true}, inputs are dispatched to different handlers concurrently.
+     */
+    public Inputters(final TestModelContainer model, final boolean parallel) {
         this.model = requireNonNull(model, "model");
+        this.parallel = parallel;
     }
 
     /**
      * Route the supplied {@code inputs} to the test extension that handles them.
      *
+     * <p>All handlers used are flushed before the method returns.
+     *
      * @param inputs the inputs to handle.
      * @param suite the current suite being executed.
      */
     public void input(final Collection<? extends Input> inputs, final TestSuite suite) {
-        final Set<InputHandler<?>> usedHandlers =
-                inputs.stream()
-                        .map(i -> input(i, suite))
-                        .collect(
-                                toCollection(
-                                        () -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        try {
+            inputAsync(inputs, options(suite)).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Route the supplied {@code inputs} to the test extension that handles them, without waiting
+     * for handlers to flush.
+     *
+     * <p>Inputs are passed to their handlers before the method returns, after which each handler
+     * used is asked to {@link InputHandler#flushAsync() flush asynchronously}.
+     *
+     * <p>Handlers are passed the supplied {@code isolationKey}.
+     *
+     * @param inputs the inputs to handle.
+     * @param test the current test case being executed.
+     * @param isolationKey the isolation key of the current attempt of the test.
+     * @return a future that completes once all handlers used have flushed.
+     */
+    public CompletableFuture<Void> inputAsync(
+            final Collection<? extends Input> inputs,
+            final TestCase test,
+            final String isolationKey) {
+        return inputAsync(inputs, options(test.suite()).forTest(isolationKey));
+    }
+
+    /**
+     * Determine if the handlers of the supplied {@code inputs} are all {@link
+     * InputHandler#threadSafe() thread safe}.
+     *
+     * <p>Handlers are looked up, and cached, on the calling thread, so that the inputs can later be
+     * routed from other threads without accessing the thread confined model.
+     *
+     * @param inputs the inputs.
+     * @return {@code true} if all handlers are registered and thread safe.
+     */
+    public boolean threadSafe(final Collection<? extends Input> inputs) {
+        return inputs.stream()
+                .map(Input::getClass)
+                .distinct()
+                .map(
+                        type ->
+                                handlers.computeIfAbsent(
+                                        type, t -> model.inputHandler(type).orElse(null)))
+                .allMatch(handler -> handler != null && handler.threadSafe());
+    }
+
+    /** Stop any threads used to dispatch inputs concurrently. */
+    @Override
+    public synchronized void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> inputAsync(
+            final Collection<? extends Input> inputs, final Options options) {
+        final List<Batch<?>> batches = batches(List.copyOf(inputs));
+
+        final Map<InputHandler<?>, List<Batch<?>>> byHandler = new IdentityHashMap<>();
+        for (final Batch<?> batch : batches) {
+            byHandler.computeIfAbsent(batch.handler, h -> new ArrayList<>()).add(batch);
+        }
+
+        final int threadSafe =
+                (int) byHandler.keySet().stream().filter(InputHandler::threadSafe).count();
+        if (parallel && byHandler.size() > 1 && threadSafe > 0) {
+            return inputConcurrently(byHandler, options);
+        }
+
+        batches.forEach(batch -> batch.process(options));
+        return allOf(byHandler.keySet().stream().map(InputHandler::flushAsync).toList());
+    }
+
+    private List<Batch<?>> batches(final List<? extends Input> inputs) {
+        final List<Batch<?>> batches = new ArrayList<>();
+
+        int start = 0;
+        while (start < inputs.size()) {
+            final Class<? extends Input> type = inputs.get(start).getClass();
+
+            int end = start + 1;
+            while (end < inputs.size() && inputs.get(end).getClass() == type) {
+                ++end;
+            }
+
+            batches.add(batch(type, inputs.subList(start, end)));
+            start = end;
+        }
 
-        usedHandlers.forEach(InputHandler::flush);
+        return batches;
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends Input> InputHandler<T> input(final T input, final TestSuite suite) {
+    private <T extends Input> Batch<T> batch(
+            final Class<T> type, final List<? extends Input> inputs) {
         final InputHandler<T> handler =
-                model.inputHandler((Class<T>) input.getClass())
-                        .orElseThrow(() -> new HandlerNotRegisteredException(input.getClass()));
+                (InputHandler<T>) handlers.computeIfAbsent(type, t -> handler(type));
 
-        handler.process(input, new Options(suite));
-        return handler;
+        return new Batch<>(handler, (List<? extends T>) inputs);
     }
 
+    private <T extends Input> InputHandler<T> handler(final Class<T> type) {
+        return model.inputHandler(type).orElseThrow(() -> new HandlerNotRegisteredException(type));
+    }
+
+    private CompletableFuture<Void> inputConcurrently(
+            final Map<InputHandler<?>, List<Batch<?>>> byHandler, final Options options) {
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final List<CompletionStage<Void>> flushes = new CopyOnWriteArrayList<>();
+        final ExecutorService pool = pool();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        final List<Runnable> confined = new ArrayList<>();
+        byHandler.forEach(
+                (handler, handlerBatches) -> {
+                    final Runnable task =
+                            () -> {
+                                try {
+                                    handlerBatches.forEach(batch -> batch.process(options));
+                                    flushes.add(handler.flushAsync());
+                                } catch (final RuntimeException e) {
+                                    failure.compareAndSet(null, e);
+                                }
+                            };
+
+                    if (handler.threadSafe()) {
+                        futures.add(CompletableFuture.runAsync(task, pool));
+                    } else {
+                        confined.add(task);
+                    }
+                });
+
+        confined.forEach(Runnable::run);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return allOf(flushes);
+    }
+
+    /**
+     * @return the pool used to dispatch inputs concurrently, created on first use.
+     */
+    private synchronized ExecutorService pool() {
+        if (pool == null) {
+            // Threads are only created as needed, and reused across inputs:
+            pool = Executors.newCachedThreadPool(new InputterFactory());
+        }
+        return pool;
+    }
+
+    private static CompletableFuture<Void> allOf(final List<CompletionStage<Void>> stages) {
+        return CompletableFuture.allOf(
+                stages.stream()
+                        .map(CompletionStage::toCompletableFuture)
+                        .toArray(CompletableFuture<?>[]::new));
+    }
+
+    private Options options(final TestSuite suite) {
+        final Options current = options.get();
+        if (current != null && current.suite == suite) {
+            return current;
+        }
+
+        final Options created = new Options(suite);
+        options.set(created);
+        return created;
+    }
+
+    private static final class Batch<T extends Input> {
+
+        private final InputHandler<T> handler;
+        private final List<? extends T> inputs;
+
+        Batch(final InputHandler<T> handler, final List<? extends T> inputs) {
+            this.handler = requireNonNull(handler, "handler");
+            this.inputs = requireNonNull(inputs, "inputs");
+        }
+
+        void process(final Options options) {
+            handler.processBatch(inputs, options);
+        }
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private static final class Options implements InputHandler.InputOptions {
 
         private final TestSuite suite;
+        private final Map<Class<?>, List<?>> byType;
+        private final Optional<String> isolationKey;
 
         Options(final TestSuite suite) {
+            this(suite, new ConcurrentHashMap<>(), Optional.empty());
+        }
+
+        private Options(
+                final TestSuite suite,
+                final Map<Class<?>, List<?>> byType,
+                final Optional<String> isolationKey) {
             this.suite = requireNonNull(suite, "suite");
+            this.byType = requireNonNull(byType, "byType");
+            this.isolationKey = requireNonNull(isolationKey, "isolationKey");
+        }
+
+        /**
+         * @return options for a test with the supplied isolation key, sharing this instance's
+         *     cached options.
+         */
+        Options forTest(final String isolationKey) {
+            return new Options(suite, byType, Optional.of(isolationKey));
         }
 
+        @Override
+        public Optional<String> isolationKey() {
+            return isolationKey;
+        }
+
+        @SuppressWarnings("unchecked")
         @Override
         public <T extends Option> List<T> get(final Class<T> type) {
-            return suite.options(type);
+            return (List<T>) byType.computeIfAbsent(type, t -> List.copyOf(suite.options(type)));
+        }
+    }
+
+    private static final class InputterFactory implements ThreadFactory {
+
+        private final AtomicInteger nextInputter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread =
+                    new Thread(r, "creek-inputter-" + nextInputter.getAndIncrement());
+            // Idle threads must not stop the JVM from exiting:
+            thread.setDaemon(true);
+            return thread;
         }
     }
 
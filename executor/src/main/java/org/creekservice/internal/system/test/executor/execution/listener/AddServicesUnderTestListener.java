@@ -21,11 +21,11 @@ import static org.creekservice.api.observability.lifecycle.LoggableLifecycle.SER
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 import org.creekservice.api.observability.lifecycle.BasicLifecycle;
 import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
 import org.creekservice.internal.system.test.executor.api.SystemTest;
@@ -40,8 +40,8 @@ import org.creekservice.internal.system.test.executor.api.SystemTest;
  */
 public final class AddServicesUnderTestListener implements TestEnvironmentListener {
 
-    private static final String STARTED_LOG_LINE_PATTERN =
-            ".*" + Pattern.quote(BasicLifecycle.started.logMessage(SERVICE_TYPE)) + ".*";
+    private static final ReadinessProbe STARTED_PROBE =
+            ReadinessProbe.logMessage(BasicLifecycle.started.logMessage(SERVICE_TYPE));
 
     private final SystemTest api;
     private final List<ServiceInstance> added = new ArrayList<>();
@@ -71,7 +71,7 @@ public final class AddServicesUnderTestListener implements TestEnvironmentListen
         final ConfigurableServiceInstance instance =
                 api.tests().env().currentSuite().services().add(def);
 
-        instance.setStartupLogMessage(STARTED_LOG_LINE_PATTERN, 1);
+        instance.setReadinessProbe(STARTED_PROBE);
 
         return instance;
     }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.listener;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs indexed tasks concurrently, with each task only run once the tasks it depends on have
+ * completed.
+ *
+ * <p>Each task is split into stages, so that only its blocking stage is run on another thread:
+ * tasks are begun, and completed, on the calling thread, which blocks until all tasks are
+ * complete. This allows tasks to work with types confined to the calling thread, e.g. service
+ * instances, while still waiting on several tasks concurrently.
+ */
+final class DependencyRunner {
+
+    private DependencyRunner() {}
+
+    /**
+     * Run tasks concurrently.
+     *
+     * <p>If a task fails, in-flight tasks are allowed to complete and the first failure is thrown.
+     *
+     * @param order the indexes of the tasks to run, ordered such that each task comes after all the
+     *     tasks it depends on.
+     * @param dependencies returns the indexes of the tasks the task with the supplied index depends
+     *     on. Indexes not in {@code order} are ignored.
+     * @param task begins the task with the supplied index, on the calling thread, returning its
+     *     blocking stage. The blocking stage is run on a pool thread and returns the final stage,
+     *     which is run on the calling thread.
+     * @param abortOnFailure if {@code true}, no further tasks are begun once a task fails.
+     */
+    static void runConcurrently(
+            final List<Integer> order,
+            final IntFunction<List<Integer>> dependencies,
+            final IntFunction<Supplier<Runnable>> task,
+            final boolean abortOnFailure) {
+        if (order.isEmpty()) {
+            return;
+        }
+
+        final Set<Integer> pending = new LinkedHashSet<>(order);
+        final Set<Integer> incomplete = new HashSet<>(order);
+        final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        final ExecutorService pool =
+                Executors.newFixedThreadPool(order.size(), new RunnerFactory());
+
+        RuntimeException failure = null;
+        int inFlight = 0;
+        try {
+            while (true) {
+                boolean begun = true;
+                while (begun && !pending.isEmpty() && (failure == null || !abortOnFailure)) {
+                    begun = false;
+                    final Iterator<Integer> it = pending.iterator();
+                    while (it.hasNext()) {
+                        final int idx = it.next();
+                        if (dependencies.apply(idx).stream().anyMatch(incomplete::contains)) {
+                            continue;
+                        }
+
+                        it.remove();
+                        begun = true;
+                        try {
+                            final Supplier<Runnable> blocking = task.apply(idx);
+                            pool.execute(() -> completions.add(await(idx, blocking)));
+                            inFlight++;
+                        } catch (final RuntimeException e) {
+                            failure = failure == null ? e : failure;
+                            incomplete.remove(idx);
+                        }
+
+                        if (failure != null && abortOnFailure) {
+                            break;
+                        }
+                    }
+                }
+
+                if (inFlight == 0) {
+                    break;
+                }
+
+                final Completion completion = completions.take();
+                inFlight--;
+                try {
+                    completion.finalStage.run();
+                } catch (final RuntimeException e) {
+                    failure = failure == null ? e : failure;
+                } finally {
+                    incomplete.remove(completion.idx);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TasksInterruptedException(e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Completion await(final int idx, final Supplier<Runnable> blocking) {
+        try {
+            return new Completion(idx, blocking.get());
+        } catch (final RuntimeException | Error e) {
+            return new Completion(
+                    idx,
+                    () -> {
+                        throw e;
+                    });
+        }
+    }
+
+    private record Completion(int idx, Runnable finalStage) {}
+
+    private static final class RunnerFactory implements ThreadFactory {
+
+        private final AtomicInteger nextRunner = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            return new Thread(r, "creek-service-lifecycle-" + nextRunner.getAndIncrement());
+        }
+    }
+
+    private static final class TasksInterruptedException extends RuntimeException {
+        TasksInterruptedException(final InterruptedException cause) {
+            super("Interrupted waiting for tasks to complete", cause);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.creekservice.api.platform.metadata.ResourceCollection;
 import org.creekservice.api.platform.metadata.ResourceDescriptor;
@@ -39,12 +40,24 @@ import org.creekservice.internal.system.test.executor.api.SystemTest;
 public final class PrepareResourcesListener implements TestEnvironmentListener {
 
     private final SystemTest api;
+    private final Predicate<? super ResourceDescriptor> filter;
 
     /**
      * @param api the system test API.
      */
     public PrepareResourcesListener(final SystemTest api) {
+        this(api, resource -> true);
+    }
+
+    /**
+     * @param api the system test API.
+     * @param filter filter controlling which resources are prepared, e.g. excluding the resources
+     *     of test extensions that were not initialized.
+     */
+    public PrepareResourcesListener(
+            final SystemTest api, final Predicate<? super ResourceDescriptor> filter) {
         this.api = requireNonNull(api, "api");
+        this.filter = requireNonNull(filter, "filter");
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -55,6 +68,7 @@ public final class PrepareResourcesListener implements TestEnvironmentListener {
                         .map(ComponentDefinition::descriptor)
                         .flatMap(Optional::stream)
                         .flatMap(ResourceCollection::collectResources)
+                        .filter(filter)
                         .collect(
                                 groupingBy(
                                         ResourceDescriptor::id,
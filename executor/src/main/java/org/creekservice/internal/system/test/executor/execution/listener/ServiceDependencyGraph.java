@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.listener;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The dependencies between the services under test in a suite.
+ *
+ * <p>Services are identified by their index within the suite's list of services, as the same
+ * service can be listed more than once. A dependency on a service name is a dependency on every
+ * instance of that service.
+ */
+final class ServiceDependencyGraph {
+
+    private final List<String> services;
+    private final List<List<Integer>> dependencies;
+    private final List<List<Integer>> dependants;
+    private final List<Integer> startOrder;
+
+    /**
+     * @param services the names of the services under test, in the order defined in the suite.
+     * @param dependencies map of service name to the names of the services it depends on.
+     */
+    ServiceDependencyGraph(
+            final List<String> services, final Map<String, List<String>> dependencies) {
+        this.services = List.copyOf(requireNonNull(services, "services"));
+        this.dependencies =
+                buildDependencies(this.services, requireNonNull(dependencies, "dependencies"));
+        this.dependants = invert(this.dependencies);
+        this.startOrder = topologicalSort(this.services, this.dependencies, this.dependants);
+    }
+
+    /**
+     * @return the number of services in the graph.
+     */
+    int size() {
+        return services.size();
+    }
+
+    /**
+     * @param service the index of the service.
+     * @return the indexes of the services the {@code service} depends on.
+     */
+    List<Integer> dependenciesOf(final int service) {
+        return dependencies.get(service);
+    }
+
+    /**
+     * @param service the index of the service.
+     * @return the indexes of the services that depend on {@code service}.
+     */
+    List<Integer> dependantsOf(final int service) {
+        return dependants.get(service);
+    }
+
+    /**
+     * @return the indexes of all services, ordered such that each service comes after all the
+     *     services it depends on.
+     */
+    List<Integer> startOrder() {
+        return startOrder;
+    }
+
+    /**
+     * @return the indexes of all services, ordered such that each service comes after all the
+     *     services that depend on it.
+     */
+    List<Integer> stopOrder() {
+        final List<Integer> order = new ArrayList<>(startOrder);
+        Collections.reverse(order);
+        return List.copyOf(order);
+    }
+
+    private static List<List<Integer>> buildDependencies(
+            final List<String> services, final Map<String, List<String>> dependencies) {
+        final Map<String, List<Integer>> indexes =
+                IntStream.range(0, services.size())
+                        .boxed()
+                        .collect(Collectors.groupingBy(services::get));
+
+        return services.stream()
+                .map(
+                        service ->
+                                dependencies.getOrDefault(service, List.of()).stream()
+                                        .map(dependency -> indexesOf(dependency, indexes))
+                                        .flatMap(List::stream)
+                                        .distinct()
+                                        .sorted()
+                                        .collect(Collectors.toUnmodifiableList()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static List<Integer> indexesOf(
+            final String service, final Map<String, List<Integer>> indexes) {
+        final List<Integer> found = indexes.get(service);
+        if (found == null) {
+            throw new IllegalArgumentException(
+                    "Unknown service in service dependencies: " + service);
+        }
+        return found;
+    }
+
+    private static List<List<Integer>> invert(final List<List<Integer>> dependencies) {
+        final List<List<Integer>> dependants = new ArrayList<>(dependencies.size());
+        dependencies.forEach(ignored -> dependants.add(new ArrayList<>()));
+        for (int idx = 0; idx != dependencies.size(); ++idx) {
+            for (final int dependency : dependencies.get(idx)) {
+                dependants.get(dependency).add(idx);
+            }
+        }
+        return dependants.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    private static List<Integer> topologicalSort(
+            final List<String> services,
+            final List<List<Integer>> dependencies,
+            final List<List<Integer>> dependants) {
+        final int[] outstanding = new int[services.size()];
+        for (int idx = 0; idx != services.size(); ++idx) {
+            if (dependencies.get(idx).contains(idx)) {
+                throw new IllegalArgumentException(
+                        "Service can not depend on itself: " + services.get(idx));
+            }
+            outstanding[idx] = dependencies.get(idx).size();
+        }
+
+        final Deque<Integer> ready = new ArrayDeque<>();
+        IntStream.range(0, services.size())
+                .filter(idx -> outstanding[idx] == 0)
+                .forEach(ready::add);
+
+        final List<Integer> order = new ArrayList<>(services.size());
+        while (!ready.isEmpty()) {
+            final int next = ready.removeFirst();
+            order.add(next);
+            for (final int dependant : dependants.get(next)) {
+                if (--outstanding[dependant] == 0) {
+                    ready.addLast(dependant);
+                }
+            }
+        }
+
+        if (order.size() != services.size()) {
+            final TreeSet<String> cyclic =
+                    IntStream.range(0, services.size())
+                            .filter(idx -> outstanding[idx] != 0)
+                            .mapToObj(services::get)
+                            .collect(Collectors.toCollection(TreeSet::new));
+            throw new IllegalArgumentException("Circular dependency between services: " + cyclic);
+        }
+
+        return List.copyOf(order);
+    }
+}
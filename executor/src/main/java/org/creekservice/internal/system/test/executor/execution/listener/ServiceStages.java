@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.listener;
+
+import java.util.function.Supplier;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.StagedServiceInstance;
+
+/** Splits service instance starts and stops into the stages run by {@link DependencyRunner}. */
+final class ServiceStages {
+
+    private static final Supplier<Runnable> DONE = () -> () -> {};
+
+    private ServiceStages() {}
+
+    /**
+     * Begin starting the supplied {@code service}.
+     *
+     * <p>Services that can not be staged are started by this method, on the calling thread.
+     *
+     * @param service the service to start.
+     * @return the blocking stage of the start.
+     */
+    static Supplier<Runnable> beginStart(final ServiceInstance service) {
+        if (service instanceof StagedServiceInstance) {
+            return ((StagedServiceInstance) service).beginStart();
+        }
+
+        service.start();
+        return DONE;
+    }
+
+    /**
+     * Begin stopping the supplied {@code service}.
+     *
+     * <p>Services that can not be staged are stopped by this method, on the calling thread.
+     *
+     * @param service the service to stop.
+     * @return the blocking stage of the stop.
+     */
+    static Supplier<Runnable> beginStop(final ServiceInstance service) {
+        if (service instanceof StagedServiceInstance) {
+            return ((StagedServiceInstance) service).beginStop();
+        }
+
+        service.stop();
+        return DONE;
+    }
+}
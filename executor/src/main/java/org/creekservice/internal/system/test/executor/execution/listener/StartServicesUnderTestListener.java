@@ -18,10 +18,16 @@ package org.creekservice.internal.system.test.executor.execution.listener;
 
 import static java.util.Objects.requireNonNull;
 import static org.creekservice.api.base.type.Iterators.reverseIterator;
+import static org.creekservice.internal.system.test.executor.execution.listener.DependencyRunner.runConcurrently;
+import static org.creekservice.internal.system.test.executor.execution.listener.ServiceStages.beginStart;
+import static org.creekservice.internal.system.test.executor.execution.listener.ServiceStages.beginStop;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
+import org.creekservice.api.base.type.Preconditions;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
@@ -33,12 +39,25 @@ import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
  * <p>Before each test suite is executed the listener will start an instance of each service listed
  * under the test suites {@code services} property, in the order they are defined.
  *
- * <p>After each test suite, the listener will stop the instances it started, in reverse order.
+ * <p>If the suite defines {@code serviceDependencies}, services are instead started concurrently,
+ * with each service only started once all the services it depends on have started.
+ *
+ * <p>After each test suite, the listener will stop the instances it started, in reverse order. If
+ * the suite defines {@code serviceDependencies}, services are stopped concurrently, with each
+ * service only stopped once all the services that depend on it have stopped.
+ *
+ * <p>Services are only accessed from the thread executing the suite. When started or stopped
+ * concurrently, only waiting for a service's container to become ready, or to stop, happens on
+ * other threads. See {@link
+ * org.creekservice.internal.system.test.executor.api.test.env.suite.service.StagedServiceInstance}.
  */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public final class StartServicesUnderTestListener implements TestEnvironmentListener {
 
     private final Supplier<List<ServiceInstance>> servicesSupplier;
     private final List<ServiceInstance> started = new ArrayList<>();
+    private List<ServiceInstance> services = List.of();
+    private Optional<ServiceDependencyGraph> graph = Optional.empty();
 
     /**
      * @param servicesSupplier a supplier that can be called during test suite execution to get the
@@ -51,7 +70,24 @@ public final class StartServicesUnderTestListener implements TestEnvironmentList
     @Override
     public void beforeSuite(final CreekTestSuite suite) {
         started.clear();
-        final List<ServiceInstance> services = servicesSupplier.get();
+        services = servicesSupplier.get();
+        graph = Optional.empty();
+
+        final Optional<Map<String, List<String>>> dependencies = suite.serviceDependencies();
+        if (dependencies.isPresent()) {
+            final ServiceDependencyGraph g =
+                    new ServiceDependencyGraph(suite.services(), dependencies.get());
+            Preconditions.require(
+                    services.size() == g.size(),
+                    "service instance count does not match suite services. instances: "
+                            + services.size()
+                            + ", services: "
+                            + g.size());
+            graph = Optional.of(g);
+            runConcurrently(g.startOrder(), g::dependenciesOf, this::start, true);
+            return;
+        }
+
         for (ServiceInstance service : services) {
             service.start();
             started.add(service);
@@ -60,6 +96,30 @@ public final class StartServicesUnderTestListener implements TestEnvironmentList
 
     @Override
     public void afterSuite(final CreekTestSuite suite, final TestSuiteResult result) {
+        if (graph.isPresent()) {
+            final ServiceDependencyGraph g = graph.get();
+            final List<Integer> toStop = new ArrayList<>(g.stopOrder());
+            toStop.removeIf(idx -> !started.contains(services.get(idx)));
+            runConcurrently(toStop, g::dependantsOf, this::stop, false);
+            return;
+        }
+
         reverseIterator(started).forEachRemaining(ServiceInstance::stop);
     }
+
+    private Supplier<Runnable> start(final int idx) {
+        final ServiceInstance service = services.get(idx);
+        final Supplier<Runnable> blocking = beginStart(service);
+        return () -> {
+            final Runnable finalStage = blocking.get();
+            return () -> {
+                finalStage.run();
+                started.add(service);
+            };
+        };
+    }
+
+    private Supplier<Runnable> stop(final int idx) {
+        return beginStop(services.get(idx));
+    }
 }
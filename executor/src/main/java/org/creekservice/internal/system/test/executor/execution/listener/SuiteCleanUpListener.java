@@ -17,7 +17,13 @@
 package org.creekservice.internal.system.test.executor.execution.listener;
 
 import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.execution.listener.DependencyRunner.runConcurrently;
+import static org.creekservice.internal.system.test.executor.execution.listener.ServiceStages.beginStop;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
@@ -26,7 +32,9 @@ import org.creekservice.internal.system.test.executor.api.SystemTest;
 
 /**
  * A test lifecycle listener that resets theServiceContainer and stops any services left running at
- * the end of a test suite, and closes any extensions.
+ * the end of a test suite, and closes any extensions, unless the api is run scoped.
+ *
+ * <p>Services left running have no defined stop order, so are stopped concurrently.
  */
 public final class SuiteCleanUpListener implements TestEnvironmentListener {
 
@@ -46,7 +54,16 @@ public final class SuiteCleanUpListener implements TestEnvironmentListener {
 
     @Override
     public void afterSuite(final CreekTestSuite suite, final TestSuiteResult result) {
-        api.tests().env().currentSuite().services().forEach(ServiceInstance::stop);
-        api.extensions().close();
+        final List<ServiceInstance> services = new ArrayList<>();
+        api.tests().env().currentSuite().services().iterator().forEachRemaining(services::add);
+
+        final List<Integer> all =
+                IntStream.range(0, services.size()).boxed().collect(Collectors.toList());
+        runConcurrently(all, idx -> List.of(), idx -> beginStop(services.get(idx)), false);
+
+        if (!api.runScoped()) {
+            // Extensions of a run scoped api are closed at the end of the run:
+            api.extensions().close();
+        }
     }
 }
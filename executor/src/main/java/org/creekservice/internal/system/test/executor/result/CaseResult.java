@@ -35,6 +35,8 @@ public final class CaseResult implements TestCaseResult {
     private final Optional<AssertionError> failure;
     private final Optional<Exception> error;
     private final boolean skipped;
+    private final int attempts;
+    private final boolean executed;
 
     /**
      * Factory method to get a test case result builder.
@@ -46,17 +48,57 @@ public final class CaseResult implements TestCaseResult {
         return new Builder(testCase, Clock.systemUTC());
     }
 
+    /**
+     * Factory method to recreate the result of a test case that passed, or was disabled, in a
+     * previous run.
+     *
+     * @param testCase the test case.
+     * @param duration the duration of the test case in the previous run.
+     * @param skipped {@code true} if the test case was disabled.
+     * @return the test case result.
+     */
+    static CaseResult cached(
+            final TestCase testCase, final Duration duration, final boolean skipped) {
+        return new CaseResult(
+                testCase, duration, Optional.empty(), Optional.empty(), skipped, 1, false);
+    }
+
     private CaseResult(
             final TestCase testCase,
             final Duration duration,
             final Optional<AssertionError> failure,
             final Optional<Exception> error,
             final boolean skipped) {
+        this(testCase, duration, failure, error, skipped, 1, true);
+    }
+
+    private CaseResult(
+            final TestCase testCase,
+            final Duration duration,
+            final Optional<AssertionError> failure,
+            final Optional<Exception> error,
+            final boolean skipped,
+            final int attempts,
+            final boolean executed) {
         this.testCase = requireNonNull(testCase, "testCase");
         this.duration = requireNonNull(duration, "duration");
         this.failure = requireNonNull(failure, "failure");
         this.error = requireNonNull(error, "error");
         this.skipped = skipped;
+        this.attempts = attempts;
+        this.executed = executed;
+
+        if (attempts <= 0) {
+            throw new IllegalArgumentException("attempts must be positive, but was: " + attempts);
+        }
+    }
+
+    /**
+     * @param attempts the number of times the test was attempted.
+     * @return a copy of this result, with the number of attempts set.
+     */
+    public CaseResult withAttempts(final int attempts) {
+        return new CaseResult(testCase, duration, failure, error, skipped, attempts, executed);
     }
 
     @Override
@@ -84,6 +126,19 @@ public final class CaseResult implements TestCaseResult {
         return skipped;
     }
 
+    @Override
+    public int attempts() {
+        return attempts;
+    }
+
+    /**
+     * @return {@code false} if the result was reused from a previous run, rather than the test case
+     *     being executed, or disabled, in this run.
+     */
+    public boolean executed() {
+        return executed;
+    }
+
     @Override
     public String toString() {
         return "CaseResult{"
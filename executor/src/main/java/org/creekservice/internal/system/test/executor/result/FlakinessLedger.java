@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.join;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.split;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.unescape;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.write;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.model.TestCaseResult;
+import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent ledger of flaky test cases.
+ *
+ * <p>The ledger accumulates, across runs, how many times each test case has run, how many of those
+ * runs were flaky, i.e. the test case only passed on retry, and how many failed. Disabled test
+ * cases, and results reused from previous runs, are not recorded.
+ *
+ * <p>The ledger is stored as a plain text file, with one tab-separated record per line, so that it
+ * can be cached between CI builds and inspected by hand:
+ *
+ * <pre>
+ * test  &lt;suite-name&gt;  &lt;test-name&gt;  &lt;runs&gt;  &lt;flaky&gt;  &lt;failed&gt;
+ * </pre>
+ *
+ * <p>The ledger is a cache: a missing or unreadable file results in an empty ledger and failure to
+ * save the ledger is logged, rather than failing the run.
+ *
+ * <p>Thread safe.
+ */
+public final class FlakinessLedger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlakinessLedger.class);
+
+    private static final String HEADER = "# creek system test flakiness ledger";
+    private static final String TEST = "test";
+
+    private final Path file;
+    private final Map<String, Map<String, TestRecord>> suites;
+
+    /**
+     * Load the ledger stored in the supplied {@code file}.
+     *
+     * @param file the ledger file.
+     * @return the ledger, which will be empty if the file does not exist or can not be read.
+     */
+    public static FlakinessLedger load(final Path file) {
+        if (!Files.exists(file)) {
+            LOGGER.info("No flakiness ledger found at: " + file.toUri());
+            return new FlakinessLedger(file, List.of());
+        }
+
+        try {
+            return new FlakinessLedger(
+                    file, parse(Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (final Exception e) {
+            LOGGER.warn(
+                    "Ignoring unreadable flakiness ledger: "
+                            + file.toUri()
+                            + ", cause: "
+                            + e.getMessage());
+            return new FlakinessLedger(file, List.of());
+        }
+    }
+
+    @VisibleForTesting
+    FlakinessLedger(final Path file, final List<TestRecord> tests) {
+        this.file = requireNonNull(file, "file");
+        this.suites = new TreeMap<>();
+        tests.forEach(this::put);
+    }
+
+    /**
+     * @param suiteName the name of the suite.
+     * @param testName the name of the test case.
+     * @return the ledger entry for the test case, if any.
+     */
+    public synchronized Optional<TestRecord> test(final String suiteName, final String testName) {
+        return Optional.ofNullable(suites.getOrDefault(suiteName, Map.of()).get(testName));
+    }
+
+    /**
+     * @return the test cases that have been flaky, most often flaky first.
+     */
+    public synchronized List<TestRecord> flakyTests() {
+        return suites.values().stream()
+                .flatMap(tests -> tests.values().stream())
+                .filter(test -> test.flaky() > 0)
+                .sorted(Comparator.comparingInt(TestRecord::flaky).reversed())
+                .toList();
+    }
+
+    /**
+     * Record the results of a run, logging any test cases that were flaky.
+     *
+     * @param result the results to record.
+     */
+    public synchronized void record(final TestExecutionResult result) {
+        result.results().forEach(this::record);
+    }
+
+    /** Save the ledger to its file, replacing any existing content. */
+    public synchronized void save() {
+        try {
+            write(file, format());
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to save flakiness ledger: " + file.toUri() + ", cause: " + e);
+        }
+    }
+
+    private void record(final TestSuiteResult suite) {
+        final String suiteName = suite.testSuite().name();
+        for (final TestCaseResult test : suite.testResults()) {
+            if (test.skipped() || !executed(test)) {
+                continue;
+            }
+
+            final boolean failed = test.failure().isPresent() || test.error().isPresent();
+            final boolean flaky = !failed && test.attempts() > 1;
+
+            final TestRecord previous =
+                    test(suiteName, test.testCase().name())
+                            .orElse(new TestRecord(suiteName, test.testCase().name(), 0, 0, 0));
+
+            final TestRecord updated =
+                    new TestRecord(
+                            suiteName,
+                            previous.test(),
+                            previous.runs() + 1,
+                            previous.flaky() + (flaky ? 1 : 0),
+                            previous.failed() + (failed ? 1 : 0));
+
+            put(updated);
+
+            if (flaky) {
+                LOGGER.warn(
+                        "Flaky test case: "
+                                + suiteName
+                                + " / "
+                                + updated.test()
+                                + " passed after "
+                                + test.attempts()
+                                + " attempts. It has been flaky in "
+                                + updated.flaky()
+                                + " of "
+                                + updated.runs()
+                                + " recorded runs.");
+            }
+        }
+    }
+
+    private static boolean executed(final TestCaseResult test) {
+        return !(test instanceof CaseResult) || ((CaseResult) test).executed();
+    }
+
+    private void put(final TestRecord test) {
+        suites.computeIfAbsent(test.suite(), k -> new TreeMap<>()).put(test.test(), test);
+    }
+
+    private List<String> format() {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        suites.values()
+                .forEach(
+                        tests ->
+                                tests.values()
+                                        .forEach(
+                                                test ->
+                                                        lines.add(
+                                                                join(
+                                                                        TEST,
+                                                                        test.suite(),
+                                                                        test.test(),
+                                                                        test.runs(),
+                                                                        test.flaky(),
+                                                                        test.failed()))));
+        return lines;
+    }
+
+    private static List<TestRecord> parse(final List<String> lines) {
+        final List<TestRecord> tests = new ArrayList<>();
+
+        for (final String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            final String[] parts = split(line);
+            try {
+                if (parts[0].equals(TEST) && parts.length == 6) {
+                    tests.add(
+                            new TestRecord(
+                                    unescape(parts[1]),
+                                    unescape(parts[2]),
+                                    Integer.parseInt(parts[3]),
+                                    Integer.parseInt(parts[4]),
+                                    Integer.parseInt(parts[5])));
+                } else {
+                    LOGGER.warn("Ignoring unknown flakiness ledger record: " + line);
+                }
+            } catch (final IllegalArgumentException e) {
+                LOGGER.warn("Ignoring invalid flakiness ledger record: " + line);
+            }
+        }
+
+        return tests;
+    }
+
+    /**
+     * The ledger entry of a test case.
+     *
+     * @param suite the name of the suite.
+     * @param test the name of the test case.
+     * @param runs the number of runs of the test case.
+     * @param flaky the number of runs in which the test case only passed on retry.
+     * @param failed the number of runs in which the test case failed or errored.
+     */
+    public record TestRecord(String suite, String test, int runs, int flaky, int failed) {
+
+        /**
+         * @param suite the name of the suite.
+         * @param test the name of the test case.
+         * @param runs the number of runs of the test case.
+         * @param flaky the number of runs in which the test case only passed on retry.
+         * @param failed the number of runs in which the test case failed or errored.
+         */
+        public TestRecord {
+            requireNonNull(suite, "suite");
+            requireNonNull(test, "test");
+        }
+    }
+}
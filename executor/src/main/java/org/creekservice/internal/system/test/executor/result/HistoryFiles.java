@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for reading and writing the plain text history files.
+ *
+ * <p>History files hold one tab-separated record per line. Backslashes, tabs and line breaks within
+ * fields are escaped, so that each record occupies a single line.
+ */
+final class HistoryFiles {
+
+    private HistoryFiles() {}
+
+    /**
+     * Write the supplied {@code lines} to {@code file}, replacing any existing content.
+     *
+     * <p>The content is written to a temporary file, which is then moved over {@code file}, so
+     * that readers never see a partially written file.
+     *
+     * @param file the file to write.
+     * @param lines the lines to write.
+     * @throws IOException on failure.
+     */
+    static void write(final Path file, final List<String> lines) throws IOException {
+        final Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+
+        final Path temp = Files.createTempFile(dir, String.valueOf(file.getFileName()), ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+
+        try {
+            Files.move(
+                    temp,
+                    file,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @param fields the fields of the record.
+     * @return the record, with each field escaped.
+     */
+    static String join(final Object... fields) {
+        final List<String> escaped = new ArrayList<>(fields.length);
+        for (final Object field : fields) {
+            escaped.add(escape(String.valueOf(field)));
+        }
+        return String.join("\t", escaped);
+    }
+
+    /**
+     * @param line the record.
+     * @return the still escaped fields of the record.
+     */
+    static String[] split(final String line) {
+        return line.split("\t", -1);
+    }
+
+    /**
+     * @param text the escaped field.
+     * @return the unescaped field.
+     */
+    static String unescape(final String text) {
+        final StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+
+            final char next = text.charAt(++i);
+            if (next == 't') {
+                sb.append('\t');
+            } else if (next == 'n') {
+                sb.append('\n');
+            } else if (next == 'r') {
+                sb.append('\r');
+            } else {
+                sb.append(next);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escape(final String text) {
+        return text.replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+    }
+}
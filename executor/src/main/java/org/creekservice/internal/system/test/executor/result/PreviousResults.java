@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+
+/**
+ * The outcome of a previous run, used to re-run only the suites and test cases that failed.
+ *
+ * <p>Only suites that had failing or erroring test cases, or that failed to execute, are selected.
+ * Within those suites, test cases that passed previously are not executed. Instead, their previous
+ * result is reused, so the results of the re-run can replace those of the previous run. Test
+ * cases that were disabled, failed, errored, or are new since the previous run, are executed.
+ *
+ * <p>Thread safe.
+ */
+public final class PreviousResults {
+
+    private final boolean rerunFailedOnly;
+    private final Map<String, Map<String, Duration>> failedSuites;
+
+    /**
+     * @return previous results that select all suites and test cases.
+     */
+    public static PreviousResults none() {
+        return new PreviousResults(false, Map.of());
+    }
+
+    /**
+     * @param failedSuites map of the name of each suite that failed in the previous run, to the
+     *     duration of each of its test cases that passed, keyed on test case name.
+     */
+    public PreviousResults(final Map<String, Map<String, Duration>> failedSuites) {
+        this(true, failedSuites);
+    }
+
+    private PreviousResults(
+            final boolean rerunFailedOnly, final Map<String, Map<String, Duration>> failedSuites) {
+        this.rerunFailedOnly = rerunFailedOnly;
+        final Map<String, Map<String, Duration>> copy = new HashMap<>();
+        requireNonNull(failedSuites, "failedSuites")
+                .forEach((suite, passed) -> copy.put(suite, Map.copyOf(passed)));
+        this.failedSuites = Map.copyOf(copy);
+    }
+
+    /**
+     * @param suite the suite to check.
+     * @return {@code true} if the suite should be executed.
+     */
+    public boolean selects(final TestSuite suite) {
+        return !rerunFailedOnly || failedSuites.containsKey(suite.name());
+    }
+
+    /**
+     * Get the result of a test case that passed previously.
+     *
+     * @param testCase the test case.
+     * @return the previous result, if the test case passed previously and need not be executed.
+     */
+    public Optional<CaseResult> passed(final TestCase testCase) {
+        return Optional.ofNullable(failedSuites.get(testCase.suite().name()))
+                .map(passed -> passed.get(testCase.name()))
+                .map(duration -> CaseResult.cached(testCase, duration, false));
+    }
+}
@@ -44,6 +44,36 @@ public final class ResultLogFormatter {
                 .collect(Collectors.joining(System.lineSeparator()));
     }
 
+    /**
+     * Format a single line summary of each suite in the execution {@code result}.
+     *
+     * @param result the execution result to format
+     * @return the String containing one summary line per suite.
+     */
+    public static String formatSummary(final TestExecutionResult result) {
+        return result.results().stream()
+                .map(ResultLogFormatter::formatSummary)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Format a single line summary of a suite.
+     *
+     * @param suite the suite result to format
+     * @return the String containing the summary line.
+     */
+    public static String formatSummary(final TestSuiteResult suite) {
+        return suite.testSuite().name()
+                + ": tests: "
+                + suite.testResults().size()
+                + ", failures: "
+                + suite.failures()
+                + ", errors: "
+                + suite.errors()
+                + ", skipped: "
+                + suite.skipped();
+    }
+
     private static Stream<String> suiteIssues(final TestSuiteResult suite) {
         return Stream.concat(
                 suite.error().stream()
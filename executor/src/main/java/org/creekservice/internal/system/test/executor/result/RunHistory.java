@@ -0,0 +1,306 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.join;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.split;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.unescape;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.write;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.model.TestCaseResult;
+import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent history of test runs, recording the duration and outcome of each suite and test
+ * case.
+ *
+ * <p>The history is stored as a plain text file, with one tab-separated record per line, so that it
+ * can be cached between CI builds and inspected by hand:
+ *
+ * <pre>
+ * suite    &lt;suite-name&gt;    &lt;duration-millis&gt;    &lt;outcome&gt;
+ * test     &lt;suite-name&gt;    &lt;test-name&gt;    &lt;duration-millis&gt;    &lt;outcome&gt;
+ * </pre>
+ *
+ * <p>Recording the results of a run replaces the history of the suites that ran, leaving the
+ * history of other suites, e.g. those filtered out or assigned to other shards, untouched.
+ *
+ * <p>The history is a cache: a missing or unreadable file results in an empty history and failure
+ * to save the history is logged, rather than failing the run.
+ *
+ * <p>Thread safe.
+ */
+public final class RunHistory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RunHistory.class);
+
+    private static final String HEADER = "# creek system test run history";
+    private static final String SUITE = "suite";
+    private static final String TEST = "test";
+
+    private final Path file;
+    private final Map<String, SuiteRecord> suites;
+
+    /**
+     * Load the run history stored in the supplied {@code file}.
+     *
+     * @param file the history file.
+     * @return the history, which will be empty if the file does not exist or can not be read.
+     */
+    public static RunHistory load(final Path file) {
+        if (!Files.exists(file)) {
+            LOGGER.info("No run history found at: " + file.toUri());
+            return new RunHistory(file, Map.of());
+        }
+
+        try {
+            return new RunHistory(file, parse(Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (final Exception e) {
+            LOGGER.warn(
+                    "Ignoring unreadable run history: "
+                            + file.toUri()
+                            + ", cause: "
+                            + e.getMessage());
+            return new RunHistory(file, Map.of());
+        }
+    }
+
+    @VisibleForTesting
+    RunHistory(final Path file, final Map<String, SuiteRecord> suites) {
+        this.file = requireNonNull(file, "file");
+        this.suites = new TreeMap<>(requireNonNull(suites, "suites"));
+    }
+
+    /**
+     * @param suiteName the name of the suite.
+     * @return the recorded history of the suite, if any.
+     */
+    public synchronized Optional<SuiteRecord> suite(final String suiteName) {
+        return Optional.ofNullable(suites.get(suiteName));
+    }
+
+    /**
+     * @return the recorded duration of each suite, keyed on suite name.
+     */
+    public synchronized Map<String, Duration> suiteDurations() {
+        return suites.values().stream()
+                .collect(Collectors.toUnmodifiableMap(SuiteRecord::name, SuiteRecord::duration));
+    }
+
+    /**
+     * Record the results of a run, replacing the history of any suite in the results.
+     *
+     * @param result the results to record.
+     */
+    public synchronized void record(final TestExecutionResult result) {
+        result.results().forEach(suite -> suites.put(suite.testSuite().name(), record(suite)));
+    }
+
+    /** Save the history to its file, replacing any existing content. */
+    public synchronized void save() {
+        try {
+            write(file, format());
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to save run history: " + file.toUri() + ", cause: " + e);
+        }
+    }
+
+    private List<String> format() {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        suites.values()
+                .forEach(
+                        suite -> {
+                            lines.add(
+                                    join(
+                                            SUITE,
+                                            suite.name(),
+                                            suite.duration().toMillis(),
+                                            suite.outcome()));
+                            suite.tests()
+                                    .forEach(
+                                            test ->
+                                                    lines.add(
+                                                            join(
+                                                                    TEST,
+                                                                    suite.name(),
+                                                                    test.name(),
+                                                                    test.duration().toMillis(),
+                                                                    test.outcome())));
+                        });
+        return lines;
+    }
+
+    private static Map<String, SuiteRecord> parse(final List<String> lines) {
+        final Map<String, SuiteRecord> suites = new TreeMap<>();
+        final Map<String, List<TestRecord>> tests = new TreeMap<>();
+
+        for (final String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            final String[] parts = split(line);
+            try {
+                if (parts[0].equals(SUITE) && parts.length == 4) {
+                    final String name = unescape(parts[1]);
+                    suites.put(
+                            name,
+                            new SuiteRecord(
+                                    name,
+                                    Duration.ofMillis(Long.parseLong(parts[2])),
+                                    Outcome.valueOf(parts[3]),
+                                    List.of()));
+                } else if (parts[0].equals(TEST) && parts.length == 5) {
+                    tests.computeIfAbsent(unescape(parts[1]), k -> new ArrayList<>())
+                            .add(
+                                    new TestRecord(
+                                            unescape(parts[2]),
+                                            Duration.ofMillis(Long.parseLong(parts[3])),
+                                            Outcome.valueOf(parts[4])));
+                } else {
+                    LOGGER.warn("Ignoring unknown run history record: " + line);
+                }
+            } catch (final IllegalArgumentException e) {
+                LOGGER.warn("Ignoring invalid run history record: " + line);
+            }
+        }
+
+        suites.replaceAll(
+                (name, suite) ->
+                        new SuiteRecord(
+                                name,
+                                suite.duration(),
+                                suite.outcome(),
+                                tests.getOrDefault(name, List.of())));
+        return suites;
+    }
+
+    private static SuiteRecord record(final TestSuiteResult suite) {
+        final List<TestRecord> tests =
+                suite.testResults().stream()
+                        .map(
+                                test ->
+                                        new TestRecord(
+                                                test.testCase().name(),
+                                                test.duration(),
+                                                outcome(test)))
+                        .collect(Collectors.toList());
+
+        return new SuiteRecord(suite.testSuite().name(), suite.duration(), outcome(suite), tests);
+    }
+
+    private static Outcome outcome(final TestSuiteResult suite) {
+        if (suite.errors() > 0 || suite.error().isPresent()) {
+            return Outcome.ERROR;
+        }
+        if (suite.failures() > 0) {
+            return Outcome.FAILED;
+        }
+        if (!suite.testResults().isEmpty() && suite.skipped() == suite.testResults().size()) {
+            return Outcome.SKIPPED;
+        }
+        return Outcome.PASSED;
+    }
+
+    private static Outcome outcome(final TestCaseResult test) {
+        if (test.error().isPresent()) {
+            return Outcome.ERROR;
+        }
+        if (test.failure().isPresent()) {
+            return Outcome.FAILED;
+        }
+        if (test.skipped()) {
+            return Outcome.SKIPPED;
+        }
+        return Outcome.PASSED;
+    }
+
+    /** The outcome of a suite or test case. */
+    public enum Outcome {
+        /** All tests passed. */
+        PASSED,
+        /** At least one test failed. */
+        FAILED,
+        /** At least one test, or the suite itself, errored. */
+        ERROR,
+        /** All tests were skipped. */
+        SKIPPED
+    }
+
+    /**
+     * The recorded history of a test suite.
+     *
+     * @param name the name of the suite.
+     * @param duration the duration of the suite.
+     * @param outcome the outcome of the suite.
+     * @param tests the history of the suite's test cases.
+     */
+    public record SuiteRecord(
+            String name, Duration duration, Outcome outcome, List<TestRecord> tests) {
+
+        /**
+         * @param name the name of the suite.
+         * @param duration the duration of the suite.
+         * @param outcome the outcome of the suite.
+         * @param tests the history of the suite's test cases.
+         */
+        public SuiteRecord {
+            requireNonNull(name, "name");
+            requireNonNull(duration, "duration");
+            requireNonNull(outcome, "outcome");
+            tests = List.copyOf(requireNonNull(tests, "tests"));
+        }
+    }
+
+    /**
+     * The recorded history of a test case.
+     *
+     * @param name the name of the test case.
+     * @param duration the duration of the test case.
+     * @param outcome the outcome of the test case.
+     */
+    public record TestRecord(String name, Duration duration, Outcome outcome) {
+
+        /**
+         * @param name the name of the test case.
+         * @param duration the duration of the test case.
+         * @param outcome the outcome of the test case.
+         */
+        public TestRecord {
+            requireNonNull(name, "name");
+            requireNonNull(duration, "duration");
+            requireNonNull(outcome, "outcome");
+        }
+    }
+}
@@ -37,6 +37,7 @@ public final class SuiteResult implements TestSuiteResult {
     private final Instant finish;
     private final Optional<Exception> error;
     private final List<CaseResult> tests;
+    private final List<String> images;
 
     /**
      * Factory method
@@ -48,14 +49,31 @@ public final class SuiteResult implements TestSuiteResult {
         return new Builder(testSuite, Clock.systemUTC());
     }
 
+    /**
+     * Factory method to recreate the result of a suite that passed in a previous run.
+     *
+     * @param testSuite the test suite.
+     * @param duration the duration of the suite in the previous run.
+     * @param tests the test case results.
+     * @return the suite result.
+     */
+    static SuiteResult cached(
+            final TestSuite testSuite, final Duration duration, final List<CaseResult> tests) {
+        final Instant start = Clock.systemUTC().instant();
+        return new SuiteResult(
+                testSuite, start, start.plus(duration), Optional.empty(), tests, List.of());
+    }
+
     private SuiteResult(
             final TestSuite suite,
             final Instant start,
             final Instant finish,
             final Optional<Exception> error,
-            final List<CaseResult> tests) {
+            final List<CaseResult> tests,
+            final List<String> images) {
         this.suite = requireNonNull(suite, "suite");
         this.tests = List.copyOf(requireNonNull(tests, "tests"));
+        this.images = List.copyOf(requireNonNull(images, "images"));
         this.start = requireNonNull(start, "start");
         this.error = requireNonNull(error, "error");
         this.finish = requireNonNull(finish, "finish");
@@ -102,6 +120,14 @@ public final class SuiteResult implements TestSuiteResult {
         return tests;
     }
 
+    /**
+     * @return the Docker images of all services the suite started, including those started by
+     *     test extensions. Empty for results reused from a previous run.
+     */
+    public List<String> images() {
+        return images;
+    }
+
     @Override
     public String toString() {
         return "SuiteResult{"
@@ -127,6 +153,7 @@ public final class SuiteResult implements TestSuiteResult {
         private final TestSuite testSuite;
         private final Instant start;
         private final List<CaseResult> tests = new ArrayList<>();
+        private List<String> images = List.of();
 
         @VisibleForTesting
         Builder(final TestSuite testSuite, final Clock clock) {
@@ -146,13 +173,25 @@ public final class SuiteResult implements TestSuiteResult {
             return this;
         }
 
+        /**
+         * Set the Docker images of the services the suite started.
+         *
+         * @param images the images.
+         * @return self.
+         */
+        public Builder images(final List<String> images) {
+            this.images = List.copyOf(requireNonNull(images, "images"));
+            return this;
+        }
+
         /**
          * Build the suite result.
          *
          * @return the suite result.
          */
         public SuiteResult build() {
-            return new SuiteResult(testSuite, start, clock.instant(), Optional.empty(), tests);
+            return new SuiteResult(
+                    testSuite, start, clock.instant(), Optional.empty(), tests, images);
         }
 
         /**
@@ -165,7 +204,7 @@ public final class SuiteResult implements TestSuiteResult {
          */
         public SuiteResult buildError(final Exception cause) {
             return new SuiteResult(
-                    testSuite, start, clock.instant(), Optional.of(cause), List.of());
+                    testSuite, start, clock.instant(), Optional.of(cause), List.of(), images);
         }
     }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.partitioningBy;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.join;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.split;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.unescape;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.write;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the results of passing test suites, keyed on a fingerprint of each suite.
+ *
+ * <p>The cache is a plain local directory, so that it can be shared between CI agents using their
+ * normal cache mechanism. The result of each passing suite is stored in a text file named after the
+ * suite's fingerprint, with one tab-separated record per line:
+ *
+ * <pre>
+ * suite    &lt;suite-name&gt;    &lt;duration-millis&gt;
+ * image    &lt;image-name&gt;    &lt;image-id&gt;
+ * test     &lt;test-name&gt;    &lt;duration-millis&gt;    &lt;outcome&gt;
+ * </pre>
+ *
+ * <p>The {@code image} records capture the local id of every image the suite started, including
+ * those of services started by test extensions, which are not known until the suite runs and so
+ * can not be part of its fingerprint. A cached result is only reused if each recorded image still
+ * has the same local id.
+ *
+ * <p>A suite whose fingerprint matches a cached result need not be executed: the cached result can
+ * be reported instead. Suites without a fingerprint are never cached.
+ *
+ * <p>The cache is best effort: missing or unreadable entries are treated as cache misses and
+ * failure to store a result is logged, rather than failing the run.
+ *
+ * <p>Thread safe.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class SuiteResultCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuiteResultCache.class);
+
+    private static final String HEADER = "# creek system test suite result";
+    private static final String EXTENSION = ".tsv";
+    private static final String SUITE = "suite";
+    private static final String IMAGE = "image";
+    private static final String TEST = "test";
+    private static final String PASSED = "passed";
+    private static final String SKIPPED = "skipped";
+
+    private final Optional<Path> directory;
+    private final Function<TestSuite, Optional<String>> fingerprinter;
+    private final Function<String, Optional<String>> imageIds;
+    private final Map<TestSuite, Optional<String>> fingerprints =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * @return a cache that never contains any results, i.e. all suites are executed.
+     */
+    public static SuiteResultCache none() {
+        return new SuiteResultCache(
+                Optional.empty(), suite -> Optional.empty(), image -> Optional.empty());
+    }
+
+    /**
+     * @param directory the cache directory, which is created if it does not exist.
+     * @param fingerprinter function to determine the fingerprint of a suite, if available.
+     * @param imageIds function to resolve the id of a local Docker image, given its name.
+     */
+    public SuiteResultCache(
+            final Path directory,
+            final Function<TestSuite, Optional<String>> fingerprinter,
+            final Function<String, Optional<String>> imageIds) {
+        this(Optional.of(requireNonNull(directory, "directory")), fingerprinter, imageIds);
+    }
+
+    private SuiteResultCache(
+            final Optional<Path> directory,
+            final Function<TestSuite, Optional<String>> fingerprinter,
+            final Function<String, Optional<String>> imageIds) {
+        this.directory = requireNonNull(directory, "directory");
+        this.fingerprinter = requireNonNull(fingerprinter, "fingerprinter");
+        this.imageIds = requireNonNull(imageIds, "imageIds");
+    }
+
+    /**
+     * Look up the cached result of a suite.
+     *
+     * @param suite the suite to look up.
+     * @return the cached result, if the suite passed in a previous run with the same fingerprint.
+     */
+    public Optional<SuiteResult> lookup(final TestSuite suite) {
+        if (directory.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Optional<String> fingerprint = fingerprinter.apply(suite);
+        fingerprints.put(suite, fingerprint);
+
+        final Optional<SuiteResult> cached =
+                fingerprint
+                        .map(this::file)
+                        .filter(Files::exists)
+                        .flatMap(f -> read(f, suite, imageIds));
+
+        if (cached.isPresent()) {
+            LOGGER.info("Skipping suite '" + suite.name() + "': unchanged since it last passed");
+        }
+        return cached;
+    }
+
+    /**
+     * Store the result of an executed suite.
+     *
+     * <p>Only the results of suites that passed are stored.
+     *
+     * @param result the suite result.
+     */
+    public void store(final SuiteResult result) {
+        if (directory.isEmpty()) {
+            return;
+        }
+
+        final TestSuite suite = result.testSuite();
+        final Optional<String> known = fingerprints.remove(suite);
+        if (!passed(result)) {
+            return;
+        }
+
+        // Retry suites that could not be fingerprinted before they ran, e.g. image not pulled:
+        final Optional<Path> file =
+                Optional.ofNullable(known)
+                        .flatMap(Function.identity())
+                        .or(() -> fingerprinter.apply(suite))
+                        .map(this::file);
+
+        if (file.isEmpty()) {
+            return;
+        }
+
+        final Map<String, String> images = new LinkedHashMap<>();
+        for (final String image : result.images()) {
+            final Optional<String> imageId = imageIds.apply(image);
+            if (imageId.isEmpty()) {
+                LOGGER.debug(
+                        "Not caching result of suite: "
+                                + suite.name()
+                                + ", no local id for image: "
+                                + image);
+                return;
+            }
+            images.put(image, imageId.get());
+        }
+
+        try {
+            write(file.get(), format(result, images));
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to cache result of suite: " + suite.name() + ", cause: " + e);
+        }
+    }
+
+    private Path file(final String fingerprint) {
+        return directory.orElseThrow().resolve(fingerprint + EXTENSION);
+    }
+
+    private static boolean passed(final SuiteResult result) {
+        return result.error().isEmpty() && result.failures() == 0 && result.errors() == 0;
+    }
+
+    private static List<String> format(
+            final SuiteResult result, final Map<String, String> images) {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.add(join(SUITE, result.testSuite().name(), result.duration().toMillis()));
+        images.forEach((image, imageId) -> lines.add(join(IMAGE, image, imageId)));
+        result.testResults()
+                .forEach(
+                        test ->
+                                lines.add(
+                                        join(
+                                                TEST,
+                                                test.testCase().name(),
+                                                test.duration().toMillis(),
+                                                test.skipped() ? SKIPPED : PASSED)));
+        return lines;
+    }
+
+    private static Optional<SuiteResult> read(
+            final Path file,
+            final TestSuite suite,
+            final Function<String, Optional<String>> imageIds) {
+        try {
+            final List<String> lines =
+                    Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                            .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                            .toList();
+
+            final Map<Boolean, List<String>> byType =
+                    lines.stream()
+                            .collect(partitioningBy(line -> IMAGE.equals(split(line)[0])));
+
+            if (!imagesUnchanged(byType.get(true), imageIds)) {
+                LOGGER.debug("Not reusing result of suite: " + suite.name() + ", images changed");
+                return Optional.empty();
+            }
+
+            return parse(byType.get(false), suite);
+        } catch (final Exception e) {
+            LOGGER.warn(
+                    "Ignoring unreadable cached suite result: "
+                            + file.toUri()
+                            + ", cause: "
+                            + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean imagesUnchanged(
+            final List<String> lines, final Function<String, Optional<String>> imageIds) {
+        for (final String line : lines) {
+            final String[] fields = split(line);
+            if (fields.length != 3) {
+                return false;
+            }
+
+            final Optional<String> imageId = Optional.of(unescape(fields[2]));
+            if (!imageIds.apply(unescape(fields[1])).equals(imageId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<SuiteResult> parse(final List<String> lines, final TestSuite suite) {
+        final List<TestCase> tests = suite.tests();
+        if (lines.size() != tests.size() + 1) {
+            return Optional.empty();
+        }
+
+        final String[] suiteFields = split(lines.get(0));
+        if (suiteFields.length != 3
+                || !SUITE.equals(suiteFields[0])
+                || !suite.name().equals(unescape(suiteFields[1]))) {
+            return Optional.empty();
+        }
+
+        final List<CaseResult> results = new ArrayList<>(tests.size());
+        for (int i = 0; i != tests.size(); ++i) {
+            final TestCase test = tests.get(i);
+            final String[] fields = split(lines.get(i + 1));
+            if (fields.length != 4
+                    || !TEST.equals(fields[0])
+                    || !test.name().equals(unescape(fields[1]))) {
+                return Optional.empty();
+            }
+
+            results.add(
+                    CaseResult.cached(
+                            test, millis(fields[2]), SKIPPED.equals(unescape(fields[3]))));
+        }
+
+        return Optional.of(SuiteResult.cached(suite, millis(suiteFields[2]), results));
+    }
+
+    private static Duration millis(final String text) {
+        return Duration.ofMillis(Long.parseLong(unescape(text)));
+    }
+}
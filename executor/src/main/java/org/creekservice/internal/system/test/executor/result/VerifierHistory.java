@@ -0,0 +1,241 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.join;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.split;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.unescape;
+import static org.creekservice.internal.system.test.executor.result.HistoryFiles.write;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent history of how long expectations took to be met, used to derive adaptive verifier
+ * timeouts.
+ *
+ * <p>The most recent {@value #MAX_SAMPLES} times taken to satisfy each set of expectations are
+ * recorded, keyed on the suite, test case and expectation types. Once at least {@value
+ * #MIN_SAMPLES} samples are recorded, the timeout for the expectations is the 95th percentile of
+ * the samples, multiplied by {@code 1.5}, plus a fixed margin of 5 seconds.
+ *
+ * <p>Expectations that are not met within such a derived timeout are recorded at the timeout, as
+ * the time taken was at least that long. This widens the timeout on later runs, so expectations
+ * that have become slower recover, rather than timing out on every run.
+ *
+ * <p>The history is stored as a plain text file, with one tab-separated record per line, so that it
+ * can be cached between CI builds:
+ *
+ * <pre>
+ * &lt;suite-name&gt;    &lt;test-name&gt;    &lt;expectation-types&gt;    &lt;millis,...&gt;
+ * </pre>
+ *
+ * <p>The history is a cache: a missing or unreadable file results in an empty history and failure
+ * to save the history is logged, rather than failing the run.
+ *
+ * <p>Thread safe.
+ */
+public final class VerifierHistory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifierHistory.class);
+
+    private static final String HEADER = "# creek system test verifier history";
+    private static final int MAX_SAMPLES = 20;
+    private static final int MIN_SAMPLES = 3;
+    private static final double PERCENTILE = 0.95;
+    private static final double MULTIPLIER = 1.5;
+    private static final Duration MARGIN = Duration.ofSeconds(5);
+    private static final Comparator<Key> KEY_ORDER =
+            Comparator.comparing(Key::suite)
+                    .thenComparing(Key::test)
+                    .thenComparing(Key::expectations);
+    private static final VerifierHistory NONE = new VerifierHistory(Optional.empty(), Map.of());
+
+    private final Optional<Path> file;
+    private final Map<Key, List<Duration>> samples;
+
+    /**
+     * @return a history that records nothing and never derives a timeout.
+     */
+    public static VerifierHistory none() {
+        return NONE;
+    }
+
+    /**
+     * Load the verifier history stored in the supplied {@code file}.
+     *
+     * @param file the history file.
+     * @return the history, which will be empty if the file does not exist or can not be read.
+     */
+    public static VerifierHistory load(final Path file) {
+        if (!Files.exists(file)) {
+            LOGGER.info("No verifier history found at: " + file.toUri());
+            return new VerifierHistory(Optional.of(file), Map.of());
+        }
+
+        try {
+            return new VerifierHistory(
+                    Optional.of(file), parse(Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (final Exception e) {
+            LOGGER.warn(
+                    "Ignoring unreadable verifier history: "
+                            + file.toUri()
+                            + ", cause: "
+                            + e.getMessage());
+            return new VerifierHistory(Optional.of(file), Map.of());
+        }
+    }
+
+    @VisibleForTesting
+    VerifierHistory(final Optional<Path> file, final Map<Key, List<Duration>> samples) {
+        this.file = requireNonNull(file, "file");
+        this.samples = new TreeMap<>(KEY_ORDER);
+        requireNonNull(samples, "samples").forEach((k, v) -> this.samples.put(k, List.copyOf(v)));
+    }
+
+    /**
+     * Get the timeout derived from the history of the supplied expectations.
+     *
+     * @param key the key of the expectations.
+     * @return the derived timeout, or empty if there is insufficient history.
+     */
+    public synchronized Optional<Duration> timeout(final Key key) {
+        final List<Duration> recorded = samples.getOrDefault(key, List.of());
+        if (recorded.size() < MIN_SAMPLES) {
+            return Optional.empty();
+        }
+
+        final long[] sorted = recorded.stream().mapToLong(Duration::toMillis).sorted().toArray();
+        final int idx = (int) Math.ceil(PERCENTILE * sorted.length) - 1;
+        final long millis = (long) (sorted[Math.max(0, idx)] * MULTIPLIER);
+        return Optional.of(Duration.ofMillis(millis).plus(MARGIN));
+    }
+
+    /**
+     * Record the time taken for the supplied expectations to be met.
+     *
+     * @param key the key of the expectations.
+     * @param timeTaken the time taken for the expectations to be met, or the timeout they were not
+     *     met within.
+     */
+    public synchronized void record(final Key key, final Duration timeTaken) {
+        if (file.isEmpty()) {
+            return;
+        }
+
+        final List<Duration> updated = new ArrayList<>(samples.getOrDefault(key, List.of()));
+        updated.add(timeTaken);
+        if (updated.size() > MAX_SAMPLES) {
+            updated.subList(0, updated.size() - MAX_SAMPLES).clear();
+        }
+        samples.put(key, List.copyOf(updated));
+    }
+
+    /** Save the history to its file, replacing any existing content. */
+    public synchronized void save() {
+        if (file.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(file.get(), format());
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to save verifier history: " + file.get().toUri() + ", cause: " + e);
+        }
+    }
+
+    private List<String> format() {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        samples.forEach(
+                (key, durations) ->
+                        lines.add(
+                                join(
+                                        key.suite(),
+                                        key.test(),
+                                        key.expectations(),
+                                        durations.stream()
+                                                .map(d -> String.valueOf(d.toMillis()))
+                                                .collect(Collectors.joining(",")))));
+        return lines;
+    }
+
+    private static Map<Key, List<Duration>> parse(final List<String> lines) {
+        final Map<Key, List<Duration>> samples = new TreeMap<>(KEY_ORDER);
+
+        for (final String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            final String[] parts = split(line);
+            if (parts.length != 4) {
+                LOGGER.warn("Ignoring unknown verifier history record: " + line);
+                continue;
+            }
+
+            try {
+                samples.put(
+                        new Key(unescape(parts[0]), unescape(parts[1]), unescape(parts[2])),
+                        Arrays.stream(parts[3].split(","))
+                                .map(Long::parseLong)
+                                .map(Duration::ofMillis)
+                                .toList());
+            } catch (final IllegalArgumentException e) {
+                LOGGER.warn("Ignoring invalid verifier history record: " + line);
+            }
+        }
+
+        return samples;
+    }
+
+    /**
+     * The key of a set of expectations within the history.
+     *
+     * @param suite the name of the suite.
+     * @param test the name of the test case.
+     * @param expectations the expectation types, e.g. their class names.
+     */
+    public record Key(String suite, String test, String expectations) {
+
+        /**
+         * @param suite the name of the suite.
+         * @param test the name of the test case.
+         * @param expectations the expectation types, e.g. their class names.
+         */
+        public Key {
+            requireNonNull(suite, "suite");
+            requireNonNull(test, "test");
+            requireNonNull(expectations, "expectations");
+        }
+    }
+}
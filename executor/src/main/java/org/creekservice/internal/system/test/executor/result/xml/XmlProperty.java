@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+
+/** A type used to serialize a named property as XML. */
+public final class XmlProperty {
+
+    private final String name;
+    private final String value;
+
+    XmlProperty(final String name, final String value) {
+        this.name = requireNonNull(name, "name");
+        this.value = requireNonNull(value, "value");
+    }
+
+    /**
+     * @return the property name.
+     */
+    @JacksonXmlProperty(isAttribute = true)
+    @JsonGetter("name")
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the property value.
+     */
+    @JacksonXmlProperty(isAttribute = true)
+    @JsonGetter("value")
+    public String value() {
+        return value;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** A reader of the XML results written by {@link XmlResultsWriter}. */
+public final class XmlResultsReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XmlResultsReader.class);
+
+    private final Path inputDirectory;
+    private final ObjectMapper mapper;
+
+    /**
+     * @param inputDirectory the directory containing previously written results.
+     */
+    public XmlResultsReader(final Path inputDirectory) {
+        this(inputDirectory, XmlResultMapper.INSTANCE.get());
+    }
+
+    @VisibleForTesting
+    XmlResultsReader(final Path inputDirectory, final ObjectMapper mapper) {
+        this.inputDirectory = requireNonNull(inputDirectory, "inputDirectory");
+        this.mapper = requireNonNull(mapper, "mapper");
+    }
+
+    /**
+     * Read the duration of each suite from the results.
+     *
+     * <p>Result files that can not be read are logged and ignored.
+     *
+     * @return map of suite name to duration. Empty if the directory does not exist.
+     */
+    public Map<String, Duration> suiteDurations() {
+        final Map<String, Duration> durations = new HashMap<>();
+        readSuites(suite -> durations.put(name(suite), parseTime(suite.path("time").asText())));
+        return Map.copyOf(durations);
+    }
+
+    /**
+     * Read the suites that failed from the results.
+     *
+     * <p>A suite failed if any of its test cases failed or errored, or if the suite itself failed
+     * to execute.
+     *
+     * <p>Result files that can not be read are logged and ignored.
+     *
+     * @return map of the name of each failed suite to the duration of each of its test cases that
+     *     passed, keyed on test case name. Empty if the directory does not exist.
+     */
+    public Map<String, Map<String, Duration>> failedSuites() {
+        final Map<String, Map<String, Duration>> failed = new HashMap<>();
+        readSuites(
+                suite -> {
+                    final String name = name(suite);
+                    final Map<String, Duration> passed = new HashMap<>();
+                    boolean suiteFailed = suite.has("error");
+                    for (final JsonNode test : elements(suite.path("testcase"))) {
+                        if (test.has("failure") || test.has("error")) {
+                            suiteFailed = true;
+                        } else if (!test.has("skipped")) {
+                            passed.put(
+                                    test.path("name").asText(),
+                                    parseTime(test.path("time").asText()));
+                        }
+                    }
+
+                    if (suiteFailed) {
+                        failed.put(name, Map.copyOf(passed));
+                    }
+                });
+        return Map.copyOf(failed);
+    }
+
+    private void readSuites(final Consumer<JsonNode> consumer) {
+        if (!Files.isDirectory(inputDirectory)) {
+            LOGGER.warn("Results directory not found: " + inputDirectory.toUri());
+            return;
+        }
+
+        resultFiles()
+                .forEach(
+                        file -> {
+                            try {
+                                consumer.accept(mapper.readTree(file.toFile()));
+                            } catch (final Exception e) {
+                                LOGGER.warn(
+                                        "Ignoring unreadable result file: "
+                                                + file.toUri()
+                                                + ", cause: "
+                                                + e.getMessage());
+                            }
+                        });
+    }
+
+    private static String name(final JsonNode suite) {
+        final String name = suite.path("name").asText();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("No suite name");
+        }
+        return name;
+    }
+
+    /** A single repeated element is read as an object, rather than an array. */
+    private static Iterable<JsonNode> elements(final JsonNode node) {
+        if (node.isMissingNode()) {
+            return List.of();
+        }
+        return node.isArray() ? node : List.of(node);
+    }
+
+    private List<Path> resultFiles() {
+        try (Stream<Path> files = Files.list(inputDirectory)) {
+            return files.filter(XmlResultsReader::isResultFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new ReadXmlResultsException(
+                    "Failed to list results directory: " + inputDirectory, e);
+        }
+    }
+
+    private static boolean isResultFile(final Path path) {
+        final String fileName = String.valueOf(path.getFileName());
+        return fileName.startsWith("TEST-")
+                && fileName.endsWith(".xml")
+                && Files.isRegularFile(path);
+    }
+
+    private static Duration parseTime(final String time) {
+        return Duration.ofMillis(new BigDecimal(time).movePointRight(3).longValue());
+    }
+
+    private static final class ReadXmlResultsException extends RuntimeException {
+
+        ReadXmlResultsException(final String msg, final Throwable cause) {
+            super(msg, cause);
+        }
+    }
+}
@@ -24,7 +24,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
 import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
 import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
 import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
 import org.creekservice.internal.system.test.executor.result.ResultsWriter;
@@ -34,18 +37,42 @@ public final class XmlResultsWriter implements ResultsWriter {
 
     private final Path outputDirectory;
     private final ObjectWriter writer;
+    private final Function<? super CreekTestSuite, Map<String, String>> imageDigests;
 
     /**
      * @param outputDirectory the directory in which to persist results
      */
     public XmlResultsWriter(final Path outputDirectory) {
-        this(outputDirectory, XmlResultMapper.INSTANCE.get().writerWithDefaultPrettyPrinter());
+        this(outputDirectory, suite -> Map.of());
+    }
+
+    /**
+     * @param outputDirectory the directory in which to persist results
+     * @param imageDigests provides the image digests to record for a suite, as a map of service
+     *     name to the digest of the service's image.
+     */
+    public XmlResultsWriter(
+            final Path outputDirectory,
+            final Function<? super CreekTestSuite, Map<String, String>> imageDigests) {
+        this(
+                outputDirectory,
+                XmlResultMapper.INSTANCE.get().writerWithDefaultPrettyPrinter(),
+                imageDigests);
     }
 
     @VisibleForTesting
     XmlResultsWriter(final Path outputDirectory, final ObjectWriter writer) {
+        this(outputDirectory, writer, suite -> Map.of());
+    }
+
+    @VisibleForTesting
+    XmlResultsWriter(
+            final Path outputDirectory,
+            final ObjectWriter writer,
+            final Function<? super CreekTestSuite, Map<String, String>> imageDigests) {
         this.outputDirectory = requireNonNull(outputDirectory, "outputDirectory");
         this.writer = requireNonNull(writer, "writer");
+        this.imageDigests = requireNonNull(imageDigests, "imageDigests");
     }
 
     @Override
@@ -55,7 +82,8 @@ public final class XmlResultsWriter implements ResultsWriter {
     }
 
     private void write(final TestSuiteResult result) {
-        final XmlTestSuiteResult xmlResult = XmlTestSuiteResult.from(result);
+        final XmlTestSuiteResult xmlResult =
+                XmlTestSuiteResult.from(result, imageDigests.apply(result.testSuite()));
 
         final Path path =
                 outputDirectory.resolve("TEST-" + sanitize(result.testSuite().name()) + ".xml");
@@ -76,6 +76,11 @@ public final class XmlTestCaseResult {
     /**
      * @return any failure details, i.e. test was not successful.
      */
+    @JacksonXmlProperty(isAttribute = true)
+    public Optional<Integer> attempts() {
+        return result.attempts() > 1 ? Optional.of(result.attempts()) : Optional.empty();
+    }
+
     @JacksonXmlProperty
     public Optional<XmlIssue> failure() {
         return result.failure().map(XmlIssue::new);
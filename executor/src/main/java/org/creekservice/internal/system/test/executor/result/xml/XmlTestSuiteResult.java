@@ -19,12 +19,14 @@ package org.creekservice.internal.system.test.executor.result.xml;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.creekservice.api.base.annotation.VisibleForTesting;
@@ -39,6 +41,7 @@ public final class XmlTestSuiteResult {
 
     private final TestSuiteResult result;
     private final String hostName;
+    private final Map<String, String> imageDigests;
 
     /**
      * Factory method.
@@ -47,13 +50,34 @@ public final class XmlTestSuiteResult {
      * @return the XML equivalent.
      */
     public static XmlTestSuiteResult from(final TestSuiteResult result) {
-        return new XmlTestSuiteResult(result, LOCAL_HOST);
+        return from(result, Map.of());
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param result the test suite result.
+     * @param imageDigests map of service name to the digest of the image the suite tested.
+     * @return the XML equivalent.
+     */
+    public static XmlTestSuiteResult from(
+            final TestSuiteResult result, final Map<String, String> imageDigests) {
+        return new XmlTestSuiteResult(result, LOCAL_HOST, imageDigests);
     }
 
     @VisibleForTesting
     XmlTestSuiteResult(final TestSuiteResult result, final String hostName) {
+        this(result, hostName, Map.of());
+    }
+
+    @VisibleForTesting
+    XmlTestSuiteResult(
+            final TestSuiteResult result,
+            final String hostName,
+            final Map<String, String> imageDigests) {
         this.result = requireNonNull(result, "result");
         this.hostName = requireNonNull(hostName, "hostName");
+        this.imageDigests = Map.copyOf(requireNonNull(imageDigests, "imageDigests"));
     }
 
     /**
@@ -132,6 +156,18 @@ public final class XmlTestSuiteResult {
                 TimeUnit.NANOSECONDS.toMillis(result.duration().getNano()));
     }
 
+    /**
+     * @return the suite's properties, i.e. the digests of the images of its services under test.
+     */
+    @JacksonXmlElementWrapper(localName = "properties")
+    @JacksonXmlProperty(localName = "property")
+    public List<XmlProperty> properties() {
+        return imageDigests.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new XmlProperty("image." + e.getKey(), e.getValue()))
+                .collect(toList());
+    }
+
     /**
      * @return all test case results.
      */
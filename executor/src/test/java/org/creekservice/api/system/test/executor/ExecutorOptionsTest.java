@@ -98,6 +98,73 @@ class ExecutorOptionsTest {
         assertThat(options.env(), is(Map.of()));
     }
 
+    @Test
+    void shouldDefaultToSequentialExecution() {
+        assertThat(options.parallelism(), is(1));
+    }
+
+    @Test
+    void shouldDefaultToGracefulTeardown() {
+        assertThat(options.fastTeardown(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToNoSharding() {
+        assertThat(options.shardCount(), is(1));
+        assertThat(options.shardIndex(), is(0));
+        assertThat(options.shardHistoryDirectory(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToNoRunHistory() {
+        assertThat(options.runHistoryFile(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToNotReusingContainers() {
+        assertThat(options.reuseContainers(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToSequentialInputs() {
+        assertThat(options.parallelInputs(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToNoVerifierHistory() {
+        assertThat(options.verifierHistoryFile(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToNoIncrementalCache() {
+        assertThat(options.incrementalCacheDirectory(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToNotRerunningFailed() {
+        assertThat(options.rerunFailedDirectory(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToNoTestRetries() {
+        assertThat(options.testRetries(), is(0));
+    }
+
+    @Test
+    void shouldDefaultToNoFlakinessLedger() {
+        assertThat(options.flakinessLedgerFile(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotWatchByDefault() {
+        assertThat(options.watch(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToNoLookAhead() {
+        assertThat(options.lookAhead(), is(false));
+    }
+
     @Test
     void shouldDefaultToNoDebugEnv() {
         assertThat(debugInfo.env(), is(Map.of()));
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemTestDaemonTest {
+
+    @TempDir private Path dir;
+    private final List<String> output = new ArrayList<>();
+    private final SystemTestExecutor.RunCache runCache = new SystemTestExecutor.RunCache();
+
+    @Test
+    void shouldReturnZeroIfArgsHandled() {
+        // When:
+        final int result = SystemTestDaemon.handle(runCache, dir, List.of("--help"), output::add);
+
+        // Then:
+        assertThat(result, is(0));
+    }
+
+    @Test
+    void shouldReturnErrorAndUsageOnInvalidArgs() {
+        // When:
+        final int result =
+                SystemTestDaemon.handle(runCache, dir, List.of("--unknown"), output::add);
+
+        // Then:
+        assertThat(result, is(2));
+        assertThat(output.get(0), containsString("Usage: SystemTestExecutor"));
+    }
+
+    @Test
+    void shouldReturnErrorIfRunFails() {
+        // Given:
+        final Path missing = dir.resolve("missing");
+
+        // When:
+        final int result =
+                SystemTestDaemon.handle(
+                        runCache,
+                        dir,
+                        List.of("--test-directory=" + missing, "--result-directory=" + dir),
+                        output::add);
+
+        // Then:
+        assertThat(result, is(2));
+        assertThat(output, contains("Not a directory: " + missing.toUri()));
+    }
+
+    @Test
+    void shouldResolveRelativePathsAgainstClientWorkingDirectory() {
+        // When:
+        final int result =
+                SystemTestDaemon.handle(
+                        runCache,
+                        dir,
+                        List.of("--test-directory=missing", "--result-directory=results"),
+                        output::add);
+
+        // Then:
+        assertThat(result, is(2));
+        assertThat(output, contains("Not a directory: " + dir.resolve("missing").toUri()));
+    }
+
+    @Test
+    void shouldRejectWatchMode() {
+        // When:
+        final int result =
+                SystemTestDaemon.handle(
+                        runCache,
+                        dir,
+                        List.of("--test-directory=" + dir, "--result-directory=" + dir, "--watch"),
+                        output::add);
+
+        // Then:
+        assertThat(result, is(2));
+        assertThat(output, contains("Watch mode is not supported when running on the daemon."));
+    }
+}
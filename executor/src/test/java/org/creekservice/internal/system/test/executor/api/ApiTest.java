@@ -17,9 +17,12 @@
 package org.creekservice.internal.system.test.executor.api;
 
 import static org.creekservice.internal.system.test.executor.api.Api.initializeApi;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import org.creekservice.api.system.test.extension.CreekTestExtension;
@@ -46,6 +49,7 @@ class ApiTest {
     @Mock private ContainerFactory containerFactory;
     @Mock private CreekTestExtension ext0;
     @Mock private CreekTestExtension ext1;
+    @Mock private ExtensionSelector selector;
 
     @Test
     void shouldAddLoggingTestLifecycleListener() {
@@ -147,4 +151,18 @@ class ApiTest {
         inOrder.verify(api.tests().env().listeners())
                 .append(isA(StartServicesUnderTestListener.class));
     }
+
+    @Test
+    void shouldOnlyInitializeSelectedTestExtensions() {
+        // Given:
+        when(selector.selects(ext0, api)).thenReturn(false);
+        when(selector.selects(ext1, api)).thenReturn(true);
+
+        // When:
+        initializeApi(api, containerFactory, List.of(ext0, ext1), selector);
+
+        // Then:
+        verify(ext0, never()).initialize(any());
+        verify(ext1).initialize(api);
+    }
 }
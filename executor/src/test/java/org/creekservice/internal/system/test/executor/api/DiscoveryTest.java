@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.creekservice.api.platform.metadata.ComponentDescriptor;
+import org.creekservice.api.system.test.extension.CreekTestExtension;
+import org.junit.jupiter.api.Test;
+
+class DiscoveryTest {
+
+    private final ComponentDescriptor component = mock(ComponentDescriptor.class);
+
+    @Test
+    void shouldExposeComponents() {
+        // Given:
+        final Discovery discovery = new Discovery(List.of(component), List.of());
+
+        // Then:
+        assertThat(discovery.components(), contains(component));
+    }
+
+    @Test
+    void shouldCreateNewExtensionsEachTime() {
+        // Given:
+        final Discovery discovery =
+                new Discovery(List.of(), List.of(() -> mock(CreekTestExtension.class)));
+
+        // When:
+        final List<CreekTestExtension> first = discovery.extensions();
+        final List<CreekTestExtension> second = discovery.extensions();
+
+        // Then:
+        assertThat(second.get(0), is(not(sameInstance(first.get(0)))));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+import org.creekservice.api.platform.metadata.ServiceDescriptor;
+import org.creekservice.api.system.test.extension.CreekTestExtension;
+import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
+import org.creekservice.api.system.test.extension.test.model.Expectation;
+import org.creekservice.api.system.test.extension.test.model.Input;
+import org.creekservice.api.system.test.extension.test.model.Option;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExtensionSelectorTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SystemTest api;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private TestSuite suite;
+
+    @Mock private TestCase test;
+    @Mock private ServiceDefinition serviceDef;
+    @Mock private ServiceDescriptor serviceDesc;
+    @Mock private CreekTestExtension ext;
+
+    private ExtensionSelector selector;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @BeforeEach
+    void setUp() {
+        selector = ExtensionSelector.forSuite(suite);
+
+        when(suite.pkg().seedData()).thenReturn(List.of());
+        when(suite.options(Option.class)).thenReturn(List.of());
+        when(suite.tests()).thenReturn(List.of(test));
+        when(suite.services()).thenReturn(List.of("service"));
+        when(test.inputs()).thenReturn(List.of());
+        when(test.expectations()).thenReturn(List.of());
+
+        when(api.components().definitions().services().get("service")).thenReturn(serviceDef);
+        when(serviceDef.descriptor()).thenReturn((Optional) Optional.of(serviceDesc));
+        when(serviceDesc.resources()).thenAnswer(inv -> Stream.of());
+
+        when(ext.modelTypes()).thenReturn(List.of(TestInput.class));
+        when(ext.resourceTypes()).thenReturn(List.of(TestResource.class));
+    }
+
+    @Test
+    void shouldSelectExtensionsThatDeclareNoTypes() {
+        // Given:
+        when(ext.modelTypes()).thenReturn(List.of());
+        when(ext.resourceTypes()).thenReturn(List.of());
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldNotSelectExtensionsWhoseTypesAreNotReferenced() {
+        assertThat(selector.selects(ext, api), is(false));
+    }
+
+    @Test
+    void shouldSelectAllExtensionsIfNoSuite() {
+        assertThat(ExtensionSelector.all().selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfSeedDataReferencesModelType() {
+        // Given:
+        when(suite.pkg().seedData()).thenReturn(List.of(new TestInput()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfInputReferencesModelType() {
+        // Given:
+        when(test.inputs()).thenReturn(List.of(new TestInput()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfExpectationReferencesModelType() {
+        // Given:
+        when(ext.modelTypes()).thenReturn(List.of(TestExpectation.class));
+        when(test.expectations()).thenReturn(List.of(new TestExpectation()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfOptionReferencesModelType() {
+        // Given:
+        when(ext.modelTypes()).thenReturn(List.of(TestOption.class));
+        when(suite.options(Option.class)).thenReturn(List.of(new TestOption()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfModelObjectIsSubtypeOfModelType() {
+        // Given:
+        when(ext.modelTypes()).thenReturn(List.of(Input.class));
+        when(test.inputs()).thenReturn(List.of(new TestInput()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldSelectIfServiceUnderTestHasResourceOfResourceType() {
+        // Given:
+        when(serviceDesc.resources()).thenAnswer(inv -> Stream.of(new TestResource()));
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(true));
+    }
+
+    @Test
+    void shouldIgnoreServicesWithoutDescriptor() {
+        // Given:
+        when(serviceDef.descriptor()).thenReturn(Optional.empty());
+
+        // Then:
+        assertThat(selector.selects(ext, api), is(false));
+    }
+
+    private static final class TestInput implements Input {}
+
+    private static final class TestExpectation implements Expectation {}
+
+    private static final class TestOption implements Option {}
+
+    private static final class TestResource implements ResourceDescriptor {
+        @Override
+        public URI id() {
+            return URI.create("test://resource");
+        }
+    }
+}
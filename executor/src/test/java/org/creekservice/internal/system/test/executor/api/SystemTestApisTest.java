@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SystemTestApisTest {
+
+    @Mock private SystemTestApis.Initializer initializer;
+    @Mock private TestSuite suite;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private SystemTest api0;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private SystemTest api1;
+
+    private SystemTestApis apis;
+
+    @BeforeEach
+    void setUp() {
+        apis = new SystemTestApis(initializer);
+        when(initializer.initialize(eq(0), any())).thenReturn(api0, api1);
+    }
+
+    @Test
+    void shouldCreateNewApiEachTimeIfNotRunScoped() {
+        // When:
+        final SystemTest first = apis.create(0);
+        final SystemTest second = apis.create(0);
+
+        // Then:
+        assertThat(first, is(sameInstance(api0)));
+        assertThat(second, is(sameInstance(api1)));
+    }
+
+    @Test
+    void shouldReuseRunScopedApi() {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+
+        // When:
+        final SystemTest first = apis.create(0);
+        final SystemTest second = apis.create(0);
+
+        // Then:
+        assertThat(first, is(sameInstance(api0)));
+        assertThat(second, is(sameInstance(api0)));
+        verify(initializer, times(1)).initialize(eq(0), any());
+    }
+
+    @Test
+    void shouldNotShareRunScopedApiAcrossWorkers() {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        when(initializer.initialize(eq(1), any())).thenReturn(api1);
+
+        // When:
+        apis.create(0);
+        final SystemTest result = apis.create(1);
+
+        // Then:
+        assertThat(result, is(sameInstance(api1)));
+    }
+
+    @Test
+    void shouldNotShareRunScopedApiAcrossThreads() throws Exception {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        apis.create(0);
+
+        // When:
+        final SystemTest result = CompletableFuture.supplyAsync(() -> apis.create(0)).get();
+
+        // Then:
+        assertThat(result, is(not(sameInstance(api0))));
+    }
+
+    @Test
+    void shouldInitializeAllExtensionsIfNoSuite() {
+        // When:
+        apis.create(0);
+
+        // Then:
+        verify(initializer).initialize(0, ExtensionSelector.all());
+    }
+
+    @Test
+    void shouldInitializeExtensionsRequiredBySuite() {
+        // When:
+        apis.create(suite, 0);
+
+        // Then:
+        verify(initializer)
+                .initialize(eq(0), argThat(selector -> selector != ExtensionSelector.all()));
+    }
+
+    @Test
+    void shouldReuseRunScopedApiForSuite() {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        apis.create(0);
+
+        // When:
+        final SystemTest result = apis.create(suite, 0);
+
+        // Then:
+        assertThat(result, is(sameInstance(api0)));
+    }
+
+    @Test
+    void shouldCloseExtensionsOfRunScopedApisOnClose() {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        apis.create(0);
+
+        // When:
+        apis.close();
+
+        // Then:
+        verify(api0.extensions()).close();
+    }
+
+    @Test
+    void shouldCloseRunScopedApisOfOtherThreads() throws Exception {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        CompletableFuture.runAsync(() -> apis.create(0)).get();
+
+        // When:
+        apis.closeOtherThreads();
+
+        // Then:
+        verify(api0.extensions()).close();
+    }
+
+    @Test
+    void shouldKeepRunScopedApiOfCallingThreadWhenClosingOtherThreads() {
+        // Given:
+        when(api0.runScoped()).thenReturn(true);
+        apis.create(0);
+
+        // When:
+        apis.closeOtherThreads();
+
+        // Then:
+        verify(api0.extensions(), never()).close();
+        assertThat(apis.create(0), is(sameInstance(api0)));
+    }
+
+    @Test
+    void shouldNotCloseExtensionsOfOtherApisOnClose() {
+        // Given:
+        apis.create(0);
+
+        // When:
+        apis.close();
+
+        // Then:
+        verify(api0.extensions(), never()).close();
+    }
+}
@@ -17,6 +17,7 @@
 package org.creekservice.internal.system.test.executor.api;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.testing.NullPointerTester;
+import java.util.List;
 import java.util.function.Function;
 import org.creekservice.api.service.extension.CreekExtension;
 import org.creekservice.api.service.extension.CreekExtensionOptions;
@@ -61,7 +63,14 @@ class SystemTestTest {
     @BeforeEach
     void setUp() {
         when(serviceApiFactory.apply(any())).thenReturn(serviceApi);
-        api = new SystemTest(testModel, testEnv, services, aggregates, serviceApiFactory);
+        api =
+                new SystemTest(
+                        testModel,
+                        testEnv,
+                        services,
+                        aggregates,
+                        serviceApiFactory,
+                        List.of("not-run-scoped"));
     }
 
     @Test
@@ -75,6 +84,23 @@ class SystemTestTest {
         tester.testAllPublicInstanceMethods(api);
     }
 
+    @Test
+    void shouldNotBeRunScopedIfAnyExtensionIsNot() {
+        assertThat(api.runScoped(), is(false));
+        assertThat(api.notRunScoped(), contains("not-run-scoped"));
+    }
+
+    @Test
+    void shouldBeRunScopedIfAllExtensionsAre() {
+        // When:
+        api =
+                new SystemTest(
+                        testModel, testEnv, services, aggregates, serviceApiFactory, List.of());
+
+        // Then:
+        assertThat(api.runScoped(), is(true));
+    }
+
     @Test
     void shouldExposeModel() {
         assertThat(api.tests().model(), is(sameInstance(testModel)));
@@ -40,7 +40,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
+import java.util.Optional;
 import org.creekservice.api.system.test.executor.ExecutorOptions;
 import org.creekservice.api.system.test.executor.ExecutorOptions.CopyDirection;
 import org.creekservice.internal.system.test.executor.api.test.env.suite.service.ContainerFactory.CreatedContainer;
@@ -79,29 +79,33 @@ class ContainerFactoryTest {
     @TempDir Path hostDir;
     @Mock private ServiceDebugInfo serviceDebugInfo;
     @Mock private RegularContainerFactory regularFactory;
-    @Mock private Supplier<Network> networkSupplier;
+    @Mock private NetworkPool networkPool;
     @Mock private DebugContainerFactory debugFactory;
     @Mock private GenericContainer<?> container;
     @Mock private ExecutorOptions.DirectoryInfo mount;
     @Mock private Network network0;
     @Mock private Network network1;
+    @Mock private Network poolNetwork;
+    @Mock private ContainerPool containerPool;
     @Captor private ArgumentCaptor<MountableFile> mountableCaptor;
 
+    private ContainerFactory.Options options;
     private ContainerFactory containerFactory;
 
     @BeforeEach
     void setUp() {
         when(serviceDebugInfo.baseServicePort()).thenReturn(BASE_SERVICE_DEBUG_PORT);
-        when(networkSupplier.get()).thenReturn(network0, network1);
+        when(networkPool.acquire()).thenReturn(network0, network1);
 
+        options = ContainerFactory.Options.defaults().withNetworkPool(networkPool);
         containerFactory =
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
 
         doReturn(container).when(regularFactory).create(any(), any());
         doReturn(container).when(debugFactory).create(any(), anyInt(), any());
@@ -119,8 +123,22 @@ class ContainerFactoryTest {
     void shouldThrowNPEs() {
         final NullPointerTester tester = new NullPointerTester();
         tester.setDefault(ServiceDebugInfo.class, serviceDebugInfo);
+        tester.setDefault(NetworkPool.class, networkPool);
+        tester.setDefault(ContainerFactory.Options.class, options);
         tester.testAllPublicConstructors(ContainerFactory.class);
         tester.testAllPublicStaticMethods(ContainerFactory.class);
+        tester.testAllPublicConstructors(ContainerFactory.Options.class);
+        tester.testAllPublicInstanceMethods(options);
+    }
+
+    @Test
+    void shouldDefaultOptions() {
+        // When:
+        final ContainerFactory.Options defaults = ContainerFactory.Options.defaults();
+
+        // Then:
+        assertThat(defaults.fastTeardown(), is(false));
+        assertThat(defaults.containerPool(), is(Optional.empty()));
     }
 
     @ValueSource(booleans = {true, false})
@@ -226,7 +244,7 @@ class ContainerFactoryTest {
     }
 
     @Test
-    void shouldCloseNetworkAfterSuite() {
+    void shouldReleaseNetworkAfterSuite() {
         // Given:
         containerFactory.create(IMAGE_NAME, INSTANCE_NAME, SERVICE_NAME, true, () -> {});
 
@@ -234,7 +252,17 @@ class ContainerFactoryTest {
         containerFactory.afterSuite(null, null);
 
         // Then:
-        verify(network0).close();
+        verify(networkPool).release(network0);
+        verify(network0, never()).close();
+    }
+
+    @Test
+    void shouldNotReleaseNetworkAfterSuiteIfNoneAcquired() {
+        // When:
+        containerFactory.afterSuite(null, null);
+
+        // Then:
+        verify(networkPool, never()).release(any());
     }
 
     @CartesianTest
@@ -291,9 +319,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "b"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
 
         // When:
@@ -324,9 +352,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("common", "env-1", "env-only", "env-2"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.env())
                 .thenReturn(Map.of("common", "debug-1", "debug-only", "debug-2"));
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
@@ -347,9 +375,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "orig"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.env()).thenReturn(Map.of("a", "debug"));
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(false);
 
@@ -369,9 +397,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "b"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
 
         // When:
@@ -389,9 +417,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "orig"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.env()).thenReturn(Map.of("a", "debug"));
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
 
@@ -410,9 +438,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "orig"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.env()).thenReturn(Map.of("a", "debug"));
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(false);
 
@@ -451,9 +479,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("a", "${SERVICE_DEBUG_PORT}"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.env()).thenReturn(Map.of("b", "${SERVICE_DEBUG_PORT}"));
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
 
@@ -477,9 +505,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("JAVA_TOOL_OPTIONS", "destfile=/${SERVICE_INSTANCE_NAME}.exec"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
 
         // When:
@@ -490,6 +518,107 @@ class ContainerFactoryTest {
                 .withEnv(Map.of("JAVA_TOOL_OPTIONS", "destfile=/" + INSTANCE_NAME + ".exec"));
     }
 
+    @Test
+    void shouldDefaultToGracefulTeardown() {
+        assertThat(containerFactory.fastTeardown(), is(false));
+    }
+
+    @Test
+    void shouldExposeFastTeardown() {
+        // Given:
+        containerFactory =
+                new ContainerFactory(
+                        serviceDebugInfo,
+                        List.of(),
+                        Map.of(),
+                        options.withFastTeardown(true),
+                        regularFactory,
+                        debugFactory);
+
+        // Then:
+        assertThat(containerFactory.fastTeardown(), is(true));
+    }
+
+    @Test
+    void shouldCreateNetworkOnPrepare() {
+        // When:
+        containerFactory.prepare(List.of());
+
+        // Then:
+        verify(network0).getId();
+    }
+
+    @Test
+    void shouldReleasePreparedNetwork() {
+        // Given:
+        containerFactory.prepare(List.of());
+
+        // When:
+        containerFactory.release();
+
+        // Then:
+        verify(networkPool).release(network0);
+    }
+
+    @Test
+    void shouldUsePreparedNetwork() {
+        // Given:
+        containerFactory.prepare(List.of());
+
+        // When:
+        containerFactory.create(IMAGE_NAME, INSTANCE_NAME, SERVICE_NAME, true, () -> {});
+
+        // Then:
+        verify(container).withNetwork(network0);
+        verify(networkPool).acquire();
+    }
+
+    @Test
+    void shouldPullImagesOnPrepare() {
+        // Given:
+        final DockerImageName other = DockerImageName.parse("other:latest");
+
+        // When:
+        containerFactory.prepare(List.of(IMAGE_NAME, other));
+
+        // Then:
+        verify(regularFactory).pull(IMAGE_NAME);
+        verify(regularFactory).pull(other);
+    }
+
+    @Test
+    void shouldDefaultToNoContainerPool() {
+        assertThat(containerFactory.containerPool(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldUsePoolNetworkIfPoolPresent() {
+        // Given:
+        givenContainerPool();
+
+        // When:
+        containerFactory.create(IMAGE_NAME, INSTANCE_NAME, SERVICE_NAME, true, () -> {});
+
+        // Then:
+        assertThat(containerFactory.containerPool(), is(Optional.of(containerPool)));
+        verify(container).withNetwork(poolNetwork);
+        verify(networkPool, never()).acquire();
+    }
+
+    @Test
+    void shouldNotClosePoolNetworkAfterSuite() {
+        // Given:
+        givenContainerPool();
+        containerFactory.create(IMAGE_NAME, INSTANCE_NAME, SERVICE_NAME, true, () -> {});
+
+        // When:
+        containerFactory.afterSuite(null, null);
+
+        // Then:
+        verify(poolNetwork, never()).close();
+        verify(networkPool, never()).release(any());
+    }
+
     @ValueSource(booleans = {true, false})
     @ParameterizedTest
     void shouldReplaceServiceInstanceNameInAllEnvVars(final boolean debug) {
@@ -501,9 +630,9 @@ class ContainerFactoryTest {
                         Map.of(
                                 "VAR_A", "a-${SERVICE_INSTANCE_NAME}",
                                 "VAR_B", "b-${SERVICE_INSTANCE_NAME}"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
 
         // When:
@@ -540,9 +669,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(),
                         Map.of("JAVA_TOOL_OPTIONS", "destfile=/${SERVICE_INSTANCE_NAME}.exec"),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(false);
 
         // When:
@@ -561,9 +690,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
 
         // When:
@@ -584,9 +713,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
 
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
 
@@ -608,9 +737,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(false);
 
         // When:
@@ -632,9 +761,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
 
         // When / Then:
         assertThrows(
@@ -652,9 +781,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(mount.direction()).thenReturn(CopyDirection.COPY_TO_CONTAINER);
 
         // When:
@@ -676,9 +805,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(mount.direction()).thenReturn(direction);
 
         // When:
@@ -697,9 +826,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(mount.direction()).thenReturn(CopyDirection.COPY_FROM_CONTAINER);
 
         // When:
@@ -717,9 +846,9 @@ class ContainerFactoryTest {
                         serviceDebugInfo,
                         List.of(mount),
                         Map.of(),
+                        options,
                         regularFactory,
-                        debugFactory,
-                        networkSupplier);
+                        debugFactory);
         when(mount.direction()).thenReturn(CopyDirection.COPY_FROM_CONTAINER);
 
         // When:
@@ -729,4 +858,16 @@ class ContainerFactoryTest {
         // Then:
         assertThat(result.transferables(), hasItem(mount));
     }
+
+    private void givenContainerPool() {
+        when(containerPool.network()).thenReturn(poolNetwork);
+        containerFactory =
+                new ContainerFactory(
+                        serviceDebugInfo,
+                        List.of(),
+                        Map.of(),
+                        options.withContainerPool(Optional.of(containerPool)),
+                        regularFactory,
+                        debugFactory);
+    }
 }
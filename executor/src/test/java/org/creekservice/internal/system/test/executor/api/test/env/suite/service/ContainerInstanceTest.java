@@ -27,6 +27,7 @@ import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -50,12 +51,15 @@ import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.creekservice.api.base.type.RuntimeIOException;
 import org.creekservice.api.platform.metadata.ServiceDescriptor;
 import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -90,6 +94,11 @@ class ContainerInstanceTest {
     @Mock private ServiceDescriptor descriptor;
     @Mock private Consumer<ServiceInstance> startedCallback;
     @Mock private Container.ExecResult containerExecResult;
+    @Mock private ContainerPool pool;
+    @Mock private Consumer<ServiceInstance> reusedCallback;
+
+    @Mock(answer = RETURNS_DEEP_STUBS, strictness = LENIENT)
+    private GenericContainer<?> pooledContainer;
 
     private ContainerInstance instance;
 
@@ -231,6 +240,225 @@ class ContainerInstanceTest {
         inOrder.verify(container).stop();
     }
 
+    @Test
+    void shouldSkipGracefulStopOnFastTeardownIfNothingToCopy() {
+        // Given:
+        instance =
+                new ContainerInstance(
+                        "a-0", IMAGE_NAME, container, Optional.empty(), startedCallback, List.of());
+        givenNotRunning();
+        instance.setFastTeardown(true);
+        givenRunning();
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(container, never()).getDockerClient();
+        verify(container).stop();
+    }
+
+    @Test
+    void shouldGracefullyStopOnFastTeardownIfTransferablesToCopy() {
+        // Given:
+        givenNotRunning();
+        instance.setFastTeardown(true);
+        givenRunning();
+
+        // When:
+        instance.stop();
+
+        // Then:
+        final InOrder inOrder = inOrder(container, container.getDockerClient());
+        inOrder.verify(container.getDockerClient()).stopContainerCmd(any());
+        inOrder.verify(container).stop();
+    }
+
+    @Test
+    void shouldThrowOnSetFastTeardownIfRunning() {
+        // Given:
+        givenRunning();
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalStateException.class, () -> instance.setFastTeardown(true));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("A service can not be modified when running."));
+    }
+
+    @Test
+    void shouldThrowOnSetContainerPoolIfRunning() {
+        // Given:
+        givenRunning();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> instance.setContainerPool(pool, reusedCallback));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("A service can not be modified when running."));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    void shouldReuseContainerFromPool() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.of(pooledContainer));
+
+        // When:
+        instance.start();
+
+        // Then:
+        verify(container, never()).start();
+        assertThat(instance.running(), is(true));
+        assertThat(instance.containerId(), is("pooled"));
+    }
+
+    @Test
+    void shouldFollowLogsOfReusedContainer() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.of(pooledContainer));
+
+        // When:
+        instance.start();
+
+        // Then:
+        verify(pooledContainer.getDockerClient()).logContainerCmd("pooled");
+    }
+
+    @Test
+    void shouldReleaseReusedContainerToPoolOnStop() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.of(pooledContainer));
+        instance.start();
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(pool).release(any(), eq(pooledContainer));
+        verify(pooledContainer, never()).stop();
+        assertThat(instance.running(), is(false));
+    }
+
+    @Test
+    void shouldAcquireFromPoolUsingContainerConfig() {
+        // Given:
+        givenPooled();
+        when(container.getEnvMap()).thenReturn(Map.of("k", "v"));
+        when(container.getExposedPorts()).thenReturn(List.of(8080));
+
+        // When:
+        instance.start();
+
+        // Then:
+        verify(pool)
+                .acquire(
+                        new ContainerPool.Key(
+                                "a-0",
+                                "image",
+                                Map.of("k", "v"),
+                                List.of(8080),
+                                List.of(),
+                                Map.of()));
+    }
+
+    @Test
+    void shouldInvokeReusedThenStartedCallbackOnReuse() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.of(pooledContainer));
+
+        // When:
+        instance.start();
+
+        // Then:
+        final InOrder inOrder = inOrder(reusedCallback, startedCallback);
+        inOrder.verify(reusedCallback).accept(instance);
+        inOrder.verify(startedCallback).accept(instance);
+    }
+
+    @Test
+    void shouldStartNewContainerIfNoneInPool() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.empty());
+
+        // When:
+        instance.start();
+
+        // Then:
+        verify(container).start();
+        verify(reusedCallback, never()).accept(any());
+        verify(startedCallback).accept(instance);
+    }
+
+    @Test
+    void shouldStopReusedContainerIfCallbackThrows() {
+        // Given:
+        givenPooled();
+        when(pool.acquire(any())).thenReturn(Optional.of(pooledContainer));
+        doThrow(new RuntimeException("Boom")).when(reusedCallback).accept(any());
+
+        // When:
+        assertThrows(RuntimeException.class, instance::start);
+
+        // Then:
+        verify(pooledContainer).stop();
+        verify(pool, never()).release(any(), any());
+    }
+
+    @Test
+    void shouldReleaseToPoolOnStop() {
+        // Given:
+        givenPooled();
+        givenRunning();
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(pool).release(any(), eq(container));
+        verify(container, never()).stop();
+        verify(container, never()).getDockerClient();
+        assertThat(instance.running(), is(false));
+    }
+
+    @Test
+    void shouldNotReleaseToPoolIfTransferablesToCopy() {
+        // Given:
+        instance.setContainerPool(pool, reusedCallback);
+        givenRunning();
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(pool, never()).release(any(), any());
+        verify(container).stop();
+    }
+
+    @Test
+    void shouldNotReleaseFailedContainerToPool() {
+        // Given:
+        givenPooled();
+        givenRunning();
+        when(container.isRunning()).thenReturn(false);
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(pool, never()).release(any(), any());
+        verify(container).stop();
+    }
+
     @Test
     void shouldIgnoreStopIfNotRunning() {
         // Given:
@@ -314,6 +542,166 @@ class ContainerInstanceTest {
         verify(container).stop();
     }
 
+    @Test
+    void shouldBeginStartByStartingContainerWithoutWaiting() {
+        // Given:
+        givenNotRunning();
+        instance.setReadinessProbe(target -> true);
+        clearInvocations(container);
+
+        // When:
+        instance.beginStart();
+
+        // Then:
+        final InOrder inOrder = inOrder(container);
+        inOrder.verify(container)
+                .setWaitStrategy(argThat(strategy -> !(strategy instanceof ReadinessWaitStrategy)));
+        inOrder.verify(container).start();
+        inOrder.verify(container).setWaitStrategy(isA(ReadinessWaitStrategy.class));
+        verify(startedCallback, never()).accept(any());
+    }
+
+    @Test
+    void shouldWaitForReadinessInBlockingStageOfStart() {
+        // Given:
+        givenNotRunning();
+        final AtomicBoolean polled = new AtomicBoolean();
+        instance.setReadinessProbe(
+                target -> {
+                    polled.set(true);
+                    return true;
+                });
+        final Supplier<Runnable> blocking = instance.beginStart();
+        when(container.isRunning()).thenReturn(true);
+        assertThat(polled.get(), is(false));
+
+        // When:
+        blocking.get();
+
+        // Then:
+        assertThat(polled.get(), is(true));
+        verify(startedCallback, never()).accept(any());
+    }
+
+    @Test
+    void shouldInvokeCallbackInFinalStageOfStart() {
+        // Given:
+        givenNotRunning();
+        instance.setReadinessProbe(target -> true);
+        final Supplier<Runnable> blocking = instance.beginStart();
+        when(container.isRunning()).thenReturn(true);
+        final Runnable finalStage = blocking.get();
+
+        // When:
+        finalStage.run();
+
+        // Then:
+        verify(startedCallback).accept(instance);
+    }
+
+    @Test
+    void shouldThrowFromFinalStageOfStartIfNotReady() {
+        // Given:
+        givenNotRunning();
+        instance.setReadinessProbe(target -> false);
+        final Supplier<Runnable> blocking = instance.beginStart();
+        when(container.getContainerId()).thenReturn("bob");
+        final Runnable finalStage = blocking.get();
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, finalStage::run);
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to start service: a-0"));
+        verify(container).stop();
+        verify(startedCallback, never()).accept(any());
+    }
+
+    @Test
+    void shouldThrowFromBeginStartIfContainerFailsToStart() {
+        // Given:
+        givenNotRunning();
+        final RuntimeException cause = new RuntimeException("Boom");
+        doThrow(cause).when(container).start();
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, instance::beginStart);
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to start service: a-0"));
+        assertThat(e.getCause(), is(sameInstance(cause)));
+    }
+
+    @Test
+    void shouldIgnoreBeginStartIfRunning() {
+        // Given:
+        givenRunning();
+
+        // When:
+        instance.beginStart().get().run();
+
+        // Then:
+        verify(container, never()).start();
+        verify(startedCallback, never()).accept(any());
+    }
+
+    @Test
+    void shouldStopContainerInBlockingStageOfStop() {
+        // Given:
+        givenRunning();
+        final Supplier<Runnable> blocking = instance.beginStop();
+        verify(container, never()).stop();
+
+        // When:
+        blocking.get().run();
+
+        // Then:
+        verify(container).stop();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldThrowFromFinalStageOfStopIfStopFails() {
+        // Given:
+        givenRunning();
+        doThrow(new RuntimeException("copy failed"))
+                .when(container)
+                .copyFileFromContainer(anyString(), any(ThrowingFunction.class));
+        final Runnable finalStage = instance.beginStop().get();
+
+        // When / Then:
+        assertThrows(RuntimeException.class, finalStage::run);
+    }
+
+    @Test
+    void shouldReleaseToPoolOnBeginStop() {
+        // Given:
+        givenPooled();
+        givenRunning();
+
+        // When:
+        final Supplier<Runnable> blocking = instance.beginStop();
+
+        // Then:
+        verify(pool).release(any(), eq(container));
+        blocking.get().run();
+        verify(container, never()).stop();
+        assertThat(instance.running(), is(false));
+    }
+
+    @Test
+    void shouldIgnoreBeginStopIfNotRunning() {
+        // Given:
+        givenNotRunning();
+
+        // When:
+        instance.beginStop().get().run();
+
+        // Then:
+        verify(container, never()).getDockerClient();
+        verify(container, never()).stop();
+    }
+
     @Test
     void shouldExposeTestNetworkPorts() {
         // Given:
@@ -555,6 +943,20 @@ class ContainerInstanceTest {
         assertThat(result, is(instance));
     }
 
+    @Test
+    void shouldSetReadinessProbeToWaitFor() {
+        // Given:
+        givenNotRunning();
+
+        // When:
+        final ConfigurableServiceInstance result =
+                instance.setReadinessProbe(ReadinessProbe.logMessage("started"));
+
+        // Then:
+        verify(container).setWaitStrategy(isA(ReadinessWaitStrategy.class));
+        assertThat(result, is(instance));
+    }
+
     @Test
     void shouldSetStartUpTimeout() {
         // Given:
@@ -586,6 +988,21 @@ class ContainerInstanceTest {
         assertThat(result, is(instance));
     }
 
+    @Test
+    void shouldSetCustomStartupTimeoutWhenSettingReadinessProbe() {
+        // Given:
+        givenNotRunning();
+        final Duration timeout = Duration.ofHours(33);
+        instance.setStartupTimeout(timeout);
+        clearInvocations(container);
+
+        // When:
+        instance.setReadinessProbe(ReadinessProbe.tcpPort(8080));
+
+        // Then:
+        verify(container).withStartupTimeout(timeout);
+    }
+
     @Test
     void shouldSetShutdownTimeout() {
         // Given:
@@ -734,6 +1151,21 @@ class ContainerInstanceTest {
         when(container.getContainerId()).thenReturn("bob");
     }
 
+    private void givenPooled() {
+        instance =
+                new ContainerInstance(
+                        "a-0", IMAGE_NAME, container, Optional.empty(), startedCallback, List.of());
+        givenNotRunning();
+        when(container.getDockerImageName()).thenReturn("image");
+        when(container.getEnvMap()).thenReturn(Map.of());
+        when(container.getExposedPorts()).thenReturn(List.of());
+        when(container.getCommandParts()).thenReturn(new String[0]);
+        when(container.getCopyToFileContainerPathMap()).thenReturn(Map.of());
+        when(pooledContainer.isRunning()).thenReturn(true);
+        when(pooledContainer.getContainerId()).thenReturn("pooled");
+        instance.setContainerPool(pool, reusedCallback);
+    }
+
     private void givenNotRunning() {
         when(container.isRunning()).thenReturn(false);
         when(container.getContainerId()).thenReturn(null);
@@ -748,6 +1180,12 @@ class ContainerInstanceTest {
                         Arguments.of(
                                 "start", (Consumer<ContainerInstance>) ContainerInstance::start),
                         Arguments.of("stop", (Consumer<ContainerInstance>) ContainerInstance::stop),
+                        Arguments.of(
+                                "beginStart",
+                                (Consumer<ContainerInstance>) ContainerInstance::beginStart),
+                        Arguments.of(
+                                "beginStop",
+                                (Consumer<ContainerInstance>) ContainerInstance::beginStop),
                         Arguments.of(
                                 "running",
                                 (Consumer<ContainerInstance>) ContainerInstance::running),
@@ -765,6 +1203,13 @@ class ContainerInstanceTest {
                         Arguments.of(
                                 "containerId",
                                 (Consumer<ContainerInstance>) ContainerInstance::containerId),
+                        Arguments.of(
+                                "setFastTeardown",
+                                (Consumer<ContainerInstance>) i -> i.setFastTeardown(true)),
+                        Arguments.of(
+                                "setContainerPool",
+                                (Consumer<ContainerInstance>)
+                                        i -> i.setContainerPool(new ContainerPool(), s -> {})),
                         Arguments.of(
                                 "mappedPort",
                                 (Consumer<ContainerInstance>) i -> i.testNetworkPort(9)),
@@ -805,6 +1250,10 @@ class ContainerInstanceTest {
                 Arguments.of(
                         "setStartupLogMessage",
                         (Consumer<ConfigurableServiceInstance>) i -> i.setStartupLogMessage("", 1)),
+                Arguments.of(
+                        "setReadinessProbe",
+                        (Consumer<ConfigurableServiceInstance>)
+                                i -> i.setReadinessProbe(target -> true)),
                 Arguments.of(
                         "setStartupTimeout",
                         (Consumer<ConfigurableServiceInstance>)
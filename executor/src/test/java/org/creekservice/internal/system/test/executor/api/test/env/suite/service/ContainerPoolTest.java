@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+
+@SuppressWarnings("resource")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ContainerPoolTest {
+
+    private static final ContainerPool.Key KEY_A =
+            new ContainerPool.Key(
+                    "a-0", "image-a", Map.of("k", "v"), List.of(80), List.of(), Map.of());
+    private static final ContainerPool.Key KEY_B =
+            new ContainerPool.Key("b-0", "image-b", Map.of(), List.of(), List.of(), Map.of());
+
+    @Mock private Supplier<Network> networkSupplier;
+    @Mock private Network network;
+    @Mock private GenericContainer<?> container0;
+    @Mock private GenericContainer<?> container1;
+
+    private ContainerPool pool;
+
+    @BeforeEach
+    void setUp() {
+        when(networkSupplier.get()).thenReturn(network);
+        when(container0.isRunning()).thenReturn(true);
+        when(container1.isRunning()).thenReturn(true);
+
+        pool = new ContainerPool(networkSupplier);
+    }
+
+    @Test
+    void shouldCreateNetworkLazily() {
+        verify(networkSupplier, never()).get();
+    }
+
+    @Test
+    void shouldReturnSameNetwork() {
+        // When:
+        final Network result = pool.network();
+
+        // Then:
+        assertThat(result, is(network));
+        assertThat(pool.network(), is(network));
+        verify(networkSupplier).get();
+    }
+
+    @Test
+    void shouldReturnEmptyIfNothingPooled() {
+        assertThat(pool.acquire(KEY_A), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldAcquireReleasedContainer() {
+        // Given:
+        pool.release(KEY_A, container0);
+
+        // When:
+        final Optional<GenericContainer<?>> result = pool.acquire(KEY_A);
+
+        // Then:
+        assertThat(result, is(Optional.of(container0)));
+    }
+
+    @Test
+    void shouldOnlyAcquireContainerOnce() {
+        // Given:
+        pool.release(KEY_A, container0);
+        pool.acquire(KEY_A);
+
+        // When:
+        final Optional<GenericContainer<?>> result = pool.acquire(KEY_A);
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotAcquireContainerWithDifferentKey() {
+        // Given:
+        pool.release(KEY_A, container0);
+
+        // When:
+        final Optional<GenericContainer<?>> result = pool.acquire(KEY_B);
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotAcquireContainerWithDifferentEnv() {
+        // Given:
+        pool.release(KEY_A, container0);
+
+        // When:
+        final Optional<GenericContainer<?>> result =
+                pool.acquire(
+                        new ContainerPool.Key(
+                                "a-0",
+                                "image-a",
+                                Map.of("k", "diff"),
+                                List.of(80),
+                                List.of(),
+                                Map.of()));
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDiscardContainerThatIsNoLongerRunning() {
+        // Given:
+        pool.release(KEY_A, container0);
+        when(container0.isRunning()).thenReturn(false);
+
+        // When:
+        final Optional<GenericContainer<?>> result = pool.acquire(KEY_A);
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+        verify(container0).stop();
+    }
+
+    @Test
+    void shouldStopReplacedContainer() {
+        // Given:
+        pool.release(KEY_A, container0);
+
+        // When:
+        pool.release(KEY_A, container1);
+
+        // Then:
+        verify(container0).stop();
+        assertThat(pool.acquire(KEY_A), is(Optional.of(container1)));
+    }
+
+    @Test
+    void shouldStopIdleContainersOnClose() {
+        // Given:
+        pool.release(KEY_A, container0);
+        pool.release(KEY_B, container1);
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(container0).stop();
+        verify(container1).stop();
+        assertThat(pool.acquire(KEY_A), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotStopAcquiredContainersOnClose() {
+        // Given:
+        pool.release(KEY_A, container0);
+        pool.acquire(KEY_A);
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(container0, never()).stop();
+    }
+
+    @Test
+    void shouldCloseNetworkOnClose() {
+        // Given:
+        pool.network();
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(network).close();
+    }
+
+    @Test
+    void shouldNotCreateNetworkOnClose() {
+        // When:
+        pool.close();
+
+        // Then:
+        verify(networkSupplier, never()).get();
+    }
+}
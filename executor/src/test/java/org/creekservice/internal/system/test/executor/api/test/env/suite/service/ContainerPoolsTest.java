@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContainerPoolsTest {
+
+    private ContainerPools pools;
+
+    @BeforeEach
+    void setUp() {
+        pools = new ContainerPools(() -> mock(ContainerPool.class));
+    }
+
+    @Test
+    void shouldReturnSamePoolForSameWorker() {
+        assertThat(pools.forWorker(1), is(sameInstance(pools.forWorker(1))));
+    }
+
+    @Test
+    void shouldReturnDifferentPoolPerWorker() {
+        assertThat(pools.forWorker(0), is(not(sameInstance(pools.forWorker(1)))));
+    }
+
+    @Test
+    void shouldCloseAllPools() {
+        // Given:
+        final ContainerPool pool0 = pools.forWorker(0);
+        final ContainerPool pool1 = pools.forWorker(1);
+
+        // When:
+        pools.close();
+
+        // Then:
+        verify(pool0).close();
+        verify(pool1).close();
+    }
+}
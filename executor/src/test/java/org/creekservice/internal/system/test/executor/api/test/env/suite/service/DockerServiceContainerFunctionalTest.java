@@ -55,13 +55,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.regex.Pattern;
 import org.creekservice.api.observability.lifecycle.BasicLifecycle;
 import org.creekservice.api.platform.metadata.ServiceDescriptor;
 import org.creekservice.api.system.test.executor.ExecutorOptions.CopyDirection;
 import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
 import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.api.test.util.TestPaths;
 import org.creekservice.internal.system.test.executor.execution.debug.ServiceDebugInfo;
@@ -106,7 +106,9 @@ class DockerServiceContainerFunctionalTest {
     @BeforeEach
     void setUp() {
         when(serviceDebugInfo.baseServicePort()).thenReturn(8000 + RNG.nextInt(20_000));
-        containerFactory = new ContainerFactory(serviceDebugInfo, List.of(), Map.of());
+        containerFactory =
+                new ContainerFactory(
+                        serviceDebugInfo, List.of(), Map.of(), ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
 
         when(serviceDef.name()).thenReturn(SERVICE_NAME);
@@ -281,6 +283,21 @@ class DockerServiceContainerFunctionalTest {
         assertThat(e.getMessage(), containsString("Service going BOOM!"));
     }
 
+    @Test
+    void shouldFailFastIfServiceExitsBeforeReady() {
+        // Given:
+        doAnswer(tellServiceToFail()).when(serviceDef).configureInstance(any());
+        final ServiceInstance instance = instances.add(serviceDef);
+        final long start = System.nanoTime();
+
+        // When:
+        assertThrows(RuntimeException.class, instance::start);
+
+        // Then: did not wait for the one minute start up timeout:
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat(elapsed.compareTo(Duration.ofSeconds(30)) < 0, is(true));
+    }
+
     @Test
     void shouldResetInstanceNamingOnClear() {
         // Given:
@@ -348,7 +365,8 @@ class DockerServiceContainerFunctionalTest {
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(),
-                        Map.of("CREEK_TEST_ENV_KEY", "expected value"));
+                        Map.of("CREEK_TEST_ENV_KEY", "expected value"),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
         final ServiceInstance instance = instances.add(serviceDef);
@@ -370,7 +388,8 @@ class DockerServiceContainerFunctionalTest {
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(),
-                        Map.of("CREEK_TEST_ENV_KEY", "expected value"));
+                        Map.of("CREEK_TEST_ENV_KEY", "expected value"),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(debug);
         final ServiceInstance instance = instances.add(serviceDef);
@@ -395,7 +414,8 @@ class DockerServiceContainerFunctionalTest {
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(),
-                        Map.of("CREEK_TEST_ENV_KEY", "original value"));
+                        Map.of("CREEK_TEST_ENV_KEY", "original value"),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
         when(serviceDebugInfo.env()).thenReturn(Map.of("CREEK_TEST_ENV_KEY", "expected value"));
@@ -421,7 +441,8 @@ class DockerServiceContainerFunctionalTest {
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(directory(tmpDir, Paths.get("/opt/creek/test_mount"), direction)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         final ServiceInstance instance = instances.add(serviceDef);
         final int start = (int) System.currentTimeMillis() / 1000;
@@ -449,7 +470,8 @@ class DockerServiceContainerFunctionalTest {
                                         tmpDir,
                                         Paths.get("/opt/creek/test_mount"),
                                         CopyDirection.COPY_TO_CONTAINER)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         final ServiceInstance instance = instances.add(serviceDef);
 
@@ -472,7 +494,8 @@ class DockerServiceContainerFunctionalTest {
                 new ContainerFactory(
                         serviceDebugInfo,
                         List.of(directory(tmpDir, Paths.get("/opt/creek/test_mount"), direction)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         final ServiceInstance instance = instances.add(serviceDef);
         final int start = (int) System.currentTimeMillis() / 1000;
@@ -503,7 +526,8 @@ class DockerServiceContainerFunctionalTest {
                                         tmpDir,
                                         Paths.get("/opt/creek/test_mount"),
                                         CopyDirection.COPY_TO_CONTAINER)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         final ServiceInstance instance = instances.add(serviceDef);
         final int start = (int) System.currentTimeMillis() / 1000;
@@ -530,7 +554,8 @@ class DockerServiceContainerFunctionalTest {
                                         tmpDir,
                                         Paths.get("/opt/creek/test_mount"),
                                         CopyDirection.COPY_TO_AND_FROM_CONTAINER)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         final ServiceInstance instance = instances.add(serviceDef);
         final int start = (int) System.currentTimeMillis() / 1000;
@@ -555,7 +580,8 @@ class DockerServiceContainerFunctionalTest {
                                         tmpDir,
                                         Paths.get("/opt/creek/test_mount"),
                                         CopyDirection.COPY_TO_AND_FROM_CONTAINER)),
-                        Map.of());
+                        Map.of(),
+                        ContainerFactory.Options.defaults());
         instances = new DockerServiceContainer(containerFactory);
         TestPaths.write(tmpDir.resolve("some.file"), "data");
         when(serviceDebugInfo.shouldDebug(any(), any())).thenReturn(true);
@@ -749,13 +775,11 @@ class DockerServiceContainerFunctionalTest {
         return inv -> {
             final ConfigurableServiceInstance instance = inv.getArgument(0);
             instance.addEnv("CREEK_SERVICE_SHOULD_FAIL", "true")
-                    .setStartupLogMessage(
-                            ".*"
-                                    + Pattern.quote(BasicLifecycle.started.logMessage(SERVICE_TYPE))
-                                    + ".*",
-                            1)
+                    .setReadinessProbe(
+                            ReadinessProbe.logMessage(
+                                    BasicLifecycle.started.logMessage(SERVICE_TYPE)))
                     .setStartupAttempts(1)
-                    .setStartupTimeout(Duration.ofSeconds(3));
+                    .setStartupTimeout(Duration.ofMinutes(1));
             return null;
         };
     }
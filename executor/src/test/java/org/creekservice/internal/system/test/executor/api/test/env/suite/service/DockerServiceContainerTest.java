@@ -18,6 +18,8 @@ package org.creekservice.internal.system.test.executor.api.test.env.suite.servic
 
 import static org.creekservice.test.util.CreateOnDifferentThread.createOnDifferentThread;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
@@ -41,6 +43,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -173,6 +176,45 @@ class DockerServiceContainerTest {
         verify(serviceDef).instanceStarted(instance);
     }
 
+    @Test
+    void shouldConfigureInstanceForFastTeardown() {
+        // Given:
+        when(containerFactory.fastTeardown()).thenReturn(true);
+        final ServiceInstance instance = instances.add(serviceDef);
+        when(container.getContainerId()).thenReturn("id");
+        when(container.isRunning()).thenReturn(true);
+
+        // When:
+        instance.stop();
+
+        // Then:
+        verify(container, never()).getDockerClient();
+        verify(container).stop();
+    }
+
+    @Test
+    void shouldConfigureInstanceToReuseContainersFromPool() {
+        // Given:
+        final ContainerPool pool = mock(ContainerPool.class);
+        final GenericContainer<?> pooled = mock(GenericContainer.class);
+        when(containerFactory.containerPool()).thenReturn(Optional.of(pool));
+        when(container.getDockerImageName()).thenReturn("bob:latest");
+        when(container.getEnvMap()).thenReturn(Map.of());
+        when(container.getExposedPorts()).thenReturn(List.of());
+        when(container.getCopyToFileContainerPathMap()).thenReturn(Map.of());
+        when(pool.acquire(any())).thenReturn(Optional.of(pooled));
+        when(pooled.getContainerId()).thenReturn("pooled");
+        final ServiceInstance instance = instances.add(serviceDef);
+
+        // When:
+        instance.start();
+
+        // Then:
+        verify(container, never()).start();
+        verify(serviceDef).instanceReused(instance);
+        verify(serviceDef).instanceStarted(instance);
+    }
+
     @Test
     void shouldGetByName() {
         // Given:
@@ -185,6 +227,66 @@ class DockerServiceContainerTest {
         assertThat(result, is(sameInstance(instance)));
     }
 
+    @Test
+    void shouldPrepareImagesOfServices() {
+        // Given:
+        final ServiceDefinition otherDef = mock(ServiceDefinition.class);
+        when(otherDef.dockerImage()).thenReturn("other:latest");
+
+        // When:
+        instances.preparation(List.of(serviceDef, otherDef, serviceDef)).run();
+
+        // Then:
+        verify(containerFactory)
+                .prepare(List.of(IMAGE_NAME, DockerImageName.parse("other:latest")));
+    }
+
+    @Test
+    void shouldNotPrepareUntilPreparationRuns() {
+        // When:
+        instances.preparation(List.of(serviceDef));
+
+        // Then:
+        verify(containerFactory, never()).prepare(any());
+    }
+
+    @Test
+    void shouldReleasePreparedEnvironment() {
+        // When:
+        instances.release();
+
+        // Then:
+        verify(containerFactory).release();
+    }
+
+    @Test
+    void shouldTrackImagesOfAddedServices() {
+        // Given:
+        final ServiceDefinition otherDef = mock(ServiceDefinition.class);
+        when(otherDef.name()).thenReturn("other");
+        when(otherDef.dockerImage()).thenReturn("other:latest");
+
+        // When:
+        instances.add(serviceDef);
+        instances.add(otherDef);
+        instances.add(serviceDef);
+
+        // Then:
+        assertThat(instances.images(), contains(IMAGE_NAME.toString(), "other:latest"));
+    }
+
+    @Test
+    void shouldClearImages() {
+        // Given:
+        instances.add(serviceDef);
+
+        // When:
+        instances.clear();
+
+        // Then:
+        assertThat(instances.images(), is(empty()));
+    }
+
     @Test
     void shouldThrowOnGetWithUnknownName() {
         // When:
@@ -289,6 +391,15 @@ class DockerServiceContainerTest {
                         (Consumer<DockerServiceContainer>)
                                 si -> si.add(mock(ServiceDefinition.class))),
                 Arguments.of("get", (Consumer<DockerServiceContainer>) si -> si.get("")),
+                Arguments.of(
+                        "images",
+                        (Consumer<DockerServiceContainer>) DockerServiceContainer::images),
+                Arguments.of(
+                        "preparation",
+                        (Consumer<DockerServiceContainer>) si -> si.preparation(List.of())),
+                Arguments.of(
+                        "release",
+                        (Consumer<DockerServiceContainer>) DockerServiceContainer::release),
                 Arguments.of(
                         "forEach",
                         (Consumer<DockerServiceContainer>) si -> si.forEach(mock(Consumer.class))));
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.output.OutputFrame;
+
+class FollowedLogsTest {
+
+    private final FollowedLogs logs = new FollowedLogs();
+
+    @Test
+    void shouldNotContainMessageBeforeLogged() {
+        // Given:
+        logs.accept(frame("starting\n"));
+
+        // Then:
+        assertThat(logs.contains("started"), is(false));
+    }
+
+    @Test
+    void shouldContainMessageOnceLogged() {
+        // Given:
+        logs.accept(frame("starting\n"));
+        logs.accept(frame("service [started]\n"));
+
+        // Then:
+        assertThat(logs.contains("[started]"), is(true));
+    }
+
+    @Test
+    void shouldFindMessageLoggedAfterPreviousSearch() {
+        // Given:
+        logs.accept(frame("starting\n"));
+        logs.contains("started");
+
+        // When:
+        logs.accept(frame("started\n"));
+
+        // Then:
+        assertThat(logs.contains("started"), is(true));
+    }
+
+    @Test
+    void shouldFindMessageSpanningFramesAfterPreviousSearch() {
+        // Given:
+        logs.accept(frame("service sta"));
+        logs.contains("started");
+
+        // When:
+        logs.accept(frame("rted\n"));
+
+        // Then:
+        assertThat(logs.contains("started"), is(true));
+    }
+
+    @Test
+    void shouldTrackSearchesPerMessage() {
+        // Given:
+        logs.accept(frame("ready\n"));
+        logs.contains("started");
+
+        // Then:
+        assertThat(logs.contains("ready"), is(true));
+    }
+
+    @Test
+    void shouldReturnLogsCapturedSoFar() {
+        // Given:
+        logs.accept(frame("started\n"));
+        logs.accept(frame("ready\n"));
+
+        // Then:
+        assertThat(logs.toUtf8String(), is("started\nready\n"));
+    }
+
+    @Test
+    void shouldIgnoreEndFrame() {
+        // When:
+        logs.accept(OutputFrame.END);
+
+        // Then:
+        assertThat(logs.contains("\n"), is(false));
+    }
+
+    @Test
+    void shouldCloseIfNotFollowing() {
+        // When:
+        logs.close();
+
+        // Then: did not throw.
+    }
+
+    private static OutputFrame frame(final String text) {
+        return new OutputFrame(
+                OutputFrame.OutputType.STDOUT, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.testcontainers.containers.Network;
+
+@SuppressWarnings("resource")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NetworkPoolTest {
+
+    @Mock private Supplier<Network> networkSupplier;
+    @Mock private Network network0;
+    @Mock private Network network1;
+
+    private NetworkPool pool;
+
+    @BeforeEach
+    void setUp() {
+        when(networkSupplier.get()).thenReturn(network0, network1);
+
+        pool = new NetworkPool(1, networkSupplier);
+    }
+
+    @Test
+    void shouldThrowOnNegativeMaxIdle() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new NetworkPool(-1, networkSupplier));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("maxIdle can not be negative. maxIdle: -1"));
+    }
+
+    @Test
+    void shouldCreateNetworkIfNoneIdle() {
+        // When:
+        final Network result = pool.acquire();
+
+        // Then:
+        assertThat(result, is(network0));
+        verify(networkSupplier).get();
+    }
+
+    @Test
+    void shouldCreateNewNetworkIfAllAcquired() {
+        // Given:
+        pool.acquire();
+
+        // When:
+        final Network result = pool.acquire();
+
+        // Then:
+        assertThat(result, is(network1));
+    }
+
+    @Test
+    void shouldReuseReleasedNetwork() {
+        // Given:
+        pool.release(pool.acquire());
+
+        // When:
+        final Network result = pool.acquire();
+
+        // Then:
+        assertThat(result, is(network0));
+        verify(networkSupplier, times(1)).get();
+        verify(network0, never()).close();
+    }
+
+    @Test
+    void shouldRemoveReleasedNetworkIfPoolFull() {
+        // Given:
+        final Network first = pool.acquire();
+        final Network second = pool.acquire();
+        pool.release(first);
+
+        // When:
+        pool.release(second);
+
+        // Then:
+        verify(network0, never()).close();
+        verify(network1).close();
+    }
+
+    @Test
+    void shouldRemoveReleasedNetworkIfUnpooled() {
+        // Given:
+        pool = new NetworkPool(0, networkSupplier);
+
+        // When:
+        pool.release(pool.acquire());
+
+        // Then:
+        verify(network0).close();
+    }
+
+    @Test
+    void shouldRemoveIdleNetworksOnClose() {
+        // Given:
+        pool.release(pool.acquire());
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(network0).close();
+    }
+
+    @Test
+    void shouldRemoveAcquiredNetworksOnClose() {
+        // Given:
+        pool.acquire();
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(network0).close();
+    }
+
+    @Test
+    void shouldNotRemoveNetworkAgainIfReleasedAfterClose() {
+        // Given:
+        final Network network = pool.acquire();
+        pool.close();
+
+        // When:
+        pool.release(network);
+
+        // Then:
+        verify(network0, times(1)).close();
+    }
+
+    @Test
+    void shouldContinueRemovingNetworksOnFailure() {
+        // Given:
+        pool.acquire();
+        pool.acquire();
+        doThrow(new RuntimeException("boom")).when(network0).close();
+
+        // When:
+        pool.close();
+
+        // Then:
+        verify(network1).close();
+    }
+
+    @Test
+    void shouldThrowOnAcquireAfterClose() {
+        // Given:
+        pool.close();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, pool::acquire);
+
+        // Then:
+        assertThat(e.getMessage(), is("Network pool is closed"));
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.api.test.env.suite.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadinessWaitStrategyTest {
+
+    @Mock private ReadinessProbe probe;
+    @Mock private WaitStrategyTarget target;
+    @Mock private DockerClient dockerClient;
+    @Mock private Closeable logStream;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private LogContainerCmd logCmd;
+
+    private ReadinessWaitStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        when(target.isRunning()).thenReturn(true);
+        when(target.getContainerId()).thenReturn("container-id");
+        when(target.getDockerClient()).thenReturn(dockerClient);
+        when(dockerClient.logContainerCmd(any())).thenReturn(logCmd);
+
+        strategy = new ReadinessWaitStrategy(probe, Duration.ofMillis(1), Duration.ofMillis(5));
+        strategy.withStartupTimeout(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldReturnOnceProbeReportsReady() throws Exception {
+        // Given:
+        when(probe.ready(any())).thenReturn(false, false, true);
+
+        // When:
+        strategy.waitUntilReady(target);
+
+        // Then:
+        verify(probe, times(3)).ready(any());
+    }
+
+    @Test
+    void shouldTreatProbeExceptionsAsNotReady() throws Exception {
+        // Given:
+        when(probe.ready(any())).thenThrow(new RuntimeException("boom")).thenReturn(true);
+
+        // When:
+        strategy.waitUntilReady(target);
+
+        // Then:
+        verify(probe, times(2)).ready(any());
+    }
+
+    @Test
+    void shouldFailFastIfContainerExits() throws Exception {
+        // Given:
+        when(target.isRunning()).thenReturn(true, false);
+        when(probe.ready(any())).thenReturn(false);
+
+        // When:
+        final Exception e =
+                assertThrows(ContainerLaunchException.class, () -> strategy.waitUntilReady(target));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Container exited before becoming ready"));
+        verify(probe, times(1)).ready(any());
+    }
+
+    @Test
+    void shouldNotProbeIfContainerAlreadyExited() throws Exception {
+        // Given:
+        when(target.isRunning()).thenReturn(false);
+
+        // When:
+        assertThrows(ContainerLaunchException.class, () -> strategy.waitUntilReady(target));
+
+        // Then:
+        verify(probe, never()).ready(any());
+    }
+
+    @Test
+    void shouldTimeOutIfNeverReady() throws Exception {
+        // Given:
+        strategy.withStartupTimeout(Duration.ofMillis(20));
+        when(probe.ready(any())).thenReturn(false);
+
+        // When:
+        final Exception e =
+                assertThrows(ContainerLaunchException.class, () -> strategy.waitUntilReady(target));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("Timed out waiting for container to become ready. timeout: PT0.02S"));
+    }
+
+    @Test
+    void shouldFollowLogsOnceAcrossPolls() throws Exception {
+        // Given:
+        givenLogs("starting\n", "started\n");
+        when(probe.ready(any()))
+                .thenAnswer(logContains("ready"))
+                .thenAnswer(logContains("ready"))
+                .thenAnswer(logContains("started"));
+
+        // When:
+        strategy.waitUntilReady(target);
+
+        // Then:
+        verify(probe, times(3)).ready(any());
+        verify(dockerClient, times(1)).logContainerCmd("container-id");
+        verify(logCmd).withFollowStream(true);
+        verify(logCmd).withSince(0);
+    }
+
+    @Test
+    void shouldNotFollowLogsIfProbeDoesNotCheckLogs() throws Exception {
+        // Given:
+        when(probe.ready(any())).thenReturn(true);
+
+        // When:
+        strategy.waitUntilReady(target);
+
+        // Then:
+        verify(target, never()).getDockerClient();
+    }
+
+    @Test
+    void shouldStopFollowingLogsOnceReady() throws Exception {
+        // Given:
+        givenLogs("started\n");
+        when(probe.ready(any())).thenAnswer(logContains("started"));
+
+        // When:
+        strategy.waitUntilReady(target);
+
+        // Then:
+        verify(logStream).close();
+    }
+
+    @Test
+    void shouldExposeContainerToProbe() throws Exception {
+        // Given:
+        when(probe.ready(any())).thenReturn(true);
+        when(target.getHost()).thenReturn("host");
+        when(target.getMappedPort(8080)).thenReturn(1234);
+        final Container.ExecResult execResult = mock(Container.ExecResult.class);
+        when(execResult.getExitCode()).thenReturn(3);
+        when(execResult.getStdout()).thenReturn("out");
+        when(execResult.getStderr()).thenReturn("err");
+        when(target.execInContainer("cmd")).thenReturn(execResult);
+
+        strategy.waitUntilReady(target);
+
+        final ArgumentCaptor<ReadinessProbe.Target> captor =
+                ArgumentCaptor.forClass(ReadinessProbe.Target.class);
+        verify(probe).ready(captor.capture());
+
+        // When:
+        final ReadinessProbe.Target probeTarget = captor.getValue();
+
+        // Then:
+        assertThat(probeTarget.testNetworkHostname(), is("host"));
+        assertThat(probeTarget.testNetworkPort(8080), is(1234));
+        assertThat(probeTarget.execOnInstance("cmd").exitCode(), is(3));
+        assertThat(probeTarget.execOnInstance("cmd").stdout(), is("out"));
+    }
+
+    private void givenLogs(final String... lines) {
+        when(logCmd.exec(any()))
+                .thenAnswer(
+                        inv -> {
+                            final ResultCallback<Frame> callback = inv.getArgument(0);
+                            callback.onStart(logStream);
+                            for (final String line : lines) {
+                                callback.onNext(
+                                        new Frame(
+                                                StreamType.STDOUT,
+                                                line.getBytes(StandardCharsets.UTF_8)));
+                            }
+                            return callback;
+                        });
+    }
+
+    private static Answer<Boolean> logContains(final String message) {
+        return inv -> inv.<ReadinessProbe.Target>getArgument(0).logContains(message);
+    }
+}
@@ -103,6 +103,48 @@ class PicoCliParserTest {
         assertThat(result.map(ExecutorOptions::echoOnly), is(Optional.of(false)));
     }
 
+    @SuppressFBWarnings("DMI_HARDCODED_ABSOLUTE_FILENAME")
+    @Test
+    void shouldResolveRelativePathsAgainstWorkingDirectory() {
+        // Given:
+        final Path cwd = Path.of(File.separator, "client", "dir");
+        final String[] args =
+                minimalArgs("--run-history-file=history.txt", "--mount-writable=host=container");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(cwd, args);
+
+        // Then:
+        assertThat(
+                result.map(ExecutorOptions::testDirectory),
+                is(Optional.of(cwd.resolve(TESTS_PATH))));
+        assertThat(
+                result.map(ExecutorOptions::resultDirectory),
+                is(Optional.of(cwd.resolve(RESULTS_PATH))));
+        assertThat(
+                result.flatMap(ExecutorOptions::runHistoryFile),
+                is(Optional.of(cwd.resolve("history.txt"))));
+
+        final ExecutorOptions.DirectoryInfo mount = result.get().transferables().iterator().next();
+        assertThat(mount.hostPath(), is(cwd.resolve("host")));
+        assertThat(mount.containerPath(), is(Path.of("container")));
+    }
+
+    @SuppressFBWarnings("DMI_HARDCODED_ABSOLUTE_FILENAME")
+    @Test
+    void shouldNotResolveAbsolutePathsAgainstWorkingDirectory() {
+        // Given:
+        final Path cwd = Path.of(File.separator, "client", "dir");
+        final Path tests = Path.of(File.separator, "tests");
+        final String[] args = {"-td", tests.toString(), "-rd", RESULTS_PATH.toString()};
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(cwd, args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::testDirectory), is(Optional.of(tests)));
+    }
+
     @Test
     void shouldThrowIfTestPathNotProvided() {
         // Given:
@@ -489,6 +531,414 @@ class PicoCliParserTest {
                                 + " positive."));
     }
 
+    @Test
+    void shouldDefaultToSequentialExecution() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::parallelism), is(Optional.of(1)));
+    }
+
+    @Test
+    void shouldParseParallelism() {
+        // Given:
+        final String[] args = minimalArgs("--parallelism=4");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::parallelism), is(Optional.of(4)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidParallelism() {
+        // Given:
+        final String[] args = minimalArgs("-pl=0");
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> parse(args));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Invalid value '0' for option '--parallelism': value must be positive."));
+    }
+
+    @Test
+    void shouldDefaultToNoSharding() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::shardCount), is(Optional.of(1)));
+        assertThat(result.map(ExecutorOptions::shardIndex), is(Optional.of(0)));
+        assertThat(result.flatMap(ExecutorOptions::shardHistoryDirectory), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseShardOptions() {
+        // Given:
+        final String[] args =
+                minimalArgs("--shard-count=3", "--shard-index=2", "--shard-history-directory=hist");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::shardCount), is(Optional.of(3)));
+        assertThat(result.map(ExecutorOptions::shardIndex), is(Optional.of(2)));
+        assertThat(
+                result.flatMap(ExecutorOptions::shardHistoryDirectory),
+                is(Optional.of(Path.of("hist"))));
+    }
+
+    @Test
+    void shouldDefaultToNoRunHistory() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.flatMap(ExecutorOptions::runHistoryFile), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseRunHistoryFile() {
+        // Given:
+        final String[] args = minimalArgs("--run-history-file=history.tsv");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::runHistoryFile),
+                is(Optional.of(Path.of("history.tsv"))));
+    }
+
+    @Test
+    void shouldThrowOnInvalidShardCount() {
+        // Given:
+        final String[] args = minimalArgs("-sc=0");
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> parse(args));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Invalid value '0' for option '--shard-count': value must be positive."));
+    }
+
+    @Test
+    void shouldThrowOnNegativeShardIndex() {
+        // Given:
+        final String[] args = minimalArgs("-si=-1");
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> parse(args));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Invalid value '-1' for option '--shard-index': value must not be"
+                                + " negative."));
+    }
+
+    @Test
+    void shouldThrowOnShardIndexNotLessThanShardCount() {
+        // Given:
+        final String[] args = minimalArgs("--shard-count=2", "--shard-index=2");
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> parse(args));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Invalid value '2' for option '--shard-index': value must be less than"
+                                + " --shard-count (2)."));
+    }
+
+    @Test
+    void shouldDefaultToGracefulTeardown() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::fastTeardown), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseFastTeardown() {
+        // Given:
+        final String[] args = minimalArgs("--fast-teardown");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::fastTeardown), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldNotReuseContainersByDefault() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::reuseContainers), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseReuseContainers() {
+        // Given:
+        final String[] args = minimalArgs("--reuse-containers");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::reuseContainers), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldNotParallelizeInputsByDefault() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::parallelInputs), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseParallelInputs() {
+        // Given:
+        final String[] args = minimalArgs("--parallel-inputs");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::parallelInputs), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldDefaultToNoVerifierHistory() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.flatMap(ExecutorOptions::verifierHistoryFile), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseVerifierHistoryFile() {
+        // Given:
+        final String[] args = minimalArgs("--verifier-history-file=verifiers.tsv");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::verifierHistoryFile),
+                is(Optional.of(Path.of("verifiers.tsv"))));
+    }
+
+    @Test
+    void shouldDefaultToNoIncrementalCache() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::incrementalCacheDirectory), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseIncrementalCacheDirectory() {
+        // Given:
+        final String[] args = minimalArgs("--incremental-cache-dir=cache");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::incrementalCacheDirectory),
+                is(Optional.of(Path.of("cache"))));
+    }
+
+    @Test
+    void shouldDefaultToNotRerunningFailed() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.flatMap(ExecutorOptions::rerunFailedDirectory), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseRerunFailedDirectory() {
+        // Given:
+        final String[] args = minimalArgs("--rerun-failed=previous");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::rerunFailedDirectory),
+                is(Optional.of(Path.of("previous"))));
+    }
+
+    @Test
+    void shouldDefaultToNoTestRetries() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::testRetries), is(Optional.of(0)));
+    }
+
+    @Test
+    void shouldParseTestRetries() {
+        // Given:
+        final String[] args = minimalArgs("--test-retries=2");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::testRetries), is(Optional.of(2)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidTestRetries() {
+        // Given:
+        final String[] args = minimalArgs("-tr=-1");
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> parse(args));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Invalid value '-1' for option '--test-retries': value must not be"
+                                + " negative."));
+    }
+
+    @Test
+    void shouldDefaultToNoFlakinessLedger() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.flatMap(ExecutorOptions::flakinessLedgerFile), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseFlakinessLedgerFile() {
+        // Given:
+        final String[] args = minimalArgs("--flakiness-ledger-file=flaky.tsv");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(ExecutorOptions::flakinessLedgerFile),
+                is(Optional.of(Path.of("flaky.tsv"))));
+    }
+
+    @Test
+    void shouldNotWatchByDefault() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::watch), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseWatch() {
+        // Given:
+        final String[] args = minimalArgs("--watch");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::watch), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldNotLookAheadByDefault() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::lookAhead), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseLookAhead() {
+        // Given:
+        final String[] args = minimalArgs("--look-ahead");
+
+        // When:
+        final Optional<ExecutorOptions> result = parse(args);
+
+        // Then:
+        assertThat(result.map(ExecutorOptions::lookAhead), is(Optional.of(true)));
+    }
+
     @Test
     void shouldDeduplicateServiceNames() {
         // Given:
@@ -554,7 +1004,37 @@ class PicoCliParserTest {
                                         + lineSeparator()
                                         + "--mount-read-only=<Not Set>"
                                         + lineSeparator()
-                                        + "--mount-writable=<Not Set>")));
+                                        + "--mount-writable=<Not Set>"
+                                        + lineSeparator()
+                                        + "--parallelism=1"
+                                        + lineSeparator()
+                                        + "--fast-teardown=false"
+                                        + lineSeparator()
+                                        + "--reuse-containers=false"
+                                        + lineSeparator()
+                                        + "--parallel-inputs=false"
+                                        + lineSeparator()
+                                        + "--shard-count=1"
+                                        + lineSeparator()
+                                        + "--shard-index=0"
+                                        + lineSeparator()
+                                        + "--shard-history-directory=<Not Set>"
+                                        + lineSeparator()
+                                        + "--run-history-file=<Not Set>"
+                                        + lineSeparator()
+                                        + "--verifier-history-file=<Not Set>"
+                                        + lineSeparator()
+                                        + "--incremental-cache-dir=<Not Set>"
+                                        + lineSeparator()
+                                        + "--rerun-failed=<Not Set>"
+                                        + lineSeparator()
+                                        + "--test-retries=0"
+                                        + lineSeparator()
+                                        + "--flakiness-ledger-file=<Not Set>"
+                                        + lineSeparator()
+                                        + "--watch=false"
+                                        + lineSeparator()
+                                        + "--look-ahead=false")));
     }
 
     @Test
@@ -580,7 +1060,22 @@ class PicoCliParserTest {
                         "-de=E=F",
                         "-e=A=B;C=D",
                         "--dir-copy-read-only=" + mrS0 + "=" + mrD0 + "," + mrS1 + "=" + mrD1,
-                        "--dir-copy-read-write=" + mwS0 + "=" + mwD0 + "," + mwS1 + "=" + mwD1);
+                        "--dir-copy-read-write=" + mwS0 + "=" + mwD0 + "," + mwS1 + "=" + mwD1,
+                        "--parallelism=4",
+                        "--fast-teardown",
+                        "--reuse-containers",
+                        "--parallel-inputs",
+                        "--shard-count=3",
+                        "--shard-index=1",
+                        "--shard-history-directory=hist",
+                        "--run-history-file=history.tsv",
+                        "--verifier-history-file=verifiers.tsv",
+                        "--incremental-cache-dir=cache",
+                        "--rerun-failed=previous",
+                        "--test-retries=2",
+                        "--flakiness-ledger-file=flaky.tsv",
+                        "--watch",
+                        "--look-ahead");
 
         // When:
         final Optional<ExecutorOptions> result = parse(args);
@@ -626,7 +1121,43 @@ class PicoCliParserTest {
                                         + ","
                                         + mwS1
                                         + "="
-                                        + mwD1)));
+                                        + mwD1
+                                        + lineSeparator()
+                                        + "--parallelism=4"
+                                        + lineSeparator()
+                                        + "--fast-teardown=true"
+                                        + lineSeparator()
+                                        + "--reuse-containers=true"
+                                        + lineSeparator()
+                                        + "--parallel-inputs=true"
+                                        + lineSeparator()
+                                        + "--shard-count=3"
+                                        + lineSeparator()
+                                        + "--shard-index=1"
+                                        + lineSeparator()
+                                        + "--shard-history-directory="
+                                        + Path.of("hist")
+                                        + lineSeparator()
+                                        + "--run-history-file="
+                                        + Path.of("history.tsv")
+                                        + lineSeparator()
+                                        + "--verifier-history-file="
+                                        + Path.of("verifiers.tsv")
+                                        + lineSeparator()
+                                        + "--incremental-cache-dir="
+                                        + Path.of("cache")
+                                        + lineSeparator()
+                                        + "--rerun-failed="
+                                        + Path.of("previous")
+                                        + lineSeparator()
+                                        + "--test-retries=2"
+                                        + lineSeparator()
+                                        + "--flakiness-ledger-file="
+                                        + Path.of("flaky.tsv")
+                                        + lineSeparator()
+                                        + "--watch=true"
+                                        + lineSeparator()
+                                        + "--look-ahead=true")));
     }
 
     private static String[] minimalArgs(final String... additional) {
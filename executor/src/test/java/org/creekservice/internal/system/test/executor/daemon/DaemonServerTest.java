@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.daemon;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DaemonServerTest {
+
+    @TempDir private Path dir;
+    private Path socket;
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private final List<Path> workingDirs = new CopyOnWriteArrayList<>();
+    private final List<String> output = new ArrayList<>();
+    private DaemonServer server;
+    private Thread serverThread;
+    private DaemonClient client;
+
+    @BeforeEach
+    void setUp() {
+        socket = dir.resolve("daemon.sock");
+        server =
+                new DaemonServer(
+                        socket,
+                        (cwd, args, out) -> {
+                            workingDirs.add(cwd);
+                            requests.add(args);
+                            if (args.contains("--throw")) {
+                                throw new RuntimeException("Boom");
+                            }
+                            out.accept("first line\nsecond line");
+                            return args.size();
+                        });
+        serverThread = new Thread(server::serve);
+        serverThread.start();
+        client = new DaemonClient(socket);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+        serverThread.join(10_000);
+    }
+
+    @Test
+    void shouldPassArgsToHandler() {
+        // When:
+        client.run(List.of("--a=b", "", "c d"), output::add);
+
+        // Then:
+        assertThat(requests, contains(List.of("--a=b", "", "c d")));
+    }
+
+    @Test
+    void shouldPassClientWorkingDirectoryToHandler() {
+        // Given:
+        final Path cwd = dir.resolve("client").toAbsolutePath();
+        final DaemonClient otherDir = new DaemonClient(socket, cwd);
+
+        // When:
+        otherDir.run(List.of("a"), output::add);
+
+        // Then:
+        assertThat(workingDirs, contains(cwd));
+    }
+
+    @Test
+    void shouldDefaultToCurrentWorkingDirectory() {
+        // When:
+        client.run(List.of("a"), output::add);
+
+        // Then:
+        assertThat(workingDirs, contains(Path.of("").toAbsolutePath()));
+    }
+
+    @Test
+    void shouldStreamOutputLinesToClient() {
+        // When:
+        client.run(List.of(), output::add);
+
+        // Then:
+        assertThat(output, contains("first line", "second line"));
+    }
+
+    @Test
+    void shouldReturnExitCode() {
+        // When:
+        final int result = client.run(List.of("a", "b"), output::add);
+
+        // Then:
+        assertThat(result, is(2));
+    }
+
+    @Test
+    void shouldHandleMultipleRequests() {
+        // When:
+        client.run(List.of("a"), output::add);
+        client.run(List.of("b"), output::add);
+
+        // Then:
+        assertThat(requests, contains(List.of("a"), List.of("b")));
+    }
+
+    @Test
+    void shouldReturnErrorExitCodeIfHandlerThrows() {
+        // When:
+        final int result = client.run(List.of("--throw"), output::add);
+
+        // Then:
+        assertThat(result, is(2));
+        assertThat(output, contains("Boom"));
+    }
+
+    @Test
+    void shouldThrowOnArgsContainingLineBreaks() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> client.run(List.of("a\nb"), output::add));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Arguments can not contain line breaks"));
+        assertThat(requests, is(List.of()));
+    }
+
+    @Test
+    void shouldThrowIfAnotherDaemonIsListening() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> new DaemonServer(socket, (c, a, o) -> 0));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Daemon already listening on"));
+    }
+
+    @Test
+    void shouldReplaceStaleSocketFile() throws Exception {
+        // Given:
+        final Path stale = dir.resolve("stale.sock");
+        Files.createFile(stale);
+
+        // When:
+        try (DaemonServer other = new DaemonServer(stale, (c, a, o) -> 0)) {
+
+            // Then: did not throw.
+            assertThat(Files.exists(stale), is(true));
+        }
+    }
+
+    @Test
+    void shouldDeleteSocketOnClose() throws Exception {
+        // When:
+        server.close();
+        serverThread.join(10_000);
+
+        // Then:
+        assertThat(Files.exists(socket), is(false));
+        assertThat(serverThread.isAlive(), is(false));
+    }
+
+    @Test
+    void shouldThrowFromClientIfNoDaemonListening() {
+        // Given:
+        final DaemonClient noDaemon = new DaemonClient(dir.resolve("missing.sock"));
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> noDaemon.run(List.of(), output::add));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Failed to execute run on daemon"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ApiThreadTest {
+
+    private final ApiThread apiThread = ApiThread.current();
+
+    @Test
+    void shouldRunTaskImmediatelyOnOwningThread() {
+        // Given:
+        final AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // When:
+        apiThread.run(() -> ranOn.set(Thread.currentThread()));
+
+        // Then:
+        assertThat(ranOn.get(), is(Thread.currentThread()));
+    }
+
+    @Test
+    void shouldRunCallsFromOtherThreadsOnOwningThread() throws Exception {
+        // Given:
+        final AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // When:
+        final CompletableFuture<Void> done =
+                CompletableFuture.runAsync(
+                        () -> apiThread.run(() -> ranOn.set(Thread.currentThread())));
+        apiThread.serveUntil(done);
+
+        // Then:
+        done.join();
+        assertThat(ranOn.get(), is(Thread.currentThread()));
+    }
+
+    @Test
+    void shouldThrowExceptionOfTaskToCaller() throws Exception {
+        // Given:
+        final RuntimeException cause = new RuntimeException("boom");
+
+        // When:
+        final CompletableFuture<Void> done =
+                CompletableFuture.runAsync(
+                        () ->
+                                apiThread.run(
+                                        () -> {
+                                            throw cause;
+                                        }));
+        apiThread.serveUntil(done);
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, done::join);
+        assertThat(e.getCause(), is(cause));
+    }
+
+    @Test
+    void shouldFailCallsOnceNoLongerServing() throws Exception {
+        // Given:
+        apiThread.serveUntil(CompletableFuture.completedFuture(null));
+
+        // When:
+        final CompletableFuture<Void> call =
+                CompletableFuture.runAsync(() -> apiThread.run(() -> {}));
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, call::join);
+        assertThat(e.getCause().getMessage(), is("The api thread is no longer serving calls"));
+    }
+
+    @Test
+    void shouldThrowIfServedFromOtherThread() {
+        // When:
+        final CompletableFuture<Void> result =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                apiThread.serveUntil(new CompletableFuture<>());
+                            } catch (final InterruptedException e) {
+                                throw new AssertionError(e);
+                            }
+                        });
+
+        // Then:
+        final Exception e = assertThrows(CompletionException.class, result::join);
+        assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+}
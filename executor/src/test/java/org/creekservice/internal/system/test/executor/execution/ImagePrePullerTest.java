@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImagePrePullerTest {
+
+    private static final Map<String, String> SERVICE_IMAGES =
+            Map.of("a", "image-a", "b", "image-b", "c", "image-a");
+
+    @Mock private Consumer<String> puller;
+    @Mock private Function<String, Optional<String>> digestResolver;
+    @Mock private CreekTestSuite suite1;
+    @Mock private CreekTestSuite suite2;
+    private ImagePrePuller prePuller;
+
+    @BeforeEach
+    void setUp() {
+        prePuller = new ImagePrePuller(SERVICE_IMAGES, puller, digestResolver, 2);
+
+        when(suite1.services()).thenReturn(List.of("a", "b"));
+        when(suite2.services()).thenReturn(List.of("c", "unknown"));
+        when(digestResolver.apply("image-a")).thenReturn(Optional.of("image-a@sha256:1"));
+        when(digestResolver.apply("image-b")).thenReturn(Optional.of("image-b@sha256:2"));
+    }
+
+    @Test
+    void shouldPullEachImageOnce() {
+        // When:
+        prePuller.prePull(List.of(suite1, suite2));
+
+        // Then:
+        verify(puller, times(1)).accept("image-a");
+        verify(puller, times(1)).accept("image-b");
+    }
+
+    @Test
+    void shouldIgnoreUnknownServices() {
+        // When:
+        prePuller.prePull(List.of(suite2));
+
+        // Then:
+        verify(puller).accept("image-a");
+        verify(puller, never()).accept("unknown");
+    }
+
+    @Test
+    void shouldDoNothingIfNoSuites() {
+        // When:
+        prePuller.prePull(List.of());
+
+        // Then:
+        verify(puller, never()).accept(any());
+    }
+
+    @Test
+    void shouldPullConcurrently() {
+        // Given:
+        final CountDownLatch bothPulling = new CountDownLatch(2);
+        final Set<String> pulled = ConcurrentHashMap.newKeySet();
+        final Consumer<String> blockingPuller =
+                image -> {
+                    bothPulling.countDown();
+                    try {
+                        if (bothPulling.await(30, TimeUnit.SECONDS)) {
+                            pulled.add(image);
+                        }
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+
+        prePuller = new ImagePrePuller(SERVICE_IMAGES, blockingPuller, digestResolver, 2);
+
+        // When:
+        prePuller.prePull(List.of(suite1));
+
+        // Then:
+        assertThat(pulled, containsInAnyOrder("image-a", "image-b"));
+    }
+
+    @Test
+    void shouldResolveDigestsOfSuiteServices() {
+        // Given:
+        prePuller.prePull(List.of(suite1, suite2));
+
+        // When:
+        final Map<String, String> result = prePuller.digests(suite2);
+
+        // Then:
+        assertThat(result, is(Map.of("c", "image-a@sha256:1")));
+    }
+
+    @Test
+    void shouldNotResolveDigestsBeforePrePull() {
+        assertThat(prePuller.digests(suite1), is(Map.of()));
+    }
+
+    @Test
+    void shouldResolveDigestsWithoutPulling() {
+        // When:
+        prePuller.resolveDigests(List.of(suite1));
+
+        // Then:
+        verify(puller, never()).accept(any());
+        assertThat(
+                prePuller.digests(suite1),
+                is(Map.of("a", "image-a@sha256:1", "b", "image-b@sha256:2")));
+    }
+
+    @Test
+    void shouldNotResolveDigestsAgainOnceResolved() {
+        // Given:
+        prePuller.prePull(List.of(suite1));
+
+        // When:
+        prePuller.resolveDigests(List.of(suite1, suite2));
+
+        // Then:
+        verify(digestResolver, times(1)).apply("image-a");
+        verify(digestResolver, times(1)).apply("image-b");
+    }
+
+    @Test
+    void shouldNotFailIfPullFails() {
+        // Given:
+        doThrow(new RuntimeException("Boom")).when(puller).accept("image-a");
+
+        // When:
+        prePuller.prePull(List.of(suite1));
+
+        // Then:
+        assertThat(prePuller.digests(suite1), is(Map.of("b", "image-b@sha256:2")));
+    }
+
+    @Test
+    void shouldOmitImagesWhoseDigestCanNotBeResolved() {
+        // Given:
+        when(digestResolver.apply("image-b")).thenReturn(Optional.empty());
+
+        // When:
+        prePuller.prePull(List.of(suite1));
+
+        // Then:
+        assertThat(prePuller.digests(suite1), is(Map.of("a", "image-a@sha256:1")));
+    }
+
+    @Test
+    void shouldDoNothingIfNone() {
+        // When:
+        ImagePrePuller.none().prePull(List.of(suite1));
+
+        // Then:
+        assertThat(ImagePrePuller.none().digests(suite1), is(Map.of()));
+    }
+
+    @Test
+    void shouldThrowOnInvalidThreads() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ImagePrePuller(SERVICE_IMAGES, puller, digestResolver, 0));
+    }
+}
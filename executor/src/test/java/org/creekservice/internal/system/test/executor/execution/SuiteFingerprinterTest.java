@@ -0,0 +1,289 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.system.test.executor.ExecutorOptions.CopyDirection;
+import org.creekservice.api.system.test.executor.ExecutorOptions.DirectoryInfo;
+import org.creekservice.api.system.test.extension.test.model.ExpectationRef;
+import org.creekservice.api.system.test.extension.test.model.InputRef;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestCaseDef;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SuiteFingerprinterTest {
+
+    private static final Map<String, String> IMAGES = Map.of("service-a", "image-a:latest");
+    private static final Map<String, String> VERSIONS = Map.of("executor", "1.0.0");
+
+    @TempDir private Path pkgDir;
+    @TempDir private Path hostDir;
+    @TempDir private Path otherHostDir;
+    @Mock private TestSuite suite;
+    @Mock private TestCase test;
+    @Mock private TestCaseDef def;
+    @Mock private InputRef inputRef;
+    @Mock private ExpectationRef expectationRef;
+    private Map<String, String> imageIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageIds = new HashMap<>(Map.of("image-a:latest", "sha256:1234"));
+
+        final Path suiteFile = write(pkgDir.resolve("suite.yml"), "suite content");
+        write(pkgDir.resolve("seed/seed.yml"), "seed content");
+        write(pkgDir.resolve("inputs/in.yml"), "input content");
+        write(pkgDir.resolve("expectations/out.yaml"), "expectation content");
+        write(hostDir.resolve("file.txt"), "host content");
+
+        when(suite.name()).thenReturn("suite");
+        when(suite.location()).thenReturn(URI.create(suiteFile.toUri() + ":1"));
+        when(suite.services()).thenReturn(List.of("service-a"));
+        when(suite.tests()).thenReturn(List.of(test));
+        when(test.def()).thenReturn(def);
+        when(def.inputs()).thenReturn(List.of(inputRef));
+        when(def.expectations()).thenReturn(List.of(expectationRef));
+        when(inputRef.id()).thenReturn("in");
+        when(expectationRef.id()).thenReturn("out");
+    }
+
+    @Test
+    void shouldReturnStableFingerprint() {
+        // When:
+        final Optional<String> first = fingerprinter().fingerprint(suite);
+        final Optional<String> second = fingerprinter().fingerprint(suite);
+
+        // Then:
+        assertThat(first.isPresent(), is(true));
+        assertThat(first, is(second));
+    }
+
+    @Test
+    void shouldChangeIfSuiteFileChanges() throws Exception {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        write(pkgDir.resolve("suite.yml"), "changed");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfSeedChanges() throws Exception {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        write(pkgDir.resolve("seed/more.yaml"), "more seed");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfInputChanges() throws Exception {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        write(pkgDir.resolve("inputs/in.yml"), "changed");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfExpectationChanges() throws Exception {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        write(pkgDir.resolve("expectations/out.yaml"), "changed");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldNotChangeIfUnreferencedInputChanges() throws Exception {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        write(pkgDir.resolve("inputs/other.yml"), "other");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(before));
+    }
+
+    @Test
+    void shouldChangeIfImageIdChanges() {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        imageIds.put("image-a:latest", "sha256:5678");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfEnvChanges() {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        final SuiteFingerprinter fingerprinter =
+                new SuiteFingerprinter(
+                        IMAGES, this::imageId, Map.of("A", "B"), List.of(), VERSIONS);
+
+        // Then:
+        assertThat(fingerprinter.fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfVersionsChange() {
+        // Given:
+        final Optional<String> before = fingerprinter().fingerprint(suite);
+
+        // When:
+        final SuiteFingerprinter fingerprinter =
+                new SuiteFingerprinter(
+                        IMAGES,
+                        this::imageId,
+                        Map.of(),
+                        List.of(),
+                        Map.of("executor", "1.0.0", "some-extension", "2.0.0"));
+
+        // Then:
+        assertThat(fingerprinter.fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldChangeIfContentCopiedToContainerChanges() throws Exception {
+        // Given:
+        final List<DirectoryInfo> transferables =
+                List.of(
+                        new DirectoryInfo(
+                                hostDir, Path.of("/container"), CopyDirection.COPY_TO_CONTAINER));
+        final SuiteFingerprinter fingerprinter =
+                new SuiteFingerprinter(
+                        IMAGES, this::imageId, Map.of(), transferables, VERSIONS);
+        final Optional<String> before = fingerprinter.fingerprint(suite);
+
+        // When:
+        write(hostDir.resolve("file.txt"), "changed");
+
+        // Then:
+        assertThat(fingerprinter.fingerprint(suite), is(not(before)));
+    }
+
+    @Test
+    void shouldNotChangeIfHostDirectoryMovesWithSameContent() throws Exception {
+        // Given:
+        write(otherHostDir.resolve("file.txt"), "host content");
+        final Optional<String> before = fingerprintCopyingTo(hostDir);
+
+        // When:
+        final Optional<String> result = fingerprintCopyingTo(otherHostDir);
+
+        // Then:
+        assertThat(result, is(before));
+    }
+
+    @Test
+    void shouldReturnEmptyIfImageNotAvailableLocally() {
+        // Given:
+        imageIds.clear();
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnEmptyIfServiceImageUnknown() {
+        // Given:
+        when(suite.services()).thenReturn(List.of("unknown-service"));
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnEmptyIfReferencedFileMissing() {
+        // Given:
+        when(inputRef.id()).thenReturn("missing");
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnEmptyIfSuiteNotLoadedFromFile() {
+        // Given:
+        when(suite.location()).thenReturn(URI.create("jar:file:/some.jar!/suite.yml"));
+
+        // Then:
+        assertThat(fingerprinter().fingerprint(suite), is(Optional.empty()));
+    }
+
+    private SuiteFingerprinter fingerprinter() {
+        return new SuiteFingerprinter(IMAGES, this::imageId, Map.of(), List.of(), VERSIONS);
+    }
+
+    private Optional<String> fingerprintCopyingTo(final Path host) {
+        final List<DirectoryInfo> transferables =
+                List.of(
+                        new DirectoryInfo(
+                                host, Path.of("/container"), CopyDirection.COPY_TO_CONTAINER));
+        return new SuiteFingerprinter(IMAGES, this::imageId, Map.of(), transferables, VERSIONS)
+                .fingerprint(suite);
+    }
+
+    private Optional<String> imageId(final String image) {
+        return Optional.ofNullable(imageIds.get(image));
+    }
+
+    private static Path write(final Path file, final String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.Test;
+
+class SuiteSchedulerTest {
+
+    private final TestSuite a = suite("a");
+    private final TestSuite b = suite("b");
+    private final TestSuite c = suite("c");
+    private final TestSuite d = suite("d");
+
+    @Test
+    void shouldRetainDiscoveryOrderWithoutHistory() {
+        assertThat(SuiteScheduler.discoveryOrder().order(List.of(a, b, c)), contains(a, b, c));
+    }
+
+    @Test
+    void shouldRetainDiscoveryOrderIfNoSuitesHaveHistory() {
+        // Given:
+        final SuiteScheduler scheduler = new SuiteScheduler(Map.of("x", Duration.ofSeconds(1)));
+
+        // Then:
+        assertThat(scheduler.order(List.of(a, b, c)), contains(a, b, c));
+    }
+
+    @Test
+    void shouldOrderLongestFirst() {
+        // Given:
+        final SuiteScheduler scheduler =
+                new SuiteScheduler(
+                        Map.of(
+                                "a", Duration.ofSeconds(1),
+                                "b", Duration.ofSeconds(10),
+                                "c", Duration.ofSeconds(5)));
+
+        // Then:
+        assertThat(scheduler.order(List.of(a, b, c)), contains(b, c, a));
+    }
+
+    @Test
+    void shouldAssumeMeanDurationForSuitesWithoutHistory() {
+        // Given:
+        final SuiteScheduler scheduler =
+                new SuiteScheduler(
+                        Map.of(
+                                "a", Duration.ofSeconds(1),
+                                "b", Duration.ofSeconds(9),
+                                "c", Duration.ofSeconds(3)));
+
+        // Then:
+        assertThat(scheduler.order(List.of(a, b, c, d)), contains(b, d, c, a));
+    }
+
+    @Test
+    void shouldRetainDiscoveryOrderOfSuitesWithEqualDuration() {
+        // Given:
+        final SuiteScheduler scheduler =
+                new SuiteScheduler(
+                        Map.of(
+                                "a", Duration.ofSeconds(1),
+                                "b", Duration.ofSeconds(2),
+                                "c", Duration.ofSeconds(1)));
+
+        // Then:
+        assertThat(scheduler.order(List.of(c, a, b)), contains(b, c, a));
+    }
+
+    private static TestSuite suite(final String name) {
+        final TestSuite suite = mock(TestSuite.class);
+        when(suite.name()).thenReturn(name);
+        return suite;
+    }
+}
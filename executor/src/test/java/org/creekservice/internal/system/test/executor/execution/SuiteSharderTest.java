@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.Test;
+
+class SuiteSharderTest {
+
+    private static final Path TEST_DIR = Path.of("tests").toAbsolutePath();
+
+    private final TestSuite a = suite("a", "pkg/a.yml:1");
+    private final TestSuite b = suite("b", "pkg/b.yml:1");
+    private final TestSuite c = suite("c", "pkg/c.yml:1");
+    private final TestSuite d = suite("d", "pkg/d.yml:1");
+
+    @Test
+    void shouldThrowOnInvalidShardCount() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new SuiteSharder(0, 0, TEST_DIR, Map.of()));
+    }
+
+    @Test
+    void shouldThrowOnInvalidShardIndex() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new SuiteSharder(2, 2, TEST_DIR, Map.of()));
+        assertThrows(
+                IllegalArgumentException.class, () -> new SuiteSharder(-1, 2, TEST_DIR, Map.of()));
+    }
+
+    @Test
+    void shouldNotBeShardedWithSingleShard() {
+        assertThat(SuiteSharder.noSharding().sharded(), is(false));
+        assertThat(new SuiteSharder(0, 1, TEST_DIR, Map.of()).sharded(), is(false));
+        assertThat(new SuiteSharder(0, 2, TEST_DIR, Map.of()).sharded(), is(true));
+    }
+
+    @Test
+    void shouldSelectAllSuitesIfNotSharded() {
+        assertThat(SuiteSharder.noSharding().select(List.of(a, b, c)), contains(a, b, c));
+    }
+
+    @Test
+    void shouldAssignEachSuiteToExactlyOneShardByHash() {
+        // Given:
+        final List<TestSuite> suites = suites(20);
+
+        // When:
+        final List<TestSuite> selected = new ArrayList<>();
+        for (int shard = 0; shard != 3; ++shard) {
+            selected.addAll(new SuiteSharder(shard, 3, TEST_DIR, Map.of()).select(suites));
+        }
+
+        // Then:
+        assertThat(selected, containsInAnyOrder(suites.toArray()));
+    }
+
+    @Test
+    void shouldAssignByPathRelativeToTestDirectory() {
+        // Given:
+        final Path otherDir = Path.of("other", "root").toAbsolutePath();
+        final List<TestSuite> suites = suites(20);
+        final List<TestSuite> moved =
+                IntStream.range(0, 20)
+                        .mapToObj(i -> suiteAt("s" + i, otherDir.toUri() + "pkg/s" + i + ".yml:1"))
+                        .toList();
+
+        // When:
+        final List<TestSuite> selected = new SuiteSharder(0, 3, TEST_DIR, Map.of()).select(suites);
+        final List<TestSuite> selectedMoved =
+                new SuiteSharder(0, 3, otherDir, Map.of()).select(moved);
+
+        // Then:
+        assertThat(
+                selectedMoved.stream().map(TestSuite::name).toList(),
+                is(selected.stream().map(TestSuite::name).toList()));
+    }
+
+    @Test
+    void shouldBeIndependentOfSuiteOrder() {
+        // Given:
+        final List<TestSuite> suites = suites(20);
+        final List<TestSuite> shuffled = new ArrayList<>(suites);
+        Collections.reverse(shuffled);
+        final Map<String, Duration> history =
+                Map.of("s0", Duration.ofSeconds(5), "s1", Duration.ofSeconds(5));
+
+        for (int shard = 0; shard != 3; ++shard) {
+            final SuiteSharder sharder = new SuiteSharder(shard, 3, TEST_DIR, history);
+
+            // Then:
+            assertThat(
+                    sharder.select(shuffled), containsInAnyOrder(sharder.select(suites).toArray()));
+        }
+    }
+
+    @Test
+    void shouldBinPackOnHistoricalDuration() {
+        // Given:
+        final Map<String, Duration> history =
+                Map.of(
+                        "a", Duration.ofSeconds(10),
+                        "b", Duration.ofSeconds(6),
+                        "c", Duration.ofSeconds(5),
+                        "d", Duration.ofSeconds(4));
+
+        // When:
+        final List<TestSuite> shard0 =
+                new SuiteSharder(0, 2, TEST_DIR, history).select(List.of(a, b, c, d));
+        final List<TestSuite> shard1 =
+                new SuiteSharder(1, 2, TEST_DIR, history).select(List.of(a, b, c, d));
+
+        // Then: a(10) -> 0, b(6) -> 1, c(5) -> 1, d(4) -> 0
+        assertThat(shard0, contains(a, d));
+        assertThat(shard1, contains(b, c));
+    }
+
+    @Test
+    void shouldUseMeanDurationForSuitesWithNoHistory() {
+        // Given:
+        final Map<String, Duration> history =
+                Map.of("a", Duration.ofSeconds(9), "b", Duration.ofSeconds(1));
+
+        // When:
+        final List<TestSuite> shard0 =
+                new SuiteSharder(0, 2, TEST_DIR, history).select(List.of(a, b, c));
+        final List<TestSuite> shard1 =
+                new SuiteSharder(1, 2, TEST_DIR, history).select(List.of(a, b, c));
+
+        // Then: a(9) -> 0, c(5) -> 1, b(1) -> 1
+        assertThat(shard0, contains(a));
+        assertThat(shard1, contains(b, c));
+    }
+
+    @Test
+    void shouldBreakTiesOnRelativePath() {
+        // Given:
+        final Map<String, Duration> history =
+                Map.of(
+                        "a", Duration.ofSeconds(1),
+                        "b", Duration.ofSeconds(1),
+                        "c", Duration.ofSeconds(1));
+
+        // When:
+        final List<TestSuite> shard0 =
+                new SuiteSharder(0, 2, TEST_DIR, history).select(List.of(c, b, a));
+
+        // Then: a -> 0, b -> 1, c -> 0
+        assertThat(shard0, contains(c, a));
+    }
+
+    private static List<TestSuite> suites(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> suite("s" + i, "pkg/s" + i + ".yml:1"))
+                .toList();
+    }
+
+    private static TestSuite suite(final String name, final String relativePath) {
+        return suiteAt(name, TEST_DIR.toUri() + relativePath);
+    }
+
+    private static TestSuite suiteAt(final String name, final String location) {
+        final TestSuite suite = mock(TestSuite.class);
+        when(suite.name()).thenReturn(name);
+        when(suite.location()).thenReturn(URI.create(location));
+        return suite;
+    }
+}
@@ -16,18 +16,29 @@
 
 package org.creekservice.internal.system.test.executor.execution;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
 import org.creekservice.api.system.test.extension.test.env.listener.TestListenerCollection;
@@ -39,6 +50,8 @@ import org.creekservice.api.system.test.model.TestSuite;
 import org.creekservice.internal.system.test.executor.execution.expectation.Verifiers;
 import org.creekservice.internal.system.test.executor.execution.input.Inputters;
 import org.creekservice.internal.system.test.executor.result.CaseResult;
+import org.creekservice.internal.system.test.executor.result.PreviousResults;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,18 +76,22 @@ class TestCaseExecutorTest {
     @Mock private List<? extends Input> inputs;
     @Mock private List<? extends Expectation> expectations;
     @Mock private Verifier verifier;
+    @Mock private PreviousResults previousResults;
+    @Mock private CaseResult previousResult;
     @Captor private ArgumentCaptor<Consumer<TestEnvironmentListener>> actionCaptor;
     private TestCaseExecutor executor;
 
     @BeforeEach
     void setUp() {
-        executor = new TestCaseExecutor(listeners, inputters, verifiers);
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 0);
 
         when(testCase.name()).thenReturn("Fred");
         when(testCase.suite()).thenReturn(testSuite);
+        when(testCase.isolationKey()).thenReturn("key");
         doReturn(inputs).when(testCase).inputs();
         doReturn(expectations).when(testCase).expectations();
-        doReturn(verifier).when(verifiers).prepare(expectations, testCase);
+        doReturn(verifier).when(verifiers).prepare(eq(expectations), eq(testCase), any());
+        when(inputters.inputAsync(any(), any(), any())).thenReturn(completedFuture(null));
     }
 
     @Test
@@ -108,6 +125,63 @@ class TestCaseExecutorTest {
         inOrder.verify(listeners).forEachReverse(any());
     }
 
+    @Test
+    void shouldInvokeListenersOnApiThread() throws Exception {
+        // Given:
+        final ApiThread apiThread = ApiThread.current();
+        final List<Thread> listenerThreads = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> listenerThreads.add(Thread.currentThread())).when(listeners).forEach(any());
+        doAnswer(inv -> listenerThreads.add(Thread.currentThread()))
+                .when(listeners)
+                .forEachReverse(any());
+
+        // When:
+        final CompletableFuture<CaseResult> result =
+                CompletableFuture.supplyAsync(() -> executor.executeTest(testCase, apiThread));
+        apiThread.serveUntil(result);
+
+        // Then:
+        assertThat(result.get().failure(), is(Optional.empty()));
+        assertThat(listenerThreads, contains(Thread.currentThread(), Thread.currentThread()));
+    }
+
+    @Test
+    void shouldBeThreadSafeIfAllHandlersAre() {
+        // Given:
+        when(inputters.threadSafe(inputs)).thenReturn(true);
+        when(verifiers.threadSafe(expectations)).thenReturn(true);
+
+        // Then:
+        assertThat(executor.threadSafe(testCase), is(true));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfInputHandlersAreNot() {
+        // Given:
+        when(verifiers.threadSafe(expectations)).thenReturn(true);
+
+        // Then:
+        assertThat(executor.threadSafe(testCase), is(false));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfExpectationHandlersAreNot() {
+        // Given:
+        when(inputters.threadSafe(inputs)).thenReturn(true);
+
+        // Then:
+        assertThat(executor.threadSafe(testCase), is(false));
+    }
+
+    @Test
+    void shouldBeThreadSafeIfDisabled() {
+        // Given:
+        when(testCase.disabled()).thenReturn(true);
+
+        // Then:
+        assertThat(executor.threadSafe(testCase), is(true));
+    }
+
     @Test
     void shouldHandleDisabledTest() {
         // Given:
@@ -121,6 +195,21 @@ class TestCaseExecutorTest {
         assertAfterTestCalled(result);
     }
 
+    @Test
+    void shouldReuseResultOfTestThatPassedPreviously() {
+        // Given:
+        when(previousResults.passed(testCase)).thenReturn(Optional.of(previousResult));
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        assertThat(result, is(previousResult));
+        verify(listeners, never()).forEach(any());
+        verify(inputters, never()).inputAsync(any(), any(), any());
+        assertAfterTestCalled(result);
+    }
+
     @Test
     void shouldHandleListenersBeforeTestThrowing() {
         // Given:
@@ -142,7 +231,24 @@ class TestCaseExecutorTest {
     void shouldHandleInputtersThrowing() {
         // Given:
         final RuntimeException cause = new RuntimeException("boom");
-        doThrow(cause).when(inputters).input(any(), any());
+        doThrow(cause).when(inputters).inputAsync(any(), any(), any());
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        assertThat(
+                result.error().map(Exception::getMessage),
+                is(Optional.of("Test run failed for test case: Fred, cause: boom")));
+        assertThat(result.error().map(Exception::getCause), is(Optional.of(cause)));
+        assertAfterTestCalled(result);
+    }
+
+    @Test
+    void shouldHandleAsyncInputFailing() {
+        // Given:
+        final RuntimeException cause = new RuntimeException("boom");
+        when(inputters.inputAsync(any(), any(), any())).thenReturn(failedFuture(cause));
 
         // When:
         final CaseResult result = executor.executeTest(testCase);
@@ -155,11 +261,44 @@ class TestCaseExecutorTest {
         assertAfterTestCalled(result);
     }
 
+    @Test
+    void shouldVerifyWhileInputFlushes() {
+        // Given:
+        final CompletableFuture<Void> flushed = new CompletableFuture<>();
+        when(inputters.inputAsync(any(), any(), any())).thenReturn(flushed);
+        doAnswer(inv -> flushed.complete(null)).when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        assertThat(result.error(), is(Optional.empty()));
+        assertThat(result.failure(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldSuppressInputFailureOnExpectationFailure() {
+        // Given:
+        final RuntimeException cause = new RuntimeException("boom");
+        final AssertionError failure = new AssertionError("not met");
+        when(inputters.inputAsync(any(), any(), any())).thenReturn(failedFuture(cause));
+        doThrow(failure).when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        assertThat(result.error(), is(Optional.empty()));
+        assertThat(result.failure(), is(Optional.of(failure)));
+        assertThat(failure.getSuppressed(), is(arrayContaining(cause)));
+        assertAfterTestCalled(result);
+    }
+
     @Test
     void shouldHandleExpectationPrepareThrowing() {
         // Given:
         final RuntimeException cause = new RuntimeException("boom");
-        doThrow(cause).when(verifiers).prepare(any(), any());
+        doThrow(cause).when(verifiers).prepare(any(), any(), any());
 
         // When:
         final CaseResult result = executor.executeTest(testCase);
@@ -203,6 +342,178 @@ class TestCaseExecutorTest {
         assertAfterTestCalled(result);
     }
 
+    @Test
+    void shouldNotRetryByDefault() {
+        // Given:
+        doThrow(new AssertionError("boom")).when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        verify(verifier, times(1)).verify();
+        assertThat(result.attempts(), is(1));
+    }
+
+    @Test
+    void shouldRetryFailedTest() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 2);
+        doThrow(new AssertionError("boom")).doNothing().when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        verify(verifier, times(2)).verify();
+        verify(inputters, times(2)).inputAsync(eq(inputs), eq(testCase), any());
+        assertThat(result.failure(), is(Optional.empty()));
+        assertThat(result.error(), is(Optional.empty()));
+        assertThat(result.attempts(), is(2));
+    }
+
+    @Test
+    void shouldUseDistinctIsolationKeyForEachRetry() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 2);
+        doThrow(new AssertionError("boom")).doNothing().when(verifier).verify();
+
+        // When:
+        executor.executeTest(testCase);
+
+        // Then:
+        final InOrder inOrder = inOrder(verifiers, inputters);
+        inOrder.verify(verifiers).prepare(expectations, testCase, "key");
+        inOrder.verify(inputters).inputAsync(inputs, testCase, "key");
+        inOrder.verify(verifiers).prepare(expectations, testCase, "key_attempt2");
+        inOrder.verify(inputters).inputAsync(inputs, testCase, "key_attempt2");
+    }
+
+    @Test
+    void shouldRetryErroredTest() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 1);
+        doThrow(new RuntimeException("boom")).doNothing().when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        assertThat(result.error(), is(Optional.empty()));
+        assertThat(result.attempts(), is(2));
+    }
+
+    @Test
+    void shouldReturnLastResultIfAllAttemptsFail() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 2);
+        final AssertionError last = new AssertionError("last");
+        doThrow(new AssertionError("first"), new AssertionError("second"), last)
+                .when(verifier)
+                .verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        verify(verifier, times(3)).verify();
+        assertThat(result.failure(), is(Optional.of(last)));
+        assertThat(result.attempts(), is(3));
+    }
+
+    @Test
+    void shouldNotRetryPassingTest() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 2);
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        verify(verifier, times(1)).verify();
+        assertThat(result.attempts(), is(1));
+    }
+
+    @Test
+    void shouldPreferRetriesSetOnTestCase() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 2);
+        when(testCase.retries()).thenReturn(Optional.of(0));
+        doThrow(new AssertionError("boom")).doNothing().when(verifier).verify();
+
+        // When:
+        final CaseResult result = executor.executeTest(testCase);
+
+        // Then:
+        verify(verifier, times(1)).verify();
+        assertThat(result.failure().isPresent(), is(true));
+    }
+
+    @Test
+    void shouldInvokeListenersAroundEachAttempt() {
+        // Given:
+        executor = new TestCaseExecutor(listeners, inputters, verifiers, previousResults, 1);
+        doThrow(new AssertionError("boom")).doNothing().when(verifier).verify();
+
+        // When:
+        executor.executeTest(testCase);
+
+        // Then:
+        final InOrder inOrder = inOrder(listeners);
+        inOrder.verify(listeners).forEach(any());
+        inOrder.verify(listeners).forEachReverse(any());
+        inOrder.verify(listeners).forEach(any());
+        inOrder.verify(listeners).forEachReverse(any());
+    }
+
+    @Test
+    void shouldThrowOnNegativeRetries() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TestCaseExecutor(listeners, inputters, verifiers, previousResults, -1));
+    }
+
+    @Test
+    void shouldThrowOnNegativeRetriesOption() {
+        final TestCaseExecutor.Options options =
+                TestCaseExecutor.Options.options(Duration.ofSeconds(1));
+
+        assertThrows(IllegalArgumentException.class, () -> options.withRetries(-1));
+    }
+
+    @Test
+    void shouldDefaultOptions() {
+        // When:
+        final TestCaseExecutor.Options options =
+                TestCaseExecutor.Options.options(Duration.ofSeconds(1));
+
+        // Then:
+        assertThat(options.verifierTimeout(), is(Duration.ofSeconds(1)));
+        assertThat(options.verifierHistory(), is(VerifierHistory.none()));
+        assertThat(options.parallelInputs(), is(false));
+        assertThat(options.retries(), is(0));
+    }
+
+    @Test
+    void shouldReturnCopyWithUpdatedOption() {
+        // Given:
+        final TestCaseExecutor.Options options =
+                TestCaseExecutor.Options.options(Duration.ofSeconds(1));
+
+        // When:
+        final TestCaseExecutor.Options updated =
+                options.withParallelInputs(true)
+                        .withPreviousResults(previousResults)
+                        .withRetries(2);
+
+        // Then:
+        assertThat(options.retries(), is(0));
+        assertThat(updated.verifierTimeout(), is(Duration.ofSeconds(1)));
+        assertThat(updated.parallelInputs(), is(true));
+        assertThat(updated.previousResults(), is(previousResults));
+        assertThat(updated.retries(), is(2));
+    }
+
     @Test
     void shouldThrowIfAfterTestListenersThrow() {
         // Given:
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution;
+
+import static org.creekservice.internal.system.test.executor.execution.TestDirectoryWatcher.affectedSuites;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestDirectoryWatcherTest {
+
+    @TempDir private Path root;
+    private Path pkgDir;
+    private Path suiteA;
+    private Path suiteB;
+    private TestDirectoryWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = root.toAbsolutePath().normalize();
+        pkgDir = root.resolve("pkg");
+        suiteA = write(pkgDir.resolve("suite_a.yml"));
+        suiteB = write(pkgDir.resolve("suite_b.yml"));
+        write(pkgDir.resolve("inputs/in.yml"));
+        write(pkgDir.resolve("expectations/out.yml"));
+
+        watcher = new TestDirectoryWatcher(root, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    void shouldReportModifiedFile() throws Exception {
+        // Given:
+        Files.writeString(suiteA, "changed");
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result.map(changed -> changed.contains(suiteA)), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldReportCreatedFile() throws Exception {
+        // Given:
+        final Path file = write(pkgDir.resolve("inputs/new.yml"));
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result.map(changed -> changed.contains(file)), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldReportDeletedFile() throws Exception {
+        // Given:
+        Files.delete(suiteB);
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result.map(changed -> changed.contains(suiteB)), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldReportFilesInNewDirectory() throws Exception {
+        // Given:
+        final Path file = write(root.resolve("other/suite.yml"));
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result.map(changed -> changed.contains(file)), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldWatchNewDirectories() throws Exception {
+        // Given:
+        write(root.resolve("other/suite.yml"));
+        watcher.awaitChanges();
+        final Path file = write(root.resolve("other/another.yml"));
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result.orElseThrow(), hasItem(file));
+    }
+
+    @Test
+    void shouldReturnEmptyOnceClosed() {
+        // Given:
+        watcher.close();
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnEmptyIfInterrupted() {
+        // Given:
+        Thread.currentThread().interrupt();
+
+        // When:
+        final Optional<Set<Path>> result = watcher.awaitChanges();
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+        assertThat(Thread.interrupted(), is(true));
+    }
+
+    @Test
+    void shouldAffectChangedSuite() {
+        // When:
+        final Predicate<Path> result = affectedSuites(List.of(suiteA));
+
+        // Then:
+        assertThat(result.test(suiteA), is(true));
+    }
+
+    @Test
+    void shouldNotAffectOtherSuitesInPackageWhenSuiteChanges() {
+        // When:
+        final Predicate<Path> result = affectedSuites(List.of(suiteA));
+
+        // Then:
+        assertThat(result.test(suiteB), is(false));
+    }
+
+    @Test
+    void shouldAffectAllSuitesInPackageWhenInputChanges() {
+        // When:
+        final Predicate<Path> result = affectedSuites(List.of(pkgDir.resolve("inputs/in.yml")));
+
+        // Then:
+        assertThat(result.test(suiteA), is(true));
+        assertThat(result.test(suiteB), is(true));
+    }
+
+    @Test
+    void shouldAffectAllSuitesInPackageWhenExpectationChanges() {
+        // When:
+        final Predicate<Path> result =
+                affectedSuites(List.of(pkgDir.resolve("expectations/out.yml")));
+
+        // Then:
+        assertThat(result.test(suiteA), is(true));
+    }
+
+    @Test
+    void shouldAffectAllSuitesInPackageWhenSeedChanges() {
+        // When:
+        final Predicate<Path> result = affectedSuites(List.of(pkgDir.resolve("seed/seed.yml")));
+
+        // Then:
+        assertThat(result.test(suiteA), is(true));
+    }
+
+    @Test
+    void shouldNotAffectSuitesInOtherPackages() {
+        // When:
+        final Predicate<Path> result =
+                affectedSuites(List.of(root.resolve("other/inputs/in.yml")));
+
+        // Then:
+        assertThat(result.test(suiteA), is(false));
+    }
+
+    @Test
+    void shouldNotAffectSuitesInParentPackage() {
+        // When:
+        final Predicate<Path> result =
+                affectedSuites(List.of(pkgDir.resolve("nested/inputs/in.yml")));
+
+        // Then:
+        assertThat(result.test(suiteA), is(false));
+    }
+
+    @Test
+    void shouldHandleRelativeSuitePaths() {
+        // Given:
+        final Path relative = Path.of("").toAbsolutePath().relativize(suiteA);
+
+        // When:
+        final Predicate<Path> result = affectedSuites(List.of(suiteA));
+
+        // Then:
+        assertThat(result.test(relative), is(true));
+    }
+
+    private static Path write(final Path path) throws Exception {
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, "content");
+    }
+}
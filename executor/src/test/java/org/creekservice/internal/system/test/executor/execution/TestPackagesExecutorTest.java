@@ -19,24 +19,48 @@ package org.creekservice.internal.system.test.executor.execution;
 import static org.creekservice.internal.system.test.executor.result.CaseResult.testCaseResult;
 import static org.creekservice.internal.system.test.executor.result.SuiteResult.testSuiteResult;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
 import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestPackage;
 import org.creekservice.api.system.test.model.TestSuite;
 import org.creekservice.api.system.test.parser.TestPackagesLoader;
+import org.creekservice.internal.system.test.executor.api.SystemTest;
+import org.creekservice.internal.system.test.executor.execution.TestPackagesExecutor.Options;
+import org.creekservice.internal.system.test.executor.execution.TestSuiteExecutor.PreparedSuite;
+import org.creekservice.internal.system.test.executor.result.PreviousResults;
 import org.creekservice.internal.system.test.executor.result.ResultsWriter;
 import org.creekservice.internal.system.test.executor.result.SuiteResult;
+import org.creekservice.internal.system.test.executor.result.SuiteResultCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -56,13 +80,33 @@ class TestPackagesExecutorTest {
     @Mock private TestSuite suite1;
     @Mock private TestSuite suite2;
     @Mock private TestSuite suite3;
+    @Mock private SystemTest api;
+    @Mock private SuiteSharder sharder;
+    @Mock private SuiteResultCache cache;
+    @Mock private ImagePrePuller prePuller;
+    @Mock private Consumer<SuiteResult> onResult;
+    private PreparedSuite prepared1;
+    private PreparedSuite prepared2;
+    private PreparedSuite prepared3;
     private TestPackagesExecutor executor;
 
     @BeforeEach
     void setUp() {
-        executor = new TestPackagesExecutor(loader, suiteExecutor, resultsWriter);
+        executor = executorWith(Options.defaults());
 
-        when(suiteExecutor.executeSuite(any()))
+        prepared1 = prepared(suite1);
+        prepared2 = prepared(suite2);
+        prepared3 = prepared(suite3);
+        when(suiteExecutor.prepareSuite(eq(suite1), eq(0), any())).thenReturn(prepared1);
+        when(suiteExecutor.prepareSuite(eq(suite2), eq(0), any())).thenReturn(prepared2);
+        when(suiteExecutor.prepareSuite(eq(suite3), eq(0), any())).thenReturn(prepared3);
+
+        when(suiteExecutor.executeSuite(any(TestSuite.class)))
+                .thenAnswer(inv -> testSuiteResult(inv.getArgument(0)).build());
+        when(suiteExecutor.executeSuite(any(PreparedSuite.class)))
+                .thenAnswer(
+                        inv -> testSuiteResult(inv.<PreparedSuite>getArgument(0).suite()).build());
+        when(suiteExecutor.executeSuite(any(), anyInt()))
                 .thenAnswer(inv -> testSuiteResult(inv.getArgument(0)).build());
 
         when(loader.stream()).thenReturn(Stream.of(pkg1, pkg2));
@@ -102,6 +146,102 @@ class TestPackagesExecutorTest {
         verify(suiteExecutor).executeSuite(suite3);
     }
 
+    @Test
+    void shouldNotLookAheadByDefault() {
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(suiteExecutor, never()).prepareSuite(any(), anyInt(), any());
+    }
+
+    @Test
+    void shouldExecuteEachPackageSuitesWithLookAhead() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(suiteExecutor).executeSuite(prepared1);
+        verify(suiteExecutor).executeSuite(prepared2);
+        verify(suiteExecutor).executeSuite(prepared3);
+    }
+
+    @Test
+    void shouldPrepareNextSuiteBeforeCurrentSuiteExecutes() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        final InOrder inOrder = inOrder(suiteExecutor);
+        inOrder.verify(suiteExecutor).prepareSuite(eq(suite1), eq(0), any());
+        inOrder.verify(suiteExecutor).prepareSuite(eq(suite2), eq(0), any());
+        inOrder.verify(suiteExecutor).executeSuite(prepared1);
+        inOrder.verify(suiteExecutor).prepareSuite(eq(suite3), eq(0), any());
+        inOrder.verify(suiteExecutor).executeSuite(prepared2);
+        inOrder.verify(suiteExecutor).executeSuite(prepared3);
+    }
+
+    @Test
+    void shouldPrepareSuitesOnExecutingThread() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true));
+        final Thread thread = Thread.currentThread();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        when(suiteExecutor.prepareSuite(any(), anyInt(), any()))
+                .thenAnswer(
+                        inv -> {
+                            threads.add(Thread.currentThread());
+                            return prepared(inv.getArgument(0));
+                        });
+
+        // When:
+        executor.execute();
+
+        // Then:
+        assertThat(threads, contains(thread, thread, thread));
+    }
+
+    @Test
+    void shouldExecuteCurrentSuiteThenThrowIfNextSuitePreparationFails() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true));
+        final RuntimeException failure = new RuntimeException("boom");
+        when(suiteExecutor.prepareSuite(eq(suite2), eq(0), any())).thenThrow(failure);
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, executor::execute);
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+        verify(suiteExecutor).executeSuite(prepared1);
+        verify(suiteExecutor, never()).prepareSuite(eq(suite3), anyInt(), any());
+    }
+
+    @Test
+    void shouldCloseNextPreparedSuiteIfSuiteExecutionFails() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true));
+        final PreparedSuite next = mock(PreparedSuite.class);
+        when(suiteExecutor.prepareSuite(eq(suite2), eq(0), any())).thenReturn(next);
+        final RuntimeException failure = new RuntimeException("boom");
+        when(suiteExecutor.executeSuite(prepared1)).thenThrow(failure);
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, executor::execute);
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+        verify(next).close();
+        verify(suiteExecutor, never()).executeSuite(next);
+        verify(suiteExecutor, never()).prepareSuite(eq(suite3), anyInt(), any());
+    }
+
     @Test
     void shouldCombineResults() {
         // Given:
@@ -128,4 +268,373 @@ class TestPackagesExecutorTest {
         assertThat(result.failed(), is(1L));
         assertThat(result.errors(), is(3L));
     }
+
+    @Test
+    void shouldDefaultToSequentialUnshardedExecution() {
+        // When:
+        final Options options = Options.defaults();
+
+        // Then:
+        assertThat(options.parallelism(), is(1));
+        assertThat(options.sharder().sharded(), is(false));
+    }
+
+    @Test
+    void shouldThrowOnInvalidParallelism() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> executorWith(Options.defaults().withParallelism(0)));
+    }
+
+    @Test
+    void shouldExecuteEachPackageSuitesInParallel() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(2));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(suiteExecutor).executeSuite(eq(suite1), anyInt());
+        verify(suiteExecutor).executeSuite(eq(suite2), anyInt());
+        verify(suiteExecutor).executeSuite(eq(suite3), anyInt());
+    }
+
+    @Test
+    void shouldOnlyUseWorkersUpToParallelism() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(2));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(suiteExecutor, never()).executeSuite(any(), eq(2));
+    }
+
+    @Test
+    void shouldNotUseMoreWorkersThanSuites() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(10));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(suiteExecutor, times(3)).executeSuite(any(), anyInt());
+        verify(suiteExecutor, never()).executeSuite(any(), eq(3));
+    }
+
+    @Test
+    void shouldReturnParallelResultsInSuiteOrder() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(3));
+
+        doAnswer(
+                        inv -> {
+                            Thread.sleep(100);
+                            return testSuiteResult(suite1).build();
+                        })
+                .when(suiteExecutor)
+                .executeSuite(eq(suite1), anyInt());
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        assertThat(
+                result.results().stream().map(r -> r.testSuite().name()).toList(),
+                contains("suite1", "suite2", "suite3"));
+    }
+
+    @Test
+    void shouldThrowIfParallelSuiteExecutionFails() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(2));
+
+        final RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(suiteExecutor).executeSuite(eq(suite2), anyInt());
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, executor::execute);
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+        verify(resultsWriter, never()).write(any());
+    }
+
+    @Test
+    void shouldOnlyExecuteSuitesSelectedForShard() {
+        // Given:
+        when(sharder.sharded()).thenReturn(true);
+        when(sharder.select(List.of(suite1, suite2, suite3))).thenReturn(List.of(suite2));
+        executor = executorWith(Options.defaults().withSharder(sharder));
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        verify(suiteExecutor).executeSuite(suite2);
+        verify(suiteExecutor, never()).executeSuite(suite1);
+        verify(suiteExecutor, never()).executeSuite(suite3);
+        assertThat(
+                result.results().stream().map(r -> r.testSuite().name()).toList(),
+                contains("suite2"));
+    }
+
+    @Test
+    void shouldNotSelectIfNotSharded() {
+        // Given:
+        executor = executorWith(Options.defaults().withSharder(sharder));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(sharder, never()).select(any());
+        verify(suiteExecutor).executeSuite(suite1);
+        verify(suiteExecutor).executeSuite(suite2);
+        verify(suiteExecutor).executeSuite(suite3);
+    }
+
+    @Test
+    void shouldReportParallelSuitesExecutedInScheduledOrderInDiscoveryOrder() {
+        // Given:
+        final SuiteScheduler scheduler =
+                new SuiteScheduler(
+                        Map.of(
+                                "suite1", Duration.ofSeconds(1),
+                                "suite2", Duration.ofSeconds(3),
+                                "suite3", Duration.ofSeconds(2)));
+
+        executor = executorWith(Options.defaults().withParallelism(2).withScheduler(scheduler));
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        assertThat(
+                result.results().stream().map(r -> r.testSuite().name()).toList(),
+                contains("suite1", "suite2", "suite3"));
+    }
+
+    @Test
+    void shouldReuseCachedSuiteResults() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+        executor = cachingExecutor(1);
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        verify(suiteExecutor, never()).executeSuite(suite2);
+        assertThat(result.results(), hasSize(3));
+        assertThat(result.results().get(1), is(sameInstance(cached)));
+    }
+
+    @Test
+    void shouldReuseCachedSuiteResultsWhenExecutingInParallel() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+        executor = cachingExecutor(2);
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        verify(suiteExecutor, never()).executeSuite(eq(suite2), anyInt());
+        assertThat(result.results(), hasSize(3));
+        assertThat(result.results().get(1), is(sameInstance(cached)));
+    }
+
+    @Test
+    void shouldStoreExecutedSuiteResults() {
+        // Given:
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        executor = cachingExecutor(1);
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        result.results().forEach(r -> verify(cache).store((SuiteResult) r));
+    }
+
+    @Test
+    void shouldNotStoreReusedSuiteResults() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+        executor = cachingExecutor(1);
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(cache, never()).store(cached);
+    }
+
+    @Test
+    void shouldOnlyExecuteSuitesSelectedByPreviousResults() {
+        // Given:
+        final PreviousResults previousResults =
+                new PreviousResults(Map.of("suite2", Map.of("test2", Duration.ofSeconds(1))));
+
+        executor = executorWith(Options.defaults().withPreviousResults(previousResults));
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        verify(suiteExecutor, never()).executeSuite(suite1);
+        verify(suiteExecutor, never()).executeSuite(suite3);
+        verify(suiteExecutor).executeSuite(suite2);
+        assertThat(
+                result.results().stream().map(r -> r.testSuite().name()).toList(),
+                contains("suite2"));
+    }
+
+    @Test
+    void shouldOnlyPrePullImagesOfSuitesToExecute() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+
+        executor = executorWith(Options.defaults().withCache(cache).withPrePuller(prePuller));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        final InOrder inOrder = inOrder(prePuller, cache, suiteExecutor);
+        inOrder.verify(cache).lookup(suite3);
+        inOrder.verify(prePuller).prePull(List.of(suite1, suite3));
+        inOrder.verify(suiteExecutor).executeSuite(suite1);
+    }
+
+    @Test
+    void shouldResolveDigestsOfImagesOfAllSelectedSuites() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+
+        executor = executorWith(Options.defaults().withCache(cache).withPrePuller(prePuller));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        final InOrder inOrder = inOrder(prePuller, suiteExecutor);
+        inOrder.verify(suiteExecutor).executeSuite(suite3);
+        inOrder.verify(prePuller).resolveDigests(List.of(suite1, suite2, suite3));
+    }
+
+    @Test
+    void shouldNotPrePullWhenLookingAhead() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true).withPrePuller(prePuller));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(prePuller, never()).prePull(any());
+        verify(prePuller).resolveDigests(List.of(suite1, suite2, suite3));
+    }
+
+    @Test
+    void shouldPrePullWhenLookingAheadInParallel() {
+        // Given:
+        executor =
+                executorWith(
+                        Options.defaults()
+                                .withLookAhead(true)
+                                .withParallelism(2)
+                                .withPrePuller(prePuller));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(prePuller).prePull(List.of(suite1, suite2, suite3));
+    }
+
+    @Test
+    void shouldReportEachSuiteResultAsItCompletes() {
+        // Given:
+        executor = executorWith(Options.defaults().withOnResult(onResult));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        final InOrder inOrder = inOrder(suiteExecutor, onResult);
+        inOrder.verify(suiteExecutor).executeSuite(suite1);
+        inOrder.verify(onResult).accept(argThat(r -> r.testSuite() == suite1));
+        inOrder.verify(suiteExecutor).executeSuite(suite2);
+        inOrder.verify(onResult).accept(argThat(r -> r.testSuite() == suite2));
+    }
+
+    @Test
+    void shouldReportEachSuiteResultAsItCompletesWithLookAhead() {
+        // Given:
+        executor = executorWith(Options.defaults().withLookAhead(true).withOnResult(onResult));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        final InOrder inOrder = inOrder(suiteExecutor, onResult);
+        inOrder.verify(suiteExecutor).executeSuite(prepared1);
+        inOrder.verify(onResult).accept(argThat(r -> r.testSuite() == suite1));
+        inOrder.verify(suiteExecutor).executeSuite(prepared2);
+        inOrder.verify(onResult).accept(argThat(r -> r.testSuite() == suite2));
+    }
+
+    @Test
+    void shouldReportEachSuiteResultWhenExecutingInParallel() {
+        // Given:
+        executor = executorWith(Options.defaults().withParallelism(2).withOnResult(onResult));
+
+        // When:
+        final TestExecutionResult result = executor.execute();
+
+        // Then:
+        result.results().forEach(r -> verify(onResult).accept((SuiteResult) r));
+    }
+
+    @Test
+    void shouldReportReusedSuiteResults() {
+        // Given:
+        final SuiteResult cached = testSuiteResult(suite2).build();
+        when(cache.lookup(any())).thenReturn(Optional.empty());
+        when(cache.lookup(suite2)).thenReturn(Optional.of(cached));
+        executor = executorWith(Options.defaults().withCache(cache).withOnResult(onResult));
+
+        // When:
+        executor.execute();
+
+        // Then:
+        verify(onResult).accept(cached);
+    }
+
+    private PreparedSuite prepared(final TestSuite suite) {
+        return new PreparedSuite(suite, api, CompletableFuture.completedFuture(null));
+    }
+
+    private TestPackagesExecutor executorWith(final Options options) {
+        return new TestPackagesExecutor(loader, suiteExecutor, resultsWriter, options);
+    }
+
+    private TestPackagesExecutor cachingExecutor(final int parallelism) {
+        return executorWith(Options.defaults().withParallelism(parallelism).withCache(cache));
+    }
 }
@@ -17,25 +17,45 @@
 package org.creekservice.internal.system.test.executor.execution;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
 import org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener;
 import org.creekservice.api.system.test.extension.test.env.listener.TestListenerCollection;
 import org.creekservice.api.system.test.extension.test.model.Input;
 import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestSuite;
+import org.creekservice.internal.system.test.executor.api.SystemTest;
+import org.creekservice.internal.system.test.executor.api.SystemTestFactory;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.DockerServiceContainer;
+import org.creekservice.internal.system.test.executor.execution.TestSuiteExecutor.PreparedSuite;
 import org.creekservice.internal.system.test.executor.execution.input.Inputters;
 import org.creekservice.internal.system.test.executor.result.CaseResult;
 import org.creekservice.internal.system.test.executor.result.SuiteResult;
@@ -54,6 +74,9 @@ import org.mockito.quality.Strictness;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class TestSuiteExecutorTest {
 
+    private static final TestCaseExecutor.Options OPTIONS =
+            TestCaseExecutor.Options.options(Duration.ofSeconds(1));
+
     @Mock private TestListenerCollection listeners;
     @Mock private Inputters inputters;
     @Mock private TestCaseExecutor testExecutor;
@@ -66,11 +89,20 @@ class TestSuiteExecutorTest {
     @Mock private TestEnvironmentListener listener;
     @Mock private CaseResult testResult;
     @Captor private ArgumentCaptor<Consumer<TestEnvironmentListener>> actionCaptor;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private SystemTest api;
+
+    @Mock private ServiceDefinition serviceDef;
+    @Mock private SystemTestFactory apiFactory;
+    @Mock private ExecutorService background;
     private TestSuiteExecutor.Executor suiteExecutor;
 
     @BeforeEach
     void setUp() {
-        suiteExecutor = new TestSuiteExecutor.Executor(listeners, inputters, testExecutor);
+        suiteExecutor =
+                new TestSuiteExecutor.Executor(
+                        listeners, inputters, testExecutor, () -> List.of("image-a"));
 
         when(testCase0.name()).thenReturn("test0");
         when(testCase0.suite()).thenReturn(testSuite);
@@ -79,6 +111,16 @@ class TestSuiteExecutorTest {
         when(testSuite.name()).thenReturn("Fred");
 
         when(testExecutor.executeTest(any())).thenReturn(testResult);
+        when(testExecutor.executeTest(any(), any())).thenReturn(testResult);
+        when(testExecutor.threadSafe(any())).thenReturn(true);
+
+        doAnswer(
+                        inv -> {
+                            inv.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(background)
+                .execute(any());
     }
 
     @Test
@@ -145,6 +187,206 @@ class TestSuiteExecutorTest {
         assertAfterSuiteCalled(result);
     }
 
+    @Test
+    void shouldCloseInputtersOnceSuiteExecuted() {
+        // Given:
+        givenTestCase(testCase0);
+
+        // When:
+        suiteExecutor.executeSuite(testSuite);
+
+        // Then:
+        final InOrder inOrder = inOrder(listeners, inputters);
+        inOrder.verify(listeners).forEachReverse(any());
+        inOrder.verify(inputters).close();
+    }
+
+    @Test
+    void shouldCloseInputtersIfSuiteFails() {
+        // Given:
+        givenTestCase(testCase0);
+        when(testExecutor.executeTest(any())).thenThrow(new RuntimeException("boom"));
+
+        // When:
+        assertThrows(RuntimeException.class, () -> suiteExecutor.executeSuite(testSuite));
+
+        // Then:
+        verify(inputters).close();
+    }
+
+    @Test
+    void shouldRecordImagesOfStartedServices() {
+        // Given:
+        givenTestCase(testCase0);
+
+        // When:
+        final SuiteResult result = suiteExecutor.executeSuite(testSuite);
+
+        // Then:
+        assertThat(result.images(), contains("image-a"));
+    }
+
+    @Test
+    void shouldRunTestsConcurrentlyIfConfigured() {
+        // Given:
+        givenTestCase(testCase0, testCase1);
+        when(testSuite.testConcurrency()).thenReturn(2);
+
+        final CaseResult testResult1 = mock(CaseResult.class);
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        when(testExecutor.executeTest(eq(testCase0), any()))
+                .thenAnswer(
+                        inv -> {
+                            bothStarted.countDown();
+                            assertThat(bothStarted.await(30, TimeUnit.SECONDS), is(true));
+                            return testResult;
+                        });
+        when(testExecutor.executeTest(eq(testCase1), any()))
+                .thenAnswer(
+                        inv -> {
+                            bothStarted.countDown();
+                            assertThat(bothStarted.await(30, TimeUnit.SECONDS), is(true));
+                            return testResult1;
+                        });
+
+        // When:
+        final SuiteResult result = suiteExecutor.executeSuite(testSuite);
+
+        // Then: results in declaration order:
+        assertThat(result.testResults(), is(List.of(testResult, testResult1)));
+        assertAfterSuiteCalled(result);
+    }
+
+    @Test
+    void shouldRunApiCallsOfConcurrentTestsOnSuiteThread() {
+        // Given:
+        givenTestCase(testCase0, testCase1);
+        when(testSuite.testConcurrency()).thenReturn(2);
+        final Thread suiteThread = Thread.currentThread();
+        final List<Thread> apiCallThreads = new CopyOnWriteArrayList<>();
+        when(testExecutor.executeTest(any(), any()))
+                .thenAnswer(
+                        inv -> {
+                            assertThat(Thread.currentThread(), is(not(suiteThread)));
+                            inv.<ApiThread>getArgument(1)
+                                    .run(() -> apiCallThreads.add(Thread.currentThread()));
+                            return testResult;
+                        });
+
+        // When:
+        suiteExecutor.executeSuite(testSuite);
+
+        // Then:
+        assertThat(apiCallThreads, contains(suiteThread, suiteThread));
+    }
+
+    @Test
+    void shouldRunTestsSequentiallyIfHandlersNotThreadSafe() {
+        // Given:
+        givenTestCase(testCase0, testCase1);
+        when(testSuite.testConcurrency()).thenReturn(2);
+        when(testExecutor.threadSafe(testCase1)).thenReturn(false);
+
+        // When:
+        final SuiteResult result = suiteExecutor.executeSuite(testSuite);
+
+        // Then:
+        final InOrder inOrder = inOrder(testExecutor);
+        inOrder.verify(testExecutor).executeTest(testCase0);
+        inOrder.verify(testExecutor).executeTest(testCase1);
+        verify(testExecutor, never()).executeTest(any(), any());
+        assertThat(result.testResults(), is(List.of(testResult, testResult)));
+    }
+
+    @Test
+    void shouldRunTestsSequentiallyIfOnlyOneTest() {
+        // Given:
+        givenTestCase(testCase0);
+        when(testSuite.testConcurrency()).thenReturn(4);
+        final Thread suiteThread = Thread.currentThread();
+        when(testExecutor.executeTest(testCase0))
+                .thenAnswer(
+                        inv -> {
+                            assertThat(Thread.currentThread(), is(suiteThread));
+                            return testResult;
+                        });
+
+        // When:
+        final SuiteResult result = suiteExecutor.executeSuite(testSuite);
+
+        // Then:
+        assertThat(result.testResults(), is(List.of(testResult)));
+    }
+
+    @Test
+    void shouldThrowIfCaseExecutorThrowsWhenRunningConcurrently() {
+        // Given:
+        final RuntimeException cause = new RuntimeException("boom");
+        when(testExecutor.executeTest(eq(testCase1), any())).thenThrow(cause);
+        givenTestCase(testCase0, testCase1);
+        when(testSuite.testConcurrency()).thenReturn(2);
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> suiteExecutor.executeSuite(testSuite));
+
+        // Then:
+        assertThat(e.getMessage(), is("Suite execution failed for test suite: Fred, cause: boom"));
+        assertThat(e.getCause(), is(cause));
+    }
+
+    @Test
+    void shouldAbandonTestCasesThatIgnoreInterruption() throws Exception {
+        // Given:
+        givenTestCase(testCase0, testCase1);
+        when(testSuite.testConcurrency()).thenReturn(2);
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Thread> testThreads = new CopyOnWriteArrayList<>();
+        when(testExecutor.executeTest(any(), any()))
+                .thenAnswer(
+                        inv -> {
+                            testThreads.add(Thread.currentThread());
+                            started.countDown();
+                            while (release.getCount() != 0) {
+                                try {
+                                    release.await();
+                                } catch (final InterruptedException e) {
+                                    // Stubbornly ignore interruption.
+                                }
+                            }
+                            return testResult;
+                        });
+
+        final CompletableFuture<SuiteResult> result = new CompletableFuture<>();
+        final Thread suiteThread =
+                new Thread(
+                        () -> {
+                            try {
+                                result.complete(suiteExecutor.executeSuite(testSuite));
+                            } catch (final Throwable e) {
+                                result.completeExceptionally(e);
+                            }
+                        });
+        suiteThread.start();
+
+        try {
+            assertThat(started.await(30, TimeUnit.SECONDS), is(true));
+
+            // When:
+            suiteThread.interrupt();
+
+            // Then: did not block waiting for the test cases:
+            final ExecutionException e =
+                    assertThrows(
+                            ExecutionException.class, () -> result.get(30, TimeUnit.SECONDS));
+            assertThat(e.getCause().getMessage(), containsString("Interrupted running test cases"));
+            testThreads.forEach(thread -> assertThat(thread.isDaemon(), is(true)));
+        } finally {
+            release.countDown();
+        }
+    }
+
     @Test
     void shouldHandleBeforeSuiteListenersThrowing() {
         // Given:
@@ -223,6 +465,158 @@ class TestSuiteExecutorTest {
         assertThat(e.getCause(), is(cause));
     }
 
+    @Test
+    void shouldCreateApiForWorkerWhenPreparingSuite() {
+        // Given:
+        when(apiFactory.create(testSuite, 2)).thenReturn(api);
+
+        // When:
+        final PreparedSuite result =
+                new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 2, background);
+
+        // Then:
+        verify(apiFactory).apply(2);
+        assertThat(result.suite(), is(testSuite));
+    }
+
+    @Test
+    void shouldPrepareEnvironmentForServicesUnderTestInBackground() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        when(testSuite.services()).thenReturn(List.of("a"));
+        when(api.components().definitions().services().get("a")).thenReturn(serviceDef);
+        final Runnable preparation = mock(Runnable.class);
+        when(api.tests().env().currentSuite().services().preparation(List.of(serviceDef)))
+                .thenReturn(preparation);
+
+        // When:
+        new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // Then:
+        final InOrder inOrder = inOrder(background, preparation);
+        inOrder.verify(background).execute(any());
+        inOrder.verify(preparation).run();
+    }
+
+    @Test
+    void shouldNotPrepareEnvironmentOfRunScopedApi() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        when(api.runScoped()).thenReturn(true);
+        when(testSuite.services()).thenReturn(List.of("a"));
+
+        // When:
+        new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // Then:
+        verify(api.tests().env().currentSuite().services(), never()).preparation(any());
+        verify(background, never()).execute(any());
+    }
+
+    @Test
+    void shouldNotThrowIfPreparingEnvironmentFails() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        when(testSuite.services()).thenReturn(List.of("a"));
+        final DockerServiceContainer services = api.tests().env().currentSuite().services();
+        when(services.preparation(any()))
+                .thenReturn(
+                        () -> {
+                            throw new RuntimeException("boom");
+                        });
+
+        // When:
+        final PreparedSuite result =
+                new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // Then:
+        assertThat(result.suite(), is(testSuite));
+        result.close();
+    }
+
+    @Test
+    void shouldNotThrowIfEnvironmentCanNotBePrepared() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        when(testSuite.services()).thenReturn(List.of("a"));
+        final DockerServiceContainer services = api.tests().env().currentSuite().services();
+        doThrow(new RuntimeException("boom")).when(services).preparation(any());
+
+        // When:
+        final PreparedSuite result =
+                new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // Then:
+        assertThat(result.suite(), is(testSuite));
+        verify(background, never()).execute(any());
+    }
+
+    @Test
+    void shouldReleaseEnvironmentAndCloseExtensionsWhenClosingPreparedSuite() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        final PreparedSuite prepared =
+                new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // When:
+        prepared.close();
+
+        // Then:
+        final DockerServiceContainer services = api.tests().env().currentSuite().services();
+        final InOrder inOrder = inOrder(services, api.extensions());
+        inOrder.verify(services).release();
+        inOrder.verify(api.extensions()).close();
+    }
+
+    @Test
+    void shouldWaitForPreparationWhenClosingPreparedSuite() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        final AtomicBoolean prepared = new AtomicBoolean();
+        when(api.tests().env().currentSuite().services().preparation(any()))
+                .thenReturn(
+                        () -> {
+                            sleep(Duration.ofMillis(100));
+                            prepared.set(true);
+                        });
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // When:
+            new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, executor).close();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then:
+        assertThat(prepared.get(), is(true));
+    }
+
+    @Test
+    void shouldNotReleaseRunScopedApiWhenClosingPreparedSuite() {
+        // Given:
+        when(apiFactory.create(testSuite, 0)).thenReturn(api);
+        when(api.runScoped()).thenReturn(true);
+        final PreparedSuite prepared =
+                new TestSuiteExecutor(apiFactory, OPTIONS).prepareSuite(testSuite, 0, background);
+
+        // When:
+        prepared.close();
+
+        // Then:
+        verify(api.tests().env().currentSuite().services(), never()).release();
+        verify(api.extensions(), never()).close();
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
     private void givenTestCase(final TestCase... tests) {
         when(testSuite.tests()).thenReturn(List.of(tests));
     }
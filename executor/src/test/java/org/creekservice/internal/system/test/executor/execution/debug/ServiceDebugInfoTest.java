@@ -148,4 +148,46 @@ class ServiceDebugInfoTest {
                 serviceDebugInfo(8000, Set.of("s"), Set.of("I"), Map.of("k", "v"));
         assertThat(info.env(), is(Map.of("k", "v")));
     }
+
+    @Test
+    void shouldNotOffsetPortsForFirstWorker() {
+        // Given:
+        final ServiceDebugInfo info = serviceDebugInfo(8000, Set.of("s"), Set.of("i"), Map.of());
+
+        // When:
+        final ServiceDebugInfo result = info.forWorker(0);
+
+        // Then:
+        assertThat(result, is(sameInstance(info)));
+    }
+
+    @Test
+    void shouldOffsetPortsForSubsequentWorkers() {
+        // Given:
+        final ServiceDebugInfo info =
+                serviceDebugInfo(8000, Set.of("s"), Set.of("i"), Map.of("k", "v"));
+
+        // When:
+        final ServiceDebugInfo result = info.forWorker(2);
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        serviceDebugInfo(
+                                8000 + 2 * ServiceDebugInfo.DEBUG_PORTS_PER_WORKER,
+                                Set.of("s"),
+                                Set.of("i"),
+                                Map.of("k", "v"))));
+    }
+
+    @Test
+    void shouldNotOffsetPortsIfNothingToDebug() {
+        assertThat(ServiceDebugInfo.none().forWorker(3), is(ServiceDebugInfo.none()));
+    }
+
+    @Test
+    void shouldThrowOnNegativeWorker() {
+        assertThrows(IllegalArgumentException.class, () -> ServiceDebugInfo.none().forWorker(-1));
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.expectation;
+
+import static java.lang.System.lineSeparator;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.creekservice.api.system.test.extension.test.model.ExpectationHandler.Verifier;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentVerifierTest {
+
+    @Test
+    void shouldRunVerifiersConcurrently() {
+        // Given:
+        final CountDownLatch started = new CountDownLatch(2);
+        final Verifier verifier = () -> awaitOthers(started);
+
+        // When:
+        new ConcurrentVerifier(List.of(verifier, verifier)).verify();
+
+        // Then: did not deadlock.
+    }
+
+    @Test
+    void shouldRunVerifiersOffCallingThread() {
+        // Given:
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final Verifier verifier = () -> threads.add(Thread.currentThread());
+
+        // When:
+        new ConcurrentVerifier(List.of(verifier, verifier)).verify();
+
+        // Then:
+        assertThat(threads, hasSize(2));
+        assertThat(threads, everyItem(is(not(Thread.currentThread()))));
+    }
+
+    @Test
+    void shouldThrowSingleFailureAsIs() {
+        // Given:
+        final AssertionError failure = new AssertionError("boom");
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                new ConcurrentVerifier(
+                                                List.of(
+                                                        () -> {},
+                                                        () -> {
+                                                            throw failure;
+                                                        }))
+                                        .verify());
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+    }
+
+    @Test
+    void shouldCancelRemainingVerifiersOnFailure() throws Exception {
+        // Given:
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Verifier slow =
+                () -> {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(5));
+                    } catch (final InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                };
+
+        final AssertionError failure = new AssertionError("boom");
+        final Verifier failing =
+                () -> {
+                    throw failure;
+                };
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () -> new ConcurrentVerifier(List.of(slow, failing)).verify());
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+        assertThat(interrupted.await(30, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void shouldNotWaitForRemainingVerifiersOnFailure() {
+        // Given:
+        final CountDownLatch release = new CountDownLatch(1);
+        final Verifier stubborn =
+                () -> {
+                    while (release.getCount() != 0) {
+                        try {
+                            release.await();
+                        } catch (final InterruptedException e) {
+                            // Ignore interruption.
+                        }
+                    }
+                };
+
+        final Verifier failing =
+                () -> {
+                    throw new AssertionError("boom");
+                };
+
+        try {
+            // When:
+            assertThrows(
+                    AssertionError.class,
+                    () ->
+                            new ConcurrentVerifier(
+                                            List.of(stubborn, failing), Duration.ofMillis(10))
+                                    .verify());
+
+            // Then: did not wait for the stubborn verifier.
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldAggregateFailuresInVerifierOrder() {
+        // Given:
+        final AssertionError failure1 = new AssertionError("failure 1");
+        final AssertionError failure2 = new AssertionError("failure 2");
+
+        // When:
+        final Throwable e = ConcurrentVerifier.outcome(List.of(failure1, failure2));
+
+        // Then:
+        assertThat(e.getMessage(), is("failure 1" + lineSeparator() + "failure 2"));
+        assertThat(e.getSuppressed(), arrayContaining(failure1, failure2));
+    }
+
+    @Test
+    void shouldPreferNonAssertionErrorWithOtherFailuresSuppressed() {
+        // Given:
+        final AssertionError assertion = new AssertionError("failure");
+        final RuntimeException unexpected = new RuntimeException("boom");
+
+        // When:
+        final Throwable e = ConcurrentVerifier.outcome(List.of(assertion, unexpected));
+
+        // Then:
+        assertThat(e, is(sameInstance(unexpected)));
+        assertThat(e.getSuppressed(), arrayContaining(assertion));
+    }
+
+    @Test
+    void shouldAbandonVerifiersThatDoNotStopWhenInterrupted() throws Exception {
+        // Given:
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Verifier stubborn =
+                () -> {
+                    started.countDown();
+                    while (release.getCount() != 0) {
+                        try {
+                            release.await();
+                        } catch (final InterruptedException e) {
+                            // Ignore interruption.
+                        }
+                    }
+                };
+
+        final ConcurrentVerifier verifier =
+                new ConcurrentVerifier(List.of(stubborn, stubborn), Duration.ofMillis(10));
+
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread caller =
+                new Thread(
+                        () -> {
+                            try {
+                                verifier.verify();
+                            } catch (final Throwable e) {
+                                thrown.set(e);
+                            }
+                        });
+
+        try {
+            caller.start();
+            assertThat(started.await(30, TimeUnit.SECONDS), is(true));
+
+            // When:
+            caller.interrupt();
+            caller.join(TimeUnit.SECONDS.toMillis(30));
+
+            // Then:
+            assertThat(caller.isAlive(), is(false));
+            assertThat(thrown.get().getMessage(), is("Interrupted verifying expectations"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldThrowNonAssertionErrors() {
+        // Given:
+        final RuntimeException failure = new RuntimeException("boom");
+
+        // When:
+        final RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                new ConcurrentVerifier(
+                                                List.of(
+                                                        () -> {},
+                                                        () -> {
+                                                            throw failure;
+                                                        }))
+                                        .verify());
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+    }
+
+    private static void awaitOthers(final CountDownLatch started) {
+        started.countDown();
+        try {
+            assertThat(started.await(30, TimeUnit.SECONDS), is(true));
+        } catch (final InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -17,20 +17,33 @@
 package org.creekservice.internal.system.test.executor.execution.expectation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.creekservice.api.system.test.extension.test.model.Expectation;
 import org.creekservice.api.system.test.extension.test.model.ExpectationHandler;
 import org.creekservice.api.system.test.extension.test.model.ExpectationHandler.Verifier;
@@ -38,15 +51,19 @@ import org.creekservice.api.system.test.extension.test.model.Option;
 import org.creekservice.api.system.test.extension.test.model.TestModelContainer;
 import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestSuite;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -61,7 +78,9 @@ class VerifiersTest {
     @Mock private ExpectationHandler<ExpectationB> handlerB;
     @Mock private Verifier verifierA;
     @Mock private Verifier verifierB;
+    @Mock private VerifierHistory history;
     @Captor private ArgumentCaptor<ExpectationHandler.ExpectationOptions> optionsCaptor;
+    private final AtomicLong clock = new AtomicLong();
     private Verifiers verifiers;
 
     @BeforeEach
@@ -72,6 +91,9 @@ class VerifiersTest {
         doReturn(Optional.of(handlerB)).when(model).expectationHandler(ExpectationB.class);
 
         when(testCase.suite()).thenReturn(testSuite);
+        when(testCase.name()).thenReturn("test");
+        when(testCase.isolationKey()).thenReturn("key");
+        when(testSuite.name()).thenReturn("suite");
         when(handlerA.prepare(any(), any())).thenReturn(verifierA);
         when(handlerB.prepare(any(), any())).thenReturn(verifierB);
     }
@@ -85,7 +107,7 @@ class VerifiersTest {
         final Exception e =
                 assertThrows(
                         RuntimeException.class,
-                        () -> verifiers.prepare(List.of(unknown), testCase));
+                        () -> verifiers.prepare(List.of(unknown), testCase, "key"));
 
         // Then:
         assertThat(
@@ -95,6 +117,43 @@ class VerifiersTest {
                             + "org.creekservice.api.system.test.extension.test.model.Expectation$MockitoMock"));
     }
 
+    @Test
+    void shouldOnlyLookUpHandlerOnce() {
+        // When:
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // Then:
+        verify(model, times(1)).expectationHandler(ExpectationA.class);
+    }
+
+    @Test
+    void shouldBeThreadSafeIfAllHandlersAre() {
+        // Given:
+        when(handlerA.threadSafe()).thenReturn(true);
+        when(handlerB.threadSafe()).thenReturn(true);
+
+        // Then:
+        assertThat(
+                verifiers.threadSafe(List.of(new ExpectationA(), new ExpectationB())), is(true));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfAnyHandlerIsNot() {
+        // Given:
+        when(handlerA.threadSafe()).thenReturn(true);
+
+        // Then:
+        assertThat(
+                verifiers.threadSafe(List.of(new ExpectationA(), new ExpectationB())), is(false));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfNoHandlerRegistered() {
+        // Then:
+        assertThat(verifiers.threadSafe(List.of(mock(Expectation.class))), is(false));
+    }
+
     @Test
     void shouldPassGroupedExpectationsToHandlers() {
         // Given:
@@ -103,20 +162,35 @@ class VerifiersTest {
         final ExpectationA e2 = new ExpectationA();
 
         // When:
-        verifiers.prepare(List.of(e0, e1, e2), testCase);
+        verifiers.prepare(List.of(e0, e1, e2), testCase, "key");
 
         // Then:
         verify(handlerA).prepare(eq(List.of(e0, e2)), any());
         verify(handlerB).prepare(eq(List.of(e1)), any());
     }
 
+    @Test
+    void shouldPrepareHandlersInOrderOfTheirFirstExpectation() {
+        // Given:
+        final ExpectationB e0 = new ExpectationB();
+        final ExpectationA e1 = new ExpectationA();
+
+        // When:
+        verifiers.prepare(List.of(e0, e1), testCase, "key");
+
+        // Then:
+        final InOrder inOrder = inOrder(handlerA, handlerB);
+        inOrder.verify(handlerB).prepare(any(), any());
+        inOrder.verify(handlerA).prepare(any(), any());
+    }
+
     @Test
     void shouldPassTimeoutToHandlers() {
         // Given:
         final ExpectationA e0 = new ExpectationA();
 
         // When:
-        verifiers.prepare(List.of(e0), testCase);
+        verifiers.prepare(List.of(e0), testCase, "key");
 
         // Then:
         verify(handlerA).prepare(any(), optionsCaptor.capture());
@@ -127,7 +201,7 @@ class VerifiersTest {
     void shouldExposeOptionsToHandlers() {
         // Given:
         final ExpectationA e0 = new ExpectationA();
-        verifiers.prepare(List.of(e0), testCase);
+        verifiers.prepare(List.of(e0), testCase, "key");
         verify(handlerA).prepare(any(), optionsCaptor.capture());
 
         // When:
@@ -137,13 +211,23 @@ class VerifiersTest {
         verify(testSuite).options(Option.class);
     }
 
+    @Test
+    void shouldPassIsolationKeyToHandlers() {
+        // When:
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key_attempt2");
+
+        // Then:
+        verify(handlerA).prepare(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().isolationKey(), is(Optional.of("key_attempt2")));
+    }
+
     @Test
     void shouldCollapseReturnedVerifiers() {
         // Given:
         final ExpectationA e0 = new ExpectationA();
         final ExpectationB e1 = new ExpectationB();
 
-        final Verifier verifier = verifiers.prepare(List.of(e0, e1), testCase);
+        final Verifier verifier = verifiers.prepare(List.of(e0, e1), testCase, "key");
 
         verifyNoInteractions(verifierA, verifierB);
 
@@ -155,6 +239,208 @@ class VerifiersTest {
         verify(verifierB).verify();
     }
 
+    @Test
+    void shouldVerifyConcurrentlyIfAllHandlersThreadSafe() {
+        // Given:
+        when(handlerA.threadSafe()).thenReturn(true);
+        when(handlerB.threadSafe()).thenReturn(true);
+
+        // When:
+        final Verifier verifier =
+                verifiers.prepare(List.of(new ExpectationA(), new ExpectationB()), testCase, "key");
+
+        // Then:
+        assertThat(verifier, is(instanceOf(ConcurrentVerifier.class)));
+    }
+
+    @Test
+    void shouldVerifyOnCallingThreadIfAnyHandlerNotThreadSafe() {
+        // Given:
+        when(handlerA.threadSafe()).thenReturn(true);
+        final List<Thread> threads = new ArrayList<>();
+        doAnswer(inv -> threads.add(Thread.currentThread())).when(verifierA).verify();
+        doAnswer(inv -> threads.add(Thread.currentThread())).when(verifierB).verify();
+
+        final Verifier verifier =
+                verifiers.prepare(List.of(new ExpectationA(), new ExpectationB()), testCase, "key");
+
+        // When:
+        verifier.verify();
+
+        // Then:
+        assertThat(verifier, is(not(instanceOf(ConcurrentVerifier.class))));
+        assertThat(threads, contains(Thread.currentThread(), Thread.currentThread()));
+    }
+
+    @Test
+    void shouldPassAdaptiveTimeoutToHandlers() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history);
+        when(history.timeout(key(ExpectationA.class)))
+                .thenReturn(Optional.of(Duration.ofSeconds(7)));
+
+        // When:
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // Then:
+        verify(handlerA).prepare(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().timeout(), is(Duration.ofSeconds(7)));
+    }
+
+    @Test
+    void shouldNotPassAdaptiveTimeoutLongerThanDefault() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history);
+        when(history.timeout(any())).thenReturn(Optional.of(TIMEOUT.plusMillis(1)));
+
+        // When:
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // Then:
+        verify(handlerA).prepare(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().timeout(), is(TIMEOUT));
+    }
+
+    @Test
+    void shouldPassDefaultTimeoutToHandlersWithoutHistory() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history);
+        when(history.timeout(any())).thenReturn(Optional.empty());
+
+        // When:
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // Then:
+        verify(handlerA).prepare(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().timeout(), is(TIMEOUT));
+    }
+
+    @Test
+    void shouldRecordTimeTakenToMeetExpectations() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history);
+        final Verifier verifier = verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // When:
+        verifier.verify();
+
+        // Then:
+        verify(history).record(eq(key(ExpectationA.class)), any());
+    }
+
+    @Test
+    void shouldNotRecordTimeTakenIfExpectationsNotMet() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history);
+        doThrow(new AssertionError("not met")).when(verifierA).verify();
+        final Verifier verifier = verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // When:
+        assertThrows(AssertionError.class, verifier::verify);
+
+        // Then:
+        verify(history, never()).record(any(), any());
+    }
+
+    @Test
+    void shouldRecordAdaptiveTimeoutIfExpectationsNotMetWithinIt() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history, clock::get);
+        when(history.timeout(any())).thenReturn(Optional.of(Duration.ofSeconds(7)));
+        doAnswer(taking(Duration.ofSeconds(7), new AssertionError("timed out")))
+                .when(verifierA)
+                .verify();
+        final Verifier verifier = verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // When:
+        assertThrows(AssertionError.class, verifier::verify);
+
+        // Then:
+        verify(history).record(key(ExpectationA.class), Duration.ofSeconds(7));
+    }
+
+    @Test
+    void shouldNotRecordIfExpectationsFailBeforeAdaptiveTimeout() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history, clock::get);
+        when(history.timeout(any())).thenReturn(Optional.of(Duration.ofSeconds(7)));
+        doAnswer(taking(Duration.ofSeconds(1), new AssertionError("mismatch")))
+                .when(verifierA)
+                .verify();
+        final Verifier verifier = verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // When:
+        assertThrows(AssertionError.class, verifier::verify);
+
+        // Then:
+        verify(history, never()).record(any(), any());
+    }
+
+    @Test
+    void shouldNotRecordIfExpectationsNotMetWithinDefaultTimeout() {
+        // Given:
+        verifiers = new Verifiers(model, TIMEOUT, history, clock::get);
+        when(history.timeout(any())).thenReturn(Optional.empty());
+        doAnswer(taking(TIMEOUT, new AssertionError("timed out"))).when(verifierA).verify();
+        final Verifier verifier = verifiers.prepare(List.of(new ExpectationA()), testCase, "key");
+
+        // When:
+        assertThrows(AssertionError.class, verifier::verify);
+
+        // Then:
+        verify(history, never()).record(any(), any());
+    }
+
+    @Test
+    void shouldRecoverWhenExpectationsSlowBeyondLearnedTimeout(@TempDir final Path dir) {
+        // Given:
+        final VerifierHistory realHistory = VerifierHistory.load(dir.resolve("verifiers.tsv"));
+        final VerifierHistory.Key key = key(ExpectationA.class);
+        for (int i = 0; i != 3; ++i) {
+            realHistory.record(key, Duration.ofSeconds(1));
+        }
+
+        final Duration slower = Duration.ofSeconds(10);
+        when(handlerA.prepare(any(), any()))
+                .thenAnswer(
+                        inv -> {
+                            final Duration timeout =
+                                    inv.<ExpectationHandler.ExpectationOptions>getArgument(1)
+                                            .timeout();
+                            return slower.compareTo(timeout) <= 0
+                                    ? (Verifier) () -> clock.addAndGet(slower.toNanos())
+                                    : (Verifier)
+                                            () -> {
+                                                clock.addAndGet(timeout.toNanos());
+                                                throw new AssertionError("timed out");
+                                            };
+                        });
+
+        verifiers = new Verifiers(model, TIMEOUT, realHistory, clock::get);
+        final Duration learned = realHistory.timeout(key).orElseThrow();
+        assertThat(learned, is(lessThan(slower)));
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () -> verifiers.prepare(List.of(new ExpectationA()), testCase, "key").verify());
+
+        // Then:
+        assertThat(realHistory.timeout(key).orElseThrow(), is(greaterThan(slower)));
+        verifiers.prepare(List.of(new ExpectationA()), testCase, "key").verify();
+    }
+
+    private Answer<Void> taking(final Duration timeTaken, final AssertionError failure) {
+        return inv -> {
+            clock.addAndGet(timeTaken.toNanos());
+            throw failure;
+        };
+    }
+
+    private static VerifierHistory.Key key(final Class<?> expectationType) {
+        return new VerifierHistory.Key("suite", "test", expectationType.getName());
+    }
+
     private static final class ExpectationA implements Expectation {}
 
     private static final class ExpectationB implements Expectation {}
@@ -16,25 +16,38 @@
 
 package org.creekservice.internal.system.test.executor.execution.input;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.creekservice.api.system.test.extension.test.model.Input;
 import org.creekservice.api.system.test.extension.test.model.InputHandler;
 import org.creekservice.api.system.test.extension.test.model.InputHandler.InputOptions;
 import org.creekservice.api.system.test.extension.test.model.Option;
 import org.creekservice.api.system.test.extension.test.model.TestModelContainer;
+import org.creekservice.api.system.test.model.TestCase;
 import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,6 +64,7 @@ import org.mockito.quality.Strictness;
 class InputtersTest {
 
     @Mock private TestSuite testSuite;
+    @Mock private TestCase testCase;
     @Mock private TestModelContainer model;
     @Mock private Input0 input0;
     @Mock private Input1 input1;
@@ -63,8 +77,19 @@ class InputtersTest {
     void setUp() {
         inputters = new Inputters(model);
 
+        when(testCase.suite()).thenReturn(testSuite);
+        when(testCase.isolationKey()).thenReturn("key");
+
         doReturn(Optional.of(inputHandler0)).when(model).inputHandler(input0.getClass());
         doReturn(Optional.of(inputHandler1)).when(model).inputHandler(input1.getClass());
+
+        when(inputHandler0.flushAsync()).thenReturn(completedFuture(null));
+        when(inputHandler1.flushAsync()).thenReturn(completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inputters.close();
     }
 
     @Test
@@ -90,22 +115,136 @@ class InputtersTest {
 
         // Then:
         final InOrder inOrder = inOrder(inputHandler0, inputHandler1);
-        inOrder.verify(inputHandler0).process(eq(input0), any());
-        inOrder.verify(inputHandler1).process(eq(input1), any());
-        inOrder.verify(inputHandler0).process(eq(input0), any());
+        inOrder.verify(inputHandler0).processBatch(eq(List.of(input0)), any());
+        inOrder.verify(inputHandler1).processBatch(eq(List.of(input1)), any());
+        inOrder.verify(inputHandler0).processBatch(eq(List.of(input0)), any());
+    }
+
+    @Test
+    void shouldBatchContiguousInputsOfSameType() {
+        // When:
+        inputters.input(List.of(input0, input0, input1, input1, input1, input0), testSuite);
+
+        // Then:
+        final InOrder inOrder = inOrder(inputHandler0, inputHandler1);
+        inOrder.verify(inputHandler0).processBatch(eq(List.of(input0, input0)), any());
+        inOrder.verify(inputHandler1).processBatch(eq(List.of(input1, input1, input1)), any());
+        inOrder.verify(inputHandler0).processBatch(eq(List.of(input0)), any());
+    }
+
+    @Test
+    void shouldOnlyLookUpHandlerOnce() {
+        // When:
+        inputters.input(List.of(input0, input1, input0), testSuite);
+        inputters.input(List.of(input0), testSuite);
+
+        // Then:
+        verify(model, times(1)).inputHandler(input0.getClass());
+    }
+
+    @Test
+    void shouldBeThreadSafeIfAllHandlersAre() {
+        // Given:
+        when(inputHandler0.threadSafe()).thenReturn(true);
+        when(inputHandler1.threadSafe()).thenReturn(true);
+
+        // Then:
+        assertThat(inputters.threadSafe(List.of(input0, input1)), is(true));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfAnyHandlerIsNot() {
+        // Given:
+        when(inputHandler0.threadSafe()).thenReturn(true);
+
+        // Then:
+        assertThat(inputters.threadSafe(List.of(input0, input1)), is(false));
+    }
+
+    @Test
+    void shouldNotBeThreadSafeIfNoHandlerRegistered() {
+        // Given:
+        when(model.inputHandler(any())).thenReturn(Optional.empty());
+
+        // Then:
+        assertThat(inputters.threadSafe(List.of(input0)), is(false));
+    }
+
+    @Test
+    void shouldReuseHandlersLookedUpWhenCheckingThreadSafety() {
+        // Given:
+        inputters.threadSafe(List.of(input0));
+
+        // When:
+        inputters.input(List.of(input0), testSuite);
+
+        // Then:
+        verify(model, times(1)).inputHandler(input0.getClass());
     }
 
     @Test
     void shouldExposeOptionsToHandlers() {
         // Given:
+        final Option option = mock(Option.class);
+        when(testSuite.options(Option.class)).thenReturn(List.of(option));
         inputters.input(List.of(input0), testSuite);
-        verify(inputHandler0).process(eq(input0), optionsCaptor.capture());
+        verify(inputHandler0).processBatch(eq(List.of(input0)), optionsCaptor.capture());
 
         // When:
-        optionsCaptor.getValue().get(Option.class);
+        final List<Option> result = optionsCaptor.getValue().get(Option.class);
 
         // Then:
-        verify(testSuite).options(Option.class);
+        assertThat(result, is(List.of(option)));
+    }
+
+    @Test
+    void shouldNotPassIsolationKeyWhenSeeding() {
+        // When:
+        inputters.input(List.of(input0), testSuite);
+
+        // Then:
+        verify(inputHandler0).processBatch(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().isolationKey(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldPassSuppliedIsolationKey() {
+        // When:
+        inputters.inputAsync(List.of(input0), testCase, "key_attempt2");
+
+        // Then:
+        verify(inputHandler0).processBatch(any(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().isolationKey(), is(Optional.of("key_attempt2")));
+        assertThat(optionsCaptor.getValue().isolate("topic"), is("topic_key_attempt2"));
+    }
+
+    @Test
+    void shouldShareSuiteOptionsBetweenTestCases() {
+        // Given:
+        inputters.input(List.of(input0), testSuite);
+        inputters.inputAsync(List.of(input0), testCase, "key");
+        verify(inputHandler0, times(2)).processBatch(any(), optionsCaptor.capture());
+
+        // When:
+        optionsCaptor.getAllValues().forEach(options -> options.get(Option.class));
+
+        // Then:
+        verify(testSuite, times(1)).options(Option.class);
+    }
+
+    @Test
+    void shouldOnlyFilterSuiteOptionsOncePerType() {
+        // Given:
+        inputters.input(List.of(input0, input1), testSuite);
+        verify(inputHandler0).processBatch(any(), optionsCaptor.capture());
+        verify(inputHandler1).processBatch(any(), optionsCaptor.capture());
+
+        // When:
+        optionsCaptor.getAllValues().forEach(options -> options.get(Option.class));
+        optionsCaptor.getAllValues().forEach(options -> options.get(Option.class));
+
+        // Then:
+        verify(testSuite, times(1)).options(Option.class);
     }
 
     @Test
@@ -114,8 +253,192 @@ class InputtersTest {
         inputters.input(List.of(input0, input1, input0), testSuite);
 
         // Then:
-        verify(inputHandler0, times(1)).flush();
-        verify(inputHandler1, times(1)).flush();
+        verify(inputHandler0, times(1)).flushAsync();
+        verify(inputHandler1, times(1)).flushAsync();
+    }
+
+    @Test
+    void shouldDispatchToHandlersConcurrently() {
+        // Given:
+        inputters = new Inputters(model, true);
+        givenThreadSafeHandlers();
+        final CountDownLatch processing = new CountDownLatch(2);
+        doAnswer(inv -> awaitOthers(processing)).when(inputHandler0).processBatch(any(), any());
+        doAnswer(inv -> awaitOthers(processing)).when(inputHandler1).processBatch(any(), any());
+
+        // When:
+        inputters.input(List.of(input0, input1), testSuite);
+
+        // Then: did not deadlock.
+    }
+
+    @Test
+    void shouldPreserveOrderWithinHandlerWhenConcurrent() {
+        // Given:
+        inputters = new Inputters(model, true);
+        givenThreadSafeHandlers();
+
+        // When:
+        inputters.input(List.of(input0, input1, input0), testSuite);
+
+        // Then:
+        final InOrder inOrder = inOrder(inputHandler0);
+        inOrder.verify(inputHandler0, times(2)).processBatch(eq(List.of(input0)), any());
+        inOrder.verify(inputHandler0).flushAsync();
+        verify(inputHandler1).flushAsync();
+    }
+
+    @Test
+    void shouldOnlyDispatchToThreadSafeHandlersOffCallingThread() {
+        // Given:
+        inputters = new Inputters(model, true);
+        when(inputHandler0.threadSafe()).thenReturn(true);
+        final List<Thread> threads0 = new CopyOnWriteArrayList<>();
+        final List<Thread> threads1 = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> threads0.add(Thread.currentThread()))
+                .when(inputHandler0)
+                .processBatch(any(), any());
+        doAnswer(inv -> threads1.add(Thread.currentThread()))
+                .when(inputHandler1)
+                .processBatch(any(), any());
+
+        // When:
+        inputters.input(List.of(input0, input1), testSuite);
+
+        // Then:
+        assertThat(threads0, hasSize(1));
+        assertThat(threads0.get(0), is(not(Thread.currentThread())));
+        assertThat(threads1, is(List.of(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldDispatchOnCallingThreadIfNoHandlerThreadSafe() {
+        // Given:
+        inputters = new Inputters(model, true);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> threads.add(Thread.currentThread()))
+                .when(inputHandler0)
+                .processBatch(any(), any());
+        doAnswer(inv -> threads.add(Thread.currentThread()))
+                .when(inputHandler1)
+                .processBatch(any(), any());
+
+        // When:
+        inputters.input(List.of(input0, input1), testSuite);
+
+        // Then:
+        assertThat(threads, is(List.of(Thread.currentThread(), Thread.currentThread())));
+    }
+
+    @Test
+    void shouldThrowIfConcurrentHandlerFails() {
+        // Given:
+        inputters = new Inputters(model, true);
+        givenThreadSafeHandlers();
+        final RuntimeException failure = new RuntimeException("boom");
+        doThrow(failure).when(inputHandler1).processBatch(any(), any());
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> inputters.input(List.of(input0, input1), testSuite));
+
+        // Then:
+        assertThat(e, is(sameInstance(failure)));
+        verify(inputHandler0).flushAsync();
+    }
+
+    @Test
+    void shouldStopInputThreadsOnClose() throws Exception {
+        // Given:
+        inputters = new Inputters(model, true);
+        when(inputHandler0.threadSafe()).thenReturn(true);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> threads.add(Thread.currentThread()))
+                .when(inputHandler0)
+                .processBatch(any(), any());
+        inputters.input(List.of(input0, input1), testSuite);
+
+        // When:
+        inputters.close();
+
+        // Then:
+        threads.get(0).join(30_000);
+        assertThat(threads.get(0).isAlive(), is(false));
+    }
+
+    @Test
+    void shouldNotWaitForAsyncFlush() {
+        // Given:
+        final CompletableFuture<Void> flushed = new CompletableFuture<>();
+        when(inputHandler0.flushAsync()).thenReturn(flushed);
+
+        // When:
+        final CompletableFuture<Void> result =
+                inputters.inputAsync(List.of(input0), testCase, "key");
+
+        // Then:
+        verify(inputHandler0).processBatch(eq(List.of(input0)), any());
+        assertThat(result.isDone(), is(false));
+
+        // When:
+        flushed.complete(null);
+
+        // Then:
+        assertThat(result.isDone(), is(true));
+    }
+
+    @Test
+    void shouldWaitForAsyncFlushOnSyncInput() {
+        // Given:
+        when(inputHandler0.flushAsync())
+                .thenReturn(
+                        CompletableFuture.runAsync(
+                                () -> {
+                                    throw new RuntimeException("boom");
+                                }));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class, () -> inputters.input(List.of(input0), testSuite));
+
+        // Then:
+        assertThat(e.getMessage(), is("boom"));
+    }
+
+    @Test
+    void shouldCompleteOnceAllConcurrentHandlersFlushed() {
+        // Given:
+        inputters = new Inputters(model, true);
+        givenThreadSafeHandlers();
+        final CompletableFuture<Void> flushed = new CompletableFuture<>();
+        when(inputHandler1.flushAsync()).thenReturn(flushed);
+
+        // When:
+        final CompletableFuture<Void> result =
+                inputters.inputAsync(List.of(input0, input1), testCase, "key");
+
+        // Then:
+        assertThat(result.isDone(), is(false));
+
+        // When:
+        flushed.complete(null);
+
+        // Then:
+        assertThat(result.isDone(), is(true));
+    }
+
+    private void givenThreadSafeHandlers() {
+        when(inputHandler0.threadSafe()).thenReturn(true);
+        when(inputHandler1.threadSafe()).thenReturn(true);
+    }
+
+    private static Object awaitOthers(final CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        assertThat(latch.await(30, TimeUnit.SECONDS), is(true));
+        return null;
     }
 
     private interface Input0 extends Input {}
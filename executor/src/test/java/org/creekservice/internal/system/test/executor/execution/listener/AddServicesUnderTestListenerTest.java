@@ -22,6 +22,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -37,11 +38,13 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.creekservice.api.system.test.extension.component.definition.ServiceDefinition;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
+import org.creekservice.api.system.test.extension.test.env.suite.service.ReadinessProbe;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
 import org.creekservice.internal.system.test.executor.api.SystemTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -87,16 +90,43 @@ class AddServicesUnderTestListenerTest {
     }
 
     @Test
-    void shouldConfigureStartUpLogMessage() {
+    void shouldConfigureStartedLogMessageReadinessProbe() throws Exception {
         // Given:
         givenSuiteHasServices("a");
+        listener.beforeSuite(suite);
+
+        final ArgumentCaptor<ReadinessProbe> probe = ArgumentCaptor.forClass(ReadinessProbe.class);
+        verify(instances.get("a:0")).setReadinessProbe(probe.capture());
+
+        final ReadinessProbe.Target target = mock(ReadinessProbe.Target.class);
+        when(target.logContains(argThat("blah creek.lifecycle.service.started blah"::contains)))
+                .thenReturn(true);
 
         // When:
+        final boolean ready = probe.getValue().ready(target);
+
+        // Then:
+        assertThat(ready, is(true));
+    }
+
+    @Test
+    void shouldNotBeReadyUntilStartedLogMessage() throws Exception {
+        // Given:
+        givenSuiteHasServices("a");
         listener.beforeSuite(suite);
 
+        final ArgumentCaptor<ReadinessProbe> probe = ArgumentCaptor.forClass(ReadinessProbe.class);
+        verify(instances.get("a:0")).setReadinessProbe(probe.capture());
+
+        final ReadinessProbe.Target target = mock(ReadinessProbe.Target.class);
+        when(target.logContains(argThat("creek.lifecycle.service.starting"::contains)))
+                .thenReturn(true);
+
+        // When:
+        final boolean ready = probe.getValue().ready(target);
+
         // Then:
-        verify(instances.get("a:0"))
-                .setStartupLogMessage(".*\\Qcreek.lifecycle.service.started\\E.*", 1);
+        assertThat(ready, is(false));
     }
 
     @Test
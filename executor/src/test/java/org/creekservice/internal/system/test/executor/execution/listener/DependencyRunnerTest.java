@@ -0,0 +1,263 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.listener;
+
+import static org.creekservice.internal.system.test.executor.execution.listener.DependencyRunner.runConcurrently;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class DependencyRunnerTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldDoNothingIfNoTasks() {
+        // When:
+        runConcurrently(List.of(), idx -> List.of(), recording(), true);
+
+        // Then:
+        assertThat(events, is(empty()));
+    }
+
+    @Test
+    void shouldRunBlockingStagesConcurrently() {
+        // Given:
+        final CountDownLatch allBlocking = new CountDownLatch(3);
+
+        // When:
+        runConcurrently(
+                List.of(0, 1, 2),
+                idx -> List.of(),
+                idx ->
+                        () -> {
+                            allBlocking.countDown();
+                            try {
+                                assertThat(allBlocking.await(30, TimeUnit.SECONDS), is(true));
+                            } catch (final InterruptedException e) {
+                                throw new AssertionError(e);
+                            }
+                            return () -> events.add("complete " + idx);
+                        },
+                true);
+
+        // Then:
+        assertThat(events, containsInAnyOrder("complete 0", "complete 1", "complete 2"));
+    }
+
+    @Test
+    void shouldOnlyRunBlockingStagesOffCallingThread() {
+        // Given:
+        final List<Thread> callingStages = new CopyOnWriteArrayList<>();
+        final List<Thread> blockingStages = new CopyOnWriteArrayList<>();
+
+        // When:
+        runConcurrently(
+                List.of(0, 1),
+                idx -> List.of(),
+                idx -> {
+                    callingStages.add(Thread.currentThread());
+                    return () -> {
+                        blockingStages.add(Thread.currentThread());
+                        return () -> callingStages.add(Thread.currentThread());
+                    };
+                },
+                true);
+
+        // Then:
+        assertThat(callingStages, hasSize(4));
+        assertThat(callingStages, everyItem(is(Thread.currentThread())));
+        assertThat(blockingStages, hasSize(2));
+        assertThat(blockingStages, everyItem(is(not(Thread.currentThread()))));
+    }
+
+    @Test
+    void shouldOnlyBeginTasksOnceTheirDependenciesComplete() {
+        // Given:
+        final Map<Integer, List<Integer>> deps = Map.of(0, List.of(1, 2), 1, List.of(2));
+
+        // When:
+        runConcurrently(
+                List.of(2, 1, 0), idx -> deps.getOrDefault(idx, List.of()), recording(), true);
+
+        // Then:
+        assertThat(
+                events,
+                contains(
+                        "begin 2", "complete 2", "begin 1", "complete 1", "begin 0", "complete 0"));
+    }
+
+    @Test
+    void shouldIgnoreDependenciesNotBeingRun() {
+        // When:
+        runConcurrently(List.of(0), idx -> List.of(1), recording(), true);
+
+        // Then:
+        assertThat(events, contains("begin 0", "complete 0"));
+    }
+
+    @Test
+    void shouldThrowFailureToBeginTask() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("Boom");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                runConcurrently(
+                                        List.of(0),
+                                        idx -> List.of(),
+                                        idx -> {
+                                            throw expected;
+                                        },
+                                        true));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldThrowFailureOfBlockingStage() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("Boom");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                runConcurrently(
+                                        List.of(0),
+                                        idx -> List.of(),
+                                        idx ->
+                                                () -> {
+                                                    throw expected;
+                                                },
+                                        true));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldNotBeginFurtherTasksOnFailureIfAborting() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("Boom");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                runConcurrently(
+                                        List.of(1, 0),
+                                        idx -> idx == 0 ? List.of(1) : List.of(),
+                                        failing(1, expected),
+                                        true));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        assertThat(events, contains("begin 1"));
+    }
+
+    @Test
+    void shouldCompleteInFlightTasksOnFailureIfAborting() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("Boom");
+        final IntFunction<Supplier<Runnable>> task = recording();
+
+        // When:
+        assertThrows(
+                RuntimeException.class,
+                () ->
+                        runConcurrently(
+                                List.of(0, 1),
+                                idx -> List.of(),
+                                idx -> {
+                                    if (idx == 1) {
+                                        throw expected;
+                                    }
+                                    return task.apply(idx);
+                                },
+                                true));
+
+        // Then:
+        assertThat(events, contains("begin 0", "complete 0"));
+    }
+
+    @Test
+    void shouldRunRemainingTasksOnFailureIfNotAborting() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("Boom");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                runConcurrently(
+                                        List.of(1, 0),
+                                        idx -> idx == 0 ? List.of(1) : List.of(),
+                                        failing(1, expected),
+                                        false));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        assertThat(events, contains("begin 1", "begin 0", "complete 0"));
+    }
+
+    private IntFunction<Supplier<Runnable>> recording() {
+        return idx -> {
+            events.add("begin " + idx);
+            return () -> () -> events.add("complete " + idx);
+        };
+    }
+
+    private IntFunction<Supplier<Runnable>> failing(
+            final int failingIdx, final RuntimeException failure) {
+        final IntFunction<Supplier<Runnable>> recording = recording();
+        return idx -> {
+            if (idx != failingIdx) {
+                return recording.apply(idx);
+            }
+
+            events.add("begin " + idx);
+            return () ->
+                    () -> {
+                        throw failure;
+                    };
+        };
+    }
+}
@@ -108,6 +108,20 @@ class PrepareResourcesListenerTest {
         verify(handlerB).prepare(List.of(RES_B_0, RES_B_1));
     }
 
+    @Test
+    void shouldNotPrepareFilteredOutResources() {
+        // Given:
+        listener = new PrepareResourcesListener(api, res -> !(res instanceof ResourceB));
+        when(desc0.resources()).thenAnswer(inv -> Stream.of(RES_A_0, RES_B_0));
+
+        // When:
+        listener.beforeSuite(null);
+
+        // Then:
+        verify(handlerA).prepare(List.of(RES_A_0));
+        verify(handlerB, never()).prepare(any());
+    }
+
     @Test
     void shouldSupportNested() {
         // Given:
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.execution.listener;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ServiceDependencyGraphTest {
+
+    @Test
+    void shouldHaveNoDependenciesIfNoneDefined() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(List.of("a", "b"), Map.of());
+
+        // Then:
+        assertThat(graph.size(), is(2));
+        assertThat(graph.dependenciesOf(0), is(empty()));
+        assertThat(graph.dependenciesOf(1), is(empty()));
+        assertThat(graph.startOrder(), contains(0, 1));
+    }
+
+    @Test
+    void shouldResolveDependenciesToIndexes() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(List.of("a", "b", "c"), Map.of("a", List.of("c", "b")));
+
+        // Then:
+        assertThat(graph.dependenciesOf(0), contains(1, 2));
+        assertThat(graph.dependenciesOf(1), is(empty()));
+        assertThat(graph.dependenciesOf(2), is(empty()));
+    }
+
+    @Test
+    void shouldDependOnAllInstancesOfAService() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(List.of("a", "b", "a", "b"), Map.of("a", List.of("b")));
+
+        // Then:
+        assertThat(graph.dependenciesOf(0), contains(1, 3));
+        assertThat(graph.dependenciesOf(2), contains(1, 3));
+    }
+
+    @Test
+    void shouldOrderServicesAfterTheirDependencies() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(
+                        List.of("a", "b", "c", "d"),
+                        Map.of("a", List.of("b"), "b", List.of("d"), "c", List.of("d")));
+
+        // Then:
+        assertThat(graph.startOrder(), contains(3, 1, 2, 0));
+    }
+
+    @Test
+    void shouldResolveDependants() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(
+                        List.of("a", "b", "c"), Map.of("a", List.of("c"), "b", List.of("c")));
+
+        // Then:
+        assertThat(graph.dependantsOf(0), is(empty()));
+        assertThat(graph.dependantsOf(1), is(empty()));
+        assertThat(graph.dependantsOf(2), contains(0, 1));
+    }
+
+    @Test
+    void shouldOrderServicesBeforeTheirDependenciesWhenStopping() {
+        // When:
+        final ServiceDependencyGraph graph =
+                new ServiceDependencyGraph(
+                        List.of("a", "b", "c", "d"),
+                        Map.of("a", List.of("b"), "b", List.of("d"), "c", List.of("d")));
+
+        // Then:
+        assertThat(graph.stopOrder(), contains(0, 2, 1, 3));
+    }
+
+    @Test
+    void shouldThrowOnUnknownDependency() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                new ServiceDependencyGraph(
+                                        List.of("a"), Map.of("a", List.of("unknown"))));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown service in service dependencies: unknown"));
+    }
+
+    @Test
+    void shouldThrowOnSelfDependency() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new ServiceDependencyGraph(List.of("a"), Map.of("a", List.of("a"))));
+
+        // Then:
+        assertThat(e.getMessage(), is("Service can not depend on itself: a"));
+    }
+
+    @Test
+    void shouldThrowOnCircularDependency() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                new ServiceDependencyGraph(
+                                        List.of("a", "b", "c", "d"),
+                                        Map.of(
+                                                "a", List.of("b"),
+                                                "b", List.of("c"),
+                                                "c", List.of("a", "d"))));
+
+        // Then:
+        assertThat(e.getMessage(), is("Circular dependency between services: [a, b, c]"));
+    }
+}
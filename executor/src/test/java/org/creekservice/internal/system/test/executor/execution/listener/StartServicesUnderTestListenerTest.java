@@ -17,10 +17,15 @@
 package org.creekservice.internal.system.test.executor.execution.listener;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -28,15 +33,22 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.StagedServiceInstance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class StartServicesUnderTestListenerTest {
@@ -49,6 +61,9 @@ class StartServicesUnderTestListenerTest {
     @Mock private ServiceInstance instance0;
     @Mock private ServiceInstance instance1;
     @Mock private ServiceInstance instance2;
+    @Mock private StagedServiceInstance staged0;
+    @Mock private StagedServiceInstance staged1;
+    @Mock private StagedServiceInstance staged2;
     private StartServicesUnderTestListener listener;
 
     @BeforeEach
@@ -112,6 +127,209 @@ class StartServicesUnderTestListenerTest {
         verify(instance2, never()).start();
     }
 
+    @Test
+    void shouldStartIndependentServicesConcurrentlyIfDependenciesDefined() {
+        // Given:
+        givenDependencies(Map.of());
+        givenStagedServices();
+        final Supplier<Runnable> awaitOthers = awaitAll(new CountDownLatch(3));
+        when(staged0.beginStart()).thenReturn(awaitOthers);
+        when(staged1.beginStart()).thenReturn(awaitOthers);
+        when(staged2.beginStart()).thenReturn(awaitOthers);
+
+        // When:
+        listener.beforeSuite(suite);
+
+        // Then: did not deadlock, and:
+        verify(staged0).beginStart();
+        verify(staged1).beginStart();
+        verify(staged2).beginStart();
+    }
+
+    @Test
+    void shouldStartServicesAfterTheirDependencies() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b", "c"), "b", List.of("c")));
+        final List<ServiceInstance> startOrder = recordStartOrder();
+
+        // When:
+        listener.beforeSuite(suite);
+
+        // Then:
+        assertThat(startOrder, contains(instance2, instance1, instance0));
+    }
+
+    @Test
+    void shouldOnlyAccessStagedServicesFromSuiteThread() {
+        // Given:
+        givenDependencies(Map.of());
+        givenStagedServices();
+        final List<Thread> suiteStages = new CopyOnWriteArrayList<>();
+        final List<Thread> blockingStages = new CopyOnWriteArrayList<>();
+        final Answer<Supplier<Runnable>> recordThreads =
+                inv -> {
+                    suiteStages.add(Thread.currentThread());
+                    return () -> {
+                        blockingStages.add(Thread.currentThread());
+                        return () -> suiteStages.add(Thread.currentThread());
+                    };
+                };
+        when(staged0.beginStart()).thenAnswer(recordThreads);
+        when(staged1.beginStart()).thenAnswer(recordThreads);
+        when(staged2.beginStart()).thenAnswer(recordThreads);
+
+        // When:
+        listener.beforeSuite(suite);
+
+        // Then:
+        assertThat(suiteStages, hasSize(6));
+        assertThat(suiteStages, everyItem(is(Thread.currentThread())));
+        assertThat(blockingStages, hasSize(3));
+        assertThat(blockingStages, everyItem(is(not(Thread.currentThread()))));
+    }
+
+    @Test
+    void shouldNotStopStagedServicesThatFailedToStart() {
+        // Given:
+        givenDependencies(Map.of());
+        givenStagedServices();
+        when(staged0.beginStart()).thenReturn(() -> () -> {});
+        when(staged1.beginStart())
+                .thenReturn(
+                        () ->
+                                () -> {
+                                    throw new RuntimeException("Boom");
+                                });
+        when(staged2.beginStart()).thenReturn(() -> () -> {});
+        when(staged0.beginStop()).thenReturn(() -> () -> {});
+        when(staged2.beginStop()).thenReturn(() -> () -> {});
+        assertThrows(RuntimeException.class, () -> listener.beforeSuite(suite));
+
+        // When:
+        listener.afterSuite(suite, null);
+
+        // Then:
+        verify(staged0).beginStop();
+        verify(staged1, never()).beginStop();
+        verify(staged2).beginStop();
+    }
+
+    @Test
+    void shouldThrowOnConcurrentServiceStartFailure() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b")));
+        final RuntimeException expected = new RuntimeException("Boom");
+        doThrow(expected).when(instance1).start();
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> listener.beforeSuite(suite));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldNotStartDependantsOfServiceThatFailedToStart() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b")));
+        doThrow(new RuntimeException("Boom")).when(instance1).start();
+
+        // When:
+        assertThrows(RuntimeException.class, () -> listener.beforeSuite(suite));
+
+        // Then:
+        verify(instance0, never()).start();
+    }
+
+    @Test
+    void shouldThrowOnCircularServiceDependencies() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b"), "b", List.of("a")));
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> listener.beforeSuite(suite));
+
+        // Then:
+        assertThat(e.getMessage(), is("Circular dependency between services: [a, b]"));
+        verify(instance0, never()).start();
+        verify(instance1, never()).start();
+        verify(instance2, never()).start();
+    }
+
+    @Test
+    void shouldStopConcurrentlyStartedServicesInReverseStartOrder() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b", "c"), "b", List.of("c")));
+        listener.beforeSuite(suite);
+
+        // When:
+        listener.afterSuite(suite, null);
+
+        // Then:
+        final InOrder inOrder = inOrder(instance0, instance1, instance2);
+        inOrder.verify(instance0).stop();
+        inOrder.verify(instance1).stop();
+        inOrder.verify(instance2).stop();
+    }
+
+    @Test
+    void shouldStopIndependentServicesConcurrently() {
+        // Given:
+        givenDependencies(Map.of());
+        givenStagedServices();
+        when(staged0.beginStart()).thenReturn(() -> () -> {});
+        when(staged1.beginStart()).thenReturn(() -> () -> {});
+        when(staged2.beginStart()).thenReturn(() -> () -> {});
+        listener.beforeSuite(suite);
+        final Supplier<Runnable> awaitOthers = awaitAll(new CountDownLatch(3));
+        when(staged0.beginStop()).thenReturn(awaitOthers);
+        when(staged1.beginStop()).thenReturn(awaitOthers);
+        when(staged2.beginStop()).thenReturn(awaitOthers);
+
+        // When:
+        listener.afterSuite(suite, null);
+
+        // Then: did not deadlock, and:
+        verify(staged0).beginStop();
+        verify(staged1).beginStop();
+        verify(staged2).beginStop();
+    }
+
+    @Test
+    void shouldContinueStoppingConcurrentlyStartedServicesIfOneThrows() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b"), "b", List.of("c")));
+        listener.beforeSuite(suite);
+        final RuntimeException expected = new RuntimeException("Boom");
+        doThrow(expected).when(instance0).stop();
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> listener.afterSuite(suite, null));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        verify(instance1).stop();
+        verify(instance2).stop();
+    }
+
+    @Test
+    void shouldStopOnlyConcurrentlyStartedServicesIfBeforeSuiteThrew() {
+        // Given:
+        givenDependencies(Map.of("a", List.of("b"), "b", List.of("c")));
+        doThrow(new RuntimeException("Boom")).when(instance1).start();
+        assertThrows(Exception.class, () -> listener.beforeSuite(suite));
+
+        // When:
+        listener.afterSuite(suite, null);
+
+        // Then:
+        verify(instance2).stop();
+        verify(instance0, never()).stop();
+        verify(instance1, never()).stop();
+    }
+
     @Test
     void shouldStopStartedServicesOnAfterSuiteEvenIfBeforeSuiteThrew() {
         // Given:
@@ -126,4 +344,39 @@ class StartServicesUnderTestListenerTest {
         verify(instance1, never()).stop();
         verify(instance2, never()).stop();
     }
+
+    private void givenDependencies(final Map<String, List<String>> dependencies) {
+        when(suite.services()).thenReturn(List.of("a", "b", "c"));
+        when(suite.serviceDependencies()).thenReturn(Optional.of(dependencies));
+    }
+
+    private void givenStagedServices() {
+        when(servicesSupplier.get()).thenReturn(List.of(staged0, staged1, staged2));
+    }
+
+    private static Supplier<Runnable> awaitAll(final CountDownLatch latch) {
+        return () -> {
+            latch.countDown();
+            try {
+                assertThat(latch.await(30, TimeUnit.SECONDS), is(true));
+            } catch (final InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return () -> {};
+        };
+    }
+
+    private List<ServiceInstance> recordStartOrder() {
+        final List<ServiceInstance> startOrder = new CopyOnWriteArrayList<>();
+        for (final ServiceInstance instance : List.of(instance0, instance1, instance2)) {
+            doAnswer(
+                            inv -> {
+                                startOrder.add(instance);
+                                return null;
+                            })
+                    .when(instance)
+                    .start();
+        }
+        return startOrder;
+    }
 }
@@ -16,18 +16,26 @@
 
 package org.creekservice.internal.system.test.executor.execution.listener;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-import java.util.function.Consumer;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.creekservice.api.system.test.extension.test.env.suite.service.ConfigurableServiceInstance;
-import org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance;
 import org.creekservice.internal.system.test.executor.api.SystemTest;
+import org.creekservice.internal.system.test.executor.api.test.env.suite.service.StagedServiceInstance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,7 +47,13 @@ class SuiteCleanUpListenerTest {
 
     private SuiteCleanUpListener listener;
     @Mock private ConfigurableServiceInstance service;
-    @Captor private ArgumentCaptor<Consumer<? super ServiceInstance>> actionCaptor;
+    @Mock private ConfigurableServiceInstance service1;
+
+    @Mock(extraInterfaces = StagedServiceInstance.class)
+    private ConfigurableServiceInstance staged;
+
+    @Mock(extraInterfaces = StagedServiceInstance.class)
+    private ConfigurableServiceInstance staged1;
 
     @BeforeEach
     void setUp() {
@@ -57,13 +71,57 @@ class SuiteCleanUpListenerTest {
 
     @Test
     void shouldStopAllServicesAfterSuite() {
+        // Given:
+        givenServices(service, service1);
+
         // When:
         listener.afterSuite(null, null);
 
         // Then:
-        verify(api.tests().env().currentSuite().services()).forEach(actionCaptor.capture());
-        actionCaptor.getValue().accept(service);
         verify(service).stop();
+        verify(service1).stop();
+    }
+
+    @Test
+    void shouldStopServicesConcurrently() {
+        // Given:
+        givenServices(staged, staged1);
+        final CountDownLatch allStopping = new CountDownLatch(2);
+        final Supplier<Runnable> awaitOthers =
+                () -> {
+                    allStopping.countDown();
+                    try {
+                        assertThat(allStopping.await(30, TimeUnit.SECONDS), is(true));
+                    } catch (final InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                    return () -> {};
+                };
+        when(((StagedServiceInstance) staged).beginStop()).thenReturn(awaitOthers);
+        when(((StagedServiceInstance) staged1).beginStop()).thenReturn(awaitOthers);
+
+        // When:
+        listener.afterSuite(null, null);
+
+        // Then: did not deadlock, and:
+        verify(staged, never()).stop();
+        verify(staged1, never()).stop();
+    }
+
+    @Test
+    void shouldStopAllServicesEvenIfOneThrows() {
+        // Given:
+        givenServices(service, service1);
+        final RuntimeException expected = new RuntimeException("Boom");
+        doThrow(expected).when(service).stop();
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> listener.afterSuite(null, null));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+        verify(service1).stop();
     }
 
     @Test
@@ -74,4 +132,21 @@ class SuiteCleanUpListenerTest {
         // Then:
         verify(api.extensions()).close();
     }
+
+    @Test
+    void shouldNotCloseExtensionsOfRunScopedApiAfterSuite() {
+        // Given:
+        when(api.runScoped()).thenReturn(true);
+
+        // When:
+        listener.afterSuite(null, null);
+
+        // Then:
+        verify(api.extensions(), never()).close();
+    }
+
+    private void givenServices(final ConfigurableServiceInstance... services) {
+        when(api.tests().env().currentSuite().services().iterator())
+                .thenReturn(List.of(services).iterator());
+    }
 }
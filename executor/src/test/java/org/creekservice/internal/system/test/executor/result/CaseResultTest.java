@@ -18,6 +18,7 @@ package org.creekservice.internal.system.test.executor.result;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
@@ -132,4 +133,59 @@ class CaseResultTest {
                         "CaseResult{test=test-a, duration=PT42.899S, skipped=false, failure=<none>,"
                                 + " error=boom}"));
     }
+
+    @Test
+    void shouldDefaultToSingleAttempt() {
+        // When:
+        final CaseResult result = builder.success();
+
+        // Then:
+        assertThat(result.attempts(), is(1));
+    }
+
+    @Test
+    void shouldSetAttempts() {
+        // Given:
+        final CaseResult result = builder.failure(new AssertionError("boom"));
+
+        // When:
+        final CaseResult retried = result.withAttempts(3);
+
+        // Then:
+        assertThat(retried.attempts(), is(3));
+        assertThat(retried.testCase(), is(testCase));
+        assertThat(retried.duration(), is(result.duration()));
+        assertThat(retried.failure(), is(result.failure()));
+        assertThat(retried.error(), is(result.error()));
+        assertThat(retried.skipped(), is(result.skipped()));
+    }
+
+    @Test
+    void shouldBeExecutedIfBuilt() {
+        assertThat(builder.success().executed(), is(true));
+        assertThat(builder.disabled().executed(), is(true));
+    }
+
+    @Test
+    void shouldNotBeExecutedIfReusedFromPreviousRun() {
+        // When:
+        final CaseResult result = CaseResult.cached(testCase, Duration.ofSeconds(1), false);
+
+        // Then:
+        assertThat(result.executed(), is(false));
+        assertThat(result.withAttempts(2).executed(), is(false));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveAttempts() {
+        // Given:
+        final CaseResult result = builder.success();
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> result.withAttempts(0));
+
+        // Then:
+        assertThat(e.getMessage(), is("attempts must be positive, but was: 0"));
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.creekservice.api.system.test.extension.test.model.CreekTestCase;
+import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
+import org.creekservice.api.system.test.extension.test.model.TestCaseResult;
+import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.internal.system.test.executor.result.FlakinessLedger.TestRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlakinessLedgerTest {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldBeEmptyIfFileDoesNotExist() {
+        // When:
+        final FlakinessLedger ledger = FlakinessLedger.load(dir.resolve("flaky.tsv"));
+
+        // Then:
+        assertThat(ledger.flakyTests(), is(List.of()));
+    }
+
+    @Test
+    void shouldRecordRunsFlakyAndFailedTests() {
+        // Given:
+        final FlakinessLedger ledger = FlakinessLedger.load(dir.resolve("flaky.tsv"));
+
+        final TestCaseResult passed = testResult("passed", 1);
+        final TestCaseResult flaky = testResult("flaky", 2);
+        final TestCaseResult failed = testResult("failed", 3);
+        when(failed.failure()).thenReturn(Optional.of(new AssertionError()));
+
+        // When:
+        ledger.record(executionResult(suiteResult("s1", passed, flaky, failed)));
+
+        // Then:
+        assertThat(
+                ledger.test("s1", "passed"),
+                is(Optional.of(new TestRecord("s1", "passed", 1, 0, 0))));
+        assertThat(
+                ledger.test("s1", "flaky"),
+                is(Optional.of(new TestRecord("s1", "flaky", 1, 1, 0))));
+        assertThat(
+                ledger.test("s1", "failed"),
+                is(Optional.of(new TestRecord("s1", "failed", 1, 0, 1))));
+    }
+
+    @Test
+    void shouldTreatErroredTestsAsFailed() {
+        // Given:
+        final FlakinessLedger ledger = FlakinessLedger.load(dir.resolve("flaky.tsv"));
+        final TestCaseResult errored = testResult("errored", 2);
+        when(errored.error()).thenReturn(Optional.of(new RuntimeException()));
+
+        // When:
+        ledger.record(executionResult(suiteResult("s1", errored)));
+
+        // Then:
+        assertThat(
+                ledger.test("s1", "errored"),
+                is(Optional.of(new TestRecord("s1", "errored", 1, 0, 1))));
+    }
+
+    @Test
+    void shouldNotRecordSkippedTests() {
+        // Given:
+        final FlakinessLedger ledger = FlakinessLedger.load(dir.resolve("flaky.tsv"));
+        final TestCaseResult skipped = testResult("skipped", 1);
+        when(skipped.skipped()).thenReturn(true);
+
+        // When:
+        ledger.record(executionResult(suiteResult("s1", skipped)));
+
+        // Then:
+        assertThat(ledger.test("s1", "skipped"), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotRecordResultsReusedFromPreviousRuns() {
+        // Given:
+        final FlakinessLedger ledger = FlakinessLedger.load(dir.resolve("flaky.tsv"));
+        final TestCase testCase = mock(TestCase.class);
+        when(testCase.name()).thenReturn("reused");
+        final TestCaseResult reused = CaseResult.cached(testCase, Duration.ofSeconds(1), false);
+
+        // When:
+        ledger.record(executionResult(suiteResult("s1", reused)));
+
+        // Then:
+        assertThat(ledger.test("s1", "reused"), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldAccumulateAcrossRuns() {
+        // Given:
+        final Path file = dir.resolve("cache/flaky.tsv");
+        final FlakinessLedger first = FlakinessLedger.load(file);
+        first.record(executionResult(suiteResult("s\t1", testResult("t\\1", 2))));
+        first.save();
+
+        final FlakinessLedger second = FlakinessLedger.load(file);
+
+        // When:
+        second.record(executionResult(suiteResult("s\t1", testResult("t\\1", 1))));
+
+        // Then:
+        assertThat(
+                second.test("s\t1", "t\\1"),
+                is(Optional.of(new TestRecord("s\t1", "t\\1", 2, 1, 0))));
+    }
+
+    @Test
+    void shouldListFlakyTestsMostFlakyFirst() {
+        // Given:
+        final FlakinessLedger ledger =
+                new FlakinessLedger(
+                        dir.resolve("flaky.tsv"),
+                        List.of(
+                                new TestRecord("s1", "t1", 10, 1, 0),
+                                new TestRecord("s1", "t2", 10, 0, 3),
+                                new TestRecord("s2", "t1", 10, 4, 1)));
+
+        // Then:
+        assertThat(
+                ledger.flakyTests(),
+                contains(
+                        new TestRecord("s2", "t1", 10, 4, 1),
+                        new TestRecord("s1", "t1", 10, 1, 0)));
+    }
+
+    @Test
+    void shouldIgnoreInvalidRecords() throws Exception {
+        // Given:
+        final Path file = dir.resolve("flaky.tsv");
+        Files.write(
+                file,
+                List.of(
+                        "# comment",
+                        "test\ts1\tt1\t5\t2\t0",
+                        "test\ts1\tt2\tnot-a-number\t2\t0",
+                        "unknown\tstuff"),
+                StandardCharsets.UTF_8);
+
+        // When:
+        final FlakinessLedger ledger = FlakinessLedger.load(file);
+
+        // Then:
+        assertThat(ledger.test("s1", "t1"), is(Optional.of(new TestRecord("s1", "t1", 5, 2, 0))));
+        assertThat(ledger.test("s1", "t2"), is(Optional.empty()));
+    }
+
+    private static TestExecutionResult executionResult(final TestSuiteResult... suites) {
+        final TestExecutionResult result = mock(TestExecutionResult.class);
+        doReturn(List.of(suites)).when(result).results();
+        return result;
+    }
+
+    private static TestSuiteResult suiteResult(final String name, final TestCaseResult... tests) {
+        final CreekTestSuite suite = mock(CreekTestSuite.class);
+        when(suite.name()).thenReturn(name);
+
+        final TestSuiteResult result = mock(TestSuiteResult.class);
+        when(result.testSuite()).thenReturn(suite);
+        doReturn(List.of(tests)).when(result).testResults();
+        return result;
+    }
+
+    private static TestCaseResult testResult(final String name, final int attempts) {
+        final CreekTestCase testCase = mock(CreekTestCase.class);
+        when(testCase.name()).thenReturn(name);
+
+        final TestCaseResult result = mock(TestCaseResult.class);
+        when(result.testCase()).thenReturn(testCase);
+        when(result.failure()).thenReturn(Optional.empty());
+        when(result.error()).thenReturn(Optional.empty());
+        when(result.attempts()).thenReturn(attempts);
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PreviousResultsTest {
+
+    @Mock private TestSuite failedSuite;
+    @Mock private TestSuite passedSuite;
+    @Mock private TestCase passedTest;
+    @Mock private TestCase failedTest;
+    private PreviousResults previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = new PreviousResults(Map.of("failed", Map.of("passed", Duration.ofSeconds(2))));
+
+        when(failedSuite.name()).thenReturn("failed");
+        when(passedSuite.name()).thenReturn("passed");
+        when(passedTest.name()).thenReturn("passed");
+        when(passedTest.suite()).thenReturn(failedSuite);
+        when(failedTest.name()).thenReturn("failed");
+        when(failedTest.suite()).thenReturn(failedSuite);
+    }
+
+    @Test
+    void shouldSelectAllIfNone() {
+        // Given:
+        previous = PreviousResults.none();
+
+        // Then:
+        assertThat(previous.selects(failedSuite), is(true));
+        assertThat(previous.selects(passedSuite), is(true));
+        assertThat(previous.passed(passedTest), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldOnlySelectFailedSuites() {
+        assertThat(previous.selects(failedSuite), is(true));
+        assertThat(previous.selects(passedSuite), is(false));
+    }
+
+    @Test
+    void shouldReturnPreviousResultOfPassedTest() {
+        // When:
+        final Optional<CaseResult> result = previous.passed(passedTest);
+
+        // Then:
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get().testCase(), is(sameInstance(passedTest)));
+        assertThat(result.get().duration(), is(Duration.ofSeconds(2)));
+        assertThat(result.get().skipped(), is(false));
+        assertThat(result.get().failure(), is(Optional.empty()));
+        assertThat(result.get().error(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotReturnPreviousResultOfTestThatDidNotPass() {
+        assertThat(previous.passed(failedTest), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotReturnPreviousResultOfTestInUnknownSuite() {
+        // Given:
+        when(passedTest.suite()).thenReturn(passedSuite);
+
+        // Then:
+        assertThat(previous.passed(passedTest), is(Optional.empty()));
+    }
+}
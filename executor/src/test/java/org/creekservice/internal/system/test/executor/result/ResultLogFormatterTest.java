@@ -120,4 +120,28 @@ class ResultLogFormatterTest {
         // Then:
         assertThat(text, is("suite-0: Boom" + lineSeparator() + "suite-1:test-2: error reason"));
     }
+
+    @Test
+    void shouldFormatSummary() {
+        // Given:
+        when(suiteResult0.testSuite().name()).thenReturn("suite-0");
+        when(suiteResult0.failures()).thenReturn(1L);
+        when(suiteResult0.errors()).thenReturn(0L);
+        when(suiteResult0.skipped()).thenReturn(0L);
+        when(suiteResult1.testSuite().name()).thenReturn("suite-1");
+        when(suiteResult1.failures()).thenReturn(0L);
+        when(suiteResult1.errors()).thenReturn(1L);
+        when(suiteResult1.skipped()).thenReturn(1L);
+
+        // When:
+        final String text = ResultLogFormatter.formatSummary(result);
+
+        // Then:
+        assertThat(
+                text,
+                is(
+                        "suite-0: tests: 2, failures: 1, errors: 0, skipped: 0"
+                                + lineSeparator()
+                                + "suite-1: tests: 1, failures: 0, errors: 1, skipped: 1"));
+    }
 }
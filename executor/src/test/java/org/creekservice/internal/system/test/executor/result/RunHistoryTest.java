@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.system.test.extension.test.model.CreekTestCase;
+import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
+import org.creekservice.api.system.test.extension.test.model.TestCaseResult;
+import org.creekservice.api.system.test.extension.test.model.TestExecutionResult;
+import org.creekservice.api.system.test.extension.test.model.TestSuiteResult;
+import org.creekservice.internal.system.test.executor.result.RunHistory.Outcome;
+import org.creekservice.internal.system.test.executor.result.RunHistory.SuiteRecord;
+import org.creekservice.internal.system.test.executor.result.RunHistory.TestRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RunHistoryTest {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldBeEmptyIfFileDoesNotExist() {
+        // When:
+        final RunHistory history = RunHistory.load(dir.resolve("history.tsv"));
+
+        // Then:
+        assertThat(history.suiteDurations(), is(Map.of()));
+    }
+
+    @Test
+    void shouldRecordSuitesAndTests() {
+        // Given:
+        final RunHistory history = RunHistory.load(dir.resolve("history.tsv"));
+
+        final TestCaseResult passed = testResult("t1", 100, false);
+        final TestCaseResult failed = testResult("t2", 200, false);
+        when(failed.failure()).thenReturn(Optional.of(new AssertionError()));
+
+        // When:
+        history.record(executionResult(suiteResult("s1", 500, passed, failed)));
+
+        // Then:
+        assertThat(
+                history.suite("s1"),
+                is(
+                        Optional.of(
+                                new SuiteRecord(
+                                        "s1",
+                                        Duration.ofMillis(500),
+                                        Outcome.FAILED,
+                                        List.of(
+                                                new TestRecord(
+                                                        "t1",
+                                                        Duration.ofMillis(100),
+                                                        Outcome.PASSED),
+                                                new TestRecord(
+                                                        "t2",
+                                                        Duration.ofMillis(200),
+                                                        Outcome.FAILED))))));
+    }
+
+    @Test
+    void shouldRoundTripThroughFile() {
+        // Given:
+        final Path file = dir.resolve("cache/history.tsv");
+        final RunHistory history = RunHistory.load(file);
+        history.record(
+                executionResult(
+                        suiteResult("s1", 500, testResult("t\t1", 100, true)),
+                        suiteResult("s\\2", 700)));
+
+        // When:
+        history.save();
+        final RunHistory reloaded = RunHistory.load(file);
+
+        // Then:
+        assertThat(reloaded.suite("s1"), is(history.suite("s1")));
+        assertThat(
+                reloaded.suiteDurations(),
+                is(Map.of("s1", Duration.ofMillis(500), "s\\2", Duration.ofMillis(700))));
+    }
+
+    @Test
+    void shouldOnlyReplaceHistoryOfSuitesThatRan() {
+        // Given:
+        final Path file = dir.resolve("history.tsv");
+        final RunHistory first = RunHistory.load(file);
+        first.record(executionResult(suiteResult("s1", 500), suiteResult("s2", 600)));
+        first.save();
+
+        final RunHistory second = RunHistory.load(file);
+
+        // When:
+        second.record(executionResult(suiteResult("s2", 900)));
+
+        // Then:
+        assertThat(
+                second.suiteDurations(),
+                is(Map.of("s1", Duration.ofMillis(500), "s2", Duration.ofMillis(900))));
+    }
+
+    @Test
+    void shouldIgnoreInvalidRecords() throws Exception {
+        // Given:
+        final Path file = dir.resolve("history.tsv");
+        Files.write(
+                file,
+                List.of(
+                        "# comment",
+                        "suite\ts1\t500\tPASSED",
+                        "suite\ts2\tnot-a-number\tPASSED",
+                        "unknown\tstuff"),
+                StandardCharsets.UTF_8);
+
+        // When:
+        final RunHistory history = RunHistory.load(file);
+
+        // Then:
+        assertThat(history.suiteDurations(), is(Map.of("s1", Duration.ofMillis(500))));
+    }
+
+    private static TestExecutionResult executionResult(final TestSuiteResult... suites) {
+        final TestExecutionResult result = mock(TestExecutionResult.class);
+        doReturn(List.of(suites)).when(result).results();
+        return result;
+    }
+
+    private static TestSuiteResult suiteResult(
+            final String name, final long millis, final TestCaseResult... tests) {
+        final long failures = List.of(tests).stream().filter(t -> t.failure().isPresent()).count();
+
+        final CreekTestSuite suite = mock(CreekTestSuite.class);
+        when(suite.name()).thenReturn(name);
+
+        final TestSuiteResult result = mock(TestSuiteResult.class);
+        when(result.testSuite()).thenReturn(suite);
+        when(result.duration()).thenReturn(Duration.ofMillis(millis));
+        when(result.error()).thenReturn(Optional.empty());
+        when(result.failures()).thenReturn(failures);
+        doReturn(List.of(tests)).when(result).testResults();
+        return result;
+    }
+
+    private static TestCaseResult testResult(
+            final String name, final long millis, final boolean skipped) {
+        final CreekTestCase testCase = mock(CreekTestCase.class);
+        when(testCase.name()).thenReturn(name);
+
+        final TestCaseResult result = mock(TestCaseResult.class);
+        when(result.testCase()).thenReturn(testCase);
+        when(result.duration()).thenReturn(Duration.ofMillis(millis));
+        when(result.failure()).thenReturn(Optional.empty());
+        when(result.error()).thenReturn(Optional.empty());
+        when(result.skipped()).thenReturn(skipped);
+        return result;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.creekservice.api.system.test.model.TestCase;
+import org.creekservice.api.system.test.model.TestSuite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SuiteResultCacheTest {
+
+    @TempDir private Path dir;
+    @Mock private TestSuite suite;
+    @Mock private TestCase test1;
+    @Mock private TestCase test2;
+    @Mock private Function<TestSuite, Optional<String>> fingerprinter;
+    @Mock private Function<String, Optional<String>> imageIds;
+    private SuiteResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SuiteResultCache(dir.resolve("cache"), fingerprinter, imageIds);
+
+        when(suite.name()).thenReturn("suite");
+        when(suite.tests()).thenReturn(List.of(test1, test2));
+        when(test1.name()).thenReturn("test\t1");
+        when(test2.name()).thenReturn("test2");
+        when(fingerprinter.apply(suite)).thenReturn(Optional.of("abc"));
+        when(imageIds.apply("ext:latest")).thenReturn(Optional.of("sha256:1234"));
+    }
+
+    @Test
+    void shouldMissIfNothingCached() {
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReturnCachedResultOfPassingSuite() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passed());
+
+        // When:
+        final Optional<SuiteResult> result = cache.lookup(suite);
+
+        // Then:
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get().testSuite(), is(sameInstance(suite)));
+        assertThat(result.get().duration(), is(Duration.ofMillis(500)));
+        assertThat(result.get().failures(), is(0L));
+        assertThat(result.get().errors(), is(0L));
+        assertThat(result.get().skipped(), is(1L));
+        assertThat(result.get().testResults().get(0).testCase(), is(sameInstance(test1)));
+        assertThat(result.get().testResults().get(0).duration(), is(Duration.ofMillis(100)));
+        assertThat(result.get().testResults().get(0).skipped(), is(false));
+        assertThat(result.get().testResults().get(1).testCase(), is(sameInstance(test2)));
+        assertThat(result.get().testResults().get(1).skipped(), is(true));
+    }
+
+    @Test
+    void shouldStoreCacheEntriesAsPlainFilesNamedAfterFingerprint() throws Exception {
+        // Given:
+        cache.lookup(suite);
+
+        // When:
+        cache.store(passed());
+
+        // Then:
+        final List<String> lines =
+                Files.readAllLines(dir.resolve("cache/abc.tsv"), StandardCharsets.UTF_8);
+        assertThat(
+                lines,
+                is(
+                        List.of(
+                                "# creek system test suite result",
+                                "suite\tsuite\t500",
+                                "test\ttest\\t1\t100\tpassed",
+                                "test\ttest2\t0\tskipped")));
+    }
+
+    @Test
+    void shouldRecordIdsOfImagesStartedBySuite() throws Exception {
+        // Given:
+        cache.lookup(suite);
+
+        // When:
+        cache.store(passedWithImage());
+
+        // Then:
+        final List<String> lines =
+                Files.readAllLines(dir.resolve("cache/abc.tsv"), StandardCharsets.UTF_8);
+        assertThat(lines.get(2), is("image\text:latest\tsha256:1234"));
+    }
+
+    @Test
+    void shouldReturnCachedResultIfImagesUnchanged() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passedWithImage());
+
+        // Then:
+        assertThat(cache.lookup(suite).isPresent(), is(true));
+    }
+
+    @Test
+    void shouldMissIfImageIdChanged() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passedWithImage());
+        when(imageIds.apply("ext:latest")).thenReturn(Optional.of("sha256:5678"));
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldMissIfImageNoLongerAvailableLocally() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passedWithImage());
+        when(imageIds.apply("ext:latest")).thenReturn(Optional.empty());
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotStoreIfImageIdUnknown() {
+        // Given:
+        cache.lookup(suite);
+        when(imageIds.apply("ext:latest")).thenReturn(Optional.empty());
+
+        // When:
+        cache.store(passedWithImage());
+
+        // Then:
+        assertThat(Files.exists(dir.resolve("cache/abc.tsv")), is(false));
+    }
+
+    @Test
+    void shouldMissIfFingerprintChanged() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passed());
+        when(fingerprinter.apply(suite)).thenReturn(Optional.of("def"));
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldMissIfNoFingerprint() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passed());
+        when(fingerprinter.apply(suite)).thenReturn(Optional.empty());
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotStoreFailingSuites() {
+        // Given:
+        cache.lookup(suite);
+        final SuiteResult failed =
+                SuiteResult.testSuiteResult(suite)
+                        .add(CaseResult.testCaseResult(test1).failure(new AssertionError("boom")))
+                        .build();
+
+        // When:
+        cache.store(failed);
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotStoreSuitesThatErrored() {
+        // Given:
+        cache.lookup(suite);
+        final SuiteResult errored =
+                SuiteResult.testSuiteResult(suite).buildError(new RuntimeException("boom"));
+
+        // When:
+        cache.store(errored);
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldFingerprintOnStoreIfNotFingerprintedOnLookup() {
+        // Given:
+        when(fingerprinter.apply(suite)).thenReturn(Optional.empty(), Optional.of("abc"));
+        cache.lookup(suite);
+
+        // When:
+        cache.store(passed());
+
+        // Then:
+        assertThat(Files.exists(dir.resolve("cache/abc.tsv")), is(true));
+    }
+
+    @Test
+    void shouldMissIfTestsChanged() {
+        // Given:
+        cache.lookup(suite);
+        cache.store(passed());
+        when(suite.tests()).thenReturn(List.of(test1));
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldMissIfEntryUnreadable() throws Exception {
+        // Given:
+        Files.createDirectories(dir.resolve("cache"));
+        Files.writeString(
+                dir.resolve("cache/abc.tsv"),
+                "suite\tsuite\tnot-a-number\n"
+                        + "test\ttest\\t1\t100\tpassed\n"
+                        + "test\ttest2\t0\tskipped\n");
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNeverCacheIfDisabled() {
+        // Given:
+        cache = SuiteResultCache.none();
+
+        // When:
+        cache.store(passed());
+
+        // Then:
+        assertThat(cache.lookup(suite), is(Optional.empty()));
+        verify(fingerprinter, never()).apply(suite);
+    }
+
+    private SuiteResult passedWithImage() {
+        return SuiteResult.testSuiteResult(suite)
+                .add(CaseResult.testCaseResult(test1).success())
+                .add(CaseResult.testCaseResult(test2).success())
+                .images(List.of("ext:latest"))
+                .build();
+    }
+
+    private SuiteResult passed() {
+        return SuiteResult.cached(
+                suite,
+                Duration.ofMillis(500),
+                List.of(
+                        CaseResult.cached(test1, Duration.ofMillis(100), false),
+                        CaseResult.cached(test2, Duration.ZERO, true)));
+    }
+}
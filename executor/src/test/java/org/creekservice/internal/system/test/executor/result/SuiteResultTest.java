@@ -106,6 +106,15 @@ class SuiteResultTest {
         assertThat(result.testResults(), contains(success, success));
     }
 
+    @Test
+    void shouldBuildWithImages() {
+        // When:
+        final SuiteResult result = builder.images(List.of("image-a", "image-b")).build();
+
+        // Then:
+        assertThat(result.images(), contains("image-a", "image-b"));
+    }
+
     @Test
     void shouldBuildWithFailure() {
         // Given:
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.creekservice.internal.system.test.executor.result.VerifierHistory.Key;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class VerifierHistoryTest {
+
+    private static final Key KEY = new Key("suite", "test", "a.Expectation");
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldHaveNoTimeoutWithoutHistory() {
+        // When:
+        final VerifierHistory history = VerifierHistory.load(dir.resolve("verifiers.tsv"));
+
+        // Then:
+        assertThat(history.timeout(KEY), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldHaveNoTimeoutWithInsufficientHistory() {
+        // Given:
+        final VerifierHistory history = VerifierHistory.load(dir.resolve("verifiers.tsv"));
+        history.record(KEY, Duration.ofSeconds(1));
+        history.record(KEY, Duration.ofSeconds(1));
+
+        // Then:
+        assertThat(history.timeout(KEY), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDeriveTimeoutFromHighPercentilePlusMargin() {
+        // Given:
+        final VerifierHistory history = VerifierHistory.load(dir.resolve("verifiers.tsv"));
+        IntStream.rangeClosed(1, 20).forEach(s -> history.record(KEY, Duration.ofSeconds(s)));
+
+        // Then: 95th percentile is 19s, * 1.5 + 5s:
+        assertThat(history.timeout(KEY), is(Optional.of(Duration.ofMillis(33_500))));
+    }
+
+    @Test
+    void shouldOnlyKeepRecentSamples() {
+        // Given:
+        final VerifierHistory history = VerifierHistory.load(dir.resolve("verifiers.tsv"));
+        IntStream.range(0, 20).forEach(s -> history.record(KEY, Duration.ofSeconds(100)));
+
+        // When:
+        IntStream.range(0, 20).forEach(s -> history.record(KEY, Duration.ofSeconds(2)));
+
+        // Then:
+        assertThat(history.timeout(KEY), is(Optional.of(Duration.ofSeconds(8))));
+    }
+
+    @Test
+    void shouldRoundTripThroughFile() {
+        // Given:
+        final Path file = dir.resolve("cache/verifiers.tsv");
+        final VerifierHistory history = VerifierHistory.load(file);
+        final Key other = new Key("suite\t2", "test", "a.Expectation,b.Expectation");
+        IntStream.range(0, 3).forEach(s -> history.record(KEY, Duration.ofSeconds(4)));
+        IntStream.range(0, 3).forEach(s -> history.record(other, Duration.ofSeconds(10)));
+
+        // When:
+        history.save();
+        final VerifierHistory reloaded = VerifierHistory.load(file);
+
+        // Then:
+        assertThat(reloaded.timeout(KEY), is(history.timeout(KEY)));
+        assertThat(reloaded.timeout(other), is(history.timeout(other)));
+    }
+
+    @Test
+    void shouldIgnoreInvalidRecords() throws Exception {
+        // Given:
+        final Path file = dir.resolve("verifiers.tsv");
+        Files.write(
+                file,
+                List.of(
+                        "# comment",
+                        "suite\ttest\ta.Expectation\t1000,1000,1000",
+                        "suite\ttest\tb.Expectation\tnot,numbers,here",
+                        "too\tfew"),
+                StandardCharsets.UTF_8);
+
+        // When:
+        final VerifierHistory history = VerifierHistory.load(file);
+
+        // Then:
+        assertThat(history.timeout(KEY), is(Optional.of(Duration.ofMillis(6_500))));
+        assertThat(
+                history.timeout(new Key("suite", "test", "b.Expectation")), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotRecordIfNone() {
+        // Given:
+        final VerifierHistory history = VerifierHistory.none();
+
+        // When:
+        IntStream.range(0, 3).forEach(s -> history.record(KEY, Duration.ofSeconds(1)));
+
+        // Then:
+        assertThat(history.timeout(KEY), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.system.test.executor.result.xml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class XmlResultsReaderTest {
+
+    @TempDir Path testDir;
+    private XmlResultsReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new XmlResultsReader(testDir);
+    }
+
+    @Test
+    void shouldReturnEmptyIfDirectoryDoesNotExist() {
+        // Given:
+        reader = new XmlResultsReader(testDir.resolve("missing"));
+
+        // When:
+        final Map<String, Duration> result = reader.suiteDurations();
+
+        // Then:
+        assertThat(result, is(Map.of()));
+    }
+
+    @Test
+    void shouldReadSuiteDurations() throws Exception {
+        // Given:
+        write("TEST-suite0.xml", "<testsuite name=\"suite0\" time=\"1.500\"/>");
+        write("TEST-suite1.xml", "<testsuite name=\"suite1\" time=\"0.002\"></testsuite>");
+
+        // When:
+        final Map<String, Duration> result = reader.suiteDurations();
+
+        // Then:
+        assertThat(
+                result,
+                is(Map.of("suite0", Duration.ofMillis(1500), "suite1", Duration.ofMillis(2))));
+    }
+
+    @Test
+    void shouldIgnoreNonResultFiles() throws Exception {
+        // Given:
+        write("suite0.xml", "<testsuite name=\"suite0\" time=\"1.500\"/>");
+        write("TEST-suite1.txt", "<testsuite name=\"suite1\" time=\"1.500\"/>");
+
+        // When:
+        final Map<String, Duration> result = reader.suiteDurations();
+
+        // Then:
+        assertThat(result, is(Map.of()));
+    }
+
+    @Test
+    void shouldIgnoreUnreadableResultFiles() throws Exception {
+        // Given:
+        write("TEST-bad.xml", "not xml");
+        write("TEST-no-name.xml", "<testsuite time=\"1.500\"/>");
+        write("TEST-bad-time.xml", "<testsuite name=\"bad\" time=\"soon\"/>");
+        write("TEST-suite0.xml", "<testsuite name=\"suite0\" time=\"3\"/>");
+
+        // When:
+        final Map<String, Duration> result = reader.suiteDurations();
+
+        // Then:
+        assertThat(result, is(Map.of("suite0", Duration.ofSeconds(3))));
+    }
+
+    @Test
+    void shouldReturnNoFailedSuitesIfDirectoryDoesNotExist() {
+        // Given:
+        reader = new XmlResultsReader(testDir.resolve("missing"));
+
+        // When:
+        final Map<String, Map<String, Duration>> result = reader.failedSuites();
+
+        // Then:
+        assertThat(result, is(Map.of()));
+    }
+
+    @Test
+    void shouldReadFailedSuites() throws Exception {
+        // Given:
+        write(
+                "TEST-suite0.xml",
+                "<testsuite name=\"suite0\" time=\"1.500\">"
+                        + "<testcase name=\"passed\" time=\"0.250\"/>"
+                        + "<testcase name=\"failed\" time=\"0.500\">"
+                        + "<failure message=\"boom\">boom</failure>"
+                        + "</testcase>"
+                        + "<testcase name=\"errored\" time=\"0.500\">"
+                        + "<error message=\"boom\">boom</error>"
+                        + "</testcase>"
+                        + "<testcase name=\"disabled\" time=\"0.000\"><skipped/></testcase>"
+                        + "</testsuite>");
+        write(
+                "TEST-suite1.xml",
+                "<testsuite name=\"suite1\" time=\"1.500\">"
+                        + "<testcase name=\"passed\" time=\"0.250\"/>"
+                        + "</testsuite>");
+
+        // When:
+        final Map<String, Map<String, Duration>> result = reader.failedSuites();
+
+        // Then:
+        assertThat(result, is(Map.of("suite0", Map.of("passed", Duration.ofMillis(250)))));
+    }
+
+    @Test
+    void shouldReadSuitesWithSingleFailedTest() throws Exception {
+        // Given:
+        write(
+                "TEST-suite0.xml",
+                "<testsuite name=\"suite0\" time=\"1.500\">"
+                        + "<testcase name=\"failed\" time=\"0.500\">"
+                        + "<failure message=\"boom\">boom</failure>"
+                        + "</testcase>"
+                        + "</testsuite>");
+
+        // When:
+        final Map<String, Map<String, Duration>> result = reader.failedSuites();
+
+        // Then:
+        assertThat(result, is(Map.of("suite0", Map.of())));
+    }
+
+    @Test
+    void shouldReadSuitesThatFailedToExecute() throws Exception {
+        // Given:
+        write(
+                "TEST-suite0.xml",
+                "<testsuite name=\"suite0\" time=\"1.500\">"
+                        + "<error message=\"boom\">boom</error>"
+                        + "</testsuite>");
+
+        // When:
+        final Map<String, Map<String, Duration>> result = reader.failedSuites();
+
+        // Then:
+        assertThat(result, is(Map.of("suite0", Map.of())));
+    }
+
+    @Test
+    void shouldIgnoreUnreadableResultFilesWhenReadingFailedSuites() throws Exception {
+        // Given:
+        write("TEST-bad.xml", "not xml");
+        write(
+                "TEST-bad-time.xml",
+                "<testsuite name=\"bad\" time=\"1\">"
+                        + "<testcase name=\"passed\" time=\"soon\"/>"
+                        + "<error message=\"boom\">boom</error>"
+                        + "</testsuite>");
+
+        // When:
+        final Map<String, Map<String, Duration>> result = reader.failedSuites();
+
+        // Then:
+        assertThat(result, is(Map.of()));
+    }
+
+    private void write(final String fileName, final String content) throws Exception {
+        Files.writeString(testDir.resolve(fileName), content);
+    }
+}
@@ -90,6 +90,39 @@ class XmlTestCaseResultTest {
                                 + lineSeparator()));
     }
 
+    @Test
+    void shouldSerializeAttemptsOfRetriedTest() throws Exception {
+        // Given:
+        when(result.attempts()).thenReturn(3);
+
+        // When:
+        final String xml = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(xmlResult);
+
+        // Then:
+        assertThat(
+                xml,
+                is(
+                        "<testcase attempts=\"3\" classname=\"the suite\" name=\"the test\""
+                                + " time=\"1234.567\"/>"
+                                + lineSeparator()));
+    }
+
+    @Test
+    void shouldNotSerializeAttemptsOfTestAttemptedOnce() throws Exception {
+        // Given:
+        when(result.attempts()).thenReturn(1);
+
+        // When:
+        final String xml = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(xmlResult);
+
+        // Then:
+        assertThat(
+                xml,
+                is(
+                        "<testcase classname=\"the suite\" name=\"the test\" time=\"1234.567\"/>"
+                                + lineSeparator()));
+    }
+
     @Test
     void shouldSerializeFailed() throws Exception {
         // Given:
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.creekservice.api.base.type.Throwables;
 import org.creekservice.api.system.test.extension.test.model.CreekTestCase;
@@ -133,4 +134,38 @@ class XmlTestSuiteResultTest {
                                 + "</testsuite>"
                                 + lineSeparator()));
     }
+
+    @Test
+    void shouldSerializeImageDigests() throws Exception {
+        // Given:
+        when(suiteResult.skipped()).thenReturn(0L);
+        when(suiteResult.testResults()).thenReturn(List.of());
+        xmlResult =
+                new XmlTestSuiteResult(
+                        suiteResult,
+                        "some-host",
+                        Map.of("svc-b", "b@sha256:2", "svc-a", "a@sha256:1"));
+
+        // When:
+        final String xml = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(xmlResult);
+
+        // Then:
+        assertThat(
+                xml,
+                is(
+                        "<testsuite errors=\"3\" failures=\"4\" hostname=\"some-host\" name=\"the"
+                                + " suite\" skipped=\"0\" tests=\"0\" time=\"1234.567\""
+                                + " timestamp=\"1970-01-15T06:56:07.890\">"
+                                + lineSeparator()
+                                + "  <properties>"
+                                + lineSeparator()
+                                + "    <property name=\"image.svc-a\" value=\"a@sha256:1\"/>"
+                                + lineSeparator()
+                                + "    <property name=\"image.svc-b\" value=\"b@sha256:2\"/>"
+                                + lineSeparator()
+                                + "  </properties>"
+                                + lineSeparator()
+                                + "</testsuite>"
+                                + lineSeparator()));
+    }
 }
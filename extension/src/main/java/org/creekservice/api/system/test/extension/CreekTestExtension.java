@@ -16,6 +16,10 @@
 
 package org.creekservice.api.system.test.extension;
 
+import java.util.Collection;
+import java.util.List;
+import org.creekservice.api.platform.metadata.ResourceDescriptor;
+
 /**
  * Base type for system test extensions to Creek.
  *
@@ -42,4 +46,64 @@ public interface CreekTestExtension {
      * @param systemTest the system test api.
      */
     void initialize(CreekSystemTest systemTest);
+
+    /**
+     * Controls if the extension can be initialized once per test run, rather than once per suite.
+     *
+     * <p>By default, Creek creates a new instance of the system test api for each test suite,
+     * initializing every extension against it, and closes any Creek extensions the test extensions
+     * ensured at the end of the suite. This guarantees suites are isolated from each other, at the
+     * cost of re-initializing all extensions for every suite.
+     *
+     * <p>If all extensions return {@code true}, Creek instead initializes a single api instance,
+     * and hence each extension, once and reuses it for each suite, or once per worker when suites
+     * are executed in parallel. Any Creek extensions are only closed at the end of the run.
+     * Otherwise, Creek logs the names of the extensions that did not opt in.
+     *
+     * <p>Extensions that opt in are responsible for resetting any per-suite state, e.g. state
+     * relating to the services started for the suite, between suites. This can be done by {@link
+     * org.creekservice.api.system.test.extension.test.env.listener.TestListenerContainer#append
+     * registering} a {@link
+     * org.creekservice.api.system.test.extension.test.env.listener.TestEnvironmentListener}, whose
+     * {@code afterSuite} method is called at the end of each suite.
+     *
+     * @return {@code true} if the extension can be initialized once per run. Defaults to {@code
+     *     false}.
+     */
+    default boolean runScoped() {
+        return false;
+    }
+
+    /**
+     * The test model types the extension provides, e.g. its custom {@link
+     * org.creekservice.api.system.test.extension.test.model.Input}, {@link
+     * org.creekservice.api.system.test.extension.test.model.Expectation} and {@link
+     * org.creekservice.api.system.test.extension.test.model.Option} types.
+     *
+     * <p>Along with {@link #resourceTypes()}, this allows Creek to initialize the extension lazily:
+     * if either is not empty, the extension is only initialized for test suites that reference at
+     * least one of the types, i.e. suites whose seed data, inputs, expectations or options are
+     * instances of a model type, or whose services under test have resources that are instances of
+     * a resource type. The work of preparing and ensuring the extension's resources is then also
+     * only done for such suites.
+     *
+     * <p>Extensions are always initialized when Creek parses the test packages, so that all model
+     * types are registered, and when extensions are {@link #runScoped() run scoped}.
+     *
+     * @return the model types the extension provides. Defaults to empty.
+     */
+    default Collection<Class<?>> modelTypes() {
+        return List.of();
+    }
+
+    /**
+     * The resource types the extension handles.
+     *
+     * <p>See {@link #modelTypes()} for how these types are used.
+     *
+     * @return the resource types the extension handles. Defaults to empty.
+     */
+    default Collection<Class<? extends ResourceDescriptor>> resourceTypes() {
+        return List.of();
+    }
 }
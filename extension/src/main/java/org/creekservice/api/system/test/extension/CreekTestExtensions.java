@@ -18,6 +18,7 @@ package org.creekservice.api.system.test.extension;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 /** Factory class for loading system test extensions. */
 public final class CreekTestExtensions {
@@ -30,8 +31,21 @@ public final class CreekTestExtensions {
      * @return the list of system test extensions found on the model and class paths.
      */
     public static List<CreekTestExtension> load() {
+        return providers().stream().map(Supplier::get).toList();
+    }
+
+    /**
+     * Find the test extensions available at runtime, without instantiating them.
+     *
+     * <p>Finding extensions scans the model and class paths. Long-lived processes can find them
+     * once, and then instantiate them as often as needed.
+     *
+     * @return a supplier of new instances of each system test extension found on the model and
+     *     class paths.
+     */
+    public static List<Supplier<CreekTestExtension>> providers() {
         return ServiceLoader.load(CreekTestExtension.class).stream()
-                .map(ServiceLoader.Provider::get)
+                .<Supplier<CreekTestExtension>>map(provider -> provider)
                 .toList();
     }
 }
@@ -136,4 +136,21 @@ public interface ServiceDefinition extends ComponentDefinition {
      * @param instance the newly created instance.
      */
     default void instanceStarted(final ServiceInstance instance) {}
+
+    /**
+     * An optional callback that is invoked when a service instance reuses a container left running
+     * by a previous test suite.
+     *
+     * <p>Container reuse is opt-in, via the executor's {@code --reuse-containers} option. When
+     * enabled, a container is reused when a suite requires an instance with the same name and
+     * container configuration as one from a previous suite. Rather than starting a new container,
+     * the running container is handed to the new instance, and this callback is invoked, followed
+     * by {@link #instanceStarted}. {@link #instanceStarting} is not invoked for reused containers.
+     *
+     * <p>Override this method to clear any state left behind by the previous suite, e.g. deleting
+     * topics or truncating tables, so that suites remain isolated from each other.
+     *
+     * @param instance the instance reusing a running container.
+     */
+    default void instanceReused(final ServiceInstance instance) {}
 }
@@ -53,6 +53,11 @@ public interface TestEnvironmentListener {
     /**
      * Called before an individual {@code test} case is executed.
      *
+     * <p>Where a suite sets {@code testConcurrency}, calls to this method, and {@link #afterTest},
+     * for different tests may interleave. All calls are made on the thread executing the suite, so
+     * implementations need not be thread safe. For each test, {@code beforeTest} is called before
+     * {@code afterTest}.
+     *
      * @param test the test about to be executed
      * @throws RuntimeException Throwing an exception indicates that the test setup failed. The
      *     tests will not be executed.
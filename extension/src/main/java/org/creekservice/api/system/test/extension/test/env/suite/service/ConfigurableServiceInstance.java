@@ -73,6 +73,10 @@ public interface ConfigurableServiceInstance extends ServiceInstance {
      *
      * <p>If not set, the instance is considered available once any mapped ports are open.
      *
+     * <p>Replaces any previously set {@link #setReadinessProbe readiness probe}. Prefer a {@link
+     * ReadinessProbe#logMessage log message probe} where a literal message suffices, as it fails
+     * fast should the instance exit before logging the message.
+     *
      * @param regex the regex pattern to check for
      * @param times the number of times the pattern is expected
      * @return self, for method chaining.
@@ -80,6 +84,21 @@ public interface ConfigurableServiceInstance extends ServiceInstance {
      */
     ConfigurableServiceInstance setStartupLogMessage(String regex, int times);
 
+    /**
+     * Set a probe used to determine when the instance is ready, before considering the instance
+     * available.
+     *
+     * <p>If not set, the instance is considered available once any mapped ports are open.
+     *
+     * <p>Replaces any previously set {@link #setStartupLogMessage startup log message}.
+     *
+     * @param probe the probe.
+     * @return self, for method chaining.
+     * @throws IllegalStateException if the instance is running.
+     * @see ReadinessProbe
+     */
+    ConfigurableServiceInstance setReadinessProbe(ReadinessProbe probe);
+
     /**
      * Set how many attempts should be made to start the instance.
      *
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.env.suite.service;
+
+/**
+ * A probe used to determine when a starting {@link ServiceInstance} is ready for use.
+ *
+ * <p>While the instance is starting, the probe is polled, with an increasing back off between
+ * attempts, until it reports the instance is ready. Should the instance exit before becoming
+ * ready, the instance fails to start immediately, rather than waiting for its startup timeout to
+ * elapse.
+ *
+ * <p>Where services are started concurrently, the probe may be polled from a thread other than
+ * the one executing the suite. Custom probes should only interact with the instance via the
+ * supplied {@link Target}, and not access the system test api.
+ *
+ * <p>Extensions can use one of the built-in probes or implement their own.
+ */
+@FunctionalInterface
+public interface ReadinessProbe {
+
+    /**
+     * Check if the instance is ready.
+     *
+     * <p>Any exception thrown is treated as the instance not yet being ready.
+     *
+     * @param target the starting instance.
+     * @return {@code true} if the instance is ready.
+     * @throws Exception on failure to determine if the instance is ready.
+     */
+    boolean ready(Target target) throws Exception;
+
+    /**
+     * A probe that considers the instance ready once a TCP connection can be made to a port.
+     *
+     * @param port the port exposed by the service, i.e. the service-network port.
+     * @return the probe.
+     */
+    static ReadinessProbe tcpPort(final int port) {
+        return ReadinessProbes.tcpPort(port);
+    }
+
+    /**
+     * A probe that considers the instance ready once an HTTP {@code GET} request to an endpoint
+     * returns a {@code 2xx} status code.
+     *
+     * @param port the port exposed by the service, i.e. the service-network port.
+     * @param path the path of the endpoint, e.g. {@code /health/ready}.
+     * @return the probe.
+     */
+    static ReadinessProbe httpEndpoint(final int port, final String path) {
+        return ReadinessProbes.httpEndpoint(port, path);
+    }
+
+    /**
+     * A probe that considers the instance ready once a command, executed on the instance, exits
+     * with a zero exit code.
+     *
+     * @param cmd the command to run.
+     * @return the probe.
+     */
+    static ReadinessProbe command(final String... cmd) {
+        return ReadinessProbes.command(cmd);
+    }
+
+    /**
+     * A probe that considers the instance ready once its logs contain a message.
+     *
+     * <p>The message is matched as a literal substring of the logs, not as a regular expression.
+     *
+     * @param message the message to look for.
+     * @return the probe.
+     */
+    static ReadinessProbe logMessage(final String message) {
+        return ReadinessProbes.logMessage(message);
+    }
+
+    /** The starting instance being probed. */
+    interface Target {
+
+        /**
+         * @return the hostname the instance can be reached on from the test-network.
+         * @see ServiceInstance#testNetworkHostname()
+         */
+        String testNetworkHostname();
+
+        /**
+         * @param serviceNetworkPort the port exposed by the service.
+         * @return the port the instance can be reached on from the test-network.
+         * @see ServiceInstance#testNetworkPort(int)
+         */
+        int testNetworkPort(int serviceNetworkPort);
+
+        /**
+         * Run a command on the instance.
+         *
+         * @param cmd the command to run.
+         * @return the result of the execution.
+         * @see ServiceInstance#execOnInstance(String...)
+         */
+        ServiceInstance.ExecResult execOnInstance(String... cmd);
+
+        /**
+         * Check if the instance's logs contain a message.
+         *
+         * <p>The logs are followed as they are output, and each call only scans the output since
+         * the previous call for the same message, making it cheap to poll.
+         *
+         * @param message the message to look for, matched as a literal substring.
+         * @return {@code true} if the instance has logged the message.
+         */
+        boolean logContains(String message);
+    }
+}
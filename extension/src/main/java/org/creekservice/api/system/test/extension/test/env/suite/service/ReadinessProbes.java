@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.env.suite.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/** Implementations of the built-in {@link ReadinessProbe readiness probes}. */
+final class ReadinessProbes {
+
+    private static final int TIMEOUT_MS = (int) Duration.ofSeconds(1).toMillis();
+
+    private ReadinessProbes() {}
+
+    static ReadinessProbe tcpPort(final int port) {
+        requireValidPort(port);
+        return target -> {
+            try (Socket socket = new Socket()) {
+                socket.connect(
+                        new InetSocketAddress(
+                                target.testNetworkHostname(), target.testNetworkPort(port)),
+                        TIMEOUT_MS);
+                return true;
+            }
+        };
+    }
+
+    static ReadinessProbe httpEndpoint(final int port, final String path) {
+        requireValidPort(port);
+        requireNonNull(path, "path");
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("path must start with '/': " + path);
+        }
+
+        return target -> {
+            final URI uri =
+                    URI.create(
+                            "http://"
+                                    + target.testNetworkHostname()
+                                    + ":"
+                                    + target.testNetworkPort(port)
+                                    + path);
+
+            final HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+            try {
+                connection.setConnectTimeout(TIMEOUT_MS);
+                connection.setReadTimeout(TIMEOUT_MS);
+                connection.setRequestMethod("GET");
+                final int status = connection.getResponseCode();
+                return status >= 200 && status < 300;
+            } finally {
+                connection.disconnect();
+            }
+        };
+    }
+
+    static ReadinessProbe command(final String... cmd) {
+        final List<String> parts = List.of(requireNonNull(cmd, "cmd"));
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("cmd must not be empty");
+        }
+
+        final String[] copy = parts.toArray(String[]::new);
+        return target -> target.execOnInstance(copy.clone()).exitCode() == 0;
+    }
+
+    static ReadinessProbe logMessage(final String message) {
+        requireNonNull(message, "message");
+        if (message.isEmpty()) {
+            throw new IllegalArgumentException("message must not be empty");
+        }
+
+        return target -> target.logContains(message);
+    }
+
+    private static void requireValidPort(final int port) {
+        if (port <= 0 || port > 65535) {
+            throw new IllegalArgumentException("Invalid port: " + port);
+        }
+    }
+}
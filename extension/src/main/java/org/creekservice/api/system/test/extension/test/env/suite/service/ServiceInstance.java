@@ -24,6 +24,11 @@ import org.creekservice.api.platform.metadata.ServiceDescriptor;
 /**
  * An instance of a {@link
  * org.creekservice.api.system.test.extension.component.definition.ServiceDefinition}
+ *
+ * <p>Instances are not thread safe. They are confined to the thread executing the test suite, and
+ * so must only be accessed from extension initialization, test environment listener callbacks and
+ * handlers that are not {@link
+ * org.creekservice.api.system.test.extension.test.model.InputHandler#threadSafe() thread safe}.
  */
 public interface ServiceInstance {
 
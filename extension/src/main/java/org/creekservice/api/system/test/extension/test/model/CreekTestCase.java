@@ -16,7 +16,11 @@
 
 package org.creekservice.api.system.test.extension.test.model;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
 
 /** Public API of a test case. */
 public interface CreekTestCase extends Locatable {
@@ -40,4 +44,26 @@ public interface CreekTestCase extends Locatable {
      * @return the expectations to be asserted at the end of the test case.
      */
     List<Expectation> expectations();
+
+    /**
+     * A key that identifies the test case, which handlers can use to isolate the resources used
+     * by different test cases. See {@link TestIsolation}.
+     *
+     * <p>The key is derived from the names of the suite and test case, so is stable between runs.
+     * It contains only lower-case ASCII letters, digits and underscores, making it safe to use in
+     * most resource names, e.g. topic names and database schema names.
+     *
+     * @return the isolation key.
+     */
+    default String isolationKey() {
+        final String name =
+                name().toLowerCase(Locale.ROOT)
+                        .replaceAll("[^a-z0-9]+", "_")
+                        .replaceAll("^_|_$", "");
+        final String prefix = name.length() > 32 ? name.substring(0, 32) : name;
+
+        final CRC32 crc = new CRC32();
+        crc.update((suite().name() + "/" + name()).getBytes(UTF_8));
+        return (prefix.isEmpty() ? "test" : prefix) + "_" + String.format("%08x", crc.getValue());
+    }
 }
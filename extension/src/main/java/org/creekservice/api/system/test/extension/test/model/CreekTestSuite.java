@@ -17,6 +17,8 @@
 package org.creekservice.api.system.test.extension.test.model;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /** Public API of a test suite. */
 public interface CreekTestSuite extends Locatable {
@@ -31,6 +33,18 @@ public interface CreekTestSuite extends Locatable {
      */
     List<String> services();
 
+    /**
+     * Optional dependencies between the services under test.
+     *
+     * <p>Where present, services are started concurrently, with each service only started once the
+     * services it depends on have started. Where absent, services are started in the order defined.
+     *
+     * @return optional map of service name to the names of the services it depends on.
+     */
+    default Optional<Map<String, List<String>>> serviceDependencies() {
+        return Optional.empty();
+    }
+
     /**
      * @param type the option type to look up.
      * @param <T> the option type to look up.
@@ -42,6 +42,25 @@ public interface ExpectationHandler<T extends Expectation> {
      */
     Verifier prepare(Collection<? extends T> expectations, ExpectationOptions options);
 
+    /**
+     * Whether the handler, and the verifiers it prepares, can be used by test cases running
+     * concurrently.
+     *
+     * <p>Where a test's expectations span several handlers, their verifiers are only run
+     * concurrently if all the handlers are thread safe. Once one verifier fails, the thread of
+     * any verifier still running is interrupted, so verifiers should stop promptly when
+     * interrupted.
+     *
+     * <p>See {@link InputHandler#threadSafe()} for the contract thread safe handlers must meet.
+     *
+     * <p>The default implementation returns {@code false}.
+     *
+     * @return {@code true} if the handler is thread safe.
+     */
+    default boolean threadSafe() {
+        return false;
+    }
+
     /** A type that can be verified once all input is fed into the system. */
     interface Verifier {
 
@@ -54,8 +73,13 @@ public interface ExpectationHandler<T extends Expectation> {
         void verify();
     }
 
-    /** Customisation options for expectation handling. */
-    interface ExpectationOptions {
+    /**
+     * Customisation options for expectation handling.
+     *
+     * <p>The options provide the {@link TestIsolation#isolationKey() isolation key} of the test
+     * case whose expectations are being handled.
+     */
+    interface ExpectationOptions extends TestIsolation {
 
         /**
          * The default timeout to use when verifying expectations
@@ -17,6 +17,8 @@
 package org.creekservice.api.system.test.extension.test.model;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Handler of {@link Input}'s.
@@ -39,6 +41,22 @@ public interface InputHandler<T extends Input> {
      */
     void process(T input, InputOptions options);
 
+    /**
+     * Process the supplied batch of {@code inputs}.
+     *
+     * <p>The executor passes contiguous runs of inputs of the same type as a single batch, allowing
+     * implementations handling high volumes of input to batch their I/O. Inputs must be processed
+     * in the order supplied.
+     *
+     * <p>The default implementation calls {@link #process(Input, InputOptions)} for each input.
+     *
+     * @param inputs the inputs to process, in order.
+     * @param options the customisation options of how to process the inputs.
+     */
+    default void processBatch(List<? extends T> inputs, InputOptions options) {
+        inputs.forEach(input -> process(input, options));
+    }
+
     /**
      * Block until any asynchronous operations started during previous calls to {@link #process}
      * have completed.
@@ -47,8 +65,59 @@ public interface InputHandler<T extends Input> {
      */
     default void flush() {}
 
-    /** Customisation options for handling inputs. */
-    interface InputOptions {
+    /**
+     * Start flushing any asynchronous operations started during previous calls to {@link
+     * #process}, without blocking.
+     *
+     * <p>The executor starts verifying expectations as soon as this method returns, allowing
+     * verification to overlap with the delivery of the remaining input. Implementations that send
+     * input asynchronously can override this method to return a stage that completes once all
+     * outstanding operations have completed.
+     *
+     * <p>The implementation will ensure the returned stage does not remain incomplete
+     * indefinitely.
+     *
+     * <p>The default implementation calls {@link #flush()} and returns a completed stage.
+     *
+     * @return a stage that completes once all outstanding operations have completed, or completes
+     *     exceptionally if any failed.
+     */
+    default CompletionStage<Void> flushAsync() {
+        flush();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Whether the handler can be used by test cases running concurrently.
+     *
+     * <p>Where a suite sets {@code testConcurrency}, its test cases are only run concurrently if
+     * the handlers of all their inputs and expectations are thread safe. Otherwise, they are run
+     * sequentially. Likewise, where inputs are dispatched to handlers concurrently, only thread
+     * safe handlers are called from other threads.
+     *
+     * <p>The methods of a thread safe handler may be called concurrently, and from threads other
+     * than the one executing the suite. Such calls must not access the system test api, e.g.
+     * {@link org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance
+     * service instances}, which is confined to the thread executing the suite. Any details needed,
+     * e.g. the address of a service, should be captured beforehand, e.g. by a test environment
+     * listener.
+     *
+     * <p>The default implementation returns {@code false}.
+     *
+     * @return {@code true} if the handler is thread safe.
+     */
+    default boolean threadSafe() {
+        return false;
+    }
+
+    /**
+     * Customisation options for handling inputs.
+     *
+     * <p>When processing the inputs of a test case, the options provide the test case's {@link
+     * TestIsolation#isolationKey() isolation key}. No isolation key is provided when seeding the
+     * test environment, as seed data is shared by all test cases in the suite.
+     */
+    interface InputOptions extends TestIsolation {
 
         /**
          * Get user supplied options.
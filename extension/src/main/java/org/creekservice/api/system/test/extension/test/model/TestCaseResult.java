@@ -52,4 +52,16 @@ public interface TestCaseResult {
      * @return any exception thrown trying to run the test.
      */
     Optional<Exception> error();
+
+    /**
+     * The number of times the test was attempted.
+     *
+     * <p>Test cases that fail or error may be retried. A test case that passed on a later attempt
+     * is flaky.
+     *
+     * @return the number of attempts, including the first.
+     */
+    default int attempts() {
+        return 1;
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.model;
+
+import java.util.Optional;
+
+/**
+ * Isolation of the resources used by test cases that share the same started services.
+ *
+ * <p>Where the test cases of a suite run concurrently, handlers can use the isolation key of the
+ * current test case to namespace the resources it uses, e.g. topic names or database schemas, so
+ * that test cases do not interfere with each other.
+ */
+public interface TestIsolation {
+
+    /**
+     * The isolation key of the current test case.
+     *
+     * <p>The first attempt of a test case uses {@link CreekTestCase#isolationKey()}. Each retry of
+     * a test case that failed is given a distinct key, derived from it, so that resources left by
+     * an earlier attempt do not affect the retry.
+     *
+     * @return the isolation key of the current attempt of the current test case, or empty if not
+     *     processing a test case, e.g. when seeding the test environment.
+     */
+    default Optional<String> isolationKey() {
+        return Optional.empty();
+    }
+
+    /**
+     * Rewrite the supplied resource name so that it is unique to the current test case.
+     *
+     * @param resourceName the name of the resource, e.g. a topic name.
+     * @return the {@code resourceName} suffixed with an underscore and the isolation key, or the
+     *     {@code resourceName} unchanged if there is no isolation key.
+     */
+    default String isolate(final String resourceName) {
+        return isolationKey().map(key -> resourceName + "_" + key).orElse(resourceName);
+    }
+}
@@ -19,8 +19,11 @@ package org.creekservice.api.system.test.extension;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 class CreekTestExtensionsTest {
@@ -34,4 +37,19 @@ class CreekTestExtensionsTest {
         assertThat(result, hasSize(1));
         assertThat(result.get(0).name(), is("test system test extension"));
     }
+
+    @Test
+    void shouldProvideNewInstancesOfTestExtension() {
+        // Given:
+        final List<Supplier<CreekTestExtension>> providers = CreekTestExtensions.providers();
+
+        // When:
+        final CreekTestExtension first = providers.get(0).get();
+        final CreekTestExtension second = providers.get(0).get();
+
+        // Then:
+        assertThat(providers, hasSize(1));
+        assertThat(first.name(), is("test system test extension"));
+        assertThat(second, is(not(sameInstance(first))));
+    }
 }
@@ -88,4 +88,16 @@ class ServiceDefinitionTest {
         // Then:
         verifyNoInteractions(nonConfigurableInstance);
     }
+
+    @Test
+    void shouldDoNothingInInstanceReused() {
+        // Given:
+        final ServiceInstance nonConfigurableInstance = instance;
+
+        // When:
+        def.instanceReused(nonConfigurableInstance);
+
+        // Then:
+        verifyNoInteractions(nonConfigurableInstance);
+    }
 }
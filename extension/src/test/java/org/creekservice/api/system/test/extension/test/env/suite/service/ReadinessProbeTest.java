@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.env.suite.service;
+
+import static org.creekservice.api.system.test.extension.test.env.suite.service.ServiceInstance.ExecResult.execResult;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadinessProbeTest {
+
+    @Mock private ReadinessProbe.Target target;
+
+    @BeforeEach
+    void setUp() {
+        when(target.testNetworkHostname()).thenReturn("localhost");
+    }
+
+    @Test
+    void shouldBeReadyOnceTcpPortAcceptsConnections() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // Given:
+            when(target.testNetworkHostname()).thenReturn("127.0.0.1");
+            when(target.testNetworkPort(8080)).thenReturn(server.getLocalPort());
+
+            // When:
+            final boolean ready = ReadinessProbe.tcpPort(8080).ready(target);
+
+            // Then:
+            assertThat(ready, is(true));
+        }
+    }
+
+    @Test
+    void shouldThrowIfTcpPortNotAcceptingConnections() throws Exception {
+        // Given:
+        final int port;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+        when(target.testNetworkHostname()).thenReturn("127.0.0.1");
+        when(target.testNetworkPort(8080)).thenReturn(port);
+
+        // When:
+        assertThrows(IOException.class, () -> ReadinessProbe.tcpPort(8080).ready(target));
+    }
+
+    @Test
+    void shouldThrowOnInvalidPort() {
+        assertThrows(IllegalArgumentException.class, () -> ReadinessProbe.tcpPort(0));
+        assertThrows(IllegalArgumentException.class, () -> ReadinessProbe.tcpPort(65536));
+        assertThrows(IllegalArgumentException.class, () -> ReadinessProbe.httpEndpoint(-1, "/"));
+    }
+
+    @Test
+    void shouldThrowOnRelativeHttpPath() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ReadinessProbe.httpEndpoint(8080, "health"));
+
+        // Then:
+        assertThat(e.getMessage(), is("path must start with '/': health"));
+    }
+
+    @Test
+    void shouldThrowIfHttpEndpointNotAcceptingConnections() throws Exception {
+        // Given:
+        final int port;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+        when(target.testNetworkHostname()).thenReturn("127.0.0.1");
+        when(target.testNetworkPort(8080)).thenReturn(port);
+
+        // When:
+        assertThrows(
+                IOException.class, () -> ReadinessProbe.httpEndpoint(8080, "/ready").ready(target));
+    }
+
+    @Test
+    void shouldBeReadyOnceCommandSucceeds() throws Exception {
+        // Given:
+        when(target.execOnInstance("check", "ready")).thenReturn(execResult(0, "", ""));
+
+        // When:
+        final boolean ready = ReadinessProbe.command("check", "ready").ready(target);
+
+        // Then:
+        assertThat(ready, is(true));
+        verify(target).execOnInstance("check", "ready");
+    }
+
+    @Test
+    void shouldNotBeReadyWhileCommandFails() throws Exception {
+        // Given:
+        when(target.execOnInstance("check")).thenReturn(execResult(1, "", "not yet"));
+
+        // When:
+        final boolean ready = ReadinessProbe.command("check").ready(target);
+
+        // Then:
+        assertThat(ready, is(false));
+    }
+
+    @Test
+    void shouldThrowOnEmptyCommand() {
+        assertThrows(IllegalArgumentException.class, ReadinessProbe::command);
+    }
+
+    @Test
+    void shouldBeReadyOnceLogsContainMessage() throws Exception {
+        // Given:
+        when(target.logContains("[started]")).thenReturn(true);
+
+        // When:
+        final boolean ready = ReadinessProbe.logMessage("[started]").ready(target);
+
+        // Then:
+        assertThat(ready, is(true));
+    }
+
+    @Test
+    void shouldNotBeReadyUntilLogsContainMessage() throws Exception {
+        // Given:
+        when(target.logContains("started")).thenReturn(false);
+
+        // When:
+        final boolean ready = ReadinessProbe.logMessage("started").ready(target);
+
+        // Then:
+        assertThat(ready, is(false));
+    }
+
+    @Test
+    void shouldThrowOnEmptyLogMessage() {
+        assertThrows(IllegalArgumentException.class, () -> ReadinessProbe.logMessage(""));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CreekTestCaseTest {
+
+    private CreekTestSuite suite;
+
+    @BeforeEach
+    void setUp() {
+        suite = mock(CreekTestSuite.class);
+        doReturn("suite").when(suite).name();
+    }
+
+    @Test
+    void shouldDeriveIsolationKeyFromTestName() {
+        // Given:
+        final CreekTestCase test = testCase("Some Test-Case!");
+
+        // When:
+        final String key = test.isolationKey();
+
+        // Then:
+        assertThat(key, matchesPattern("some_test_case_[0-9a-f]{8}"));
+    }
+
+    @Test
+    void shouldOnlyContainSafeCharacters() {
+        // Given:
+        final CreekTestCase test = testCase("££ $$");
+
+        // When:
+        final String key = test.isolationKey();
+
+        // Then:
+        assertThat(key, matchesPattern("test_[0-9a-f]{8}"));
+    }
+
+    @Test
+    void shouldTruncateLongTestNames() {
+        // Given:
+        final CreekTestCase test = testCase("a".repeat(100));
+
+        // When:
+        final String key = test.isolationKey();
+
+        // Then:
+        assertThat(key, matchesPattern("a{32}_[0-9a-f]{8}"));
+    }
+
+    @Test
+    void shouldReturnStableIsolationKey() {
+        assertThat(testCase("test").isolationKey(), is(testCase("test").isolationKey()));
+    }
+
+    @Test
+    void shouldReturnDifferentIsolationKeysForDifferentTests() {
+        assertThat(testCase("test").isolationKey(), is(not(testCase("Test").isolationKey())));
+    }
+
+    @Test
+    void shouldReturnDifferentIsolationKeysForTestsInDifferentSuites() {
+        // Given:
+        final String key = testCase("test").isolationKey();
+        doReturn("other").when(suite).name();
+
+        // Then:
+        assertThat(testCase("test").isolationKey(), startsWith("test_"));
+        assertThat(testCase("test").isolationKey(), is(not(key)));
+    }
+
+    private CreekTestCase testCase(final String name) {
+        final CreekTestCase test = mock(CreekTestCase.class, CALLS_REAL_METHODS);
+        doReturn(name).when(test).name();
+        doReturn(suite).when(test).suite();
+        return test;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.extension.test.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TestIsolationTest {
+
+    @Test
+    void shouldHaveNoIsolationKeyByDefault() {
+        assertThat(new TestIsolation() {}.isolationKey(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotIsolateByDefault() {
+        // Given:
+        final TestIsolation isolation = new TestIsolation() {};
+
+        // Then:
+        assertThat(isolation.isolate("topic"), is("topic"));
+    }
+
+    @Test
+    void shouldIsolateResourceNames() {
+        // Given:
+        final TestIsolation isolation = mock(TestIsolation.class, CALLS_REAL_METHODS);
+        doReturn(Optional.of("key")).when(isolation).isolationKey();
+
+        // Then:
+        assertThat(isolation.isolate("topic"), is("topic_key"));
+    }
+}
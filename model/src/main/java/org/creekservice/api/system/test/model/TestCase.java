@@ -23,6 +23,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.creekservice.api.system.test.extension.test.model.CreekTestCase;
 import org.creekservice.api.system.test.extension.test.model.Expectation;
 import org.creekservice.api.system.test.extension.test.model.Input;
@@ -89,6 +90,13 @@ public final class TestCase implements CreekTestCase {
         return List.copyOf(expectations);
     }
 
+    /**
+     * @return the definition of the test case, e.g. the refs of its inputs and expectations.
+     */
+    public TestCaseDef def() {
+        return def;
+    }
+
     /**
      * @return {@code true} if the test is disabled.
      */
@@ -96,6 +104,13 @@ public final class TestCase implements CreekTestCase {
         return def.disabled().isPresent();
     }
 
+    /**
+     * @return the number of times to retry the test if it fails, if set on the test.
+     */
+    public Optional<Integer> retries() {
+        return def.retries();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -38,6 +38,7 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
     private final String name;
     private final String notes;
     private final Optional<Disabled> disabled;
+    private final Optional<Integer> retries;
     private final List<InputRef> inputs;
     private final List<ExpectationRef> expectations;
     private final URI location;
@@ -48,6 +49,7 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
      * @param name the name of the test.
      * @param notes optional notes.
      * @param disabled flag indicating if test is disabled.
+     * @param retries optional number of times to retry the test if it fails.
      * @param maybeInputs any test inputs.
      * @param expectations test expectations.
      * @return the new definition.
@@ -58,31 +60,39 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
             @JsonProperty(value = "name", required = true) final String name,
             @JsonProperty("notes") final Optional<String> notes,
             @JsonProperty("disabled") final Optional<Disabled> disabled,
+            @JsonProperty("retries") final Optional<Integer> retries,
             @JsonProperty("inputs") final Optional<? extends List<? extends InputRef>> maybeInputs,
             @JsonProperty(value = "expectations", required = true)
                     final List<? extends ExpectationRef> expectations) {
         final List<? extends InputRef> inputs =
                 maybeInputs.isPresent() ? maybeInputs.get() : List.of();
         return new TestCaseDef(
-                name, notes.orElse(""), disabled, UNKNOWN_LOCATION, inputs, expectations);
+                name, notes.orElse(""), disabled, retries, UNKNOWN_LOCATION, inputs, expectations);
     }
 
     private TestCaseDef(
             final String name,
             final String notes,
             final Optional<Disabled> disabled,
+            final Optional<Integer> retries,
             final URI location,
             final List<? extends InputRef> inputs,
             final List<? extends ExpectationRef> expectations) {
         this.name = requireNonNull(name, "name");
         this.notes = requireNonNull(notes, "notes");
         this.disabled = requireNonNull(disabled, "disabled");
+        this.retries = requireNonNull(retries, "retries");
         this.location = requireNonNull(location, "location");
         this.inputs = List.copyOf(requireNonNull(inputs, "inputs"));
         this.expectations = List.copyOf(requireNonNull(expectations, "expectations"));
 
         requireNonEmpty(name, "empty");
         requireNonEmpty(expectations, "expectations");
+
+        if (retries.isPresent() && retries.get() < 0) {
+            throw new IllegalArgumentException(
+                    "retries: must not be negative, but was: " + retries.get());
+        }
     }
 
     /**
@@ -112,6 +122,17 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
         return disabled;
     }
 
+    /**
+     * @return optional number of times to retry the test if it fails, overriding the default.
+     */
+    @JsonGetter("retries")
+    @JsonPropertyDescription(
+            "(Optional) number of times to retry the test case if it fails or errors,"
+                    + " overriding the default number of retries set on the executor")
+    public Optional<Integer> retries() {
+        return retries;
+    }
+
     /**
      * @return test inputs.
      */
@@ -143,7 +164,7 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
      * @return a new instance with the location set.
      */
     public TestCaseDef withLocation(final URI location) {
-        return new TestCaseDef(name, notes, disabled, location, inputs, expectations);
+        return new TestCaseDef(name, notes, disabled, retries, location, inputs, expectations);
     }
 
     @Override
@@ -160,6 +181,7 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
         return Objects.equals(name, testCase.name)
                 && Objects.equals(notes, testCase.notes)
                 && Objects.equals(disabled, testCase.disabled)
+                && Objects.equals(retries, testCase.retries)
                 && Objects.equals(inputs, testCase.inputs)
                 && Objects.equals(expectations, testCase.expectations);
     }
@@ -167,7 +189,7 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
     @Override
     public int hashCode() {
         // Note: location intentionally excluded:
-        return Objects.hash(name, notes, disabled, inputs, expectations);
+        return Objects.hash(name, notes, disabled, retries, inputs, expectations);
     }
 
     @Override
@@ -181,6 +203,8 @@ public final class TestCaseDef implements LocationAware<TestCaseDef> {
                 + '\''
                 + ", disabled="
                 + disabled
+                + ", retries="
+                + retries
                 + ", location="
                 + location
                 + ", inputs="
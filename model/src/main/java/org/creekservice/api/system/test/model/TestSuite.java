@@ -22,7 +22,9 @@ import static org.creekservice.api.base.type.Preconditions.requireEqual;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.creekservice.api.system.test.extension.test.model.CreekTestSuite;
 import org.creekservice.api.system.test.extension.test.model.Option;
@@ -84,6 +86,21 @@ public final class TestSuite implements CreekTestSuite {
         return def.services();
     }
 
+    /**
+     * @return optional map of service name to the names of the services it depends on.
+     */
+    @Override
+    public Optional<Map<String, List<String>>> serviceDependencies() {
+        return def.serviceDependencies();
+    }
+
+    /**
+     * @return the maximum number of test cases in the suite to run concurrently.
+     */
+    public int testConcurrency() {
+        return def.testConcurrency();
+    }
+
     /**
      * Retrieve any options that are of the supplied {@code type}, or subtypes of.
      *
@@ -17,6 +17,7 @@
 package org.creekservice.api.system.test.model;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 import static org.creekservice.api.base.type.Preconditions.requireNonEmpty;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.creekservice.api.system.test.extension.test.model.LocationAware;
@@ -38,7 +40,9 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
     private final String notes;
     private final Optional<Disabled> disabled;
     private final List<String> services;
+    private final Optional<Map<String, List<String>>> serviceDependencies;
     private final List<Option> options;
+    private final int testConcurrency;
     private final List<TestCaseDef> tests;
     private final URI location;
 
@@ -49,7 +53,10 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
      * @param notes optional notes
      * @param disabled details of why the test is disabled.
      * @param services list of services under test.
+     * @param serviceDependencies optional map of service name to the names of the services it
+     *     depends on.
      * @param options list of customisation options.
+     * @param testConcurrency optional maximum number of test cases to run concurrently.
      * @param tests the tests in the suite.
      * @return the suite def.
      */
@@ -59,7 +66,10 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
             @JsonProperty("notes") final Optional<String> notes,
             @JsonProperty("disabled") final Optional<Disabled> disabled,
             @JsonProperty(value = "services", required = true) final List<String> services,
+            @JsonProperty("serviceDependencies")
+                    final Optional<Map<String, List<String>>> serviceDependencies,
             @JsonProperty(value = "options") final Optional<List<Option>> options,
+            @JsonProperty("testConcurrency") final Optional<Integer> testConcurrency,
             @JsonProperty(value = "tests", required = true) final List<TestCaseDef> tests) {
         return new TestSuiteDef(
                 name,
@@ -67,7 +77,9 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
                 disabled,
                 UNKNOWN_LOCATION,
                 services,
+                serviceDependencies,
                 options.orElse(List.of()),
+                testConcurrency.orElse(1),
                 tests);
     }
 
@@ -77,19 +89,31 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
             final Optional<Disabled> disabled,
             final URI location,
             final List<String> services,
+            final Optional<Map<String, List<String>>> serviceDependencies,
             final List<Option> options,
+            final int testConcurrency,
             final List<TestCaseDef> tests) {
         this.name = requireNonNull(name, "name");
         this.notes = requireNonNull(notes, "notes");
         this.disabled = requireNonNull(disabled, "disabled");
         this.location = requireNonNull(location, "location");
         this.services = List.copyOf(requireNonNull(services, "services"));
+        this.serviceDependencies =
+                requireNonNull(serviceDependencies, "serviceDependencies")
+                        .map(TestSuiteDef::copyDependencies);
         this.options = List.copyOf(requireNonNull(options, "options"));
+        this.testConcurrency = testConcurrency;
         this.tests = List.copyOf(requireNonNull(tests, "tests"));
 
         requireNonEmpty(name, "empty");
         requireNonEmpty(services, "services");
         requireNonEmpty(tests, "tests");
+        this.serviceDependencies.ifPresent(this::validateDependencies);
+
+        if (testConcurrency <= 0) {
+            throw new IllegalArgumentException(
+                    "testConcurrency: must be positive, but was: " + testConcurrency);
+        }
     }
 
     /**
@@ -125,11 +149,24 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
     @JsonGetter("services")
     @JsonPropertyDescription(
             "List of services to start when running the suite. "
-                    + "Services are started in the order defined.")
+                    + "Services are started in the order defined, "
+                    + "unless serviceDependencies is set.")
     public List<String> services() {
         return List.copyOf(services);
     }
 
+    /**
+     * @return optional map of service name to the names of the services it depends on.
+     */
+    @JsonGetter("serviceDependencies")
+    @JsonPropertyDescription(
+            "(Optional) map of service name to the list of services it depends on. "
+                    + "If present, services are started concurrently, with each service "
+                    + "only started once the services it depends on have started.")
+    public Optional<Map<String, List<String>>> serviceDependencies() {
+        return serviceDependencies;
+    }
+
     /**
      * @return the list of test options.
      */
@@ -140,12 +177,26 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
         return List.copyOf(options);
     }
 
+    /**
+     * @return the maximum number of test cases in the suite to run concurrently.
+     */
+    @JsonGetter("testConcurrency")
+    @JsonPropertyDescription(
+            "(Optional) the maximum number of test cases to run concurrently, "
+                    + "against the same started services. "
+                    + "Default: 1, i.e. tests are run sequentially.")
+    public int testConcurrency() {
+        return testConcurrency;
+    }
+
     /**
      * @return the list of test cases.
      */
     @JsonGetter("tests")
     @JsonPropertyDescription(
-            "List of test cases the suite contains. Tests are run in the order defined.")
+            "List of test cases the suite contains. Tests are run in the order defined, "
+                    + "unless testConcurrency is set. Results are always reported in the order "
+                    + "defined.")
     public List<TestCaseDef> tests() {
         return List.copyOf(tests);
     }
@@ -162,7 +213,16 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
      * @return a new instance with the location set.
      */
     public TestSuiteDef withLocation(final URI location) {
-        return new TestSuiteDef(name, notes, disabled, location, services, options, tests);
+        return new TestSuiteDef(
+                name,
+                notes,
+                disabled,
+                location,
+                services,
+                serviceDependencies,
+                options,
+                testConcurrency,
+                tests);
     }
 
     @Override
@@ -180,14 +240,24 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
                 && Objects.equals(notes, testSuiteDef.notes)
                 && Objects.equals(disabled, testSuiteDef.disabled)
                 && Objects.equals(services, testSuiteDef.services)
+                && Objects.equals(serviceDependencies, testSuiteDef.serviceDependencies)
                 && Objects.equals(options, testSuiteDef.options)
+                && testConcurrency == testSuiteDef.testConcurrency
                 && Objects.equals(tests, testSuiteDef.tests);
     }
 
     @Override
     public int hashCode() {
         // Note: location intentionally excluded:
-        return Objects.hash(name, notes, disabled, services, options, tests);
+        return Objects.hash(
+                name,
+                notes,
+                disabled,
+                services,
+                serviceDependencies,
+                options,
+                testConcurrency,
+                tests);
     }
 
     @Override
@@ -205,10 +275,43 @@ public final class TestSuiteDef implements LocationAware<TestSuiteDef> {
                 + location
                 + ", services="
                 + services
+                + ", serviceDependencies="
+                + serviceDependencies
                 + ", options="
                 + options
+                + ", testConcurrency="
+                + testConcurrency
                 + ", tests="
                 + tests
                 + '}';
     }
+
+    private void validateDependencies(final Map<String, List<String>> dependencies) {
+        dependencies.forEach(
+                (service, dependsOn) -> {
+                    requireKnownService(service);
+                    dependsOn.forEach(this::requireKnownService);
+                    if (dependsOn.contains(service)) {
+                        throw new IllegalArgumentException(
+                                "serviceDependencies: service can not depend on itself: "
+                                        + service);
+                    }
+                });
+    }
+
+    private void requireKnownService(final String service) {
+        if (!services.contains(service)) {
+            throw new IllegalArgumentException(
+                    "serviceDependencies: unknown service: " + service + ", services: " + services);
+        }
+    }
+
+    private static Map<String, List<String>> copyDependencies(
+            final Map<String, List<String>> dependencies) {
+        return dependencies.entrySet().stream()
+                .collect(
+                        toUnmodifiableMap(
+                                Map.Entry::getKey,
+                                e -> List.copyOf(requireNonNull(e.getValue(), e.getKey()))));
+    }
 }
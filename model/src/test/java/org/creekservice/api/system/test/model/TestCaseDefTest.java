@@ -65,18 +65,21 @@ class TestCaseDefTest {
                                 "name",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
+                                Optional.of(2),
                                 inputs,
                                 expectations),
                         testCase(
                                 "name",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
+                                Optional.of(2),
                                 inputs,
                                 expectations),
                         testCase(
                                         "name",
                                         Optional.of("notes"),
                                         Optional.of(disabled),
+                                        Optional.of(2),
                                         inputs,
                                         expectations)
                                 .withLocation(mock(URI.class)))
@@ -85,6 +88,7 @@ class TestCaseDefTest {
                                 "diff",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
+                                Optional.of(2),
                                 inputs,
                                 expectations))
                 .addEqualityGroup(
@@ -92,6 +96,7 @@ class TestCaseDefTest {
                                 "name",
                                 Optional.of("diff"),
                                 Optional.of(disabled),
+                                Optional.of(2),
                                 inputs,
                                 expectations))
                 .addEqualityGroup(
@@ -99,6 +104,7 @@ class TestCaseDefTest {
                                 "name",
                                 Optional.of("notes"),
                                 Optional.empty(),
+                                Optional.of(2),
                                 inputs,
                                 expectations))
                 .addEqualityGroup(
@@ -106,6 +112,7 @@ class TestCaseDefTest {
                                 "name",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
+                                Optional.of(2),
                                 Optional.empty(),
                                 expectations))
                 .addEqualityGroup(
@@ -113,6 +120,15 @@ class TestCaseDefTest {
                                 "name",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
+                                Optional.empty(),
+                                inputs,
+                                expectations))
+                .addEqualityGroup(
+                        testCase(
+                                "name",
+                                Optional.of("notes"),
+                                Optional.of(disabled),
+                                Optional.of(2),
                                 inputs,
                                 List.of(expectations.get(0), expectations.get(0))))
                 .testEquals();
@@ -203,6 +219,56 @@ class TestCaseDefTest {
         assertThat(result.disabled(), is(Optional.empty()));
     }
 
+    @Test
+    void shouldNotRequireRetries() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test case\n"
+                        + "expectations:\n"
+                        + "  - an_expectation\n";
+
+        // When:
+        final TestCaseDef result = parse(yaml);
+
+        // Then:
+        assertThat(result.retries(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReadRetries() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test case\n"
+                        + "retries: 2\n"
+                        + "expectations:\n"
+                        + "  - an_expectation\n";
+
+        // When:
+        final TestCaseDef result = parse(yaml);
+
+        // Then:
+        assertThat(result.retries(), is(Optional.of(2)));
+    }
+
+    @Test
+    void shouldThrowOnNegativeRetries() {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test case\n"
+                        + "retries: -1\n"
+                        + "expectations:\n"
+                        + "  - an_expectation\n";
+
+        // When:
+        final Exception e = assertThrows(JsonProcessingException.class, () -> parse(yaml));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("retries: must not be negative, but was: -1"));
+    }
+
     @Test
     void shouldNotRequireInput() throws Exception {
         // Given:
@@ -130,6 +130,15 @@ class TestCaseTest {
         assertThat(testCase.name(), is("Bob"));
     }
 
+    @Test
+    void shouldReturnDef() {
+        // Given:
+        final TestCase testCase = builder(List.of(input), List.of(expectation)).build(suite);
+
+        // Then:
+        assertThat(testCase.def(), is(sameInstance(def)));
+    }
+
     @Test
     void shouldReturnLocation() {
         // Given:
@@ -179,6 +188,16 @@ class TestCaseTest {
         assertThat(testCase.disabled(), is(true));
     }
 
+    @Test
+    void shouldExposeRetries() {
+        // Given:
+        final TestCase testCase = builder(List.of(input), List.of(expectation)).build(suite);
+        when(def.retries()).thenReturn(Optional.of(3));
+
+        // Then:
+        assertThat(testCase.retries(), is(Optional.of(3)));
+    }
+
     private TestCaseDef def(
             final Collection<Input> inputs, final Collection<Expectation> expectations) {
         givenDefInputs(inputs.size());
@@ -37,6 +37,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.testing.EqualsTester;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.creekservice.api.system.test.extension.test.model.Option;
 import org.creekservice.api.system.test.parser.ModelType;
@@ -61,6 +62,7 @@ class TestSuiteDefTest {
                     Optional.of("test description"),
                     Optional.empty(),
                     Optional.empty(),
+                    Optional.empty(),
                     List.of(simpleRef("an_expectation")));
 
     @Test
@@ -76,21 +78,27 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)),
                         testSuite(
                                 "name",
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)),
                         testSuite(
                                         "name",
                                         Optional.of("notes"),
                                         Optional.of(disabled),
                                         List.of("service"),
+                                        Optional.empty(),
                                         Optional.of(List.of(option)),
+                                        Optional.empty(),
                                         List.of(testCase))
                                 .withLocation(mock(URI.class)))
                 .addEqualityGroup(
@@ -99,7 +107,9 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)))
                 .addEqualityGroup(
                         testSuite(
@@ -107,7 +117,9 @@ class TestSuiteDefTest {
                                 Optional.of("diff"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)))
                 .addEqualityGroup(
                         testSuite(
@@ -115,7 +127,19 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("diff"),
+                                Optional.empty(),
+                                Optional.of(List.of(option)),
+                                Optional.empty(),
+                                List.of(testCase)))
+                .addEqualityGroup(
+                        testSuite(
+                                "name",
+                                Optional.of("notes"),
+                                Optional.of(disabled),
+                                List.of("service", "other"),
+                                Optional.of(Map.of("service", List.of("other"))),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)))
                 .addEqualityGroup(
                         testSuite(
@@ -123,7 +147,9 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of()),
+                                Optional.empty(),
                                 List.of(testCase)))
                 .addEqualityGroup(
                         testSuite(
@@ -131,7 +157,9 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.empty(),
                                 List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase)))
                 .addEqualityGroup(
                         testSuite(
@@ -139,7 +167,19 @@ class TestSuiteDefTest {
                                 Optional.of("notes"),
                                 Optional.of(disabled),
                                 List.of("service"),
+                                Optional.empty(),
+                                Optional.of(List.of(option)),
+                                Optional.of(2),
+                                List.of(testCase)))
+                .addEqualityGroup(
+                        testSuite(
+                                "name",
+                                Optional.of("notes"),
+                                Optional.of(disabled),
+                                List.of("service"),
+                                Optional.empty(),
                                 Optional.of(List.of(option)),
+                                Optional.empty(),
                                 List.of(testCase, testCase)))
                 .testEquals();
     }
@@ -361,6 +401,177 @@ class TestSuiteDefTest {
         assertThat(e.getMessage(), containsString("tests can not be empty"));
     }
 
+    @Test
+    void shouldDefaultToSequentialTests() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final TestSuiteDef result = parse(yaml);
+
+        // Then:
+        assertThat(result.testConcurrency(), is(1));
+    }
+
+    @Test
+    void shouldReadTestConcurrency() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "testConcurrency: 4\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final TestSuiteDef result = parse(yaml);
+
+        // Then:
+        assertThat(result.testConcurrency(), is(4));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveTestConcurrency() {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "testConcurrency: 0\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final Exception e = assertThrows(JsonProcessingException.class, () -> parse(yaml));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("testConcurrency: must be positive, but was: 0"));
+    }
+
+    @Test
+    void shouldNotRequireServiceDependencies() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final TestSuiteDef result = parse(yaml);
+
+        // Then:
+        assertThat(result.serviceDependencies(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldReadServiceDependencies() throws Exception {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + " - b_service\n"
+                        + " - c_service\n"
+                        + "serviceDependencies:\n"
+                        + "  c_service: [a_service, b_service]\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final TestSuiteDef result = parse(yaml);
+
+        // Then:
+        assertThat(
+                result.serviceDependencies(),
+                is(Optional.of(Map.of("c_service", List.of("a_service", "b_service")))));
+    }
+
+    @Test
+    void shouldThrowOnDependencyOfUnknownService() {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "serviceDependencies:\n"
+                        + "  a_service: [unknown]\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final Exception e = assertThrows(JsonProcessingException.class, () -> parse(yaml));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString(
+                        "serviceDependencies: unknown service: unknown, services: [a_service]"));
+    }
+
+    @Test
+    void shouldThrowOnDependenciesOfUnknownService() {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "serviceDependencies:\n"
+                        + "  unknown: [a_service]\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final Exception e = assertThrows(JsonProcessingException.class, () -> parse(yaml));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("serviceDependencies: unknown service: unknown"));
+    }
+
+    @Test
+    void shouldThrowOnServiceDependingOnItself() {
+        // Given:
+        final String yaml =
+                "---\n"
+                        + "name: a test suite\n"
+                        + "services:\n"
+                        + " - a_service\n"
+                        + "serviceDependencies:\n"
+                        + "  a_service: [a_service]\n"
+                        + "tests:\n"
+                        + " - "
+                        + TEST_CASE_YAML;
+
+        // When:
+        final Exception e = assertThrows(JsonProcessingException.class, () -> parse(yaml));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("serviceDependencies: service can not depend on itself: a_service"));
+    }
+
     private static TestSuiteDef parse(final String yaml) throws Exception {
         return MAPPER.readValue(yaml, TestSuiteDef.class);
     }
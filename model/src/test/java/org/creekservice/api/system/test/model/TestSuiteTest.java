@@ -29,6 +29,8 @@ import com.google.common.testing.EqualsTester;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.creekservice.api.system.test.extension.test.model.Option;
@@ -126,6 +128,26 @@ class TestSuiteTest {
         assertThat(suite.services(), is(List.of("Alice", "Jane")));
     }
 
+    @Test
+    void shouldReturnServiceDependencies() {
+        // Given:
+        final TestSuite suite = TestSuite.testSuite(List.of(), def).build(pkg);
+        when(def.serviceDependencies()).thenReturn(Optional.of(Map.of("Alice", List.of("Jane"))));
+
+        // Then:
+        assertThat(suite.serviceDependencies(), is(Optional.of(Map.of("Alice", List.of("Jane")))));
+    }
+
+    @Test
+    void shouldReturnTestConcurrency() {
+        // Given:
+        final TestSuite suite = TestSuite.testSuite(List.of(), def).build(pkg);
+        when(def.testConcurrency()).thenReturn(3);
+
+        // Then:
+        assertThat(suite.testConcurrency(), is(3));
+    }
+
     @Test
     void shouldReturnOptions() {
         // Given:
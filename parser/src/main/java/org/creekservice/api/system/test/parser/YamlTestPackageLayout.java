@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.parser;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The layout of a YAML test package on disk.
+ *
+ * <p>Test suites are defined in YAML files in the package's root directory, with seed data,
+ * inputs and expectations in the {@link #SEED_DIR}, {@link #INPUTS_DIR} and {@link
+ * #EXPECTATIONS_DIR} subdirectories, respectively.
+ */
+public final class YamlTestPackageLayout {
+
+    /** Name of the directory holding seed data. */
+    public static final String SEED_DIR = "seed";
+
+    /** Name of the directory holding inputs. */
+    public static final String INPUTS_DIR = "inputs";
+
+    /** Name of the directory holding expectations. */
+    public static final String EXPECTATIONS_DIR = "expectations";
+
+    /** Names of the directories holding the files a package's suites depend on. */
+    public static final List<String> DEPENDENCY_DIRS =
+            List.of(SEED_DIR, INPUTS_DIR, EXPECTATIONS_DIR);
+
+    /** The extensions of files parsed as YAML. */
+    public static final List<String> YAML_EXTENSIONS = List.of(".yml", ".yaml");
+
+    private YamlTestPackageLayout() {}
+
+    /**
+     * @param path the path to test.
+     * @return {@code true} if the file has one of the {@link #YAML_EXTENSIONS}.
+     */
+    public static boolean isYamlFile(final Path path) {
+        final String fileName = String.valueOf(path.getFileName());
+        return YAML_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+}
@@ -19,14 +19,15 @@ package org.creekservice.internal.system.test.parser;
 import static java.lang.System.lineSeparator;
 import static java.util.Objects.requireNonNull;
 import static org.creekservice.api.system.test.model.TestPackage.testPackage;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.EXPECTATIONS_DIR;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.INPUTS_DIR;
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.SEED_DIR;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
-import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
@@ -48,6 +49,7 @@ import org.creekservice.api.system.test.model.TestSuite;
 import org.creekservice.api.system.test.model.TestSuiteDef;
 import org.creekservice.api.system.test.parser.ModelType;
 import org.creekservice.api.system.test.parser.TestPackageParser;
+import org.creekservice.api.system.test.parser.YamlTestPackageLayout;
 
 /**
  * Parse test suites from a directory structure of Yaml files.
@@ -61,16 +63,13 @@ import org.creekservice.api.system.test.parser.TestPackageParser;
  *   |--expectations
  * </pre>
  *
- * <p>...with test suites defined in the root directory.
+ * <p>...with test suites defined in the root directory. See {@link YamlTestPackageLayout}.
  */
 public final class YamlTestPackageParser implements TestPackageParser {
 
-    private static final PathMatcher YAML_MATCHER =
-            FileSystems.getDefault().getPathMatcher("regex:.*\\.yml|.*\\.yaml");
-
-    private static final Path SEED = Paths.get("seed");
-    private static final Path INPUTS = Paths.get("inputs");
-    private static final Path EXPECTATIONS = Paths.get("expectations");
+    private static final Path SEED = Paths.get(SEED_DIR);
+    private static final Path INPUTS = Paths.get(INPUTS_DIR);
+    private static final Path EXPECTATIONS = Paths.get(EXPECTATIONS_DIR);
 
     private final ObjectMapper mapper;
     private final Observer observer;
@@ -132,7 +131,9 @@ public final class YamlTestPackageParser implements TestPackageParser {
         }
 
         try (Stream<Path> stream = Files.walk(dir, 1)) {
-            return stream.filter(Files::isRegularFile).filter(YAML_MATCHER::matches).toList();
+            return stream.filter(Files::isRegularFile)
+                    .filter(YamlTestPackageLayout::isYamlFile)
+                    .toList();
         } catch (final IOException e) {
             throw new TestLoadFailedException("Error accessing directory " + dir, e);
         }
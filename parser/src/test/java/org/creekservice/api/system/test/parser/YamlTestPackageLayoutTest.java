@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.parser;
+
+import static org.creekservice.api.system.test.parser.YamlTestPackageLayout.isYamlFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class YamlTestPackageLayoutTest {
+
+    @Test
+    void shouldDetectYamlFiles() {
+        assertThat(isYamlFile(Path.of("dir/suite.yml")), is(true));
+        assertThat(isYamlFile(Path.of("dir/suite.yaml")), is(true));
+    }
+
+    @Test
+    void shouldNotDetectOtherFiles() {
+        assertThat(isYamlFile(Path.of("dir/suite.json")), is(false));
+        assertThat(isYamlFile(Path.of("dir.yml/suite")), is(false));
+        assertThat(isYamlFile(Path.of("/")), is(false));
+    }
+}
@@ -94,7 +94,11 @@ public final class CreekSystemTestExtensionTester {
 
         this.services =
                 new DockerServiceContainer(
-                        new ContainerFactory(this.serviceDebugInfo, this.fileCopies, this.env));
+                        new ContainerFactory(
+                                this.serviceDebugInfo,
+                                this.fileCopies,
+                                this.env,
+                                ContainerFactory.Options.defaults()));
     }
 
     /**